@@ -0,0 +1,42 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Неизменяемый снимок производных значений квадратной матрицы: определителя, обратной матрицы
+ * и матрицы нормалей. Используется кэшами {@link Matrix3} и {@link Matrix4}.
+ * Новые значения добавляются созданием нового снимка, поэтому читатели из разных потоков
+ * видят либо полный снимок, либо null.
+ */
+final class DerivedValues {
+    private static final DerivedValues EMPTY = new DerivedValues(false, 0.0f, null, null);
+
+    final boolean hasDeterminant;
+    final float determinant;
+    final float[] inverse;
+    final float[] normal;
+
+    private DerivedValues(boolean hasDeterminant, float determinant, float[] inverse, float[] normal) {
+        this.hasDeterminant = hasDeterminant;
+        this.determinant = determinant;
+        this.inverse = inverse;
+        this.normal = normal;
+    }
+
+    /**
+     * Возвращает снимок для дополнения: cached или пустой снимок, если кэш сброшен
+     */
+    static DerivedValues of(DerivedValues cached) {
+        return cached != null ? cached : EMPTY;
+    }
+
+    DerivedValues withDeterminant(float value) {
+        return new DerivedValues(true, value, inverse, normal);
+    }
+
+    DerivedValues withInverse(float[] value) {
+        return new DerivedValues(hasDeterminant, determinant, value, normal);
+    }
+
+    DerivedValues withNormal(float[] value) {
+        return new DerivedValues(hasDeterminant, determinant, inverse, value);
+    }
+}
@@ -0,0 +1,190 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Пирамида видимости, заданная шестью плоскостями a*x + b*y + c*z + d = 0.
+ * Плоскости извлекаются из матрицы вида-проекции M (clip = M * v) методом
+ * Гриббса-Хартмана для отсечения -w ≤ x, y, z ≤ w и нормализуются; нормали
+ * направлены внутрь пирамиды. Точка видима, если расстояния до всех плоскостей
+ * неотрицательны.
+ * <p>
+ * Массовые проверки записывают результат в битовую маску long[]: бит i
+ * (слово i / 64, бит i % 64) соответствует объекту с индексом i и устанавливается,
+ * если объект хотя бы частично видим. Биты вне проверяемого диапазона не изменяются.
+ */
+public class Frustum {
+    /** Индекс левой плоскости */
+    public static final int LEFT = 0;
+    /** Индекс правой плоскости */
+    public static final int RIGHT = 1;
+    /** Индекс нижней плоскости */
+    public static final int BOTTOM = 2;
+    /** Индекс верхней плоскости */
+    public static final int TOP = 3;
+    /** Индекс ближней плоскости */
+    public static final int NEAR = 4;
+    /** Индекс дальней плоскости */
+    public static final int FAR = 5;
+
+    static final int PLANES = 6;
+
+    private final float[] planes = new float[PLANES * 4];
+
+    /**
+     * Создает пирамиду по матрице вида-проекции
+     * @param viewProjection матрица вида-проекции
+     * @throws ArithmeticException если матрица вырождена и плоскость не определена
+     */
+    public Frustum(Matrix4 viewProjection) {
+        set(viewProjection);
+    }
+
+    /**
+     * Возвращает количество слов long, необходимое для маски из count объектов
+     * @param count количество объектов
+     * @return длина массива long[]
+     */
+    public static int maskLength(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Количество объектов не может быть отрицательным");
+        }
+        return (count + 63) >>> 6;
+    }
+
+    /**
+     * Проверяет, установлен ли бит объекта в маске видимости
+     * @param visible маска видимости
+     * @param index индекс объекта
+     * @return true, если объект видим
+     */
+    public static boolean isVisible(long[] visible, int index) {
+        ValidationUtils.requireNonNull(visible, "Mask");
+        ValidationUtils.checkRange(index, 1, visible.length * 64);
+        return (visible[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Пересчитывает плоскости по матрице вида-проекции
+     * @param viewProjection матрица вида-проекции
+     * @return текущая пирамида
+     * @throws ArithmeticException если матрица вырождена и плоскость не определена
+     */
+    public Frustum set(Matrix4 viewProjection) {
+        ValidationUtils.requireNonNull(viewProjection, "Matrix");
+        float[] m = viewProjection.elements();
+        for (int axis = 0; axis < 3; axis++) {
+            int row = axis * 4;
+            setPlane(2 * axis, m[12] + m[row], m[13] + m[row + 1], m[14] + m[row + 2], m[15] + m[row + 3]);
+            setPlane(2 * axis + 1, m[12] - m[row], m[13] - m[row + 1], m[14] - m[row + 2], m[15] - m[row + 3]);
+        }
+        return this;
+    }
+
+    private void setPlane(int index, float a, float b, float c, float d) {
+        float len = (float) Math.sqrt(a * a + b * b + c * c);
+        ValidationUtils.checkNonZeroLength(len);
+        int o = index * 4;
+        planes[o] = a / len;
+        planes[o + 1] = b / len;
+        planes[o + 2] = c / len;
+        planes[o + 3] = d / len;
+    }
+
+    /**
+     * Загружает коэффициенты плоскости (a, b, c, d) в заданный вектор
+     * @param index индекс плоскости от {@link #LEFT} до {@link #FAR}
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector4 getPlane(int index, Vector4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkRange(index, 1, PLANES);
+        int o = index * 4;
+        return dest.set(planes[o], planes[o + 1], planes[o + 2], planes[o + 3]);
+    }
+
+    /**
+     * Возвращает внутренний массив коэффициентов плоскостей без копирования
+     * @return массив из 24 элементов, по 4 на плоскость
+     */
+    float[] planes() {
+        return planes;
+    }
+
+    /**
+     * Проверяет, лежит ли точка внутри пирамиды
+     * @param point точка
+     * @return true, если точка внутри или на границе
+     */
+    public boolean containsPoint(Vector3 point) {
+        ValidationUtils.requireNonNull(point, "Point");
+        return intersectsSphere(point, 0.0f);
+    }
+
+    /**
+     * Проверяет пересечение пирамиды со сферой
+     * @param center центр сферы
+     * @param radius радиус сферы
+     * @return true, если сфера хотя бы частично внутри пирамиды
+     */
+    public boolean intersectsSphere(Vector3 center, float radius) {
+        ValidationUtils.requireNonNull(center, "Center");
+        float x = center.getX(), y = center.getY(), z = center.getZ();
+        for (int o = 0; o < PLANES * 4; o += 4) {
+            if (x * planes[o] + y * planes[o + 1] + z * planes[o + 2] + planes[o + 3] < -radius) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет пересечение пирамиды с ограничивающим параллелепипедом, выровненным по осям.
+     * Для каждой плоскости проверяется вершина, наиболее далекая в направлении нормали;
+     * проверка консервативна и может считать видимым параллелепипед вблизи ребер пирамиды.
+     * @param min минимальный угол
+     * @param max максимальный угол
+     * @return true, если параллелепипед может быть видим
+     */
+    public boolean intersectsAabb(Vector3 min, Vector3 max) {
+        ValidationUtils.requireNonNull(min, "Min");
+        ValidationUtils.requireNonNull(max, "Max");
+        for (int o = 0; o < PLANES * 4; o += 4) {
+            float a = planes[o], b = planes[o + 1], c = planes[o + 2];
+            float x = a >= 0.0f ? max.getX() : min.getX();
+            float y = b >= 0.0f ? max.getY() : min.getY();
+            float z = c >= 0.0f ? max.getZ() : min.getZ();
+            if (x * a + y * b + z * c + planes[o + 3] < 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Массовая проверка параллелепипедов в диапазоне [offset, offset + count)
+     * скалярным движком, см. {@link VectorEngine#cullAabbs(Frustum, Vector3Buffer, Vector3Buffer, long[], int, int)}
+     * @param min буфер минимальных углов
+     * @param max буфер максимальных углов
+     * @param visible маска видимости
+     * @param offset индекс первого параллелепипеда
+     * @param count количество параллелепипедов
+     * @return маска visible
+     */
+    public long[] cullAabbs(Vector3Buffer min, Vector3Buffer max, long[] visible, int offset, int count) {
+        return VectorEngine.scalar().cullAabbs(this, min, max, visible, offset, count);
+    }
+
+    /**
+     * Массовая проверка сфер в диапазоне [offset, offset + count)
+     * скалярным движком, см. {@link VectorEngine#cullSpheres(Frustum, Vector3Buffer, float[], long[], int, int)}
+     * @param centers буфер центров
+     * @param radii радиусы
+     * @param visible маска видимости
+     * @param offset индекс первой сферы
+     * @param count количество сфер
+     * @return маска visible
+     */
+    public long[] cullSpheres(Vector3Buffer centers, float[] radii, long[] visible, int offset, int count) {
+        return VectorEngine.scalar().cullSpheres(this, centers, radii, visible, offset, count);
+    }
+}
@@ -0,0 +1,181 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Потоковое преобразование файла точек, не помещающегося в кучу.
+ * Файл состоит из записей (x, y, z) в формате float без заголовка. Входной и выходной
+ * файлы отображаются в память окнами по {@code windowVertices} точек; каждое окно
+ * преобразуется напрямую через {@link Matrix4#transformPoints(FloatBuffer, int, FloatBuffer, int, int, int, boolean)}.
+ * Данные не копируются в кучу, однако отображения не освобождаются явно: Java не позволяет
+ * снять отображение до сборки мусора, поэтому обработанные окна остаются отображенными
+ * в адресном пространстве, пока их не соберет GC. Резидентный объем при этом определяется
+ * страничным кэшем ОС, который может вытеснять уже обработанные страницы.
+ * <p>
+ * По умолчанию запись на диск выполняет ОС; при {@code force = true} каждое окно
+ * принудительно сбрасывается на диск сразу после преобразования.
+ */
+public class MappedPointTransformer {
+    /**
+     * Размер окна по умолчанию (в точках)
+     */
+    public static final int DEFAULT_WINDOW_VERTICES = 1 << 20;
+
+    private static final int RECORD_BYTES = 3 * Float.BYTES;
+
+    private final Matrix4 matrix;
+    private final int windowVertices;
+    private final ByteOrder order;
+    private final boolean perspectiveDivide;
+    private final boolean force;
+
+    /**
+     * Создает преобразователь с окном по умолчанию и родным порядком байтов
+     * @param matrix матрица преобразования (копируется)
+     */
+    public MappedPointTransformer(Matrix4 matrix) {
+        this(matrix, DEFAULT_WINDOW_VERTICES, ByteOrder.nativeOrder(), false);
+    }
+
+    /**
+     * Создает преобразователь
+     * @param matrix матрица преобразования (копируется)
+     * @param windowVertices количество точек в одном окне
+     * @param order порядок байтов в файлах
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public MappedPointTransformer(Matrix4 matrix, int windowVertices, ByteOrder order, boolean perspectiveDivide) {
+        this(matrix, windowVertices, order, perspectiveDivide, false);
+    }
+
+    /**
+     * Создает преобразователь
+     * @param matrix матрица преобразования (копируется)
+     * @param windowVertices количество точек в одном окне
+     * @param order порядок байтов в файлах
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     * @param force сбрасывать ли каждое окно на диск после преобразования
+     * @throws IllegalArgumentException если окно пустое или больше {@link Integer#MAX_VALUE} байт
+     */
+    public MappedPointTransformer(Matrix4 matrix, int windowVertices, ByteOrder order, boolean perspectiveDivide,
+                                  boolean force) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        ValidationUtils.requireNonNull(order, "Order");
+        if (windowVertices <= 0) {
+            throw new IllegalArgumentException("Размер окна должен быть положительным");
+        }
+        if ((long) windowVertices * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("Окно из %d точек превышает максимальный размер отображения (%d байт)",
+                    windowVertices, Integer.MAX_VALUE));
+        }
+        this.matrix = new Matrix4(matrix);
+        this.windowVertices = windowVertices;
+        this.order = order;
+        this.perspectiveDivide = perspectiveDivide;
+        this.force = force;
+    }
+
+    /**
+     * Преобразует все точки входного файла и записывает результат в выходной файл.
+     * Если output указывает на тот же файл, что и input, преобразование выполняется на месте.
+     * @param input входной файл
+     * @param output выходной файл (создается или перезаписывается)
+     * @return статистика преобразования
+     * @throws IOException при ошибке ввода-вывода
+     * @throws IllegalArgumentException если размер входного файла не кратен 12 байтам
+     */
+    public Statistics transform(Path input, Path output) throws IOException {
+        ValidationUtils.requireNonNull(input, "Input");
+        ValidationUtils.requireNonNull(output, "Output");
+        long start = System.nanoTime();
+        long vertexCount;
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                vertexCount = transform(channel, channel);
+            }
+        } else {
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                vertexCount = transform(in, out);
+            }
+        }
+        return new Statistics(vertexCount, System.nanoTime() - start);
+    }
+
+    private long transform(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        if (size % RECORD_BYTES != 0) {
+            throw new IllegalArgumentException(
+                String.format("Размер файла (%d байт) не кратен размеру записи (%d байт)", size, RECORD_BYTES));
+        }
+        long vertexCount = size / RECORD_BYTES;
+        boolean inPlace = in == out;
+        for (long first = 0; first < vertexCount; first += windowVertices) {
+            int count = (int) Math.min(windowVertices, vertexCount - first);
+            long position = first * RECORD_BYTES;
+            long length = (long) count * RECORD_BYTES;
+            MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, position, length);
+            FloatBuffer dst = target.order(order).asFloatBuffer();
+            FloatBuffer src = inPlace
+                ? dst
+                : in.map(FileChannel.MapMode.READ_ONLY, position, length).order(order).asFloatBuffer();
+            matrix.transformPoints(src, 0, dst, 0, count, 3, perspectiveDivide);
+            if (force) {
+                target.force();
+            }
+        }
+        return vertexCount;
+    }
+
+    /**
+     * Статистика потокового преобразования
+     */
+    public static final class Statistics {
+        private final long vertexCount;
+        private final long elapsedNanos;
+
+        Statistics(long vertexCount, long elapsedNanos) {
+            this.vertexCount = vertexCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Возвращает количество преобразованных точек
+         * @return количество точек
+         */
+        public long getVertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Возвращает время преобразования
+         * @return время в наносекундах
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Возвращает пропускную способность
+         * @return количество точек в секунду
+         */
+        public double getVerticesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : vertexCount * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Statistics(%d вершин, %.3f мс, %.0f вершин/с)",
+                vertexCount, elapsedNanos / 1e6, getVerticesPerSecond());
+        }
+    }
+}
@@ -9,13 +9,23 @@ public class Matrix3 {
     private static final int SIZE = 3;
     
     private final float[] matrix;
+    private boolean caching;
+    private volatile DerivedValues derived;
 
     /**
      * Создает единичную матрицу
      */
     public Matrix3() {
+        this(true);
+    }
+
+    private Matrix3(boolean identity) {
         matrix = new float[SIZE * SIZE];
-        setIdentity();
+        if (identity) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[i * SIZE + i] = 1.0f;
+            }
+        }
     }
 
     /**
@@ -23,9 +33,7 @@ public class Matrix3 {
      * @return нулевая матрица
      */
     public static Matrix3 zero() {
-        Matrix3 m = new Matrix3();
-        m.setZero();
-        return m;
+        return new Matrix3(false);
     }
 
     /**
@@ -94,6 +102,7 @@ public class Matrix3 {
      */
     public void setZero() {
         Arrays.fill(matrix, 0.0f);
+        modified();
     }
 
     private void validateIndices(int row, int col) {
@@ -124,8 +133,20 @@ public class Matrix3 {
     public void set(int row, int col, float value) {
         validateIndices(row, col);
         matrix[row * SIZE + col] = value;
+        modified();
     }
 
+    /**
+     * Копирует значения другой матрицы в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix3 set(Matrix3 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+        modified();
+        return this;
+    }
 
     /**
      * Сложение матриц
@@ -134,11 +155,33 @@ public class Matrix3 {
      */
     public Matrix3 add(Matrix3 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix3 result = Matrix3.zero();
+        return add(other, Matrix3.zero());
+    }
+
+    /**
+     * Сложение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 add(Matrix3 other, Matrix3 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE * SIZE; i++) {
-            result.matrix[i] = this.matrix[i] + other.matrix[i];
+            dest.matrix[i] = this.matrix[i] + other.matrix[i];
         }
-        return result;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Сложение матриц на месте: this = this + other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3 addLocal(Matrix3 other) {
+        return add(other, this);
     }
 
     /**
@@ -148,11 +191,33 @@ public class Matrix3 {
      */
     public Matrix3 subtract(Matrix3 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix3 result = Matrix3.zero();
+        return subtract(other, Matrix3.zero());
+    }
+
+    /**
+     * Вычитание матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 subtract(Matrix3 other, Matrix3 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE * SIZE; i++) {
-            result.matrix[i] = this.matrix[i] - other.matrix[i];
+            dest.matrix[i] = this.matrix[i] - other.matrix[i];
         }
-        return result;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Вычитание матриц на месте: this = this - other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3 subtractLocal(Matrix3 other) {
+        return subtract(other, this);
     }
 
     /**
@@ -162,17 +227,45 @@ public class Matrix3 {
      */
     public Matrix3 multiply(Matrix3 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix3 result = Matrix3.zero();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                float sum = 0.0f;
-                for (int k = 0; k < SIZE; k++) {
-                    sum += this.matrix[i * SIZE + k] * other.matrix[k * SIZE + j];
-                }
-                result.matrix[i * SIZE + j] = sum;
-            }
+        return multiply(other, Matrix3.zero());
+    }
+
+    /**
+     * Умножение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other: все элементы other
+     * считываются заранее, а строка this считывается до записи строки результата.
+     * Суммы начинаются с +0.0f, поэтому нулевые элементы результата не получают
+     * отрицательный знак.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 multiply(Matrix3 other, Matrix3 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float[] a = this.matrix;
+        float[] b = other.matrix;
+        float[] d = dest.matrix;
+        float b00 = b[0], b01 = b[1], b02 = b[2];
+        float b10 = b[3], b11 = b[4], b12 = b[5];
+        float b20 = b[6], b21 = b[7], b22 = b[8];
+        for (int r = 0; r < SIZE * SIZE; r += SIZE) {
+            float a0 = a[r], a1 = a[r + 1], a2 = a[r + 2];
+            d[r] = 0.0f + a0 * b00 + a1 * b10 + a2 * b20;
+            d[r + 1] = 0.0f + a0 * b01 + a1 * b11 + a2 * b21;
+            d[r + 2] = 0.0f + a0 * b02 + a1 * b12 + a2 * b22;
         }
-        return result;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Умножение матриц на месте: this = this * other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3 mulLocal(Matrix3 other) {
+        return multiply(other, this);
     }
 
     /**
@@ -207,25 +300,58 @@ public class Matrix3 {
      * @return новая транспонированная матрица
      */
     public Matrix3 transpose() {
-        Matrix3 result = Matrix3.zero();
+        return transpose(Matrix3.zero());
+    }
+
+    /**
+     * Транспонирование матрицы с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 transpose(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE; i++) {
-            result.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
+            dest.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
         }
         for (int i = 0; i < SIZE; i++) {
             for (int j = i + 1; j < SIZE; j++) {
                 float temp = this.matrix[i * SIZE + j];
-                result.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
-                result.matrix[j * SIZE + i] = temp;
+                dest.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
+                dest.matrix[j * SIZE + i] = temp;
             }
         }
-        return result;
+        dest.modified();
+        return dest;
     }
 
     /**
-     * Вычисление определителя
+     * Транспонирование матрицы на месте
+     * @return текущая матрица
+     */
+    public Matrix3 transposeLocal() {
+        return transpose(this);
+    }
+
+    /**
+     * Вычисление определителя. При включенном кэшировании значение вычисляется
+     * один раз до следующего изменения матрицы.
      * @return определитель матрицы
      */
     public float determinant() {
+        if (!caching) {
+            return computeDeterminant();
+        }
+        DerivedValues cached = derived;
+        if (cached != null && cached.hasDeterminant) {
+            return cached.determinant;
+        }
+        float det = computeDeterminant();
+        derived = DerivedValues.of(cached).withDeterminant(det);
+        return det;
+    }
+
+    private float computeDeterminant() {
         float a = matrix[0 * SIZE + 0], b = matrix[0 * SIZE + 1], c = matrix[0 * SIZE + 2];
         float d = matrix[1 * SIZE + 0], e = matrix[1 * SIZE + 1], f = matrix[1 * SIZE + 2];
         float g = matrix[2 * SIZE + 0], h = matrix[2 * SIZE + 1], i = matrix[2 * SIZE + 2];
@@ -233,6 +359,162 @@ public class Matrix3 {
         return a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
     }
 
+    /**
+     * Вычисление обратной матрицы
+     * @return обратная матрица
+     */
+    public Matrix3 inverse() {
+        return inverse(Matrix3.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы с записью результата в заданную матрицу.
+     * Миноры 2×2 первой строки используются и для определителя, и для присоединенной матрицы.
+     * При включенном кэшировании обратная матрица вычисляется один раз и затем копируется.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 inverse(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!caching) {
+            return computeInverse(dest);
+        }
+        DerivedValues cached = derived;
+        float[] inverse = cached != null ? cached.inverse : null;
+        if (inverse == null) {
+            inverse = computeInverse(Matrix3.zero()).matrix;
+            derived = DerivedValues.of(cached).withInverse(inverse);
+        }
+        System.arraycopy(inverse, 0, dest.matrix, 0, SIZE * SIZE);
+        dest.modified();
+        return dest;
+    }
+
+    private Matrix3 computeInverse(Matrix3 dest) {
+        float[] m = matrix;
+        float a = m[0], b = m[1], c = m[2];
+        float d = m[3], e = m[4], f = m[5];
+        float g = m[6], h = m[7], i = m[8];
+
+        float c00 = e * i - f * h;
+        float c01 = f * g - d * i;
+        float c02 = d * h - e * g;
+        float det = a * c00 + b * c01 + c * c02;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        float invDet = 1.0f / det;
+
+        float[] r = dest.matrix;
+        r[0] = c00 * invDet;
+        r[1] = (c * h - b * i) * invDet;
+        r[2] = (b * f - c * e) * invDet;
+        r[3] = c01 * invDet;
+        r[4] = (a * i - c * g) * invDet;
+        r[5] = (c * d - a * f) * invDet;
+        r[6] = c02 * invDet;
+        r[7] = (b * g - a * h) * invDet;
+        r[8] = (a * e - b * d) * invDet;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Вычисление матрицы нормалей - обратной транспонированной матрицы
+     * @return новая матрица нормалей
+     */
+    public Matrix3 normalMatrix() {
+        return normalMatrix(Matrix3.zero());
+    }
+
+    /**
+     * Вычисление матрицы нормалей с записью результата в заданную матрицу.
+     * (A^(-1))^T равна матрице алгебраических дополнений, деленной на определитель.
+     * Результат кэшируется так же, как в {@link #inverse(Matrix3)}. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws ArithmeticException если матрица вырожденная
+     */
+    public Matrix3 normalMatrix(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!caching) {
+            return computeNormalMatrix(dest);
+        }
+        DerivedValues cached = derived;
+        float[] normal = cached != null ? cached.normal : null;
+        if (normal == null) {
+            normal = computeNormalMatrix(Matrix3.zero()).matrix;
+            derived = DerivedValues.of(cached).withNormal(normal);
+        }
+        System.arraycopy(normal, 0, dest.matrix, 0, SIZE * SIZE);
+        dest.modified();
+        return dest;
+    }
+
+    private Matrix3 computeNormalMatrix(Matrix3 dest) {
+        float[] m = matrix;
+        float a = m[0], b = m[1], c = m[2];
+        float d = m[3], e = m[4], f = m[5];
+        float g = m[6], h = m[7], i = m[8];
+
+        float c00 = e * i - f * h;
+        float c01 = f * g - d * i;
+        float c02 = d * h - e * g;
+        float det = a * c00 + b * c01 + c * c02;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        float invDet = 1.0f / det;
+
+        float[] r = dest.matrix;
+        r[0] = c00 * invDet;
+        r[1] = c01 * invDet;
+        r[2] = c02 * invDet;
+        r[3] = (c * h - b * i) * invDet;
+        r[4] = (a * i - c * g) * invDet;
+        r[5] = (b * g - a * h) * invDet;
+        r[6] = (b * f - c * e) * invDet;
+        r[7] = (c * d - a * f) * invDet;
+        r[8] = (a * e - b * d) * invDet;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Включает или выключает кэширование производных значений
+     * с теми же гарантиями, что и {@link Matrix4#setCaching(boolean)}
+     * @param enabled true для включения кэширования
+     * @return текущая матрица
+     */
+    public Matrix3 setCaching(boolean enabled) {
+        caching = enabled;
+        derived = null;
+        return this;
+    }
+
+    /**
+     * Проверяет, включено ли кэширование производных значений
+     * @return true, если кэширование включено
+     */
+    public boolean isCaching() {
+        return caching;
+    }
+
+    /**
+     * Сбрасывает кэш производных значений; вызывается после каждого изменения элементов
+     */
+    void modified() {
+        if (caching) {
+            derived = null;
+        }
+    }
+
+    /**
+     * Возвращает внутренний массив элементов без копирования.
+     * После записи в массив необходимо вызвать {@link #modified()}.
+     * @return массив из 9 элементов, упакованных по строкам
+     */
+    float[] elements() {
+        return matrix;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
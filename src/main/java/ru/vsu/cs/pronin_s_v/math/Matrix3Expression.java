@@ -0,0 +1,233 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Отложенное выражение - произведение цепочки матриц 3×3 F0 * F1 * ... * Fk-1,
+ * каждая из которых может входить транспонированной.
+ * Матрицы запоминаются по ссылке и считываются только при вычислении.
+ * Для одного вектора множители применяются справа налево, для пакета цепочка
+ * один раз сворачивается в матрицу. Вычисление не выделяет память; экземпляр не потокобезопасен.
+ */
+public class Matrix3Expression {
+    private static final int SIZE = 3;
+    private static final int ELEMENTS = SIZE * SIZE;
+
+    private Matrix3[] factors = new Matrix3[4];
+    private boolean[] transposed = new boolean[4];
+    private int size;
+    private final float[] accumulator = new float[ELEMENTS];
+    private final float[] operand = new float[ELEMENTS];
+    private final Vector3 scratch = new Vector3();
+
+    /**
+     * Создает пустое выражение, равное единичной матрице
+     */
+    public Matrix3Expression() {
+    }
+
+    /**
+     * Создает выражение из одной матрицы
+     * @param matrix первый множитель
+     * @return новое выражение
+     */
+    public static Matrix3Expression of(Matrix3 matrix) {
+        return new Matrix3Expression().multiply(matrix);
+    }
+
+    /**
+     * Возвращает количество множителей в цепочке
+     * @return количество множителей
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все множители; выражение снова равно единичной матрице
+     * @return текущее выражение
+     */
+    public Matrix3Expression clear() {
+        Arrays.fill(factors, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Добавляет множитель справа: выражение = выражение * matrix
+     * @param matrix матрица
+     * @return текущее выражение
+     */
+    public Matrix3Expression multiply(Matrix3 matrix) {
+        return append(matrix, false);
+    }
+
+    /**
+     * Добавляет транспонированный множитель справа: выражение = выражение * matrix^T
+     * @param matrix матрица
+     * @return текущее выражение
+     */
+    public Matrix3Expression multiplyTransposed(Matrix3 matrix) {
+        return append(matrix, true);
+    }
+
+    /**
+     * Транспонирует выражение, меняя порядок множителей и признаки транспонирования
+     * @return текущее выражение
+     */
+    public Matrix3Expression transpose() {
+        for (int i = 0, j = size - 1; i <= j; i++, j--) {
+            Matrix3 f = factors[i];
+            boolean t = transposed[i];
+            factors[i] = factors[j];
+            transposed[i] = !transposed[j];
+            factors[j] = f;
+            transposed[j] = !t;
+        }
+        return this;
+    }
+
+    private Matrix3Expression append(Matrix3 matrix, boolean transpose) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        if (size == factors.length) {
+            factors = Arrays.copyOf(factors, size * 2);
+            transposed = Arrays.copyOf(transposed, size * 2);
+        }
+        factors[size] = matrix;
+        transposed[size] = transpose;
+        size++;
+        return this;
+    }
+
+    /**
+     * Вычисляет произведение цепочки в новую матрицу
+     * @return новая матрица
+     */
+    public Matrix3 evaluate() {
+        return evaluate(Matrix3.zero());
+    }
+
+    /**
+     * Вычисляет произведение цепочки в заданную матрицу.
+     * Матрица dest может входить в цепочку.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 evaluate(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        collapse();
+        System.arraycopy(accumulator, 0, dest.elements(), 0, ELEMENTS);
+        dest.modified();
+        return dest;
+    }
+
+    private void collapse() {
+        if (size == 0) {
+            Arrays.fill(accumulator, 0.0f);
+            accumulator[0] = 1.0f;
+            accumulator[4] = 1.0f;
+            accumulator[8] = 1.0f;
+            return;
+        }
+        load(0, accumulator);
+        for (int i = 1; i < size; i++) {
+            load(i, operand);
+            float[] a = accumulator;
+            float[] b = operand;
+            for (int r = 0; r < ELEMENTS; r += SIZE) {
+                float a0 = a[r], a1 = a[r + 1], a2 = a[r + 2];
+                a[r] = a0 * b[0] + a1 * b[3] + a2 * b[6];
+                a[r + 1] = a0 * b[1] + a1 * b[4] + a2 * b[7];
+                a[r + 2] = a0 * b[2] + a1 * b[5] + a2 * b[8];
+            }
+        }
+    }
+
+    private void load(int index, float[] dest) {
+        float[] m = factors[index].elements();
+        if (!transposed[index]) {
+            System.arraycopy(m, 0, dest, 0, ELEMENTS);
+            return;
+        }
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                dest[r * SIZE + c] = m[c * SIZE + r];
+            }
+        }
+    }
+
+    /**
+     * Применяет выражение к вектору
+     * @param vector вектор
+     * @return новый вектор
+     */
+    public Vector3 apply(Vector3 vector) {
+        return apply(vector, new Vector3());
+    }
+
+    /**
+     * Применяет выражение к вектору, умножая его на множители справа налево.
+     * Вектор dest может совпадать с vector.
+     * @param vector вектор
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector3 apply(Vector3 vector, Vector3 dest) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float x = vector.getX(), y = vector.getY(), z = vector.getZ();
+        for (int i = size - 1; i >= 0; i--) {
+            float[] m = factors[i].elements();
+            float rx, ry, rz;
+            if (transposed[i]) {
+                rx = m[0] * x + m[3] * y + m[6] * z;
+                ry = m[1] * x + m[4] * y + m[7] * z;
+                rz = m[2] * x + m[5] * y + m[8] * z;
+            } else {
+                rx = m[0] * x + m[1] * y + m[2] * z;
+                ry = m[3] * x + m[4] * y + m[5] * z;
+                rz = m[6] * x + m[7] * y + m[8] * z;
+            }
+            x = rx;
+            y = ry;
+            z = rz;
+        }
+        return dest.set(x, y, z);
+    }
+
+    /**
+     * Преобразование трехмерных векторов из упакованного массива.
+     * Если свертка цепочки (27 * (k - 1) + 9 * n умножений) дешевле поочередного
+     * применения множителей (9 * k * n), цепочка сворачивается один раз.
+     * @param src исходный массив
+     * @param srcOff индекс первого вектора в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 3)
+     */
+    public void transform(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        long perVector = (long) ELEMENTS * size * count;
+        long collapse = (long) ELEMENTS * SIZE * (size - 1) + (long) ELEMENTS * count;
+        if (collapse < perVector) {
+            collapse();
+            float[] m = accumulator;
+            for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+                float x = src[s], y = src[s + 1], z = src[s + 2];
+                dst[d] = m[0] * x + m[1] * y + m[2] * z;
+                dst[d + 1] = m[3] * x + m[4] * y + m[5] * z;
+                dst[d + 2] = m[6] * x + m[7] * y + m[8] * z;
+            }
+            return;
+        }
+        Vector3 v = scratch;
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            apply(v.set(src[s], src[s + 1], src[s + 2]), v);
+            dst[d] = v.getX();
+            dst[d + 1] = v.getY();
+            dst[d + 2] = v.getZ();
+        }
+    }
+}
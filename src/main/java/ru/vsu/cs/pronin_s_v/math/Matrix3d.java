@@ -0,0 +1,476 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Класс для работы с матрицами 3×3 двойной точности
+ */
+public class Matrix3d {
+    private static final int SIZE = 3;
+    
+    private final double[] matrix;
+
+    /**
+     * Создает единичную матрицу
+     */
+    public Matrix3d() {
+        this(true);
+    }
+
+    private Matrix3d(boolean identity) {
+        matrix = new double[SIZE * SIZE];
+        if (identity) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[i * SIZE + i] = 1.0;
+            }
+        }
+    }
+
+    /**
+     * Создает нулевую матрицу
+     * @return нулевая матрица
+     */
+    public static Matrix3d zero() {
+        return new Matrix3d(false);
+    }
+
+    /**
+     * Создает единичную матрицу
+     * @return единичная матрица
+     */
+    public static Matrix3d identity() {
+        return new Matrix3d();
+    }
+
+    /**
+     * Создает матрицу из двумерного массива
+     * @param m двумерный массив 3×3
+     */
+    public Matrix3d(double[][] m) {
+        if (m == null || m.length != SIZE) {
+            throw new IllegalArgumentException("Матрица должна быть 3x3");
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (m[i] == null || m[i].length != SIZE) {
+                throw new IllegalArgumentException("Матрица должна быть 3x3");
+            }
+        }
+        matrix = new double[SIZE * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                matrix[i * SIZE + j] = m[i][j];
+            }
+        }
+    }
+
+    /**
+     * Создает матрицу из одномерного массива
+     * @param m одномерный массив из 9 элементов
+     */
+    public Matrix3d(double[] m) {
+        if (m == null || m.length != SIZE * SIZE) {
+            throw new IllegalArgumentException("Массив должен содержать 9 элементов");
+        }
+        matrix = new double[SIZE * SIZE];
+        System.arraycopy(m, 0, matrix, 0, SIZE * SIZE);
+    }
+
+    /**
+     * Создает копию матрицы
+     * @param other исходная матрица
+     */
+    public Matrix3d(Matrix3d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        matrix = new double[SIZE * SIZE];
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+    }
+
+    /**
+     * Создает матрицу двойной точности из матрицы одинарной точности
+     * @param other исходная матрица
+     */
+    public Matrix3d(Matrix3 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        matrix = new double[SIZE * SIZE];
+        set(other);
+    }
+
+    /**
+     * Устанавливает единичную матрицу
+     */
+    public void setIdentity() {
+        setZero();
+        for (int i = 0; i < SIZE; i++) {
+            matrix[i * SIZE + i] = 1.0;
+        }
+    }
+
+    /**
+     * Устанавливает нулевую матрицу
+     */
+    public void setZero() {
+        Arrays.fill(matrix, 0.0);
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: строка=%d, столбец=%d (размер матрицы: %dx%d)", 
+                    row, col, SIZE, SIZE));
+        }
+    }
+
+    /**
+     * Получить значение элемента матрицы
+     * @param row номер строки (0-2)
+     * @param col номер столбца (0-2)
+     * @return значение элемента
+     */
+    public double get(int row, int col) {
+        validateIndices(row, col);
+        return matrix[row * SIZE + col];
+    }
+
+    /**
+     * Установить значение элемента матрицы
+     * @param row номер строки (0-2)
+     * @param col номер столбца (0-2)
+     * @param value новое значение
+     */
+    public void set(int row, int col, double value) {
+        validateIndices(row, col);
+        matrix[row * SIZE + col] = value;
+    }
+
+    /**
+     * Копирует значения другой матрицы в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix3d set(Matrix3d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+        return this;
+    }
+
+    /**
+     * Копирует значения матрицы одинарной точности в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix3d set(Matrix3 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        float[] src = other.elements();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            matrix[i] = src[i];
+        }
+        return this;
+    }
+
+    /**
+     * Преобразование в матрицу одинарной точности
+     * @return новая матрица
+     */
+    public Matrix3 toMatrix3() {
+        return toMatrix3(Matrix3.zero());
+    }
+
+    /**
+     * Преобразование в матрицу одинарной точности с записью в заданную матрицу
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 toMatrix3(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float[] d = dest.elements();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            d[i] = (float) matrix[i];
+        }
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Сложение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix3d add(Matrix3d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return add(other, Matrix3d.zero());
+    }
+
+    /**
+     * Сложение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3d add(Matrix3d other, Matrix3d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            dest.matrix[i] = this.matrix[i] + other.matrix[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Сложение матриц на месте: this = this + other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3d addLocal(Matrix3d other) {
+        return add(other, this);
+    }
+
+    /**
+     * Вычитание матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix3d subtract(Matrix3d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return subtract(other, Matrix3d.zero());
+    }
+
+    /**
+     * Вычитание матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3d subtract(Matrix3d other, Matrix3d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            dest.matrix[i] = this.matrix[i] - other.matrix[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание матриц на месте: this = this - other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3d subtractLocal(Matrix3d other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Умножение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix3d multiply(Matrix3d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return multiply(other, Matrix3d.zero());
+    }
+
+    /**
+     * Умножение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other: все элементы other
+     * считываются заранее, а строка this считывается до записи строки результата.
+     * Суммы начинаются с +0.0, поэтому нулевые элементы результата не получают
+     * отрицательный знак.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3d multiply(Matrix3d other, Matrix3d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double[] a = this.matrix;
+        double[] b = other.matrix;
+        double[] d = dest.matrix;
+        double b00 = b[0], b01 = b[1], b02 = b[2];
+        double b10 = b[3], b11 = b[4], b12 = b[5];
+        double b20 = b[6], b21 = b[7], b22 = b[8];
+        for (int r = 0; r < SIZE * SIZE; r += SIZE) {
+            double a0 = a[r], a1 = a[r + 1], a2 = a[r + 2];
+            d[r] = 0.0 + a0 * b00 + a1 * b10 + a2 * b20;
+            d[r + 1] = 0.0 + a0 * b01 + a1 * b11 + a2 * b21;
+            d[r + 2] = 0.0 + a0 * b02 + a1 * b12 + a2 * b22;
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение матриц на месте: this = this * other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix3d mulLocal(Matrix3d other) {
+        return multiply(other, this);
+    }
+
+    /**
+     * Умножение матрицы на вектор
+     * @param vector вектор
+     * @return новый вектор
+     */
+    public Vector3d multiply(Vector3d vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        double[] result = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            double sum = 0.0;
+            for (int j = 0; j < SIZE; j++) {
+                sum += matrix[i * SIZE + j] * getVectorComponent(vector, j);
+            }
+            result[i] = sum;
+        }
+        return new Vector3d(result[0], result[1], result[2]);
+    }
+
+    private static double getVectorComponent(Vector3d vector, int index) {
+        return switch (index) {
+            case 0 -> vector.getX();
+            case 1 -> vector.getY();
+            case 2 -> vector.getZ();
+            default -> throw new IllegalArgumentException("Неверный индекс компоненты вектора: " + index);
+        };
+    }
+
+    /**
+     * Транспонирование матрицы
+     * @return новая транспонированная матрица
+     */
+    public Matrix3d transpose() {
+        return transpose(Matrix3d.zero());
+    }
+
+    /**
+     * Транспонирование матрицы с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3d transpose(Matrix3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE; i++) {
+            dest.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
+        }
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = i + 1; j < SIZE; j++) {
+                double temp = this.matrix[i * SIZE + j];
+                dest.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
+                dest.matrix[j * SIZE + i] = temp;
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Транспонирование матрицы на месте
+     * @return текущая матрица
+     */
+    public Matrix3d transposeLocal() {
+        return transpose(this);
+    }
+
+    /**
+     * Вычисление определителя
+     * @return определитель матрицы
+     */
+    public double determinant() {
+        double a = matrix[0 * SIZE + 0], b = matrix[0 * SIZE + 1], c = matrix[0 * SIZE + 2];
+        double d = matrix[1 * SIZE + 0], e = matrix[1 * SIZE + 1], f = matrix[1 * SIZE + 2];
+        double g = matrix[2 * SIZE + 0], h = matrix[2 * SIZE + 1], i = matrix[2 * SIZE + 2];
+        
+        return a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
+    }
+
+    /**
+     * Вычисление обратной матрицы
+     * @return обратная матрица
+     */
+    public Matrix3d inverse() {
+        return inverse(Matrix3d.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы с записью результата в заданную матрицу.
+     * Миноры 2×2 первой строки используются и для определителя, и для присоединенной матрицы.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3d inverse(Matrix3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double[] m = matrix;
+        double a = m[0], b = m[1], c = m[2];
+        double d = m[3], e = m[4], f = m[5];
+        double g = m[6], h = m[7], i = m[8];
+
+        double c00 = e * i - f * h;
+        double c01 = f * g - d * i;
+        double c02 = d * h - e * g;
+        double det = a * c00 + b * c01 + c * c02;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        double invDet = 1.0 / det;
+
+        double[] r = dest.matrix;
+        r[0] = c00 * invDet;
+        r[1] = (c * h - b * i) * invDet;
+        r[2] = (b * f - c * e) * invDet;
+        r[3] = c01 * invDet;
+        r[4] = (a * i - c * g) * invDet;
+        r[5] = (c * d - a * f) * invDet;
+        r[6] = c02 * invDet;
+        r[7] = (b * g - a * h) * invDet;
+        r[8] = (a * e - b * d) * invDet;
+        return dest;
+    }
+
+    /**
+     * Возвращает внутренний массив элементов без копирования
+     * @return массив из 9 элементов, упакованных по строкам
+     */
+    double[] elements() {
+        return matrix;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Matrix3d matrix3 = (Matrix3d) obj;
+        double epsilon = ValidationUtils.getEpsilon();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            if (Math.abs(this.matrix[i] - matrix3.matrix[i]) >= epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        double epsilon = ValidationUtils.getEpsilon();
+        double scale = 1.0 / epsilon;
+        double maxValue = Integer.MAX_VALUE / scale;
+        int result = 1;
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            double safeValue = Math.max(-maxValue, Math.min(maxValue, matrix[i]));
+            result = 31 * result + Long.hashCode(Math.round(safeValue * scale));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Matrix3d:\n");
+        for (int i = 0; i < SIZE; i++) {
+            sb.append("[");
+            for (int j = 0; j < SIZE; j++) {
+                if (j > 0) sb.append(", ");
+                sb.append(String.format("%.3f", matrix[i * SIZE + j]));
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+}
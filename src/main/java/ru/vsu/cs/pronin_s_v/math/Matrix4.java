@@ -1,5 +1,6 @@
 package ru.vsu.cs.pronin_s_v.math;
 
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 
 /**
@@ -9,13 +10,23 @@ public class Matrix4 {
     private static final int SIZE = 4;
     
     private final float[] matrix;
+    private boolean caching;
+    private volatile DerivedValues derived;
 
     /**
      * Создает единичную матрицу
      */
     public Matrix4() {
+        this(true);
+    }
+
+    private Matrix4(boolean identity) {
         matrix = new float[SIZE * SIZE];
-        setIdentity();
+        if (identity) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[i * SIZE + i] = 1.0f;
+            }
+        }
     }
 
     /**
@@ -23,9 +34,7 @@ public class Matrix4 {
      * @return нулевая матрица
      */
     public static Matrix4 zero() {
-        Matrix4 m = new Matrix4();
-        m.setZero();
-        return m;
+        return new Matrix4(false);
     }
 
     /**
@@ -94,6 +103,7 @@ public class Matrix4 {
      */
     public void setZero() {
         Arrays.fill(matrix, 0.0f);
+        modified();
     }
 
     private void validateIndices(int row, int col) {
@@ -124,6 +134,114 @@ public class Matrix4 {
     public void set(int row, int col, float value) {
         validateIndices(row, col);
         matrix[row * SIZE + col] = value;
+        modified();
+    }
+
+    /**
+     * Копирует значения другой матрицы в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix4 set(Matrix4 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+        modified();
+        return this;
+    }
+
+    /**
+     * Загружает элементы матрицы из массива, упакованные по строкам
+     * @param src исходный массив
+     * @param offset индекс первого элемента в src
+     * @return текущая матрица
+     */
+    public Matrix4 set(float[] src, int offset) {
+        ValidationUtils.requireNonNull(src, "Array");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, src.length);
+        System.arraycopy(src, offset, matrix, 0, SIZE * SIZE);
+        modified();
+        return this;
+    }
+
+    /**
+     * Записывает элементы матрицы в массив по строкам
+     * @param dest массив для результата
+     * @param offset индекс первого элемента в dest
+     * @return массив dest
+     */
+    public float[] toArray(float[] dest, int offset) {
+        ValidationUtils.requireNonNull(dest, "Array");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, dest.length);
+        System.arraycopy(matrix, 0, dest, offset, SIZE * SIZE);
+        return dest;
+    }
+
+    /**
+     * Загружает элементы матрицы из буфера, упакованные по строкам.
+     * Используется абсолютное чтение, позиция буфера не изменяется.
+     * @param src исходный буфер
+     * @param offset индекс первого элемента в src
+     * @return текущая матрица
+     */
+    public Matrix4 set(FloatBuffer src, int offset) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, src.limit());
+        src.get(offset, matrix, 0, SIZE * SIZE);
+        modified();
+        return this;
+    }
+
+    /**
+     * Записывает элементы матрицы в буфер по строкам.
+     * Используется абсолютная запись, позиция буфера не изменяется.
+     * @param dest буфер для результата
+     * @param offset индекс первого элемента в dest
+     * @return буфер dest
+     */
+    public FloatBuffer toBuffer(FloatBuffer dest, int offset) {
+        ValidationUtils.requireNonNull(dest, "Buffer");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, dest.limit());
+        dest.put(offset, matrix, 0, SIZE * SIZE);
+        return dest;
+    }
+
+    /**
+     * Включает или выключает кэширование определителя, обратной матрицы и матрицы нормалей.
+     * Кэш сбрасывается любым изменением матрицы. После изменения матрица может читаться
+     * из нескольких потоков одновременно; изменения не должны выполняться параллельно с чтением.
+     * @param enabled true для включения кэширования
+     * @return текущая матрица
+     */
+    public Matrix4 setCaching(boolean enabled) {
+        caching = enabled;
+        derived = null;
+        return this;
+    }
+
+    /**
+     * Проверяет, включено ли кэширование производных значений
+     * @return true, если кэширование включено
+     */
+    public boolean isCaching() {
+        return caching;
+    }
+
+    /**
+     * Сбрасывает кэш производных значений; вызывается после каждого изменения элементов
+     */
+    void modified() {
+        if (caching) {
+            derived = null;
+        }
+    }
+
+    /**
+     * Возвращает внутренний массив элементов без копирования.
+     * После записи в массив необходимо вызвать {@link #modified()}.
+     * @return массив из 16 элементов, упакованных по строкам
+     */
+    float[] elements() {
+        return matrix;
     }
 
     /**
@@ -133,11 +251,33 @@ public class Matrix4 {
      */
     public Matrix4 add(Matrix4 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix4 result = Matrix4.zero();
+        return add(other, Matrix4.zero());
+    }
+
+    /**
+     * Сложение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 add(Matrix4 other, Matrix4 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE * SIZE; i++) {
-            result.matrix[i] = this.matrix[i] + other.matrix[i];
+            dest.matrix[i] = this.matrix[i] + other.matrix[i];
         }
-        return result;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Сложение матриц на месте: this = this + other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4 addLocal(Matrix4 other) {
+        return add(other, this);
     }
 
     /**
@@ -147,11 +287,33 @@ public class Matrix4 {
      */
     public Matrix4 subtract(Matrix4 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix4 result = Matrix4.zero();
+        return subtract(other, Matrix4.zero());
+    }
+
+    /**
+     * Вычитание матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 subtract(Matrix4 other, Matrix4 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE * SIZE; i++) {
-            result.matrix[i] = this.matrix[i] - other.matrix[i];
+            dest.matrix[i] = this.matrix[i] - other.matrix[i];
         }
-        return result;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Вычитание матриц на месте: this = this - other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4 subtractLocal(Matrix4 other) {
+        return subtract(other, this);
     }
 
     /**
@@ -161,17 +323,53 @@ public class Matrix4 {
      */
     public Matrix4 multiply(Matrix4 other) {
         ValidationUtils.requireNonNull(other, "Matrix");
-        Matrix4 result = Matrix4.zero();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                float sum = 0.0f;
-                for (int k = 0; k < SIZE; k++) {
-                    sum += this.matrix[i * SIZE + k] * other.matrix[k * SIZE + j];
-                }
-                result.matrix[i * SIZE + j] = sum;
-            }
+        return multiply(other, Matrix4.zero());
+    }
+
+    /**
+     * Умножение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other: все элементы other
+     * считываются заранее, а строка this считывается до записи строки результата.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 multiply(Matrix4 other, Matrix4 dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        multiply(this.matrix, 0, other.matrix, 0, dest.matrix, 0);
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Умножение матриц 4×4, упакованных по строкам в массивы.
+     * Все элементы b считываются заранее, а строка a считывается до записи строки результата,
+     * поэтому d может совпадать с a или b при равных смещениях.
+     * Суммы начинаются с +0.0f, как в поэлементном цикле, поэтому нулевые элементы
+     * результата не получают отрицательный знак.
+     */
+    static void multiply(float[] a, int aOff, float[] b, int bOff, float[] d, int dOff) {
+        float b00 = b[bOff], b01 = b[bOff + 1], b02 = b[bOff + 2], b03 = b[bOff + 3];
+        float b10 = b[bOff + 4], b11 = b[bOff + 5], b12 = b[bOff + 6], b13 = b[bOff + 7];
+        float b20 = b[bOff + 8], b21 = b[bOff + 9], b22 = b[bOff + 10], b23 = b[bOff + 11];
+        float b30 = b[bOff + 12], b31 = b[bOff + 13], b32 = b[bOff + 14], b33 = b[bOff + 15];
+        for (int r = 0; r < SIZE * SIZE; r += SIZE) {
+            float a0 = a[aOff + r], a1 = a[aOff + r + 1], a2 = a[aOff + r + 2], a3 = a[aOff + r + 3];
+            d[dOff + r] = 0.0f + a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+            d[dOff + r + 1] = 0.0f + a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+            d[dOff + r + 2] = 0.0f + a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+            d[dOff + r + 3] = 0.0f + a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
         }
-        return result;
+    }
+
+    /**
+     * Умножение матриц на месте: this = this * other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4 mulLocal(Matrix4 other) {
+        return multiply(other, this);
     }
 
     /**
@@ -181,25 +379,228 @@ public class Matrix4 {
      */
     public Vector4 multiply(Vector4 vector) {
         ValidationUtils.requireNonNull(vector, "Vector");
-        float[] result = new float[SIZE];
-        for (int i = 0; i < SIZE; i++) {
-            float sum = 0.0f;
-            for (int j = 0; j < SIZE; j++) {
-                sum += matrix[i * SIZE + j] * getVectorComponent(vector, j);
+        float[] m = matrix;
+        float x = vector.getX(), y = vector.getY(), z = vector.getZ(), w = vector.getW();
+        return new Vector4(
+            0.0f + m[0] * x + m[1] * y + m[2] * z + m[3] * w,
+            0.0f + m[4] * x + m[5] * y + m[6] * z + m[7] * w,
+            0.0f + m[8] * x + m[9] * y + m[10] * z + m[11] * w,
+            0.0f + m[12] * x + m[13] * y + m[14] * z + m[15] * w
+        );
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива.
+     * Каждая вершина занимает stride элементов, из которых используются первые три (x, y, z).
+     * Записываются только x, y, z результата, остальные элементы dst не изменяются.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     */
+    public void transformPoints(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        transformPoints(src, srcOff, dst, dstOff, count, stride, false);
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива с необязательным
+     * перспективным делением результата на w.
+     * Каждая вершина занимает stride элементов, из которых используются первые три (x, y, z).
+     * Записываются только x, y, z результата, остальные элементы dst не изменяются.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public void transformPoints(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride,
+                                boolean perspectiveDivide) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            float rx = m00 * x + m01 * y + m02 * z + m03;
+            float ry = m10 * x + m11 * y + m12 * z + m13;
+            float rz = m20 * x + m21 * y + m22 * z + m23;
+            if (perspectiveDivide) {
+                float invW = 1.0f / (m30 * x + m31 * y + m32 * z + m33);
+                rx *= invW;
+                ry *= invW;
+                rz *= invW;
+            }
+            dst[d] = rx;
+            dst[d + 1] = ry;
+            dst[d + 2] = rz;
+        }
+    }
+
+    /**
+     * Преобразование направлений (w = 0) из упакованного массива.
+     * Перенос матрицы не применяется. Каждая вершина занимает stride элементов,
+     * из которых используются первые три (x, y, z).
+     * @param src исходный массив
+     * @param srcOff индекс первого направления в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого направления в dst
+     * @param count количество направлений
+     * @param stride шаг между направлениями (не меньше 3)
+     */
+    public void transformDirections(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2];
+        float m10 = m[4], m11 = m[5], m12 = m[6];
+        float m20 = m[8], m21 = m[9], m22 = m[10];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = m00 * x + m01 * y + m02 * z;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
+    /**
+     * Преобразование четырехмерных векторов (x, y, z, w) из упакованного массива
+     * @param src исходный массив
+     * @param srcOff индекс первого вектора в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 4)
+     */
+    public void transformVectors4(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 4);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 4);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dst[d + 3] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного буфера, например прямого
+     * или отображенного в память. Данные читаются и записываются напрямую,
+     * без промежуточных массивов; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первой вершины в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public void transformPoints(FloatBuffer src, int srcOff, FloatBuffer dst, int dstOff, int count, int stride,
+                                boolean perspectiveDivide) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 3);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src.get(s), y = src.get(s + 1), z = src.get(s + 2);
+            float rx = m00 * x + m01 * y + m02 * z + m03;
+            float ry = m10 * x + m11 * y + m12 * z + m13;
+            float rz = m20 * x + m21 * y + m22 * z + m23;
+            if (perspectiveDivide) {
+                float invW = 1.0f / (m30 * x + m31 * y + m32 * z + m33);
+                rx *= invW;
+                ry *= invW;
+                rz *= invW;
             }
-            result[i] = sum;
+            dst.put(d, rx);
+            dst.put(d + 1, ry);
+            dst.put(d + 2, rz);
+        }
+    }
+
+    /**
+     * Преобразование направлений (w = 0) из упакованного буфера.
+     * Данные читаются и записываются напрямую; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первого направления в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого направления в dst
+     * @param count количество направлений
+     * @param stride шаг между направлениями (не меньше 3)
+     */
+    public void transformDirections(FloatBuffer src, int srcOff, FloatBuffer dst, int dstOff, int count, int stride) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 3);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2];
+        float m10 = m[4], m11 = m[5], m12 = m[6];
+        float m20 = m[8], m21 = m[9], m22 = m[10];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src.get(s), y = src.get(s + 1), z = src.get(s + 2);
+            dst.put(d, m00 * x + m01 * y + m02 * z);
+            dst.put(d + 1, m10 * x + m11 * y + m12 * z);
+            dst.put(d + 2, m20 * x + m21 * y + m22 * z);
         }
-        return new Vector4(result[0], result[1], result[2], result[3]);
     }
 
-    private static float getVectorComponent(Vector4 vector, int index) {
-        return switch (index) {
-            case 0 -> vector.getX();
-            case 1 -> vector.getY();
-            case 2 -> vector.getZ();
-            case 3 -> vector.getW();
-            default -> throw new IllegalArgumentException("Неверный индекс компоненты вектора: " + index);
-        };
+    /**
+     * Преобразование четырехмерных векторов (x, y, z, w) из упакованного буфера.
+     * Данные читаются и записываются напрямую; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первого вектора в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 4)
+     */
+    public void transformVectors4(FloatBuffer src, int srcOff, FloatBuffer dst, int dstOff, int count, int stride) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 4);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 4);
+        float[] m = matrix;
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float x = src.get(s), y = src.get(s + 1), z = src.get(s + 2), w = src.get(s + 3);
+            dst.put(d, m00 * x + m01 * y + m02 * z + m03 * w);
+            dst.put(d + 1, m10 * x + m11 * y + m12 * z + m13 * w);
+            dst.put(d + 2, m20 * x + m21 * y + m22 * z + m23 * w);
+            dst.put(d + 3, m30 * x + m31 * y + m32 * z + m33 * w);
+        }
     }
 
     /**
@@ -207,48 +608,76 @@ public class Matrix4 {
      * @return новая транспонированная матрица
      */
     public Matrix4 transpose() {
-        Matrix4 result = Matrix4.zero();
+        return transpose(Matrix4.zero());
+    }
+
+    /**
+     * Транспонирование матрицы с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 transpose(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
         for (int i = 0; i < SIZE; i++) {
-            result.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
+            dest.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
         }
         for (int i = 0; i < SIZE; i++) {
             for (int j = i + 1; j < SIZE; j++) {
                 float temp = this.matrix[i * SIZE + j];
-                result.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
-                result.matrix[j * SIZE + i] = temp;
+                dest.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
+                dest.matrix[j * SIZE + i] = temp;
             }
         }
-        return result;
+        dest.modified();
+        return dest;
     }
 
     /**
-     * Вычисление определителя
+     * Транспонирование матрицы на месте
+     * @return текущая матрица
+     */
+    public Matrix4 transposeLocal() {
+        return transpose(this);
+    }
+
+    /**
+     * Вычисление определителя.
+     * Используется разложение Лапласа по двум верхним и двум нижним строкам
+     * через шесть пар миноров 2×2. При включенном кэшировании значение вычисляется
+     * один раз до следующего изменения матрицы.
      * @return определитель матрицы
      */
     public float determinant() {
-        float det = 0.0f;
-        for (int j = 0; j < SIZE; j++) {
-            float sign = (j % 2 == 0) ? 1.0f : -1.0f;
-            det += sign * matrix[0 * SIZE + j] * minorDeterminant(0, j);
+        if (!caching) {
+            return computeDeterminant();
         }
+        DerivedValues cached = derived;
+        if (cached != null && cached.hasDeterminant) {
+            return cached.determinant;
+        }
+        float det = computeDeterminant();
+        derived = DerivedValues.of(cached).withDeterminant(det);
         return det;
     }
 
-    private float minorDeterminant(int row, int col) {
-        float[] minor = new float[9];
-        int mi = 0;
-        for (int i = 0; i < SIZE; i++) {
-            if (i == row) continue;
-            for (int j = 0; j < SIZE; j++) {
-                if (j == col) continue;
-                minor[mi] = matrix[i * SIZE + j];
-                mi++;
-            }
-        }
-        float a = minor[0], b = minor[1], c = minor[2];
-        float d = minor[3], e = minor[4], f = minor[5];
-        float g = minor[6], h = minor[7], i = minor[8];
-        return a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
+    private float computeDeterminant() {
+        float[] m = matrix;
+        float s0 = m[0] * m[5] - m[4] * m[1];
+        float s1 = m[0] * m[6] - m[4] * m[2];
+        float s2 = m[0] * m[7] - m[4] * m[3];
+        float s3 = m[1] * m[6] - m[5] * m[2];
+        float s4 = m[1] * m[7] - m[5] * m[3];
+        float s5 = m[2] * m[7] - m[6] * m[3];
+
+        float c5 = m[10] * m[15] - m[14] * m[11];
+        float c4 = m[9] * m[15] - m[13] * m[11];
+        float c3 = m[9] * m[14] - m[13] * m[10];
+        float c2 = m[8] * m[15] - m[12] * m[11];
+        float c1 = m[8] * m[14] - m[12] * m[10];
+        float c0 = m[8] * m[13] - m[12] * m[9];
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
     }
 
     /**
@@ -256,17 +685,587 @@ public class Matrix4 {
      * @return обратная матрица
      */
     public Matrix4 inverse() {
-        float det = determinant();
+        return inverse(Matrix4.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы с записью результата в заданную матрицу.
+     * Для аффинных матриц используется {@link #inverseAffine(Matrix4)}, иначе
+     * двенадцать миноров 2×2 вычисляются один раз и используются как для
+     * определителя, так и для присоединенной матрицы. При включенном кэшировании
+     * обратная матрица вычисляется один раз и затем копируется. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 inverse(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!caching) {
+            return computeInverse(dest);
+        }
+        DerivedValues cached = derived;
+        float[] inverse = cached != null ? cached.inverse : null;
+        if (inverse == null) {
+            inverse = computeInverse(Matrix4.zero()).matrix;
+            derived = DerivedValues.of(cached).withInverse(inverse);
+        }
+        System.arraycopy(inverse, 0, dest.matrix, 0, SIZE * SIZE);
+        dest.modified();
+        return dest;
+    }
+
+    private Matrix4 computeInverse(Matrix4 dest) {
+        if (isAffine()) {
+            return inverseAffine(dest);
+        }
+        float[] m = matrix;
+        float a00 = m[0], a01 = m[1], a02 = m[2], a03 = m[3];
+        float a10 = m[4], a11 = m[5], a12 = m[6], a13 = m[7];
+        float a20 = m[8], a21 = m[9], a22 = m[10], a23 = m[11];
+        float a30 = m[12], a31 = m[13], a32 = m[14], a33 = m[15];
+
+        float s0 = a00 * a11 - a10 * a01;
+        float s1 = a00 * a12 - a10 * a02;
+        float s2 = a00 * a13 - a10 * a03;
+        float s3 = a01 * a12 - a11 * a02;
+        float s4 = a01 * a13 - a11 * a03;
+        float s5 = a02 * a13 - a12 * a03;
+
+        float c5 = a22 * a33 - a32 * a23;
+        float c4 = a21 * a33 - a31 * a23;
+        float c3 = a21 * a32 - a31 * a22;
+        float c2 = a20 * a33 - a30 * a23;
+        float c1 = a20 * a32 - a30 * a22;
+        float c0 = a20 * a31 - a30 * a21;
+
+        float det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
         ValidationUtils.checkNonZeroDeterminant(det);
-        
-        Matrix4 adjugate = Matrix4.zero();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                float sign = ((i + j) % 2 == 0) ? 1.0f : -1.0f;
-                adjugate.matrix[j * SIZE + i] = sign * minorDeterminant(i, j) / det;
-            }
+        float invDet = 1.0f / det;
+
+        float[] d = dest.matrix;
+        d[0] = (a11 * c5 - a12 * c4 + a13 * c3) * invDet;
+        d[1] = (-a01 * c5 + a02 * c4 - a03 * c3) * invDet;
+        d[2] = (a31 * s5 - a32 * s4 + a33 * s3) * invDet;
+        d[3] = (-a21 * s5 + a22 * s4 - a23 * s3) * invDet;
+
+        d[4] = (-a10 * c5 + a12 * c2 - a13 * c1) * invDet;
+        d[5] = (a00 * c5 - a02 * c2 + a03 * c1) * invDet;
+        d[6] = (-a30 * s5 + a32 * s2 - a33 * s1) * invDet;
+        d[7] = (a20 * s5 - a22 * s2 + a23 * s1) * invDet;
+
+        d[8] = (a10 * c4 - a11 * c2 + a13 * c0) * invDet;
+        d[9] = (-a00 * c4 + a01 * c2 - a03 * c0) * invDet;
+        d[10] = (a30 * s4 - a31 * s2 + a33 * s0) * invDet;
+        d[11] = (-a20 * s4 + a21 * s2 - a23 * s0) * invDet;
+
+        d[12] = (-a10 * c3 + a11 * c1 - a12 * c0) * invDet;
+        d[13] = (a00 * c3 - a01 * c1 + a02 * c0) * invDet;
+        d[14] = (-a30 * s3 + a31 * s1 - a32 * s0) * invDet;
+        d[15] = (a20 * s3 - a21 * s1 + a22 * s0) * invDet;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Вычисление матрицы нормалей - обратной транспонированной к верхнему левому блоку 3×3
+     * @return новая матрица нормалей
+     */
+    public Matrix3 normalMatrix() {
+        return normalMatrix(Matrix3.zero());
+    }
+
+    /**
+     * Вычисление матрицы нормалей с записью результата в заданную матрицу.
+     * (A^(-1))^T равна матрице алгебраических дополнений блока A, деленной на определитель,
+     * поэтому ни полное обращение 4×4, ни транспонирование не требуются.
+     * Результат кэшируется так же, как в {@link #inverse(Matrix4)}.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws ArithmeticException если блок 3×3 вырожденный
+     */
+    public Matrix3 normalMatrix(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!caching) {
+            return computeNormalMatrix(dest);
+        }
+        DerivedValues cached = derived;
+        float[] normal = cached != null ? cached.normal : null;
+        if (normal == null) {
+            normal = computeNormalMatrix(Matrix3.zero()).elements();
+            derived = DerivedValues.of(cached).withNormal(normal);
+        }
+        System.arraycopy(normal, 0, dest.elements(), 0, normal.length);
+        dest.modified();
+        return dest;
+    }
+
+    private Matrix3 computeNormalMatrix(Matrix3 dest) {
+        float[] m = matrix;
+        float a = m[0], b = m[1], c = m[2];
+        float d = m[4], e = m[5], f = m[6];
+        float g = m[8], h = m[9], i = m[10];
+
+        float c00 = e * i - f * h;
+        float c01 = f * g - d * i;
+        float c02 = d * h - e * g;
+        float det = a * c00 + b * c01 + c * c02;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        float invDet = 1.0f / det;
+
+        float[] r = dest.elements();
+        r[0] = c00 * invDet;
+        r[1] = c01 * invDet;
+        r[2] = c02 * invDet;
+        r[3] = (c * h - b * i) * invDet;
+        r[4] = (a * i - c * g) * invDet;
+        r[5] = (b * g - a * h) * invDet;
+        r[6] = (b * f - c * e) * invDet;
+        r[7] = (c * d - a * f) * invDet;
+        r[8] = (a * e - b * d) * invDet;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Проверяет, что матрица аффинная, то есть ее последняя строка равна (0, 0, 0, 1)
+     * @return true, если матрица аффинная
+     */
+    public boolean isAffine() {
+        return matrix[12] == 0.0f && matrix[13] == 0.0f && matrix[14] == 0.0f && matrix[15] == 1.0f;
+    }
+
+    /**
+     * Вычисление обратной матрицы для аффинного преобразования
+     * @return обратная матрица
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4 inverseAffine() {
+        return inverseAffine(Matrix4.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы для аффинного преобразования [A | t] с записью
+     * результата в заданную матрицу. Обращается только блок A размером 3×3,
+     * а перенос вычисляется как -A^(-1) * t. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4 inverseAffine(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!isAffine()) {
+            throw new IllegalStateException("Матрица не является аффинной");
         }
-        return adjugate;
+        float[] m = matrix;
+        float a00 = m[0], a01 = m[1], a02 = m[2], tx = m[3];
+        float a10 = m[4], a11 = m[5], a12 = m[6], ty = m[7];
+        float a20 = m[8], a21 = m[9], a22 = m[10], tz = m[11];
+
+        float c00 = a11 * a22 - a12 * a21;
+        float c10 = a12 * a20 - a10 * a22;
+        float c20 = a10 * a21 - a11 * a20;
+        float det = a00 * c00 + a01 * c10 + a02 * c20;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        float invDet = 1.0f / det;
+
+        float i00 = c00 * invDet;
+        float i01 = (a02 * a21 - a01 * a22) * invDet;
+        float i02 = (a01 * a12 - a02 * a11) * invDet;
+        float i10 = c10 * invDet;
+        float i11 = (a00 * a22 - a02 * a20) * invDet;
+        float i12 = (a02 * a10 - a00 * a12) * invDet;
+        float i20 = c20 * invDet;
+        float i21 = (a01 * a20 - a00 * a21) * invDet;
+        float i22 = (a00 * a11 - a01 * a10) * invDet;
+
+        float[] d = dest.matrix;
+        d[0] = i00;
+        d[1] = i01;
+        d[2] = i02;
+        d[3] = -(i00 * tx + i01 * ty + i02 * tz);
+        d[4] = i10;
+        d[5] = i11;
+        d[6] = i12;
+        d[7] = -(i10 * tx + i11 * ty + i12 * tz);
+        d[8] = i20;
+        d[9] = i21;
+        d[10] = i22;
+        d[11] = -(i20 * tx + i21 * ty + i22 * tz);
+        d[12] = 0.0f;
+        d[13] = 0.0f;
+        d[14] = 0.0f;
+        d[15] = 1.0f;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Вычисление обратной матрицы для движения (поворот и перенос)
+     * @return обратная матрица
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4 inverseRigid() {
+        return inverseRigid(Matrix4.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы для движения [R | t] с записью результата
+     * в заданную матрицу. Блок R транспонируется, а перенос вычисляется как -R^T * t.
+     * Ортонормированность R не проверяется: для матриц с масштабированием
+     * следует использовать {@link #inverseAffine(Matrix4)}. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4 inverseRigid(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!isAffine()) {
+            throw new IllegalStateException("Матрица не является аффинной");
+        }
+        float[] m = matrix;
+        float r00 = m[0], r01 = m[1], r02 = m[2], tx = m[3];
+        float r10 = m[4], r11 = m[5], r12 = m[6], ty = m[7];
+        float r20 = m[8], r21 = m[9], r22 = m[10], tz = m[11];
+
+        float[] d = dest.matrix;
+        d[0] = r00;
+        d[1] = r10;
+        d[2] = r20;
+        d[3] = -(r00 * tx + r10 * ty + r20 * tz);
+        d[4] = r01;
+        d[5] = r11;
+        d[6] = r21;
+        d[7] = -(r01 * tx + r11 * ty + r21 * tz);
+        d[8] = r02;
+        d[9] = r12;
+        d[10] = r22;
+        d[11] = -(r02 * tx + r12 * ty + r22 * tz);
+        d[12] = 0.0f;
+        d[13] = 0.0f;
+        d[14] = 0.0f;
+        d[15] = 1.0f;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Создает матрицу перспективной проекции (правосторонняя система, камера смотрит вдоль -z,
+     * глубина отображается в диапазон [-1, 1])
+     * @param fovY вертикальный угол обзора в радианах
+     * @param aspect отношение ширины к высоте
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return новая матрица проекции
+     */
+    public static Matrix4 perspective(float fovY, float aspect, float near, float far) {
+        return zero().setPerspective(fovY, aspect, near, far);
+    }
+
+    /**
+     * Заполняет текущую матрицу перспективной проекцией
+     * @param fovY вертикальный угол обзора в радианах
+     * @param aspect отношение ширины к высоте
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return текущая матрица
+     * @throws IllegalArgumentException если параметры не задают допустимую пирамиду видимости
+     */
+    public Matrix4 setPerspective(float fovY, float aspect, float near, float far) {
+        if (!(fovY > 0.0f && fovY < (float) Math.PI) || !(aspect > 0.0f) || !(near > 0.0f) || !(far > near)) {
+            throw new IllegalArgumentException("Недопустимые параметры перспективной проекции");
+        }
+        float f = 1.0f / (float) Math.tan(0.5 * fovY);
+        float invRange = 1.0f / (near - far);
+        float[] m = matrix;
+        m[0] = f / aspect;
+        m[1] = 0.0f;
+        m[2] = 0.0f;
+        m[3] = 0.0f;
+        m[4] = 0.0f;
+        m[5] = f;
+        m[6] = 0.0f;
+        m[7] = 0.0f;
+        m[8] = 0.0f;
+        m[9] = 0.0f;
+        m[10] = (far + near) * invRange;
+        m[11] = 2.0f * far * near * invRange;
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = -1.0f;
+        m[15] = 0.0f;
+        modified();
+        return this;
+    }
+
+    /**
+     * Создает матрицу перспективной проекции для произвольной усеченной пирамиды
+     * @param left левая граница на ближней плоскости
+     * @param right правая граница на ближней плоскости
+     * @param bottom нижняя граница на ближней плоскости
+     * @param top верхняя граница на ближней плоскости
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return новая матрица проекции
+     */
+    public static Matrix4 frustum(float left, float right, float bottom, float top, float near, float far) {
+        return zero().setFrustum(left, right, bottom, top, near, far);
+    }
+
+    /**
+     * Заполняет текущую матрицу перспективной проекцией для произвольной усеченной пирамиды
+     * @param left левая граница на ближней плоскости
+     * @param right правая граница на ближней плоскости
+     * @param bottom нижняя граница на ближней плоскости
+     * @param top верхняя граница на ближней плоскости
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return текущая матрица
+     * @throws IllegalArgumentException если границы совпадают или near не положительно
+     */
+    public Matrix4 setFrustum(float left, float right, float bottom, float top, float near, float far) {
+        if (left == right || bottom == top || !(near > 0.0f) || !(far > near)) {
+            throw new IllegalArgumentException("Недопустимые границы пирамиды видимости");
+        }
+        float invWidth = 1.0f / (right - left);
+        float invHeight = 1.0f / (top - bottom);
+        float invRange = 1.0f / (near - far);
+        float[] m = matrix;
+        m[0] = 2.0f * near * invWidth;
+        m[1] = 0.0f;
+        m[2] = (right + left) * invWidth;
+        m[3] = 0.0f;
+        m[4] = 0.0f;
+        m[5] = 2.0f * near * invHeight;
+        m[6] = (top + bottom) * invHeight;
+        m[7] = 0.0f;
+        m[8] = 0.0f;
+        m[9] = 0.0f;
+        m[10] = (far + near) * invRange;
+        m[11] = 2.0f * far * near * invRange;
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = -1.0f;
+        m[15] = 0.0f;
+        modified();
+        return this;
+    }
+
+    /**
+     * Создает матрицу ортографической проекции
+     * @param left левая граница
+     * @param right правая граница
+     * @param bottom нижняя граница
+     * @param top верхняя граница
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return новая матрица проекции
+     */
+    public static Matrix4 orthographic(float left, float right, float bottom, float top, float near, float far) {
+        return zero().setOrthographic(left, right, bottom, top, near, far);
+    }
+
+    /**
+     * Заполняет текущую матрицу ортографической проекцией
+     * @param left левая граница
+     * @param right правая граница
+     * @param bottom нижняя граница
+     * @param top верхняя граница
+     * @param near расстояние до ближней плоскости
+     * @param far расстояние до дальней плоскости
+     * @return текущая матрица
+     * @throws IllegalArgumentException если противоположные границы совпадают
+     */
+    public Matrix4 setOrthographic(float left, float right, float bottom, float top, float near, float far) {
+        if (left == right || bottom == top || near == far) {
+            throw new IllegalArgumentException("Недопустимые границы ортографической проекции");
+        }
+        float invWidth = 1.0f / (right - left);
+        float invHeight = 1.0f / (top - bottom);
+        float invRange = 1.0f / (near - far);
+        float[] m = matrix;
+        m[0] = 2.0f * invWidth;
+        m[1] = 0.0f;
+        m[2] = 0.0f;
+        m[3] = -(right + left) * invWidth;
+        m[4] = 0.0f;
+        m[5] = 2.0f * invHeight;
+        m[6] = 0.0f;
+        m[7] = -(top + bottom) * invHeight;
+        m[8] = 0.0f;
+        m[9] = 0.0f;
+        m[10] = 2.0f * invRange;
+        m[11] = (far + near) * invRange;
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = 0.0f;
+        m[15] = 1.0f;
+        modified();
+        return this;
+    }
+
+    /**
+     * Создает матрицу вида для камеры, расположенной в точке eye и направленной на target
+     * @param eye положение камеры
+     * @param target точка, на которую направлена камера
+     * @param up приблизительное направление вверх
+     * @return новая матрица вида
+     */
+    public static Matrix4 lookAt(Vector3 eye, Vector3 target, Vector3 up) {
+        return zero().setLookAt(eye, target, up);
+    }
+
+    /**
+     * Заполняет текущую матрицу видом камеры. Строки блока 3×3 - базис камеры
+     * (right, up, -forward), перенос - скалярные произведения базиса на -eye.
+     * @param eye положение камеры
+     * @param target точка, на которую направлена камера
+     * @param up приблизительное направление вверх
+     * @return текущая матрица
+     * @throws ArithmeticException если eye совпадает с target или up параллелен направлению взгляда
+     */
+    public Matrix4 setLookAt(Vector3 eye, Vector3 target, Vector3 up) {
+        ValidationUtils.requireNonNull(eye, "Eye");
+        ValidationUtils.requireNonNull(target, "Target");
+        ValidationUtils.requireNonNull(up, "Up");
+        float ex = eye.getX(), ey = eye.getY(), ez = eye.getZ();
+        float fx = target.getX() - ex, fy = target.getY() - ey, fz = target.getZ() - ez;
+        float fLength = (float) Math.sqrt(fx * fx + fy * fy + fz * fz);
+        ValidationUtils.checkNonZeroLength(fLength);
+        fx /= fLength;
+        fy /= fLength;
+        fz /= fLength;
+
+        float ux = up.getX(), uy = up.getY(), uz = up.getZ();
+        float sx = fy * uz - fz * uy;
+        float sy = fz * ux - fx * uz;
+        float sz = fx * uy - fy * ux;
+        float sLength = (float) Math.sqrt(sx * sx + sy * sy + sz * sz);
+        ValidationUtils.checkNonZeroLength(sLength);
+        sx /= sLength;
+        sy /= sLength;
+        sz /= sLength;
+
+        float vx = sy * fz - sz * fy;
+        float vy = sz * fx - sx * fz;
+        float vz = sx * fy - sy * fx;
+
+        float[] m = matrix;
+        m[0] = sx;
+        m[1] = sy;
+        m[2] = sz;
+        m[3] = -(sx * ex + sy * ey + sz * ez);
+        m[4] = vx;
+        m[5] = vy;
+        m[6] = vz;
+        m[7] = -(vx * ex + vy * ey + vz * ez);
+        m[8] = -fx;
+        m[9] = -fy;
+        m[10] = -fz;
+        m[11] = fx * ex + fy * ey + fz * ez;
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = 0.0f;
+        m[15] = 1.0f;
+        modified();
+        return this;
+    }
+
+    /**
+     * Создает матрицу преобразования T * R * S: масштабирование, затем поворот, затем перенос
+     * @param translation перенос
+     * @param rotation единичный кватернион поворота
+     * @param scale коэффициенты масштабирования по осям
+     * @return новая матрица преобразования
+     */
+    public static Matrix4 translationRotationScale(Vector3 translation, Quaternion rotation, Vector3 scale) {
+        return zero().setTranslationRotationScale(translation, rotation, scale);
+    }
+
+    /**
+     * Заполняет текущую матрицу преобразованием T * R * S. Столбцы поворота
+     * умножаются на соответствующие коэффициенты масштаба, перенос записывается в последний столбец.
+     * @param translation перенос
+     * @param rotation единичный кватернион поворота
+     * @param scale коэффициенты масштабирования по осям
+     * @return текущая матрица
+     */
+    public Matrix4 setTranslationRotationScale(Vector3 translation, Quaternion rotation, Vector3 scale) {
+        ValidationUtils.requireNonNull(translation, "Translation");
+        ValidationUtils.requireNonNull(rotation, "Rotation");
+        ValidationUtils.requireNonNull(scale, "Scale");
+        float x = rotation.getX(), y = rotation.getY(), z = rotation.getZ(), w = rotation.getW();
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        return setTrs(translation,
+            1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+            2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+            2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy),
+            scale);
+    }
+
+    /**
+     * Создает матрицу преобразования T * R * S с поворотом, заданным углами Эйлера
+     * @param translation перенос
+     * @param angleX угол поворота вокруг оси x в радианах
+     * @param angleY угол поворота вокруг оси y в радианах
+     * @param angleZ угол поворота вокруг оси z в радианах
+     * @param scale коэффициенты масштабирования по осям
+     * @return новая матрица преобразования
+     */
+    public static Matrix4 translationRotationScale(Vector3 translation, float angleX, float angleY, float angleZ,
+                                                   Vector3 scale) {
+        return zero().setTranslationRotationScale(translation, angleX, angleY, angleZ, scale);
+    }
+
+    /**
+     * Заполняет текущую матрицу преобразованием T * R * S, где R = Rz * Ry * Rx
+     * (сначала поворот вокруг x, затем вокруг y, затем вокруг z)
+     * @param translation перенос
+     * @param angleX угол поворота вокруг оси x в радианах
+     * @param angleY угол поворота вокруг оси y в радианах
+     * @param angleZ угол поворота вокруг оси z в радианах
+     * @param scale коэффициенты масштабирования по осям
+     * @return текущая матрица
+     */
+    public Matrix4 setTranslationRotationScale(Vector3 translation, float angleX, float angleY, float angleZ,
+                                               Vector3 scale) {
+        ValidationUtils.requireNonNull(translation, "Translation");
+        ValidationUtils.requireNonNull(scale, "Scale");
+        float cx = (float) Math.cos(angleX), sx = (float) Math.sin(angleX);
+        float cy = (float) Math.cos(angleY), sy = (float) Math.sin(angleY);
+        float cz = (float) Math.cos(angleZ), sz = (float) Math.sin(angleZ);
+        return setTrs(translation,
+            cz * cy, cz * sy * sx - sz * cx, cz * sy * cx + sz * sx,
+            sz * cy, sz * sy * sx + cz * cx, sz * sy * cx - cz * sx,
+            -sy, cy * sx, cy * cx,
+            scale);
+    }
+
+    private Matrix4 setTrs(Vector3 t,
+                           float r00, float r01, float r02,
+                           float r10, float r11, float r12,
+                           float r20, float r21, float r22,
+                           Vector3 s) {
+        float sx = s.getX(), sy = s.getY(), sz = s.getZ();
+        float[] m = matrix;
+        m[0] = r00 * sx;
+        m[1] = r01 * sy;
+        m[2] = r02 * sz;
+        m[3] = t.getX();
+        m[4] = r10 * sx;
+        m[5] = r11 * sy;
+        m[6] = r12 * sz;
+        m[7] = t.getY();
+        m[8] = r20 * sx;
+        m[9] = r21 * sy;
+        m[10] = r22 * sz;
+        m[11] = t.getZ();
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = 0.0f;
+        m[15] = 1.0f;
+        modified();
+        return this;
     }
 
     @Override
@@ -0,0 +1,258 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Отложенное выражение - произведение цепочки матриц 4×4 F0 * F1 * ... * Fk-1,
+ * каждая из которых может входить транспонированной.
+ * Матрицы запоминаются по ссылке и считываются только при вычислении, поэтому
+ * одно выражение можно построить один раз и вычислять каждый кадр.
+ * <p>
+ * Порядок вычисления выбирается по стоимости: для одного вектора матрицы применяются
+ * справа налево (16 умножений на множитель вместо 64 при перемножении матриц),
+ * для пакета векторов цепочка один раз сворачивается в матрицу.
+ * Промежуточные значения хранятся во внутренних буферах выражения, поэтому
+ * вычисление не выделяет память; экземпляр не потокобезопасен.
+ */
+public class Matrix4Expression {
+    private static final int SIZE = 4;
+    private static final int ELEMENTS = SIZE * SIZE;
+
+    private Matrix4[] factors = new Matrix4[4];
+    private boolean[] transposed = new boolean[4];
+    private int size;
+    private final float[] accumulator = new float[ELEMENTS];
+    private final float[] operand = new float[ELEMENTS];
+    private final Matrix4 collapsed = Matrix4.zero();
+    private final Vector4 scratch = new Vector4();
+
+    /**
+     * Создает пустое выражение, равное единичной матрице
+     */
+    public Matrix4Expression() {
+    }
+
+    /**
+     * Создает выражение из одной матрицы
+     * @param matrix первый множитель
+     * @return новое выражение
+     */
+    public static Matrix4Expression of(Matrix4 matrix) {
+        return new Matrix4Expression().multiply(matrix);
+    }
+
+    /**
+     * Возвращает количество множителей в цепочке
+     * @return количество множителей
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Удаляет все множители; выражение снова равно единичной матрице
+     * @return текущее выражение
+     */
+    public Matrix4Expression clear() {
+        Arrays.fill(factors, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Добавляет множитель справа: выражение = выражение * matrix
+     * @param matrix матрица
+     * @return текущее выражение
+     */
+    public Matrix4Expression multiply(Matrix4 matrix) {
+        return append(matrix, false);
+    }
+
+    /**
+     * Добавляет транспонированный множитель справа: выражение = выражение * matrix^T
+     * @param matrix матрица
+     * @return текущее выражение
+     */
+    public Matrix4Expression multiplyTransposed(Matrix4 matrix) {
+        return append(matrix, true);
+    }
+
+    /**
+     * Транспонирует выражение: (F0 * ... * Fk-1)^T = Fk-1^T * ... * F0^T.
+     * Матрицы не копируются, меняются только порядок и признаки транспонирования.
+     * @return текущее выражение
+     */
+    public Matrix4Expression transpose() {
+        for (int i = 0, j = size - 1; i <= j; i++, j--) {
+            Matrix4 f = factors[i];
+            boolean t = transposed[i];
+            factors[i] = factors[j];
+            transposed[i] = !transposed[j];
+            factors[j] = f;
+            transposed[j] = !t;
+        }
+        return this;
+    }
+
+    private Matrix4Expression append(Matrix4 matrix, boolean transpose) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        if (size == factors.length) {
+            factors = Arrays.copyOf(factors, size * 2);
+            transposed = Arrays.copyOf(transposed, size * 2);
+        }
+        factors[size] = matrix;
+        transposed[size] = transpose;
+        size++;
+        return this;
+    }
+
+    /**
+     * Вычисляет произведение цепочки в новую матрицу
+     * @return новая матрица
+     */
+    public Matrix4 evaluate() {
+        return evaluate(Matrix4.zero());
+    }
+
+    /**
+     * Вычисляет произведение цепочки в заданную матрицу.
+     * Матрица dest может входить в цепочку.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 evaluate(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (size == 0) {
+            dest.setIdentity();
+            return dest;
+        }
+        load(0, accumulator);
+        for (int i = 1; i < size; i++) {
+            load(i, operand);
+            Matrix4.multiply(accumulator, 0, operand, 0, accumulator, 0);
+        }
+        return dest.set(accumulator, 0);
+    }
+
+    private void load(int index, float[] dest) {
+        float[] m = factors[index].elements();
+        if (!transposed[index]) {
+            System.arraycopy(m, 0, dest, 0, ELEMENTS);
+            return;
+        }
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                dest[r * SIZE + c] = m[c * SIZE + r];
+            }
+        }
+    }
+
+    /**
+     * Применяет выражение к вектору
+     * @param vector вектор
+     * @return новый вектор
+     */
+    public Vector4 apply(Vector4 vector) {
+        return apply(vector, new Vector4());
+    }
+
+    /**
+     * Применяет выражение к вектору, умножая его на множители справа налево.
+     * Вектор dest может совпадать с vector.
+     * @param vector вектор
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector4 apply(Vector4 vector, Vector4 dest) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float x = vector.getX(), y = vector.getY(), z = vector.getZ(), w = vector.getW();
+        for (int i = size - 1; i >= 0; i--) {
+            float[] m = factors[i].elements();
+            float rx, ry, rz, rw;
+            if (transposed[i]) {
+                rx = m[0] * x + m[4] * y + m[8] * z + m[12] * w;
+                ry = m[1] * x + m[5] * y + m[9] * z + m[13] * w;
+                rz = m[2] * x + m[6] * y + m[10] * z + m[14] * w;
+                rw = m[3] * x + m[7] * y + m[11] * z + m[15] * w;
+            } else {
+                rx = m[0] * x + m[1] * y + m[2] * z + m[3] * w;
+                ry = m[4] * x + m[5] * y + m[6] * z + m[7] * w;
+                rz = m[8] * x + m[9] * y + m[10] * z + m[11] * w;
+                rw = m[12] * x + m[13] * y + m[14] * z + m[15] * w;
+            }
+            x = rx;
+            y = ry;
+            z = rz;
+            w = rw;
+        }
+        return dest.set(x, y, z, w);
+    }
+
+    /**
+     * Преобразование четырехмерных векторов из упакованного массива.
+     * Если свертка цепочки дешевле поочередного применения множителей к каждому вектору,
+     * цепочка один раз сворачивается во внутреннюю матрицу.
+     * @param src исходный массив
+     * @param srcOff индекс первого вектора в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 4)
+     */
+    public void transformVectors4(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 4);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 4);
+        if (shouldCollapse(count)) {
+            evaluate(collapsed).transformVectors4(src, srcOff, dst, dstOff, count, stride);
+            return;
+        }
+        Vector4 v = scratch;
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            apply(v.set(src[s], src[s + 1], src[s + 2], src[s + 3]), v);
+            dst[d] = v.getX();
+            dst[d + 1] = v.getY();
+            dst[d + 2] = v.getZ();
+            dst[d + 3] = v.getW();
+        }
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива с необязательным перспективным делением.
+     * Порядок вычисления выбирается так же, как в {@link #transformVectors4}.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public void transformPoints(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride,
+                                boolean perspectiveDivide) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        if (shouldCollapse(count)) {
+            evaluate(collapsed).transformPoints(src, srcOff, dst, dstOff, count, stride, perspectiveDivide);
+            return;
+        }
+        Vector4 v = scratch;
+        for (int i = 0, s = srcOff, d = dstOff; i < count; i++, s += stride, d += stride) {
+            apply(v.set(src[s], src[s + 1], src[s + 2], 1.0f), v);
+            float invW = perspectiveDivide ? 1.0f / v.getW() : 1.0f;
+            dst[d] = v.getX() * invW;
+            dst[d + 1] = v.getY() * invW;
+            dst[d + 2] = v.getZ() * invW;
+        }
+    }
+
+    /**
+     * Сравнивает стоимость в умножениях: свертка 64 * (k - 1) + 16 * n
+     * против поочередного применения 16 * k * n
+     */
+    private boolean shouldCollapse(int count) {
+        long perVector = (long) ELEMENTS * size * count;
+        long collapse = (long) ELEMENTS * SIZE * (size - 1) + (long) ELEMENTS * count;
+        return collapse < perVector;
+    }
+}
@@ -0,0 +1,974 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Класс для работы с матрицами 4×4 двойной точности
+ */
+public class Matrix4d {
+    private static final int SIZE = 4;
+    
+    private final double[] matrix;
+
+    /**
+     * Создает единичную матрицу
+     */
+    public Matrix4d() {
+        this(true);
+    }
+
+    private Matrix4d(boolean identity) {
+        matrix = new double[SIZE * SIZE];
+        if (identity) {
+            for (int i = 0; i < SIZE; i++) {
+                matrix[i * SIZE + i] = 1.0;
+            }
+        }
+    }
+
+    /**
+     * Создает нулевую матрицу
+     * @return нулевая матрица
+     */
+    public static Matrix4d zero() {
+        return new Matrix4d(false);
+    }
+
+    /**
+     * Создает единичную матрицу
+     * @return единичная матрица
+     */
+    public static Matrix4d identity() {
+        return new Matrix4d();
+    }
+
+    /**
+     * Создает матрицу из двумерного массива
+     * @param m двумерный массив 4×4
+     */
+    public Matrix4d(double[][] m) {
+        if (m == null || m.length != SIZE) {
+            throw new IllegalArgumentException("Матрица должна быть 4x4");
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (m[i] == null || m[i].length != SIZE) {
+                throw new IllegalArgumentException("Матрица должна быть 4x4");
+            }
+        }
+        matrix = new double[SIZE * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                matrix[i * SIZE + j] = m[i][j];
+            }
+        }
+    }
+
+    /**
+     * Создает матрицу из одномерного массива
+     * @param m одномерный массив из 16 элементов
+     */
+    public Matrix4d(double[] m) {
+        if (m == null || m.length != SIZE * SIZE) {
+            throw new IllegalArgumentException("Массив должен содержать 16 элементов");
+        }
+        matrix = new double[SIZE * SIZE];
+        System.arraycopy(m, 0, matrix, 0, SIZE * SIZE);
+    }
+
+    /**
+     * Создает копию матрицы
+     * @param other исходная матрица
+     */
+    public Matrix4d(Matrix4d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        matrix = new double[SIZE * SIZE];
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+    }
+
+    /**
+     * Создает матрицу двойной точности из матрицы одинарной точности
+     * @param other исходная матрица
+     */
+    public Matrix4d(Matrix4 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        matrix = new double[SIZE * SIZE];
+        set(other);
+    }
+
+    /**
+     * Устанавливает единичную матрицу
+     */
+    public void setIdentity() {
+        setZero();
+        for (int i = 0; i < SIZE; i++) {
+            matrix[i * SIZE + i] = 1.0;
+        }
+    }
+
+    /**
+     * Устанавливает нулевую матрицу
+     */
+    public void setZero() {
+        Arrays.fill(matrix, 0.0);
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: строка=%d, столбец=%d (размер матрицы: %dx%d)", 
+                    row, col, SIZE, SIZE));
+        }
+    }
+
+    /**
+     * Получить значение элемента матрицы
+     * @param row номер строки (0-3)
+     * @param col номер столбца (0-3)
+     * @return значение элемента
+     */
+    public double get(int row, int col) {
+        validateIndices(row, col);
+        return matrix[row * SIZE + col];
+    }
+
+    /**
+     * Установить значение элемента матрицы
+     * @param row номер строки (0-3)
+     * @param col номер столбца (0-3)
+     * @param value новое значение
+     */
+    public void set(int row, int col, double value) {
+        validateIndices(row, col);
+        matrix[row * SIZE + col] = value;
+    }
+
+    /**
+     * Копирует значения другой матрицы в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix4d set(Matrix4d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        System.arraycopy(other.matrix, 0, matrix, 0, SIZE * SIZE);
+        return this;
+    }
+
+    /**
+     * Копирует значения матрицы одинарной точности в текущую
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public Matrix4d set(Matrix4 other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        float[] src = other.elements();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            matrix[i] = src[i];
+        }
+        return this;
+    }
+
+    /**
+     * Преобразование в матрицу одинарной точности
+     * @return новая матрица
+     */
+    public Matrix4 toMatrix4() {
+        return toMatrix4(Matrix4.zero());
+    }
+
+    /**
+     * Преобразование в матрицу одинарной точности с записью в заданную матрицу
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 toMatrix4(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float[] d = dest.elements();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            d[i] = (float) matrix[i];
+        }
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Загружает элементы матрицы из массива, упакованные по строкам
+     * @param src исходный массив
+     * @param offset индекс первого элемента в src
+     * @return текущая матрица
+     */
+    public Matrix4d set(double[] src, int offset) {
+        ValidationUtils.requireNonNull(src, "Array");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, src.length);
+        System.arraycopy(src, offset, matrix, 0, SIZE * SIZE);
+        return this;
+    }
+
+    /**
+     * Записывает элементы матрицы в массив по строкам
+     * @param dest массив для результата
+     * @param offset индекс первого элемента в dest
+     * @return массив dest
+     */
+    public double[] toArray(double[] dest, int offset) {
+        ValidationUtils.requireNonNull(dest, "Array");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, dest.length);
+        System.arraycopy(matrix, 0, dest, offset, SIZE * SIZE);
+        return dest;
+    }
+
+    /**
+     * Загружает элементы матрицы из буфера, упакованные по строкам.
+     * Используется абсолютное чтение, позиция буфера не изменяется.
+     * @param src исходный буфер
+     * @param offset индекс первого элемента в src
+     * @return текущая матрица
+     */
+    public Matrix4d set(DoubleBuffer src, int offset) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, src.limit());
+        src.get(offset, matrix, 0, SIZE * SIZE);
+        return this;
+    }
+
+    /**
+     * Записывает элементы матрицы в буфер по строкам.
+     * Используется абсолютная запись, позиция буфера не изменяется.
+     * @param dest буфер для результата
+     * @param offset индекс первого элемента в dest
+     * @return буфер dest
+     */
+    public DoubleBuffer toBuffer(DoubleBuffer dest, int offset) {
+        ValidationUtils.requireNonNull(dest, "Buffer");
+        ValidationUtils.checkRange(offset, SIZE * SIZE, dest.limit());
+        dest.put(offset, matrix, 0, SIZE * SIZE);
+        return dest;
+    }
+
+    /**
+     * Возвращает внутренний массив элементов без копирования
+     * @return массив из 16 элементов, упакованных по строкам
+     */
+    double[] elements() {
+        return matrix;
+    }
+
+    /**
+     * Сложение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix4d add(Matrix4d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return add(other, Matrix4d.zero());
+    }
+
+    /**
+     * Сложение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4d add(Matrix4d other, Matrix4d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            dest.matrix[i] = this.matrix[i] + other.matrix[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Сложение матриц на месте: this = this + other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4d addLocal(Matrix4d other) {
+        return add(other, this);
+    }
+
+    /**
+     * Вычитание матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix4d subtract(Matrix4d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return subtract(other, Matrix4d.zero());
+    }
+
+    /**
+     * Вычитание матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4d subtract(Matrix4d other, Matrix4d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            dest.matrix[i] = this.matrix[i] - other.matrix[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание матриц на месте: this = this - other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4d subtractLocal(Matrix4d other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Умножение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public Matrix4d multiply(Matrix4d other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return multiply(other, Matrix4d.zero());
+    }
+
+    /**
+     * Умножение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other: все элементы other
+     * считываются заранее, а строка this считывается до записи строки результата.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4d multiply(Matrix4d other, Matrix4d dest) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        multiply(this.matrix, 0, other.matrix, 0, dest.matrix, 0);
+        return dest;
+    }
+
+    /**
+     * Умножение матриц 4×4, упакованных по строкам в массивы.
+     * Все элементы b считываются заранее, а строка a считывается до записи строки результата,
+     * поэтому d может совпадать с a или b при равных смещениях.
+     * Суммы начинаются с +0.0, как в поэлементном цикле, поэтому нулевые элементы
+     * результата не получают отрицательный знак.
+     */
+    static void multiply(double[] a, int aOff, double[] b, int bOff, double[] d, int dOff) {
+        double b00 = b[bOff], b01 = b[bOff + 1], b02 = b[bOff + 2], b03 = b[bOff + 3];
+        double b10 = b[bOff + 4], b11 = b[bOff + 5], b12 = b[bOff + 6], b13 = b[bOff + 7];
+        double b20 = b[bOff + 8], b21 = b[bOff + 9], b22 = b[bOff + 10], b23 = b[bOff + 11];
+        double b30 = b[bOff + 12], b31 = b[bOff + 13], b32 = b[bOff + 14], b33 = b[bOff + 15];
+        for (int r = 0; r < SIZE * SIZE; r += SIZE) {
+            double a0 = a[aOff + r], a1 = a[aOff + r + 1], a2 = a[aOff + r + 2], a3 = a[aOff + r + 3];
+            d[dOff + r] = 0.0 + a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+            d[dOff + r + 1] = 0.0 + a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+            d[dOff + r + 2] = 0.0 + a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+            d[dOff + r + 3] = 0.0 + a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+        }
+    }
+
+    /**
+     * Умножение матриц на месте: this = this * other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public Matrix4d mulLocal(Matrix4d other) {
+        return multiply(other, this);
+    }
+
+    /**
+     * Умножение матрицы на вектор
+     * @param vector вектор
+     * @return новый вектор
+     */
+    public Vector4d multiply(Vector4d vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        double[] m = matrix;
+        double x = vector.getX(), y = vector.getY(), z = vector.getZ(), w = vector.getW();
+        return new Vector4d(
+            0.0 + m[0] * x + m[1] * y + m[2] * z + m[3] * w,
+            0.0 + m[4] * x + m[5] * y + m[6] * z + m[7] * w,
+            0.0 + m[8] * x + m[9] * y + m[10] * z + m[11] * w,
+            0.0 + m[12] * x + m[13] * y + m[14] * z + m[15] * w
+        );
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива.
+     * Каждая вершина занимает stride элементов, из которых используются первые три (x, y, z).
+     * Записываются только x, y, z результата, остальные элементы dst не изменяются.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     */
+    public void transformPoints(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        transformPoints(src, srcOff, dst, dstOff, count, stride, false);
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива с необязательным
+     * перспективным делением результата на w.
+     * Каждая вершина занимает stride элементов, из которых используются первые три (x, y, z).
+     * Записываются только x, y, z результата, остальные элементы dst не изменяются.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public void transformPoints(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride,
+                                boolean perspectiveDivide) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        double m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            double rx = m00 * x + m01 * y + m02 * z + m03;
+            double ry = m10 * x + m11 * y + m12 * z + m13;
+            double rz = m20 * x + m21 * y + m22 * z + m23;
+            if (perspectiveDivide) {
+                double invW = 1.0 / (m30 * x + m31 * y + m32 * z + m33);
+                rx *= invW;
+                ry *= invW;
+                rz *= invW;
+            }
+            dst[d] = rx;
+            dst[d + 1] = ry;
+            dst[d + 2] = rz;
+        }
+    }
+
+    /**
+     * Преобразование точек (w = 1) двойной точности с записью результата в массив float.
+     * Вычисления выполняются в double, а округление до float происходит только на выходе,
+     * поэтому матрица вида с большим переносом, примененная к координатам большого мира,
+     * дает точные координаты относительно камеры без отдельного прохода смены начала отсчета.
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами в src и dst (не меньше 3)
+     */
+    public void transformPoints(double[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = (float) (m00 * x + m01 * y + m02 * z + m03);
+            dst[d + 1] = (float) (m10 * x + m11 * y + m12 * z + m13);
+            dst[d + 2] = (float) (m20 * x + m21 * y + m22 * z + m23);
+        }
+    }
+
+    /**
+     * Преобразование направлений (w = 0) из упакованного массива.
+     * Перенос матрицы не применяется. Каждая вершина занимает stride элементов,
+     * из которых используются первые три (x, y, z).
+     * @param src исходный массив
+     * @param srcOff индекс первого направления в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого направления в dst
+     * @param count количество направлений
+     * @param stride шаг между направлениями (не меньше 3)
+     */
+    public void transformDirections(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2];
+        double m10 = m[4], m11 = m[5], m12 = m[6];
+        double m20 = m[8], m21 = m[9], m22 = m[10];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = m00 * x + m01 * y + m02 * z;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
+    /**
+     * Преобразование четырехмерных векторов (x, y, z, w) из упакованного массива
+     * @param src исходный массив
+     * @param srcOff индекс первого вектора в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 4)
+     */
+    public void transformVectors4(double[] src, int srcOff, double[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 4);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 4);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        double m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dst[d + 3] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного буфера, например прямого
+     * или отображенного в память. Данные читаются и записываются напрямую,
+     * без промежуточных массивов; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первой вершины в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param perspectiveDivide делить ли x, y, z на w результата
+     */
+    public void transformPoints(DoubleBuffer src, int srcOff, DoubleBuffer dst, int dstOff, int count, int stride,
+                                boolean perspectiveDivide) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 3);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        double m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src.get(s), y = src.get(s + 1), z = src.get(s + 2);
+            double rx = m00 * x + m01 * y + m02 * z + m03;
+            double ry = m10 * x + m11 * y + m12 * z + m13;
+            double rz = m20 * x + m21 * y + m22 * z + m23;
+            if (perspectiveDivide) {
+                double invW = 1.0 / (m30 * x + m31 * y + m32 * z + m33);
+                rx *= invW;
+                ry *= invW;
+                rz *= invW;
+            }
+            dst.put(d, rx);
+            dst.put(d + 1, ry);
+            dst.put(d + 2, rz);
+        }
+    }
+
+    /**
+     * Преобразование направлений (w = 0) из упакованного буфера.
+     * Данные читаются и записываются напрямую; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первого направления в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого направления в dst
+     * @param count количество направлений
+     * @param stride шаг между направлениями (не меньше 3)
+     */
+    public void transformDirections(DoubleBuffer src, int srcOff, DoubleBuffer dst, int dstOff, int count, int stride) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 3);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2];
+        double m10 = m[4], m11 = m[5], m12 = m[6];
+        double m20 = m[8], m21 = m[9], m22 = m[10];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src.get(s), y = src.get(s + 1), z = src.get(s + 2);
+            dst.put(d, m00 * x + m01 * y + m02 * z);
+            dst.put(d + 1, m10 * x + m11 * y + m12 * z);
+            dst.put(d + 2, m20 * x + m21 * y + m22 * z);
+        }
+    }
+
+    /**
+     * Преобразование четырехмерных векторов (x, y, z, w) из упакованного буфера.
+     * Данные читаются и записываются напрямую; позиции буферов не изменяются.
+     * @param src исходный буфер
+     * @param srcOff индекс первого вектора в src
+     * @param dst буфер для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 4)
+     */
+    public void transformVectors4(DoubleBuffer src, int srcOff, DoubleBuffer dst, int dstOff, int count, int stride) {
+        ValidationUtils.requireNonNull(src, "Buffer");
+        ValidationUtils.requireNonNull(dst, "Buffer");
+        ValidationUtils.checkPackedRange(src.limit(), srcOff, count, stride, 4);
+        ValidationUtils.checkPackedRange(dst.limit(), dstOff, count, stride, 4);
+        double[] m = matrix;
+        double m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        double m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        double m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        double m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            double x = src.get(s), y = src.get(s + 1), z = src.get(s + 2), w = src.get(s + 3);
+            dst.put(d, m00 * x + m01 * y + m02 * z + m03 * w);
+            dst.put(d + 1, m10 * x + m11 * y + m12 * z + m13 * w);
+            dst.put(d + 2, m20 * x + m21 * y + m22 * z + m23 * w);
+            dst.put(d + 3, m30 * x + m31 * y + m32 * z + m33 * w);
+        }
+    }
+
+    /**
+     * Транспонирование матрицы
+     * @return новая транспонированная матрица
+     */
+    public Matrix4d transpose() {
+        return transpose(Matrix4d.zero());
+    }
+
+    /**
+     * Транспонирование матрицы с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4d transpose(Matrix4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        for (int i = 0; i < SIZE; i++) {
+            dest.matrix[i * SIZE + i] = this.matrix[i * SIZE + i];
+        }
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = i + 1; j < SIZE; j++) {
+                double temp = this.matrix[i * SIZE + j];
+                dest.matrix[i * SIZE + j] = this.matrix[j * SIZE + i];
+                dest.matrix[j * SIZE + i] = temp;
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Транспонирование матрицы на месте
+     * @return текущая матрица
+     */
+    public Matrix4d transposeLocal() {
+        return transpose(this);
+    }
+
+    /**
+     * Вычисление определителя.
+     * Используется разложение Лапласа по двум верхним и двум нижним строкам
+     * через шесть пар миноров 2×2.
+     * @return определитель матрицы
+     */
+    public double determinant() {
+        double[] m = matrix;
+        double s0 = m[0] * m[5] - m[4] * m[1];
+        double s1 = m[0] * m[6] - m[4] * m[2];
+        double s2 = m[0] * m[7] - m[4] * m[3];
+        double s3 = m[1] * m[6] - m[5] * m[2];
+        double s4 = m[1] * m[7] - m[5] * m[3];
+        double s5 = m[2] * m[7] - m[6] * m[3];
+
+        double c5 = m[10] * m[15] - m[14] * m[11];
+        double c4 = m[9] * m[15] - m[13] * m[11];
+        double c3 = m[9] * m[14] - m[13] * m[10];
+        double c2 = m[8] * m[15] - m[12] * m[11];
+        double c1 = m[8] * m[14] - m[12] * m[10];
+        double c0 = m[8] * m[13] - m[12] * m[9];
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Вычисление обратной матрицы
+     * @return обратная матрица
+     */
+    public Matrix4d inverse() {
+        return inverse(Matrix4d.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы с записью результата в заданную матрицу.
+     * Для аффинных матриц используется {@link #inverseAffine(Matrix4d)}, иначе
+     * двенадцать миноров 2×2 вычисляются один раз и используются как для
+     * определителя, так и для присоединенной матрицы. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4d inverse(Matrix4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (isAffine()) {
+            return inverseAffine(dest);
+        }
+        double[] m = matrix;
+        double a00 = m[0], a01 = m[1], a02 = m[2], a03 = m[3];
+        double a10 = m[4], a11 = m[5], a12 = m[6], a13 = m[7];
+        double a20 = m[8], a21 = m[9], a22 = m[10], a23 = m[11];
+        double a30 = m[12], a31 = m[13], a32 = m[14], a33 = m[15];
+
+        double s0 = a00 * a11 - a10 * a01;
+        double s1 = a00 * a12 - a10 * a02;
+        double s2 = a00 * a13 - a10 * a03;
+        double s3 = a01 * a12 - a11 * a02;
+        double s4 = a01 * a13 - a11 * a03;
+        double s5 = a02 * a13 - a12 * a03;
+
+        double c5 = a22 * a33 - a32 * a23;
+        double c4 = a21 * a33 - a31 * a23;
+        double c3 = a21 * a32 - a31 * a22;
+        double c2 = a20 * a33 - a30 * a23;
+        double c1 = a20 * a32 - a30 * a22;
+        double c0 = a20 * a31 - a30 * a21;
+
+        double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        double invDet = 1.0 / det;
+
+        double[] d = dest.matrix;
+        d[0] = (a11 * c5 - a12 * c4 + a13 * c3) * invDet;
+        d[1] = (-a01 * c5 + a02 * c4 - a03 * c3) * invDet;
+        d[2] = (a31 * s5 - a32 * s4 + a33 * s3) * invDet;
+        d[3] = (-a21 * s5 + a22 * s4 - a23 * s3) * invDet;
+
+        d[4] = (-a10 * c5 + a12 * c2 - a13 * c1) * invDet;
+        d[5] = (a00 * c5 - a02 * c2 + a03 * c1) * invDet;
+        d[6] = (-a30 * s5 + a32 * s2 - a33 * s1) * invDet;
+        d[7] = (a20 * s5 - a22 * s2 + a23 * s1) * invDet;
+
+        d[8] = (a10 * c4 - a11 * c2 + a13 * c0) * invDet;
+        d[9] = (-a00 * c4 + a01 * c2 - a03 * c0) * invDet;
+        d[10] = (a30 * s4 - a31 * s2 + a33 * s0) * invDet;
+        d[11] = (-a20 * s4 + a21 * s2 - a23 * s0) * invDet;
+
+        d[12] = (-a10 * c3 + a11 * c1 - a12 * c0) * invDet;
+        d[13] = (a00 * c3 - a01 * c1 + a02 * c0) * invDet;
+        d[14] = (-a30 * s3 + a31 * s1 - a32 * s0) * invDet;
+        d[15] = (a20 * s3 - a21 * s1 + a22 * s0) * invDet;
+        return dest;
+    }
+
+    /**
+     * Вычисление матрицы нормалей - обратной транспонированной к верхнему левому блоку 3×3
+     * @return новая матрица нормалей
+     */
+    public Matrix3d normalMatrix() {
+        return normalMatrix(Matrix3d.zero());
+    }
+
+    /**
+     * Вычисление матрицы нормалей с записью результата в заданную матрицу.
+     * (A^(-1))^T равна матрице алгебраических дополнений блока A, деленной на определитель,
+     * поэтому ни полное обращение 4×4, ни транспонирование не требуются.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws ArithmeticException если блок 3×3 вырожденный
+     */
+    public Matrix3d normalMatrix(Matrix3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double[] m = matrix;
+        double a = m[0], b = m[1], c = m[2];
+        double d = m[4], e = m[5], f = m[6];
+        double g = m[8], h = m[9], i = m[10];
+
+        double c00 = e * i - f * h;
+        double c01 = f * g - d * i;
+        double c02 = d * h - e * g;
+        double det = a * c00 + b * c01 + c * c02;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        double invDet = 1.0 / det;
+
+        double[] r = dest.elements();
+        r[0] = c00 * invDet;
+        r[1] = c01 * invDet;
+        r[2] = c02 * invDet;
+        r[3] = (c * h - b * i) * invDet;
+        r[4] = (a * i - c * g) * invDet;
+        r[5] = (b * g - a * h) * invDet;
+        r[6] = (b * f - c * e) * invDet;
+        r[7] = (c * d - a * f) * invDet;
+        r[8] = (a * e - b * d) * invDet;
+        return dest;
+    }
+
+    /**
+     * Проверяет, что матрица аффинная, то есть ее последняя строка равна (0, 0, 0, 1)
+     * @return true, если матрица аффинная
+     */
+    public boolean isAffine() {
+        return matrix[12] == 0.0 && matrix[13] == 0.0 && matrix[14] == 0.0 && matrix[15] == 1.0;
+    }
+
+    /**
+     * Вычисление обратной матрицы для аффинного преобразования
+     * @return обратная матрица
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4d inverseAffine() {
+        return inverseAffine(Matrix4d.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы для аффинного преобразования [A | t] с записью
+     * результата в заданную матрицу. Обращается только блок A размером 3×3,
+     * а перенос вычисляется как -A^(-1) * t. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4d inverseAffine(Matrix4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!isAffine()) {
+            throw new IllegalStateException("Матрица не является аффинной");
+        }
+        double[] m = matrix;
+        double a00 = m[0], a01 = m[1], a02 = m[2], tx = m[3];
+        double a10 = m[4], a11 = m[5], a12 = m[6], ty = m[7];
+        double a20 = m[8], a21 = m[9], a22 = m[10], tz = m[11];
+
+        double c00 = a11 * a22 - a12 * a21;
+        double c10 = a12 * a20 - a10 * a22;
+        double c20 = a10 * a21 - a11 * a20;
+        double det = a00 * c00 + a01 * c10 + a02 * c20;
+        ValidationUtils.checkNonZeroDeterminant(det);
+        double invDet = 1.0 / det;
+
+        double i00 = c00 * invDet;
+        double i01 = (a02 * a21 - a01 * a22) * invDet;
+        double i02 = (a01 * a12 - a02 * a11) * invDet;
+        double i10 = c10 * invDet;
+        double i11 = (a00 * a22 - a02 * a20) * invDet;
+        double i12 = (a02 * a10 - a00 * a12) * invDet;
+        double i20 = c20 * invDet;
+        double i21 = (a01 * a20 - a00 * a21) * invDet;
+        double i22 = (a00 * a11 - a01 * a10) * invDet;
+
+        double[] d = dest.matrix;
+        d[0] = i00;
+        d[1] = i01;
+        d[2] = i02;
+        d[3] = -(i00 * tx + i01 * ty + i02 * tz);
+        d[4] = i10;
+        d[5] = i11;
+        d[6] = i12;
+        d[7] = -(i10 * tx + i11 * ty + i12 * tz);
+        d[8] = i20;
+        d[9] = i21;
+        d[10] = i22;
+        d[11] = -(i20 * tx + i21 * ty + i22 * tz);
+        d[12] = 0.0;
+        d[13] = 0.0;
+        d[14] = 0.0;
+        d[15] = 1.0;
+        return dest;
+    }
+
+    /**
+     * Вычисление обратной матрицы для движения (поворот и перенос)
+     * @return обратная матрица
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4d inverseRigid() {
+        return inverseRigid(Matrix4d.zero());
+    }
+
+    /**
+     * Вычисление обратной матрицы для движения [R | t] с записью результата
+     * в заданную матрицу. Блок R транспонируется, а перенос вычисляется как -R^T * t.
+     * Ортонормированность R не проверяется: для матриц с масштабированием
+     * следует использовать {@link #inverseAffine(Matrix4d)}. Матрица dest может совпадать с this.
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws IllegalStateException если матрица не аффинная
+     */
+    public Matrix4d inverseRigid(Matrix4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (!isAffine()) {
+            throw new IllegalStateException("Матрица не является аффинной");
+        }
+        double[] m = matrix;
+        double r00 = m[0], r01 = m[1], r02 = m[2], tx = m[3];
+        double r10 = m[4], r11 = m[5], r12 = m[6], ty = m[7];
+        double r20 = m[8], r21 = m[9], r22 = m[10], tz = m[11];
+
+        double[] d = dest.matrix;
+        d[0] = r00;
+        d[1] = r10;
+        d[2] = r20;
+        d[3] = -(r00 * tx + r10 * ty + r20 * tz);
+        d[4] = r01;
+        d[5] = r11;
+        d[6] = r21;
+        d[7] = -(r01 * tx + r11 * ty + r21 * tz);
+        d[8] = r02;
+        d[9] = r12;
+        d[10] = r22;
+        d[11] = -(r02 * tx + r12 * ty + r22 * tz);
+        d[12] = 0.0;
+        d[13] = 0.0;
+        d[14] = 0.0;
+        d[15] = 1.0;
+        return dest;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Matrix4d matrix4 = (Matrix4d) obj;
+        double epsilon = ValidationUtils.getEpsilon();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            if (Math.abs(this.matrix[i] - matrix4.matrix[i]) >= epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        double epsilon = ValidationUtils.getEpsilon();
+        double scale = 1.0 / epsilon;
+        double maxValue = Integer.MAX_VALUE / scale;
+        int result = 1;
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            double safeValue = Math.max(-maxValue, Math.min(maxValue, matrix[i]));
+            result = 31 * result + Long.hashCode(Math.round(safeValue * scale));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Matrix4d:\n");
+        for (int i = 0; i < SIZE; i++) {
+            sb.append("[");
+            for (int j = 0; j < SIZE; j++) {
+                if (j > 0) sb.append(", ");
+                sb.append(String.format("%.3f", matrix[i * SIZE + j]));
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,698 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Класс для работы с плотными матрицами произвольного размера rows×cols.
+ * Элементы хранятся в одномерном массиве по строкам, как в {@link Matrix4}.
+ * <p>
+ * Умножение реализовано как блочный GEMM: op(B) упаковывается панелями KC×NC, op(A) - блоками
+ * MC×KC, так что упакованные данные помещаются в кэш, а микроядро накапливает блок
+ * результата MR×NR в локальных переменных. Транспонирование множителей учитывается при упаковке,
+ * поэтому A^T * B и A * B^T не требуют явного транспонирования.
+ */
+public class MatrixN {
+    /** Количество строк блока результата, накапливаемого в регистрах */
+    static final int MR = 4;
+    /** Количество столбцов блока результата, накапливаемого в регистрах */
+    static final int NR = 4;
+    /** Глубина упакованных блоков по общей размерности */
+    static final int KC = 256;
+    /** Количество строк упакованного блока op(A) */
+    static final int MC = 64;
+    /** Количество столбцов упакованной панели op(B) */
+    static final int NC = 1024;
+
+    private static final int TRANSPOSE_TILE = 32;
+
+    private final int rows;
+    private final int cols;
+    private final float[] matrix;
+
+    /**
+     * Создает нулевую матрицу заданного размера
+     * @param rows количество строк
+     * @param cols количество столбцов
+     */
+    public MatrixN(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Размеры матрицы должны быть положительными");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.matrix = new float[rows * cols];
+    }
+
+    /**
+     * Создает матрицу из одномерного массива, упакованного по строкам
+     * @param rows количество строк
+     * @param cols количество столбцов
+     * @param m массив из rows * cols элементов (копируется)
+     */
+    public MatrixN(int rows, int cols, float[] m) {
+        this(rows, cols);
+        if (m == null || m.length != rows * cols) {
+            throw new IllegalArgumentException(
+                String.format("Массив должен содержать %d элементов", rows * cols));
+        }
+        System.arraycopy(m, 0, matrix, 0, m.length);
+    }
+
+    /**
+     * Создает матрицу из двумерного массива
+     * @param m прямоугольный двумерный массив
+     */
+    public MatrixN(float[][] m) {
+        this(m == null ? 0 : m.length, m == null || m.length == 0 || m[0] == null ? 0 : m[0].length);
+        for (int i = 0; i < rows; i++) {
+            if (m[i] == null || m[i].length != cols) {
+                throw new IllegalArgumentException("Массив должен быть прямоугольным");
+            }
+            System.arraycopy(m[i], 0, matrix, i * cols, cols);
+        }
+    }
+
+    /**
+     * Создает копию матрицы
+     * @param other исходная матрица
+     */
+    public MatrixN(MatrixN other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        rows = other.rows;
+        cols = other.cols;
+        matrix = other.matrix.clone();
+    }
+
+    /**
+     * Создает единичную квадратную матрицу
+     * @param size размер матрицы
+     * @return единичная матрица
+     */
+    public static MatrixN identity(int size) {
+        MatrixN result = new MatrixN(size, size);
+        result.setIdentity();
+        return result;
+    }
+
+    /**
+     * Возвращает количество строк
+     * @return количество строк
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Возвращает количество столбцов
+     * @return количество столбцов
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * Возвращает внутренний массив элементов без копирования
+     * @return массив из rows * cols элементов, упакованных по строкам
+     */
+    float[] elements() {
+        return matrix;
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: строка=%d, столбец=%d (размер матрицы: %dx%d)",
+                    row, col, rows, cols));
+        }
+    }
+
+    /**
+     * Получить значение элемента матрицы
+     * @param row номер строки
+     * @param col номер столбца
+     * @return значение элемента
+     */
+    public float get(int row, int col) {
+        validateIndices(row, col);
+        return matrix[row * cols + col];
+    }
+
+    /**
+     * Установить значение элемента матрицы
+     * @param row номер строки
+     * @param col номер столбца
+     * @param value новое значение
+     */
+    public void set(int row, int col, float value) {
+        validateIndices(row, col);
+        matrix[row * cols + col] = value;
+    }
+
+    /**
+     * Копирует значения другой матрицы того же размера
+     * @param other исходная матрица
+     * @return текущая матрица
+     */
+    public MatrixN set(MatrixN other) {
+        checkSameSize(other);
+        System.arraycopy(other.matrix, 0, matrix, 0, matrix.length);
+        return this;
+    }
+
+    /**
+     * Устанавливает нулевую матрицу
+     */
+    public void setZero() {
+        Arrays.fill(matrix, 0.0f);
+    }
+
+    /**
+     * Устанавливает единицы на главной диагонали и нули в остальных элементах
+     */
+    public void setIdentity() {
+        setZero();
+        for (int i = 0, n = Math.min(rows, cols); i < n; i++) {
+            matrix[i * cols + i] = 1.0f;
+        }
+    }
+
+    private void checkSameSize(MatrixN other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException(
+                String.format("Размеры матриц не совпадают: %dx%d и %dx%d", rows, cols, other.rows, other.cols));
+        }
+    }
+
+    /**
+     * Сложение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public MatrixN add(MatrixN other) {
+        return add(other, new MatrixN(rows, cols));
+    }
+
+    /**
+     * Сложение матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public MatrixN add(MatrixN other, MatrixN dest) {
+        checkSameSize(other);
+        checkSameSize(dest);
+        float[] a = matrix, b = other.matrix, d = dest.matrix;
+        for (int i = 0; i < a.length; i++) {
+            d[i] = a[i] + b[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Сложение матриц на месте: this = this + other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public MatrixN addLocal(MatrixN other) {
+        return add(other, this);
+    }
+
+    /**
+     * Вычитание матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public MatrixN subtract(MatrixN other) {
+        return subtract(other, new MatrixN(rows, cols));
+    }
+
+    /**
+     * Вычитание матриц с записью результата в заданную матрицу.
+     * Матрица dest может совпадать с this или other.
+     * @param other другая матрица
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public MatrixN subtract(MatrixN other, MatrixN dest) {
+        checkSameSize(other);
+        checkSameSize(dest);
+        float[] a = matrix, b = other.matrix, d = dest.matrix;
+        for (int i = 0; i < a.length; i++) {
+            d[i] = a[i] - b[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание матриц на месте: this = this - other
+     * @param other другая матрица
+     * @return текущая матрица
+     */
+    public MatrixN subtractLocal(MatrixN other) {
+        return subtract(other, this);
+    }
+
+    /**
+     * Умножение матрицы на скаляр на месте
+     * @param scalar скаляр
+     * @return текущая матрица
+     */
+    public MatrixN scaleLocal(float scalar) {
+        float[] a = matrix;
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= scalar;
+        }
+        return this;
+    }
+
+    /**
+     * Транспонирование матрицы
+     * @return новая транспонированная матрица
+     */
+    public MatrixN transpose() {
+        return transpose(new MatrixN(cols, rows));
+    }
+
+    /**
+     * Транспонирование матрицы с записью результата в заданную матрицу размера cols×rows.
+     * Обход выполняется блоками, чтобы и чтение, и запись оставались в кэше.
+     * @param dest матрица для результата (не может совпадать с this)
+     * @return матрица dest
+     */
+    public MatrixN transpose(MatrixN dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (dest.rows != cols || dest.cols != rows) {
+            throw new IllegalArgumentException(
+                String.format("Размер матрицы результата должен быть %dx%d", cols, rows));
+        }
+        if (dest == this) {
+            return transposeLocal();
+        }
+        float[] a = matrix, d = dest.matrix;
+        for (int i0 = 0; i0 < rows; i0 += TRANSPOSE_TILE) {
+            int i1 = Math.min(rows, i0 + TRANSPOSE_TILE);
+            for (int j0 = 0; j0 < cols; j0 += TRANSPOSE_TILE) {
+                int j1 = Math.min(cols, j0 + TRANSPOSE_TILE);
+                for (int i = i0; i < i1; i++) {
+                    for (int j = j0; j < j1; j++) {
+                        d[j * rows + i] = a[i * cols + j];
+                    }
+                }
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Транспонирование квадратной матрицы на месте
+     * @return текущая матрица
+     * @throws IllegalStateException если матрица не квадратная
+     */
+    public MatrixN transposeLocal() {
+        if (rows != cols) {
+            throw new IllegalStateException("Транспонирование на месте возможно только для квадратной матрицы");
+        }
+        float[] a = matrix;
+        int n = rows;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                float temp = a[i * n + j];
+                a[i * n + j] = a[j * n + i];
+                a[j * n + i] = temp;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Умножение матриц
+     * @param other другая матрица
+     * @return новая матрица
+     */
+    public MatrixN multiply(MatrixN other) {
+        ValidationUtils.requireNonNull(other, "Matrix");
+        return multiply(other, new MatrixN(rows, other.cols));
+    }
+
+    /**
+     * Умножение матриц с записью результата в заданную матрицу
+     * @param other другая матрица
+     * @param dest матрица для результата (не может совпадать с множителями)
+     * @return матрица dest
+     */
+    public MatrixN multiply(MatrixN other, MatrixN dest) {
+        return gemm(1.0f, this, false, other, false, 0.0f, dest);
+    }
+
+    /**
+     * Общее умножение матриц C = alpha * op(A) * op(B) + beta * C,
+     * где op(X) - X или X^T в зависимости от флага транспонирования.
+     * При beta = 0 исходное содержимое C не читается.
+     * @param alpha множитель произведения
+     * @param a матрица A
+     * @param transposeA использовать ли A^T
+     * @param b матрица B
+     * @param transposeB использовать ли B^T
+     * @param beta множитель исходного значения C
+     * @param c матрица результата (не может совпадать с A или B)
+     * @return матрица c
+     */
+    public static MatrixN gemm(float alpha, MatrixN a, boolean transposeA, MatrixN b, boolean transposeB,
+                               float beta, MatrixN c) {
+        int k = checkGemm(a, transposeA, b, transposeB, c);
+        gemmBlock(alpha, a.matrix, a.cols, transposeA, b.matrix, b.cols, transposeB, k,
+            beta, c.matrix, c.cols, 0, c.rows, 0, c.cols);
+        return c;
+    }
+
+    /**
+     * Проверяет согласованность размеров для gemm и возвращает общую размерность
+     */
+    static int checkGemm(MatrixN a, boolean transposeA, MatrixN b, boolean transposeB, MatrixN c) {
+        ValidationUtils.requireNonNull(a, "Matrix");
+        ValidationUtils.requireNonNull(b, "Matrix");
+        ValidationUtils.requireNonNull(c, "Destination");
+        int m = transposeA ? a.cols : a.rows;
+        int k = transposeA ? a.rows : a.cols;
+        int kb = transposeB ? b.cols : b.rows;
+        int n = transposeB ? b.rows : b.cols;
+        if (k != kb) {
+            throw new IllegalArgumentException(
+                String.format("Несовместимые размеры множителей: %dx%d и %dx%d", m, k, kb, n));
+        }
+        if (c.rows != m || c.cols != n) {
+            throw new IllegalArgumentException(
+                String.format("Размер матрицы результата должен быть %dx%d", m, n));
+        }
+        if (c == a || c == b) {
+            throw new IllegalArgumentException("Матрица результата не может совпадать с множителем");
+        }
+        return k;
+    }
+
+    /**
+     * Вычисляет блок C[i0:i1, j0:j1] = alpha * op(A) * op(B) + beta * C.
+     * Блоки разных вызовов не пересекаются по записи, поэтому вызовы для
+     * непересекающихся блоков можно выполнять параллельно.
+     */
+    static void gemmBlock(float alpha, float[] a, int aCols, boolean transposeA,
+                          float[] b, int bCols, boolean transposeB, int k,
+                          float beta, float[] c, int cCols, int i0, int i1, int j0, int j1) {
+        int kcMax = Math.min(KC, k);
+        gemmBlock(alpha, a, aCols, transposeA, b, bCols, transposeB, k, beta, c, cCols, i0, i1, j0, j1,
+            new float[roundUp(Math.min(MC, i1 - i0), MR) * kcMax],
+            new float[roundUp(Math.min(NC, j1 - j0), NR) * kcMax],
+            new float[MR * NR]);
+    }
+
+    /**
+     * Вариант {@link #gemmBlock(float, float[], int, boolean, float[], int, boolean, int, float, float[], int,
+     * int, int, int, int)} с переиспользуемыми буферами упаковки: packA не меньше MC * KC,
+     * packB не меньше NC * KC, edge не меньше MR * NR элементов (либо размеров под конкретный блок)
+     */
+    static void gemmBlock(float alpha, float[] a, int aCols, boolean transposeA,
+                          float[] b, int bCols, boolean transposeB, int k,
+                          float beta, float[] c, int cCols, int i0, int i1, int j0, int j1,
+                          float[] packA, float[] packB, float[] edge) {
+        scaleBlock(beta, c, cCols, i0, i1, j0, j1);
+        if (k == 0 || alpha == 0.0f) {
+            return;
+        }
+        for (int jc = j0; jc < j1; jc += NC) {
+            int nc = Math.min(NC, j1 - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(b, bCols, transposeB, pc, kc, jc, nc, packB);
+                for (int ic = i0; ic < i1; ic += MC) {
+                    int mc = Math.min(MC, i1 - ic);
+                    packA(a, aCols, transposeA, ic, mc, pc, kc, packA);
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            kernel(kc, packA, ir * kc, packB, jr * kc, alpha,
+                                c, (ic + ir) * cCols + jc + jr, cCols, mr, nr, edge);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    private static void scaleBlock(float beta, float[] c, int cCols, int i0, int i1, int j0, int j1) {
+        if (beta == 1.0f) {
+            return;
+        }
+        for (int i = i0; i < i1; i++) {
+            int row = i * cCols;
+            if (beta == 0.0f) {
+                Arrays.fill(c, row + j0, row + j1, 0.0f);
+            } else {
+                for (int j = row + j0; j < row + j1; j++) {
+                    c[j] *= beta;
+                }
+            }
+        }
+    }
+
+    /**
+     * Упаковывает блок op(A)[ic:ic+mc, pc:pc+kc] в панели по MR строк:
+     * внутри панели для каждого p подряд лежат MR элементов столбца, недостающие строки заполняются нулями
+     */
+    private static void packA(float[] a, int aCols, boolean transpose, int ic, int mc, int pc, int kc, float[] dest) {
+        int d = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++) {
+                for (int r = 0; r < MR; r++) {
+                    float value = 0.0f;
+                    if (r < mr) {
+                        int i = ic + ir + r;
+                        value = transpose ? a[(pc + p) * aCols + i] : a[i * aCols + pc + p];
+                    }
+                    dest[d++] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Упаковывает панель op(B)[pc:pc+kc, jc:jc+nc] в полосы по NR столбцов:
+     * внутри полосы для каждого p подряд лежат NR элементов строки, недостающие столбцы заполняются нулями
+     */
+    private static void packB(float[] b, int bCols, boolean transpose, int pc, int kc, int jc, int nc, float[] dest) {
+        int d = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++) {
+                if (!transpose && nr == NR) {
+                    System.arraycopy(b, (pc + p) * bCols + jc + jr, dest, d, NR);
+                    d += NR;
+                    continue;
+                }
+                for (int col = 0; col < NR; col++) {
+                    float value = 0.0f;
+                    if (col < nr) {
+                        int j = jc + jr + col;
+                        value = transpose ? b[j * bCols + pc + p] : b[(pc + p) * bCols + j];
+                    }
+                    dest[d++] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Микроядро: накапливает блок MR×NR произведения упакованных панелей в локальных переменных
+     * и прибавляет его, умноженный на alpha, к C. Неполные блоки на краях записываются через edge.
+     */
+    private static void kernel(int kc, float[] pa, int aOff, float[] pb, int bOff, float alpha,
+                               float[] c, int cOff, int cCols, int mr, int nr, float[] edge) {
+        float c00 = 0.0f, c01 = 0.0f, c02 = 0.0f, c03 = 0.0f;
+        float c10 = 0.0f, c11 = 0.0f, c12 = 0.0f, c13 = 0.0f;
+        float c20 = 0.0f, c21 = 0.0f, c22 = 0.0f, c23 = 0.0f;
+        float c30 = 0.0f, c31 = 0.0f, c32 = 0.0f, c33 = 0.0f;
+        for (int p = 0; p < kc; p++, aOff += MR, bOff += NR) {
+            float a0 = pa[aOff], a1 = pa[aOff + 1], a2 = pa[aOff + 2], a3 = pa[aOff + 3];
+            float b0 = pb[bOff], b1 = pb[bOff + 1], b2 = pb[bOff + 2], b3 = pb[bOff + 3];
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+        if (mr == MR && nr == NR) {
+            int r0 = cOff, r1 = r0 + cCols, r2 = r1 + cCols, r3 = r2 + cCols;
+            c[r0] += alpha * c00;
+            c[r0 + 1] += alpha * c01;
+            c[r0 + 2] += alpha * c02;
+            c[r0 + 3] += alpha * c03;
+            c[r1] += alpha * c10;
+            c[r1 + 1] += alpha * c11;
+            c[r1 + 2] += alpha * c12;
+            c[r1 + 3] += alpha * c13;
+            c[r2] += alpha * c20;
+            c[r2 + 1] += alpha * c21;
+            c[r2 + 2] += alpha * c22;
+            c[r2 + 3] += alpha * c23;
+            c[r3] += alpha * c30;
+            c[r3 + 1] += alpha * c31;
+            c[r3 + 2] += alpha * c32;
+            c[r3 + 3] += alpha * c33;
+            return;
+        }
+        edge[0] = c00;
+        edge[1] = c01;
+        edge[2] = c02;
+        edge[3] = c03;
+        edge[4] = c10;
+        edge[5] = c11;
+        edge[6] = c12;
+        edge[7] = c13;
+        edge[8] = c20;
+        edge[9] = c21;
+        edge[10] = c22;
+        edge[11] = c23;
+        edge[12] = c30;
+        edge[13] = c31;
+        edge[14] = c32;
+        edge[15] = c33;
+        for (int r = 0; r < mr; r++) {
+            for (int col = 0; col < nr; col++) {
+                c[cOff + r * cCols + col] += alpha * edge[r * NR + col];
+            }
+        }
+    }
+
+    /**
+     * Умножение матрицы на вектор
+     * @param vector вектор размерности cols
+     * @return новый вектор размерности rows
+     */
+    public VectorN multiply(VectorN vector) {
+        return multiply(vector, new VectorN(rows));
+    }
+
+    /**
+     * Умножение матрицы на вектор с записью результата в заданный вектор.
+     * Каждая координата - скалярное произведение строки на вектор.
+     * @param vector вектор размерности cols
+     * @param dest вектор размерности rows (не может совпадать с vector)
+     * @return вектор dest
+     */
+    public VectorN multiply(VectorN vector, VectorN dest) {
+        checkVectors(vector, cols, dest, rows);
+        float[] a = matrix, v = vector.elements(), d = dest.elements();
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            float sum = 0.0f;
+            for (int j = 0; j < cols; j++) {
+                sum += a[row + j] * v[j];
+            }
+            d[i] = sum;
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение транспонированной матрицы на вектор: A^T * v
+     * @param vector вектор размерности rows
+     * @return новый вектор размерности cols
+     */
+    public VectorN multiplyTransposed(VectorN vector) {
+        return multiplyTransposed(vector, new VectorN(cols));
+    }
+
+    /**
+     * Умножение транспонированной матрицы на вектор с записью результата в заданный вектор.
+     * Строки матрицы прибавляются к результату с весами v[i], поэтому матрица читается
+     * последовательно и явное транспонирование не требуется.
+     * @param vector вектор размерности rows
+     * @param dest вектор размерности cols (не может совпадать с vector)
+     * @return вектор dest
+     */
+    public VectorN multiplyTransposed(VectorN vector, VectorN dest) {
+        checkVectors(vector, rows, dest, cols);
+        float[] a = matrix, v = vector.elements(), d = dest.elements();
+        Arrays.fill(d, 0.0f);
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            float weight = v[i];
+            for (int j = 0; j < cols; j++) {
+                d[j] += a[row + j] * weight;
+            }
+        }
+        return dest;
+    }
+
+    private static void checkVectors(VectorN vector, int vectorSize, VectorN dest, int destSize) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (vector.size() != vectorSize || dest.size() != destSize) {
+            throw new IllegalArgumentException(
+                String.format("Ожидались векторы размерности %d и %d", vectorSize, destSize));
+        }
+        if (vector == dest) {
+            throw new IllegalArgumentException("Вектор результата не может совпадать с исходным");
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MatrixN other = (MatrixN) obj;
+        if (rows != other.rows || cols != other.cols) return false;
+        float epsilon = ValidationUtils.getEpsilon();
+        for (int i = 0; i < matrix.length; i++) {
+            if (Math.abs(matrix[i] - other.matrix[i]) >= epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        float epsilon = ValidationUtils.getEpsilon();
+        float scale = 1.0f / epsilon;
+        float maxValue = Integer.MAX_VALUE / scale;
+        int result = 31 * rows + cols;
+        for (float value : matrix) {
+            float safeValue = Math.max(-maxValue, Math.min(maxValue, value));
+            result = 31 * result + Integer.hashCode(Math.round(safeValue * scale));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("MatrixN %dx%d:\n", rows, cols));
+        for (int i = 0; i < rows; i++) {
+            sb.append("[");
+            for (int j = 0; j < cols; j++) {
+                if (j > 0) sb.append(", ");
+                sb.append(String.format("%.3f", matrix[i * cols + j]));
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Стек матриц 4×4 для вложенного обхода преобразований.
+ * Все уровни хранятся в одном заранее выделенном массиве float[] по 16 элементов,
+ * поэтому push, pop и изменения вершины стека выполняются на месте без выделения памяти.
+ * Преобразования умножаются на вершину справа: top = top * M.
+ */
+public class MatrixStack {
+    private static final int MATRIX_SIZE = 16;
+
+    private final float[] stack;
+    private final int maxDepth;
+    private final Matrix3 scratch = Matrix3.zero();
+    private int top;
+
+    /**
+     * Создает стек заданной глубины с единичной матрицей на вершине
+     * @param maxDepth максимальное количество уровней
+     */
+    public MatrixStack(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Глубина стека должна быть положительной");
+        }
+        this.maxDepth = maxDepth;
+        this.stack = new float[maxDepth * MATRIX_SIZE];
+        loadIdentity();
+    }
+
+    /**
+     * Возвращает текущее количество уровней (не меньше 1)
+     * @return глубина стека
+     */
+    public int depth() {
+        return top / MATRIX_SIZE + 1;
+    }
+
+    /**
+     * Возвращает максимальное количество уровней
+     * @return максимальная глубина стека
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Дублирует вершину стека
+     * @return текущий стек
+     * @throws IllegalStateException если стек заполнен
+     */
+    public MatrixStack push() {
+        if (top + MATRIX_SIZE >= stack.length) {
+            throw new IllegalStateException(
+                String.format("Переполнение стека матриц (глубина: %d)", maxDepth));
+        }
+        System.arraycopy(stack, top, stack, top + MATRIX_SIZE, MATRIX_SIZE);
+        top += MATRIX_SIZE;
+        return this;
+    }
+
+    /**
+     * Удаляет вершину стека
+     * @return текущий стек
+     * @throws IllegalStateException если в стеке остался один уровень
+     */
+    public MatrixStack pop() {
+        if (top == 0) {
+            throw new IllegalStateException("Нельзя удалить последний уровень стека матриц");
+        }
+        top -= MATRIX_SIZE;
+        return this;
+    }
+
+    /**
+     * Заменяет вершину стека единичной матрицей
+     * @return текущий стек
+     */
+    public MatrixStack loadIdentity() {
+        float[] m = stack;
+        int o = top;
+        for (int i = 0; i < MATRIX_SIZE; i++) {
+            m[o + i] = 0.0f;
+        }
+        m[o] = 1.0f;
+        m[o + 5] = 1.0f;
+        m[o + 10] = 1.0f;
+        m[o + 15] = 1.0f;
+        return this;
+    }
+
+    /**
+     * Заменяет вершину стека заданной матрицей
+     * @param matrix матрица
+     * @return текущий стек
+     */
+    public MatrixStack load(Matrix4 matrix) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        matrix.toArray(stack, top);
+        return this;
+    }
+
+    /**
+     * Загружает вершину стека в заданную матрицу
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 get(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(stack, top);
+    }
+
+    /**
+     * Записывает вершину стека в массив по строкам
+     * @param dest массив для результата
+     * @param offset индекс первого элемента в dest
+     * @return массив dest
+     */
+    public float[] toArray(float[] dest, int offset) {
+        ValidationUtils.requireNonNull(dest, "Array");
+        ValidationUtils.checkRange(offset, MATRIX_SIZE, dest.length);
+        System.arraycopy(stack, top, dest, offset, MATRIX_SIZE);
+        return dest;
+    }
+
+    /**
+     * Умножает вершину стека на матрицу справа: top = top * matrix
+     * @param matrix матрица
+     * @return текущий стек
+     */
+    public MatrixStack mulTop(Matrix4 matrix) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        Matrix4.multiply(stack, top, matrix.elements(), 0, stack, top);
+        return this;
+    }
+
+    /**
+     * Применяет перенос: top = top * T(x, y, z).
+     * Изменяется только четвертый столбец.
+     * @param x перенос по оси x
+     * @param y перенос по оси y
+     * @param z перенос по оси z
+     * @return текущий стек
+     */
+    public MatrixStack translate(float x, float y, float z) {
+        float[] m = stack;
+        for (int r = top; r < top + MATRIX_SIZE; r += 4) {
+            m[r + 3] += m[r] * x + m[r + 1] * y + m[r + 2] * z;
+        }
+        return this;
+    }
+
+    /**
+     * Применяет масштабирование: top = top * S(x, y, z).
+     * Изменяются только первые три столбца.
+     * @param x коэффициент по оси x
+     * @param y коэффициент по оси y
+     * @param z коэффициент по оси z
+     * @return текущий стек
+     */
+    public MatrixStack scale(float x, float y, float z) {
+        float[] m = stack;
+        for (int r = top; r < top + MATRIX_SIZE; r += 4) {
+            m[r] *= x;
+            m[r + 1] *= y;
+            m[r + 2] *= z;
+        }
+        return this;
+    }
+
+    /**
+     * Применяет поворот вокруг оси: top = top * R(axis, angle)
+     * @param angle угол поворота в радианах
+     * @param axisX компонента x оси
+     * @param axisY компонента y оси
+     * @param axisZ компонента z оси
+     * @return текущий стек
+     */
+    public MatrixStack rotate(float angle, float axisX, float axisY, float axisZ) {
+        float len = (float) Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+        ValidationUtils.checkNonZeroLength(len);
+        float x = axisX / len, y = axisY / len, z = axisZ / len;
+        float c = (float) Math.cos(angle);
+        float s = (float) Math.sin(angle);
+        float t = 1.0f - c;
+        return rotate3(
+            t * x * x + c, t * x * y - s * z, t * x * z + s * y,
+            t * x * y + s * z, t * y * y + c, t * y * z - s * x,
+            t * x * z - s * y, t * y * z + s * x, t * z * z + c);
+    }
+
+    /**
+     * Применяет поворот, заданный единичным кватернионом: top = top * R(q)
+     * @param rotation единичный кватернион
+     * @return текущий стек
+     */
+    public MatrixStack rotate(Quaternion rotation) {
+        ValidationUtils.requireNonNull(rotation, "Quaternion");
+        float[] r = rotation.toMatrix3(scratch).elements();
+        return rotate3(r[0], r[1], r[2], r[3], r[4], r[5], r[6], r[7], r[8]);
+    }
+
+    private MatrixStack rotate3(float r00, float r01, float r02,
+                                float r10, float r11, float r12,
+                                float r20, float r21, float r22) {
+        float[] m = stack;
+        for (int r = top; r < top + MATRIX_SIZE; r += 4) {
+            float a0 = m[r], a1 = m[r + 1], a2 = m[r + 2];
+            m[r] = a0 * r00 + a1 * r10 + a2 * r20;
+            m[r + 1] = a0 * r01 + a1 * r11 + a2 * r21;
+            m[r + 2] = a0 * r02 + a1 * r12 + a2 * r22;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,107 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Основа контейнеров, хранящих элементы вне кучи в прямом ByteBuffer
+ * с родным для платформы порядком байтов.
+ * Время жизни контейнера задается явно: после {@link #close()} любое обращение
+ * к нему вызывает IllegalStateException. Закрытие лишь помечает контейнер непригодным
+ * и не освобождает память: она освобождается сборщиком мусора, когда на буфер
+ * (и на все полученные из {@link #byteBuffer()} представления) не остается ссылок.
+ */
+abstract class NativeBuffer implements AutoCloseable {
+    private final ByteBuffer bytes;
+    private final FloatBuffer floats;
+    private final int size;
+    private volatile boolean closed;
+
+    NativeBuffer(int size, int components) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Размер буфера не может быть отрицательным");
+        }
+        this.size = size;
+        this.bytes = ByteBuffer.allocateDirect(size * components * Float.BYTES).order(ByteOrder.nativeOrder());
+        this.floats = bytes.asFloatBuffer();
+    }
+
+    NativeBuffer(ByteBuffer buffer, int components) {
+        ValidationUtils.requireNonNull(buffer, "Buffer");
+        if (!buffer.isDirect()) {
+            throw new IllegalArgumentException("Буфер должен быть прямым");
+        }
+        int elementBytes = components * Float.BYTES;
+        if (buffer.remaining() % elementBytes != 0) {
+            throw new IllegalArgumentException(
+                String.format("Размер буфера (%d байт) не кратен размеру элемента (%d байт)",
+                    buffer.remaining(), elementBytes));
+        }
+        this.size = buffer.remaining() / elementBytes;
+        this.bytes = buffer.slice().order(ByteOrder.nativeOrder());
+        this.floats = bytes.asFloatBuffer();
+    }
+
+    /**
+     * Возвращает количество элементов в контейнере
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает байтовое представление данных для передачи в нативный код или канал.
+     * Возвращаемый буфер разделяет память с контейнером.
+     * @return прямой буфер с родным порядком байтов
+     */
+    public ByteBuffer byteBuffer() {
+        checkOpen();
+        return bytes.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Проверяет, закрыт ли контейнер
+     * @return true, если контейнер закрыт
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Закрывает контейнер: последующие обращения вызывают IllegalStateException.
+     * Память не освобождается немедленно, это делает сборщик мусора.
+     * Повторное закрытие допускается.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    FloatBuffer floats() {
+        checkOpen();
+        return floats;
+    }
+
+    void validateIndex(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: %d (размер буфера: %d)", index, size));
+        }
+    }
+
+    void checkRange(int offset, int count, NativeBuffer dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkOpen();
+        dest.checkOpen();
+        ValidationUtils.checkRange(offset, count, Math.min(size, dest.size));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Буфер закрыт");
+        }
+    }
+}
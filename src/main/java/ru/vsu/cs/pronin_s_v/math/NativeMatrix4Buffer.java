@@ -0,0 +1,66 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Буфер матриц 4×4 вне кучи.
+ * Каждая матрица занимает 16 float, упакованных по строкам, с родным порядком байтов.
+ */
+public class NativeMatrix4Buffer extends NativeBuffer {
+    private static final int COMPONENTS = 16;
+
+    /**
+     * Создает буфер из нулевых матриц
+     * @param size количество матриц
+     */
+    public NativeMatrix4Buffer(int size) {
+        super(size, COMPONENTS);
+    }
+
+    private NativeMatrix4Buffer(ByteBuffer buffer) {
+        super(buffer, COMPONENTS);
+    }
+
+    /**
+     * Создает буфер поверх существующей памяти (прямой или отображенный в память буфер).
+     * Используются байты от текущей позиции до предела; данные не копируются.
+     * @param buffer исходный буфер
+     * @return новый буфер, разделяющий память с buffer
+     * @throws IllegalArgumentException если buffer не прямой или его размер не кратен размеру элемента
+     */
+    public static NativeMatrix4Buffer wrap(ByteBuffer buffer) {
+        return new NativeMatrix4Buffer(buffer);
+    }
+
+    /**
+     * Возвращает матрицу по индексу
+     * @param index индекс матрицы
+     * @return новая матрица
+     */
+    public Matrix4 get(int index) {
+        return get(index, Matrix4.zero());
+    }
+
+    /**
+     * Загружает матрицу по индексу в заданную матрицу
+     * @param index индекс матрицы
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 get(int index, Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        validateIndex(index);
+        return dest.set(floats(), index * COMPONENTS);
+    }
+
+    /**
+     * Записывает матрицу по индексу
+     * @param index индекс матрицы
+     * @param matrix матрица
+     */
+    public void set(int index, Matrix4 matrix) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        validateIndex(index);
+        matrix.toBuffer(floats(), index * COMPONENTS);
+    }
+}
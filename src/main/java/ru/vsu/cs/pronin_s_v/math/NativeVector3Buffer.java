@@ -0,0 +1,101 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Буфер трехмерных векторов вне кучи.
+ * Векторы хранятся подряд как (x, y, z) в формате float с родным порядком байтов,
+ * что совпадает с типичным форматом вершин для нативного кода и файлов.
+ */
+public class NativeVector3Buffer extends NativeBuffer {
+    private static final int COMPONENTS = 3;
+
+    /**
+     * Создает буфер из нулевых векторов
+     * @param size количество векторов
+     */
+    public NativeVector3Buffer(int size) {
+        super(size, COMPONENTS);
+    }
+
+    private NativeVector3Buffer(ByteBuffer buffer) {
+        super(buffer, COMPONENTS);
+    }
+
+    /**
+     * Создает буфер поверх существующей памяти (прямой или отображенный в память буфер).
+     * Используются байты от текущей позиции до предела; данные не копируются.
+     * @param buffer исходный буфер
+     * @return новый буфер, разделяющий память с buffer
+     * @throws IllegalArgumentException если buffer не прямой или его размер не кратен размеру элемента
+     */
+    public static NativeVector3Buffer wrap(ByteBuffer buffer) {
+        return new NativeVector3Buffer(buffer);
+    }
+
+    /**
+     * Возвращает вектор по индексу
+     * @param index индекс вектора
+     * @return новый вектор
+     */
+    public Vector3 get(int index) {
+        validateIndex(index);
+        int i = index * COMPONENTS;
+        return new Vector3(floats().get(i), floats().get(i + 1), floats().get(i + 2));
+    }
+
+    /**
+     * Записывает вектор по индексу
+     * @param index индекс вектора
+     * @param vector вектор
+     */
+    public void set(int index, Vector3 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        set(index, vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Записывает координаты вектора по индексу
+     * @param index индекс вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     */
+    public void set(int index, float x, float y, float z) {
+        validateIndex(index);
+        int i = index * COMPONENTS;
+        floats().put(i, x).put(i + 1, y).put(i + 2, z);
+    }
+
+    /**
+     * Преобразование точек (w = 1) в диапазоне [offset, offset + count) напрямую в памяти буферов
+     * @param matrix матрица преобразования
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первой точки
+     * @param count количество точек
+     * @return буфер dest
+     */
+    public NativeVector3Buffer transformPoints(Matrix4 matrix, NativeVector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        checkRange(offset, count, dest);
+        matrix.transformPoints(floats(), offset * COMPONENTS, dest.floats(), offset * COMPONENTS,
+            count, COMPONENTS, false);
+        return dest;
+    }
+
+    /**
+     * Преобразование направлений (w = 0) в диапазоне [offset, offset + count) напрямую в памяти буферов
+     * @param matrix матрица преобразования
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого направления
+     * @param count количество направлений
+     * @return буфер dest
+     */
+    public NativeVector3Buffer transformDirections(Matrix4 matrix, NativeVector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        checkRange(offset, count, dest);
+        matrix.transformDirections(floats(), offset * COMPONENTS, dest.floats(), offset * COMPONENTS,
+            count, COMPONENTS);
+        return dest;
+    }
+}
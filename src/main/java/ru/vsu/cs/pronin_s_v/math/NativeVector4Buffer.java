@@ -0,0 +1,85 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Буфер четырехмерных векторов вне кучи.
+ * Векторы хранятся подряд как (x, y, z, w) в формате float с родным порядком байтов.
+ */
+public class NativeVector4Buffer extends NativeBuffer {
+    private static final int COMPONENTS = 4;
+
+    /**
+     * Создает буфер из нулевых векторов
+     * @param size количество векторов
+     */
+    public NativeVector4Buffer(int size) {
+        super(size, COMPONENTS);
+    }
+
+    private NativeVector4Buffer(ByteBuffer buffer) {
+        super(buffer, COMPONENTS);
+    }
+
+    /**
+     * Создает буфер поверх существующей памяти (прямой или отображенный в память буфер).
+     * Используются байты от текущей позиции до предела; данные не копируются.
+     * @param buffer исходный буфер
+     * @return новый буфер, разделяющий память с buffer
+     * @throws IllegalArgumentException если buffer не прямой или его размер не кратен размеру элемента
+     */
+    public static NativeVector4Buffer wrap(ByteBuffer buffer) {
+        return new NativeVector4Buffer(buffer);
+    }
+
+    /**
+     * Возвращает вектор по индексу
+     * @param index индекс вектора
+     * @return новый вектор
+     */
+    public Vector4 get(int index) {
+        validateIndex(index);
+        int i = index * COMPONENTS;
+        return new Vector4(floats().get(i), floats().get(i + 1), floats().get(i + 2), floats().get(i + 3));
+    }
+
+    /**
+     * Записывает вектор по индексу
+     * @param index индекс вектора
+     * @param vector вектор
+     */
+    public void set(int index, Vector4 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        set(index, vector.getX(), vector.getY(), vector.getZ(), vector.getW());
+    }
+
+    /**
+     * Записывает координаты вектора по индексу
+     * @param index индекс вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @param w координата w
+     */
+    public void set(int index, float x, float y, float z, float w) {
+        validateIndex(index);
+        int i = index * COMPONENTS;
+        floats().put(i, x).put(i + 1, y).put(i + 2, z).put(i + 3, w);
+    }
+
+    /**
+     * Умножение матрицы на векторы в диапазоне [offset, offset + count) напрямую в памяти буферов
+     * @param matrix матрица преобразования
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public NativeVector4Buffer transform(Matrix4 matrix, NativeVector4Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        checkRange(offset, count, dest);
+        matrix.transformVectors4(floats(), offset * COMPONENTS, dest.floats(), offset * COMPONENTS,
+            count, COMPONENTS);
+        return dest;
+    }
+}
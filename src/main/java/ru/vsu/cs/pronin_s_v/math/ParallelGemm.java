@@ -0,0 +1,333 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Параллельное умножение матриц {@link MatrixN} на пуле ForkJoin.
+ * Матрица результата рекурсивно делится пополам по большей стороне, пока блок не станет
+ * не больше leafSize×leafSize; листовые блоки вычисляются блочным GEMM класса MatrixN
+ * с буферами упаковки, закрепленными за потоком. Блоки не пересекаются по записи,
+ * поэтому синхронизация не требуется.
+ * <p>
+ * Если задан порог Штрассена, произведения, у которых все размеры не меньше порога и отличаются
+ * не более чем в {@link #STRASSEN_MAX_ASPECT} раза, вычисляются рекурсией Штрассена (7 умножений половинного размера вместо 8) до порога,
+ * ниже которого используется обычное параллельное умножение. Рекурсия Штрассена
+ * уменьшает число операций, но увеличивает погрешность округления и расход памяти.
+ */
+public class ParallelGemm {
+    /** Размер стороны листового блока по умолчанию */
+    public static final int DEFAULT_LEAF_SIZE = 128;
+    /** Значение порога, отключающее рекурсию Штрассена */
+    public static final int NO_STRASSEN = 0;
+    /**
+     * Наибольшее допустимое отношение максимального размера к минимальному для рекурсии Штрассена.
+     * Множители дополняются нулями до квадрата со стороной max(m, n, k), поэтому для вытянутых
+     * произведений дополнение стоит дороже, чем выигрыш от сокращения умножений.
+     */
+    public static final int STRASSEN_MAX_ASPECT = 2;
+
+    private final ForkJoinPool pool;
+    private final int leafSize;
+    private final int strassenThreshold;
+    private final ThreadLocal<float[][]> buffers = ThreadLocal.withInitial(() -> new float[][] {
+        new float[MatrixN.MC * MatrixN.KC],
+        new float[MatrixN.NC * MatrixN.KC],
+        new float[MatrixN.MR * MatrixN.NR]
+    });
+
+    /**
+     * Создает умножитель с листовыми блоками по умолчанию и без рекурсии Штрассена
+     * @param pool пул потоков
+     */
+    public ParallelGemm(ForkJoinPool pool) {
+        this(pool, DEFAULT_LEAF_SIZE, NO_STRASSEN);
+    }
+
+    /**
+     * Создает умножитель с заданными параметрами разбиения
+     * @param pool пул потоков
+     * @param leafSize сторона листового блока результата
+     * @param strassenThreshold минимальный размер, начиная с которого применяется рекурсия Штрассена,
+     *                          или {@link #NO_STRASSEN}
+     */
+    public ParallelGemm(ForkJoinPool pool, int leafSize, int strassenThreshold) {
+        ValidationUtils.requireNonNull(pool, "Pool");
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Размер листового блока должен быть положительным");
+        }
+        if (strassenThreshold < 0) {
+            throw new IllegalArgumentException("Порог Штрассена не может быть отрицательным");
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+        this.strassenThreshold = strassenThreshold;
+    }
+
+    /**
+     * Возвращает сторону листового блока
+     * @return размер листового блока
+     */
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    /**
+     * Возвращает порог рекурсии Штрассена
+     * @return порог или {@link #NO_STRASSEN}
+     */
+    public int getStrassenThreshold() {
+        return strassenThreshold;
+    }
+
+    /**
+     * Умножение матриц dest = a * b
+     * @param a левый множитель
+     * @param b правый множитель
+     * @param dest матрица для результата (не может совпадать с множителями)
+     * @return матрица dest
+     */
+    public MatrixN multiply(MatrixN a, MatrixN b, MatrixN dest) {
+        return gemm(1.0f, a, false, b, false, 0.0f, dest);
+    }
+
+    /**
+     * Общее умножение C = alpha * op(A) * op(B) + beta * C, см.
+     * {@link MatrixN#gemm(float, MatrixN, boolean, MatrixN, boolean, float, MatrixN)}
+     * @param alpha множитель произведения
+     * @param a матрица A
+     * @param transposeA использовать ли A^T
+     * @param b матрица B
+     * @param transposeB использовать ли B^T
+     * @param beta множитель исходного значения C
+     * @param c матрица результата (не может совпадать с A или B)
+     * @return матрица c
+     */
+    public MatrixN gemm(float alpha, MatrixN a, boolean transposeA, MatrixN b, boolean transposeB,
+                        float beta, MatrixN c) {
+        int k = MatrixN.checkGemm(a, transposeA, b, transposeB, c);
+        int m = c.rows();
+        int n = c.cols();
+        if (useStrassen(m, n, k)) {
+            pool.invoke(new StrassenProduct(alpha, a, transposeA, b, transposeB, k, beta, c));
+        } else {
+            pool.invoke(new Tile(alpha, a.elements(), a.cols(), transposeA, b.elements(), b.cols(), transposeB,
+                k, beta, c.elements(), n, 0, m, 0, n));
+        }
+        return c;
+    }
+
+    private boolean useStrassen(int m, int n, int k) {
+        if (strassenThreshold == NO_STRASSEN) {
+            return false;
+        }
+        int min = Math.min(Math.min(m, n), k);
+        int max = Math.max(Math.max(m, n), k);
+        return min >= strassenThreshold && max <= (long) STRASSEN_MAX_ASPECT * min;
+    }
+
+    /**
+     * Вычисление блока C[i0:i1, j0:j1]; блок делится пополам по большей стороне
+     * с выравниванием границы на размер микроядра
+     */
+    private final class Tile extends RecursiveAction {
+        private final float alpha;
+        private final float[] a;
+        private final int aCols;
+        private final boolean transposeA;
+        private final float[] b;
+        private final int bCols;
+        private final boolean transposeB;
+        private final int k;
+        private final float beta;
+        private final float[] c;
+        private final int cCols;
+        private final int i0;
+        private final int i1;
+        private final int j0;
+        private final int j1;
+
+        Tile(float alpha, float[] a, int aCols, boolean transposeA, float[] b, int bCols, boolean transposeB,
+             int k, float beta, float[] c, int cCols, int i0, int i1, int j0, int j1) {
+            this.alpha = alpha;
+            this.a = a;
+            this.aCols = aCols;
+            this.transposeA = transposeA;
+            this.b = b;
+            this.bCols = bCols;
+            this.transposeB = transposeB;
+            this.k = k;
+            this.beta = beta;
+            this.c = c;
+            this.cCols = cCols;
+            this.i0 = i0;
+            this.i1 = i1;
+            this.j0 = j0;
+            this.j1 = j1;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = i1 - i0;
+            int cols = j1 - j0;
+            if (rows <= leafSize && cols <= leafSize) {
+                float[][] buffer = buffers.get();
+                MatrixN.gemmBlock(alpha, a, aCols, transposeA, b, bCols, transposeB, k, beta, c, cCols,
+                    i0, i1, j0, j1, buffer[0], buffer[1], buffer[2]);
+                return;
+            }
+            if (rows >= cols) {
+                int mid = i0 + align(rows / 2, MatrixN.MR);
+                invokeAll(split(i0, mid, j0, j1), split(mid, i1, j0, j1));
+            } else {
+                int mid = j0 + align(cols / 2, MatrixN.NR);
+                invokeAll(split(i0, i1, j0, mid), split(i0, i1, mid, j1));
+            }
+        }
+
+        private Tile split(int fromRow, int toRow, int fromCol, int toCol) {
+            return new Tile(alpha, a, aCols, transposeA, b, bCols, transposeB, k, beta, c, cCols,
+                fromRow, toRow, fromCol, toCol);
+        }
+    }
+
+    /**
+     * Половина длины, выровненная вниз на multiple; для коротких отрезков - невыровненная половина
+     */
+    private static int align(int value, int multiple) {
+        int aligned = value / multiple * multiple;
+        return aligned > 0 ? aligned : value;
+    }
+
+    /**
+     * Произведение по Штрассену: op(A) и op(B) копируются в квадратные матрицы, дополненные нулями
+     * до размера, который делится пополам вплоть до порога, затем результат
+     * добавляется к C с коэффициентами alpha и beta
+     */
+    private final class StrassenProduct extends RecursiveAction {
+        private final float alpha;
+        private final MatrixN a;
+        private final boolean transposeA;
+        private final MatrixN b;
+        private final boolean transposeB;
+        private final int k;
+        private final float beta;
+        private final MatrixN c;
+
+        StrassenProduct(float alpha, MatrixN a, boolean transposeA, MatrixN b, boolean transposeB, int k,
+                        float beta, MatrixN c) {
+            this.alpha = alpha;
+            this.a = a;
+            this.transposeA = transposeA;
+            this.b = b;
+            this.transposeB = transposeB;
+            this.k = k;
+            this.beta = beta;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int m = c.rows();
+            int n = c.cols();
+            int size = Math.max(Math.max(m, n), k);
+            int levels = 0;
+            while ((size + (1 << levels) - 1) >> levels > strassenThreshold) {
+                levels++;
+            }
+            int padded = ((size + (1 << levels) - 1) >> levels) << levels;
+            float[] pa = pad(a, transposeA, m, k, padded);
+            float[] pb = pad(b, transposeB, k, n, padded);
+            float[] product = new Strassen(pa, pb, padded).compute();
+            float[] d = c.elements();
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    int index = i * n + j;
+                    float previous = beta == 0.0f ? 0.0f : beta * d[index];
+                    d[index] = alpha * product[i * padded + j] + previous;
+                }
+            }
+        }
+
+        private float[] pad(MatrixN source, boolean transpose, int rows, int cols, int size) {
+            float[] src = source.elements();
+            int srcCols = source.cols();
+            float[] dest = new float[size * size];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    dest[i * size + j] = transpose ? src[j * srcCols + i] : src[i * srcCols + j];
+                }
+            }
+            return dest;
+        }
+    }
+
+    /**
+     * Шаг рекурсии Штрассена для квадратных матриц size×size
+     */
+    private final class Strassen extends RecursiveTask<float[]> {
+        private final float[] a;
+        private final float[] b;
+        private final int size;
+
+        Strassen(float[] a, float[] b, int size) {
+            this.a = a;
+            this.b = b;
+            this.size = size;
+        }
+
+        @Override
+        protected float[] compute() {
+            float[] c = new float[size * size];
+            if (size <= strassenThreshold || (size & 1) != 0) {
+                new Tile(1.0f, a, size, false, b, size, false, size, 0.0f, c, size, 0, size, 0, size).invoke();
+                return c;
+            }
+            int h = size / 2;
+            float[] a11 = quadrant(a, 0, 0), a12 = quadrant(a, 0, h), a21 = quadrant(a, h, 0), a22 = quadrant(a, h, h);
+            float[] b11 = quadrant(b, 0, 0), b12 = quadrant(b, 0, h), b21 = quadrant(b, h, 0), b22 = quadrant(b, h, h);
+
+            Strassen m1 = new Strassen(sum(a11, a22, 1.0f), sum(b11, b22, 1.0f), h);
+            Strassen m2 = new Strassen(sum(a21, a22, 1.0f), b11, h);
+            Strassen m3 = new Strassen(a11, sum(b12, b22, -1.0f), h);
+            Strassen m4 = new Strassen(a22, sum(b21, b11, -1.0f), h);
+            Strassen m5 = new Strassen(sum(a11, a12, 1.0f), b22, h);
+            Strassen m6 = new Strassen(sum(a21, a11, -1.0f), sum(b11, b12, 1.0f), h);
+            Strassen m7 = new Strassen(sum(a12, a22, -1.0f), sum(b21, b22, 1.0f), h);
+            invokeAll(m1, m2, m3, m4, m5, m6, m7);
+            float[] p1 = m1.join(), p2 = m2.join(), p3 = m3.join(), p4 = m4.join();
+            float[] p5 = m5.join(), p6 = m6.join(), p7 = m7.join();
+
+            for (int i = 0; i < h; i++) {
+                int top = i * size;
+                int bottom = (i + h) * size;
+                for (int j = 0; j < h; j++) {
+                    int q = i * h + j;
+                    c[top + j] = p1[q] + p4[q] - p5[q] + p7[q];
+                    c[top + h + j] = p3[q] + p5[q];
+                    c[bottom + j] = p2[q] + p4[q];
+                    c[bottom + h + j] = p1[q] - p2[q] + p3[q] + p6[q];
+                }
+            }
+            return c;
+        }
+
+        private float[] quadrant(float[] m, int row, int col) {
+            int h = size / 2;
+            float[] q = new float[h * h];
+            for (int i = 0; i < h; i++) {
+                System.arraycopy(m, (row + i) * size + col, q, i * h, h);
+            }
+            return q;
+        }
+
+        private float[] sum(float[] x, float[] y, float sign) {
+            float[] r = new float[x.length];
+            for (int i = 0; i < r.length; i++) {
+                r[i] = x[i] + sign * y[i];
+            }
+            return r;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная реализация пакетных операций на ForkJoinPool.
+ * Диапазон рекурсивно делится пополам по границам, кратным {@link #ALIGNMENT} элементам,
+ * чтобы разные задачи не записывали в одну строку кэша и в одно слово маски видимости. Элементы независимы,
+ * поэтому результат не зависит от количества потоков и совпадает с последовательным.
+ */
+final class ParallelVectorEngine extends VectorEngine {
+    static final int DEFAULT_THRESHOLD = 1 << 15;
+    private static final int ALIGNMENT = 64;
+
+    private final VectorEngine delegate;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    ParallelVectorEngine(VectorEngine delegate, ForkJoinPool pool, int threshold) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public int laneCount() {
+        return delegate.laneCount();
+    }
+
+    @Override
+    void transformPoints(float[] m, float[] x, float[] y, float[] z,
+                         float[] dx, float[] dy, float[] dz, int from, int to) {
+        run(from, to, (f, t) -> delegate.transformPoints(m, x, y, z, dx, dy, dz, f, t));
+    }
+
+    @Override
+    void dot(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+             float[] dest, int from, int to) {
+        run(from, to, (f, t) -> delegate.dot(ax, ay, az, bx, by, bz, dest, f, t));
+    }
+
+    @Override
+    void cross(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+               float[] dx, float[] dy, float[] dz, int from, int to) {
+        run(from, to, (f, t) -> delegate.cross(ax, ay, az, bx, by, bz, dx, dy, dz, f, t));
+    }
+
+    @Override
+    void normalize(float[] x, float[] y, float[] z,
+                   float[] dx, float[] dy, float[] dz, int from, int to) {
+        run(from, to, (f, t) -> delegate.normalize(x, y, z, dx, dy, dz, f, t));
+    }
+
+    @Override
+    void multiplyMatrices(float[] a, float[] b, float[] dest, int from, int to) {
+        run(from, to, (f, t) -> delegate.multiplyMatrices(a, b, dest, f, t));
+    }
+
+    @Override
+    void cullAabbs(float[] planes, float[] minX, float[] minY, float[] minZ,
+                   float[] maxX, float[] maxY, float[] maxZ, long[] visible, int from, int to) {
+        run(from, to, (f, t) -> delegate.cullAabbs(planes, minX, minY, minZ, maxX, maxY, maxZ, visible, f, t));
+    }
+
+    @Override
+    void cullSpheres(float[] planes, float[] x, float[] y, float[] z, float[] radii,
+                     long[] visible, int from, int to) {
+        run(from, to, (f, t) -> delegate.cullSpheres(planes, x, y, z, radii, visible, f, t));
+    }
+
+    @Override
+    void intersectTriangles(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                            float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                            float[] cx, float[] cy, float[] cz, float[] t, int from, int to) {
+        run(from, to, (f, e) -> delegate.intersectTriangles(ox, oy, oz, dx, dy, dz, maxT,
+            ax, ay, az, bx, by, bz, cx, cy, cz, t, f, e));
+    }
+
+    @Override
+    void intersectRays(float[] ox, float[] oy, float[] oz, float[] dx, float[] dy, float[] dz, float maxT,
+                       float ax, float ay, float az, float bx, float by, float bz,
+                       float cx, float cy, float cz, float[] t, int from, int to) {
+        run(from, to, (f, e) -> delegate.intersectRays(ox, oy, oz, dx, dy, dz, maxT,
+            ax, ay, az, bx, by, bz, cx, cy, cz, t, f, e));
+    }
+
+    @Override
+    void transformPacked(Matrix4 matrix, float[] src, int srcOff, float[] dst, int dstOff,
+                         int from, int to, int stride) {
+        run(from, to, (f, t) -> delegate.transformPacked(matrix, src, srcOff, dst, dstOff, f, t, stride));
+    }
+
+    private void run(int from, int to, RangeAction action) {
+        if (to - from <= threshold) {
+            action.run(from, to);
+        } else {
+            pool.invoke(new RangeTask(from, to, threshold, action));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int threshold, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            int mid = (from + (to - from) / 2) & -ALIGNMENT;
+            if (to - from <= threshold || mid <= from) {
+                action.run(from, to);
+                return;
+            }
+            invokeAll(new RangeTask(from, mid, threshold, action), new RangeTask(mid, to, threshold, action));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Преобразование упакованных массивов между одинарной и двойной точностью
+ */
+public final class Precision {
+
+    private Precision() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Округляет элементы массива double до float
+     * @param src исходный массив
+     * @param srcOff индекс первого элемента в src
+     * @param dst массив для результата
+     * @param dstOff индекс первого элемента в dst
+     * @param length количество элементов
+     * @return массив dst
+     */
+    public static float[] toFloat(double[] src, int srcOff, float[] dst, int dstOff, int length) {
+        ValidationUtils.requireNonNull(src, "Array");
+        ValidationUtils.requireNonNull(dst, "Array");
+        ValidationUtils.checkRange(srcOff, length, src.length);
+        ValidationUtils.checkRange(dstOff, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstOff + i] = (float) src[srcOff + i];
+        }
+        return dst;
+    }
+
+    /**
+     * Расширяет элементы массива float до double
+     * @param src исходный массив
+     * @param srcOff индекс первого элемента в src
+     * @param dst массив для результата
+     * @param dstOff индекс первого элемента в dst
+     * @param length количество элементов
+     * @return массив dst
+     */
+    public static double[] toDouble(float[] src, int srcOff, double[] dst, int dstOff, int length) {
+        ValidationUtils.requireNonNull(src, "Array");
+        ValidationUtils.requireNonNull(dst, "Array");
+        ValidationUtils.checkRange(srcOff, length, src.length);
+        ValidationUtils.checkRange(dstOff, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstOff + i] = src[srcOff + i];
+        }
+        return dst;
+    }
+}
@@ -0,0 +1,508 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Класс для работы с кватернионами поворота q = (x, y, z, w), где w - скалярная часть.
+ * Произведение q1 * q2 соответствует произведению матриц поворота M1 * M2,
+ * то есть сначала применяется q2, затем q1.
+ */
+public class Quaternion {
+
+    private float x;
+    private float y;
+    private float z;
+    private float w;
+
+    /**
+     * Создает единичный кватернион (поворот на нулевой угол)
+     */
+    public Quaternion() {
+        this(0.0f, 0.0f, 0.0f, 1.0f);
+    }
+
+    /**
+     * Создает кватернион с заданными компонентами
+     * @param x компонента x
+     * @param y компонента y
+     * @param z компонента z
+     * @param w скалярная компонента
+     */
+    public Quaternion(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Создает копию кватерниона
+     * @param other исходный кватернион
+     */
+    public Quaternion(Quaternion other) {
+        ValidationUtils.requireNonNull(other, "Quaternion");
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+        this.w = other.w;
+    }
+
+    /**
+     * Создает единичный кватернион
+     * @return единичный кватернион
+     */
+    public static Quaternion identity() {
+        return new Quaternion();
+    }
+
+    /**
+     * Создает кватернион поворота вокруг оси
+     * @param axis ось поворота (нормализуется)
+     * @param angle угол поворота в радианах
+     * @return новый кватернион
+     */
+    public static Quaternion fromAxisAngle(Vector3 axis, float angle) {
+        return new Quaternion().setFromAxisAngle(axis, angle);
+    }
+
+    /**
+     * Создает кватернион из матрицы поворота 3×3
+     * @param rotation ортонормированная матрица поворота
+     * @return новый кватернион
+     */
+    public static Quaternion fromRotationMatrix(Matrix3 rotation) {
+        return new Quaternion().setFromRotationMatrix(rotation);
+    }
+
+    /**
+     * Создает кватернион из верхнего левого блока 3×3 матрицы 4×4
+     * @param rotation матрица, блок 3×3 которой является поворотом
+     * @return новый кватернион
+     */
+    public static Quaternion fromRotationMatrix(Matrix4 rotation) {
+        return new Quaternion().setFromRotationMatrix(rotation);
+    }
+
+    /**
+     * Возвращает компоненту x
+     * @return компонента x
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Возвращает компоненту y
+     * @return компонента y
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Возвращает компоненту z
+     * @return компонента z
+     */
+    public float getZ() {
+        return z;
+    }
+
+    /**
+     * Возвращает скалярную компоненту w
+     * @return компонента w
+     */
+    public float getW() {
+        return w;
+    }
+
+    /**
+     * Устанавливает компоненты кватерниона
+     * @param x компонента x
+     * @param y компонента y
+     * @param z компонента z
+     * @param w скалярная компонента
+     * @return текущий кватернион
+     */
+    public Quaternion set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Копирует компоненты другого кватерниона
+     * @param other исходный кватернион
+     * @return текущий кватернион
+     */
+    public Quaternion set(Quaternion other) {
+        ValidationUtils.requireNonNull(other, "Quaternion");
+        return set(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Устанавливает поворот вокруг оси
+     * @param axis ось поворота (нормализуется)
+     * @param angle угол поворота в радианах
+     * @return текущий кватернион
+     */
+    public Quaternion setFromAxisAngle(Vector3 axis, float angle) {
+        ValidationUtils.requireNonNull(axis, "Axis");
+        float len = axis.length();
+        ValidationUtils.checkNonZeroLength(len);
+        float half = angle * 0.5f;
+        float s = (float) Math.sin(half) / len;
+        return set(axis.getX() * s, axis.getY() * s, axis.getZ() * s, (float) Math.cos(half));
+    }
+
+    /**
+     * Устанавливает поворот по матрице 3×3
+     * @param rotation ортонормированная матрица поворота
+     * @return текущий кватернион
+     */
+    public Quaternion setFromRotationMatrix(Matrix3 rotation) {
+        ValidationUtils.requireNonNull(rotation, "Matrix");
+        float[] m = rotation.elements();
+        return setFromRotation(m[0], m[1], m[2], m[3], m[4], m[5], m[6], m[7], m[8]);
+    }
+
+    /**
+     * Устанавливает поворот по верхнему левому блоку 3×3 матрицы 4×4
+     * @param rotation матрица, блок 3×3 которой является поворотом
+     * @return текущий кватернион
+     */
+    public Quaternion setFromRotationMatrix(Matrix4 rotation) {
+        ValidationUtils.requireNonNull(rotation, "Matrix");
+        float[] m = rotation.elements();
+        return setFromRotation(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10]);
+    }
+
+    private Quaternion setFromRotation(float r00, float r01, float r02,
+                                       float r10, float r11, float r12,
+                                       float r20, float r21, float r22) {
+        float trace = r00 + r11 + r22;
+        if (trace > 0.0f) {
+            float s = (float) Math.sqrt(trace + 1.0f) * 2.0f;
+            return set((r21 - r12) / s, (r02 - r20) / s, (r10 - r01) / s, 0.25f * s);
+        } else if (r00 > r11 && r00 > r22) {
+            float s = (float) Math.sqrt(1.0f + r00 - r11 - r22) * 2.0f;
+            return set(0.25f * s, (r01 + r10) / s, (r02 + r20) / s, (r21 - r12) / s);
+        } else if (r11 > r22) {
+            float s = (float) Math.sqrt(1.0f + r11 - r00 - r22) * 2.0f;
+            return set((r01 + r10) / s, 0.25f * s, (r12 + r21) / s, (r02 - r20) / s);
+        } else {
+            float s = (float) Math.sqrt(1.0f + r22 - r00 - r11) * 2.0f;
+            return set((r02 + r20) / s, (r12 + r21) / s, 0.25f * s, (r10 - r01) / s);
+        }
+    }
+
+    /**
+     * Произведение кватернионов
+     * @param other другой кватернион
+     * @return новый кватернион this * other
+     */
+    public Quaternion multiply(Quaternion other) {
+        return multiply(other, new Quaternion());
+    }
+
+    /**
+     * Произведение кватернионов с записью результата в заданный кватернион.
+     * Кватернион dest может совпадать с this или other.
+     * @param other другой кватернион
+     * @param dest кватернион для результата
+     * @return кватернион dest
+     */
+    public Quaternion multiply(Quaternion other, Quaternion dest) {
+        ValidationUtils.requireNonNull(other, "Quaternion");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float ax = x, ay = y, az = z, aw = w;
+        float bx = other.x, by = other.y, bz = other.z, bw = other.w;
+        return dest.set(
+            aw * bx + ax * bw + ay * bz - az * by,
+            aw * by - ax * bz + ay * bw + az * bx,
+            aw * bz + ax * by - ay * bx + az * bw,
+            aw * bw - ax * bx - ay * by - az * bz
+        );
+    }
+
+    /**
+     * Произведение кватернионов на месте: this = this * other
+     * @param other другой кватернион
+     * @return текущий кватернион
+     */
+    public Quaternion mulLocal(Quaternion other) {
+        return multiply(other, this);
+    }
+
+    /**
+     * Сопряженный кватернион (для единичного кватерниона совпадает с обратным)
+     * @return новый кватернион
+     */
+    public Quaternion conjugate() {
+        return conjugate(new Quaternion());
+    }
+
+    /**
+     * Сопряженный кватернион с записью результата в заданный кватернион
+     * @param dest кватернион для результата (может совпадать с this)
+     * @return кватернион dest
+     */
+    public Quaternion conjugate(Quaternion dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(-x, -y, -z, w);
+    }
+
+    /**
+     * Скалярное произведение кватернионов
+     * @param other другой кватернион
+     * @return скалярное произведение
+     */
+    public float dot(Quaternion other) {
+        ValidationUtils.requireNonNull(other, "Quaternion");
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Вычисление длины кватерниона
+     * @return длина кватерниона
+     */
+    public float length() {
+        return (float) Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Нормализация кватерниона
+     * @return новый нормализованный кватернион
+     */
+    public Quaternion normalize() {
+        return normalize(new Quaternion());
+    }
+
+    /**
+     * Нормализация кватерниона с записью результата в заданный кватернион
+     * @param dest кватернион для результата (может совпадать с this)
+     * @return кватернион dest
+     */
+    public Quaternion normalize(Quaternion dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(x / len, y / len, z / len, w / len);
+    }
+
+    /**
+     * Поворот вектора единичным кватернионом: v' = q * v * q^(-1)
+     * @param vector вектор
+     * @return новый вектор
+     */
+    public Vector3 rotate(Vector3 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        float vx = vector.getX(), vy = vector.getY(), vz = vector.getZ();
+        float tx = 2.0f * (y * vz - z * vy);
+        float ty = 2.0f * (z * vx - x * vz);
+        float tz = 2.0f * (x * vy - y * vx);
+        return new Vector3(
+            vx + w * tx + (y * tz - z * ty),
+            vy + w * ty + (z * tx - x * tz),
+            vz + w * tz + (x * ty - y * tx)
+        );
+    }
+
+    /**
+     * Поворот векторов из упакованного массива единичным кватернионом.
+     * Кватернион один раз преобразуется в матрицу 3×3, после чего каждый вектор
+     * обрабатывается за 9 умножений без выделения памяти.
+     * @param src исходный массив
+     * @param srcOff индекс первого вектора в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первого вектора в dst
+     * @param count количество векторов
+     * @param stride шаг между векторами (не меньше 3)
+     */
+    public void rotate(float[] src, int srcOff, float[] dst, int dstOff, int count, int stride) {
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        float r00 = 1.0f - 2.0f * (yy + zz), r01 = 2.0f * (xy - wz), r02 = 2.0f * (xz + wy);
+        float r10 = 2.0f * (xy + wz), r11 = 1.0f - 2.0f * (xx + zz), r12 = 2.0f * (yz - wx);
+        float r20 = 2.0f * (xz - wy), r21 = 2.0f * (yz + wx), r22 = 1.0f - 2.0f * (xx + yy);
+        int s = srcOff;
+        int d = dstOff;
+        for (int i = 0; i < count; i++, s += stride, d += stride) {
+            float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+            dst[d] = r00 * vx + r01 * vy + r02 * vz;
+            dst[d + 1] = r10 * vx + r11 * vy + r12 * vz;
+            dst[d + 2] = r20 * vx + r21 * vy + r22 * vz;
+        }
+    }
+
+    /**
+     * Преобразование единичного кватерниона в матрицу поворота 3×3
+     * @return новая матрица
+     */
+    public Matrix3 toMatrix3() {
+        return toMatrix3(Matrix3.zero());
+    }
+
+    /**
+     * Преобразование единичного кватерниона в матрицу поворота 3×3
+     * с записью результата в заданную матрицу
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix3 toMatrix3(Matrix3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float[] m = dest.elements();
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        m[0] = 1.0f - 2.0f * (yy + zz);
+        m[1] = 2.0f * (xy - wz);
+        m[2] = 2.0f * (xz + wy);
+        m[3] = 2.0f * (xy + wz);
+        m[4] = 1.0f - 2.0f * (xx + zz);
+        m[5] = 2.0f * (yz - wx);
+        m[6] = 2.0f * (xz - wy);
+        m[7] = 2.0f * (yz + wx);
+        m[8] = 1.0f - 2.0f * (xx + yy);
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Преобразование единичного кватерниона в матрицу поворота 4×4 без переноса
+     * @return новая матрица
+     */
+    public Matrix4 toMatrix4() {
+        return toMatrix4(Matrix4.zero());
+    }
+
+    /**
+     * Преобразование единичного кватерниона в матрицу поворота 4×4 без переноса
+     * с записью результата в заданную матрицу
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 toMatrix4(Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float[] m = dest.elements();
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        m[0] = 1.0f - 2.0f * (yy + zz);
+        m[1] = 2.0f * (xy - wz);
+        m[2] = 2.0f * (xz + wy);
+        m[3] = 0.0f;
+        m[4] = 2.0f * (xy + wz);
+        m[5] = 1.0f - 2.0f * (xx + zz);
+        m[6] = 2.0f * (yz - wx);
+        m[7] = 0.0f;
+        m[8] = 2.0f * (xz - wy);
+        m[9] = 2.0f * (yz + wx);
+        m[10] = 1.0f - 2.0f * (xx + yy);
+        m[11] = 0.0f;
+        m[12] = 0.0f;
+        m[13] = 0.0f;
+        m[14] = 0.0f;
+        m[15] = 1.0f;
+        dest.modified();
+        return dest;
+    }
+
+    /**
+     * Нормализованная линейная интерполяция по кратчайшему пути
+     * @param to конечный кватернион
+     * @param t параметр интерполяции от 0 до 1
+     * @return новый кватернион
+     */
+    public Quaternion nlerp(Quaternion to, float t) {
+        return nlerp(to, t, new Quaternion());
+    }
+
+    /**
+     * Нормализованная линейная интерполяция по кратчайшему пути с записью
+     * результата в заданный кватернион. Дешевле slerp, но угловая скорость непостоянна.
+     * @param to конечный кватернион
+     * @param t параметр интерполяции от 0 до 1
+     * @param dest кватернион для результата (может совпадать с this или to)
+     * @return кватернион dest
+     */
+    public Quaternion nlerp(Quaternion to, float t, Quaternion dest) {
+        ValidationUtils.requireNonNull(to, "Quaternion");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float s = dot(to) < 0.0f ? -t : t;
+        float u = 1.0f - t;
+        dest.set(u * x + s * to.x, u * y + s * to.y, u * z + s * to.z, u * w + s * to.w);
+        return dest.normalize(dest);
+    }
+
+    /**
+     * Сферическая линейная интерполяция по кратчайшему пути
+     * @param to конечный кватернион
+     * @param t параметр интерполяции от 0 до 1
+     * @return новый кватернион
+     */
+    public Quaternion slerp(Quaternion to, float t) {
+        return slerp(to, t, new Quaternion());
+    }
+
+    /**
+     * Сферическая линейная интерполяция по кратчайшему пути с записью результата
+     * в заданный кватернион. Для почти совпадающих кватернионов используется nlerp.
+     * @param to конечный кватернион
+     * @param t параметр интерполяции от 0 до 1
+     * @param dest кватернион для результата (может совпадать с this или to)
+     * @return кватернион dest
+     */
+    public Quaternion slerp(Quaternion to, float t, Quaternion dest) {
+        ValidationUtils.requireNonNull(to, "Quaternion");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float cos = dot(to);
+        float sign = 1.0f;
+        if (cos < 0.0f) {
+            cos = -cos;
+            sign = -1.0f;
+        }
+        if (cos > 0.9995f) {
+            return nlerp(to, t, dest);
+        }
+        double angle = Math.acos(cos);
+        double sin = Math.sin(angle);
+        float a = (float) (Math.sin((1.0 - t) * angle) / sin);
+        float b = sign * (float) (Math.sin(t * angle) / sin);
+        return dest.set(a * x + b * to.x, a * y + b * to.y, a * z + b * to.z, a * w + b * to.w);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Quaternion quaternion = (Quaternion) obj;
+        float epsilon = ValidationUtils.getEpsilon();
+        return Math.abs(this.x - quaternion.x) < epsilon
+            && Math.abs(this.y - quaternion.y) < epsilon
+            && Math.abs(this.z - quaternion.z) < epsilon
+            && Math.abs(this.w - quaternion.w) < epsilon;
+    }
+
+    @Override
+    public int hashCode() {
+        float epsilon = ValidationUtils.getEpsilon();
+        float scale = 1.0f / epsilon;
+        float maxValue = Integer.MAX_VALUE / scale;
+        float safeX = Math.max(-maxValue, Math.min(maxValue, x));
+        float safeY = Math.max(-maxValue, Math.min(maxValue, y));
+        float safeZ = Math.max(-maxValue, Math.min(maxValue, z));
+        float safeW = Math.max(-maxValue, Math.min(maxValue, w));
+        return Integer.hashCode(Math.round(safeX * scale)) * 31 * 31 * 31
+             + Integer.hashCode(Math.round(safeY * scale)) * 31 * 31
+             + Integer.hashCode(Math.round(safeZ * scale)) * 31
+             + Integer.hashCode(Math.round(safeW * scale));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Quaternion(%.3f, %.3f, %.3f, %.3f)", x, y, z, w);
+    }
+}
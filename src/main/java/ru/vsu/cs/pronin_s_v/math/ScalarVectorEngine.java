@@ -0,0 +1,212 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Скалярная реализация пакетных операций.
+ * Порядок вычислений совпадает с {@link SimdVectorEngine}, поэтому результаты побитово равны.
+ */
+final class ScalarVectorEngine extends VectorEngine {
+    static final ScalarVectorEngine INSTANCE = new ScalarVectorEngine();
+
+    private ScalarVectorEngine() {
+    }
+
+    @Override
+    public int laneCount() {
+        return 1;
+    }
+
+    @Override
+    void transformPoints(float[] m, float[] x, float[] y, float[] z,
+                         float[] dx, float[] dy, float[] dz, int from, int to) {
+        transformPointsScalar(m, x, y, z, dx, dy, dz, from, to);
+    }
+
+    @Override
+    void dot(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+             float[] dest, int from, int to) {
+        dotScalar(ax, ay, az, bx, by, bz, dest, from, to);
+    }
+
+    @Override
+    void cross(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+               float[] dx, float[] dy, float[] dz, int from, int to) {
+        crossScalar(ax, ay, az, bx, by, bz, dx, dy, dz, from, to);
+    }
+
+    @Override
+    void normalize(float[] x, float[] y, float[] z,
+                   float[] dx, float[] dy, float[] dz, int from, int to) {
+        normalizeScalar(x, y, z, dx, dy, dz, from, to);
+    }
+
+    @Override
+    void multiplyMatrices(float[] a, float[] b, float[] dest, int from, int to) {
+        for (int i = from, off = 16 * from; i < to; i++, off += 16) {
+            Matrix4.multiply(a, off, b, off, dest, off);
+        }
+    }
+
+    @Override
+    void cullAabbs(float[] planes, float[] minX, float[] minY, float[] minZ,
+                   float[] maxX, float[] maxY, float[] maxZ, long[] visible, int from, int to) {
+        cullAabbsScalar(planes, minX, minY, minZ, maxX, maxY, maxZ, visible, from, to);
+    }
+
+    @Override
+    void cullSpheres(float[] planes, float[] x, float[] y, float[] z, float[] radii,
+                     long[] visible, int from, int to) {
+        cullSpheresScalar(planes, x, y, z, radii, visible, from, to);
+    }
+
+    @Override
+    void intersectTriangles(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                            float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                            float[] cx, float[] cy, float[] cz, float[] t, int from, int to) {
+        intersectTrianglesScalar(ox, oy, oz, dx, dy, dz, maxT, ax, ay, az, bx, by, bz, cx, cy, cz, t, from, to);
+    }
+
+    @Override
+    void intersectRays(float[] ox, float[] oy, float[] oz, float[] dx, float[] dy, float[] dz, float maxT,
+                       float ax, float ay, float az, float bx, float by, float bz,
+                       float cx, float cy, float cz, float[] t, int from, int to) {
+        intersectRaysScalar(ox, oy, oz, dx, dy, dz, maxT, ax, ay, az, bx, by, bz, cx, cy, cz, t, from, to);
+    }
+
+    static void transformPointsScalar(float[] m, float[] x, float[] y, float[] z,
+                                      float[] dx, float[] dy, float[] dz, int from, int to) {
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        for (int i = from; i < to; i++) {
+            float px = x[i], py = y[i], pz = z[i];
+            dx[i] = px * m00 + py * m01 + pz * m02 + m03;
+            dy[i] = px * m10 + py * m11 + pz * m12 + m13;
+            dz[i] = px * m20 + py * m21 + pz * m22 + m23;
+        }
+    }
+
+    static void dotScalar(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                          float[] dest, int from, int to) {
+        for (int i = from; i < to; i++) {
+            dest[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+        }
+    }
+
+    static void crossScalar(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                            float[] dx, float[] dy, float[] dz, int from, int to) {
+        for (int i = from; i < to; i++) {
+            float x1 = ax[i], y1 = ay[i], z1 = az[i];
+            float x2 = bx[i], y2 = by[i], z2 = bz[i];
+            dx[i] = y1 * z2 - z1 * y2;
+            dy[i] = z1 * x2 - x1 * z2;
+            dz[i] = x1 * y2 - y1 * x2;
+        }
+    }
+
+    static void normalizeScalar(float[] x, float[] y, float[] z,
+                                float[] dx, float[] dy, float[] dz, int from, int to) {
+        for (int i = from; i < to; i++) {
+            float px = x[i], py = y[i], pz = z[i];
+            float len = (float) Math.sqrt(px * px + py * py + pz * pz);
+            ValidationUtils.checkNonZeroLength(len);
+            dx[i] = px / len;
+            dy[i] = py / len;
+            dz[i] = pz / len;
+        }
+    }
+
+    static void cullAabbsScalar(float[] planes, float[] minX, float[] minY, float[] minZ,
+                                float[] maxX, float[] maxY, float[] maxZ, long[] visible, int from, int to) {
+        for (int i = from; i < to; i++) {
+            boolean inside = true;
+            for (int o = 0; o < Frustum.PLANES * 4 && inside; o += 4) {
+                float a = planes[o], b = planes[o + 1], c = planes[o + 2];
+                float px = a >= 0.0f ? maxX[i] : minX[i];
+                float py = b >= 0.0f ? maxY[i] : minY[i];
+                float pz = c >= 0.0f ? maxZ[i] : minZ[i];
+                inside = px * a + py * b + pz * c + planes[o + 3] >= 0.0f;
+            }
+            writeBit(visible, i, inside);
+        }
+    }
+
+    static void cullSpheresScalar(float[] planes, float[] x, float[] y, float[] z, float[] radii,
+                                  long[] visible, int from, int to) {
+        for (int i = from; i < to; i++) {
+            float px = x[i], py = y[i], pz = z[i], negRadius = -radii[i];
+            boolean inside = true;
+            for (int o = 0; o < Frustum.PLANES * 4 && inside; o += 4) {
+                inside = px * planes[o] + py * planes[o + 1] + pz * planes[o + 2] + planes[o + 3] >= negRadius;
+            }
+            writeBit(visible, i, inside);
+        }
+    }
+
+    static void writeBit(long[] words, int index, boolean value) {
+        long bit = 1L << index;
+        if (value) {
+            words[index >>> 6] |= bit;
+        } else {
+            words[index >>> 6] &= ~bit;
+        }
+    }
+
+    /**
+     * Записывает count младших битов bits в маску начиная с бита index (count от 1 до 64)
+     */
+    static void writeBits(long[] words, int index, long bits, int count) {
+        long mask = count == 64 ? -1L : (1L << count) - 1;
+        bits &= mask;
+        int word = index >>> 6;
+        int shift = index & 63;
+        words[word] = (words[word] & ~(mask << shift)) | (bits << shift);
+        if (shift + count > 64) {
+            int rest = 64 - shift;
+            words[word + 1] = (words[word + 1] & ~(mask >>> rest)) | (bits >>> rest);
+        }
+    }
+
+    static void intersectTrianglesScalar(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                                         float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                                         float[] cx, float[] cy, float[] cz, float[] t, int from, int to) {
+        for (int i = from; i < to; i++) {
+            t[i] = rayTriangle(ox, oy, oz, dx, dy, dz, maxT,
+                ax[i], ay[i], az[i], bx[i], by[i], bz[i], cx[i], cy[i], cz[i]);
+        }
+    }
+
+    static void intersectRaysScalar(float[] ox, float[] oy, float[] oz, float[] dx, float[] dy, float[] dz, float maxT,
+                                    float ax, float ay, float az, float bx, float by, float bz,
+                                    float cx, float cy, float cz, float[] t, int from, int to) {
+        for (int i = from; i < to; i++) {
+            t[i] = rayTriangle(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], maxT,
+                ax, ay, az, bx, by, bz, cx, cy, cz);
+        }
+    }
+
+    /**
+     * Пересечение луча с треугольником по методу Мёллера-Трумбора.
+     * Отбрасывается только точно нулевой определитель: он пропорционален длинам ребер
+     * и направления, поэтому сравнение с фиксированным порогом отвергало бы малые
+     * треугольники и короткие направления. Почти параллельные лучи дают большие u, v, t
+     * и отсекаются проверками диапазона; NaN не проходит ни одно сравнение.
+     * @return параметр t пересечения на (0, maxT] или +∞ при промахе
+     */
+    static float rayTriangle(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                             float ax, float ay, float az, float bx, float by, float bz,
+                             float cx, float cy, float cz) {
+        float e1x = bx - ax, e1y = by - ay, e1z = bz - az;
+        float e2x = cx - ax, e2y = cy - ay, e2z = cz - az;
+        float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        float det = e1x * px + e1y * py + e1z * pz;
+        float invDet = 1.0f / det;
+        float sx = ox - ax, sy = oy - ay, sz = oz - az;
+        float u = (sx * px + sy * py + sz * pz) * invDet;
+        float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+        float v = (dx * qx + dy * qy + dz * qz) * invDet;
+        float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+        boolean hit = det != 0.0f
+            && u >= 0.0f && u <= 1.0f && v >= 0.0f && u + v <= 1.0f && t > 0.0f && t <= maxT;
+        return hit ? t : Float.POSITIVE_INFINITY;
+    }
+}
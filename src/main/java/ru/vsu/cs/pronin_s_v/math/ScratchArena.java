@@ -0,0 +1,336 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Потоколокальная арена временных векторов и матриц.
+ * Область открывается вызовом {@link #open()} в try-with-resources; все объекты,
+ * выданные внутри области, возвращаются в пул при ее закрытии и переиспользуются
+ * следующими областями того же потока. Области могут быть вложенными.
+ * <p>
+ * Ссылки на объекты арены не должны покидать область. В отладочном режиме
+ * ({@link #setDebug(boolean)} или системное свойство {@value #DEBUG_PROPERTY})
+ * возвращаемые объекты заполняются NaN, а при повторной выдаче проверяется, что
+ * их никто не изменил после закрытия области; иначе выбрасывается
+ * IllegalStateException с местом исходной выдачи в качестве причины.
+ */
+public final class ScratchArena implements AutoCloseable {
+    /**
+     * Системное свойство, включающее отладочный режим по умолчанию
+     */
+    public static final String DEBUG_PROPERTY = "ru.vsu.cs.pronin_s_v.math.arena.debug";
+
+    private static final int INITIAL_DEPTH = 8;
+
+    private static final ThreadLocal<ScratchArena> ARENA = ThreadLocal.withInitial(ScratchArena::new);
+
+    private static volatile boolean debug = Boolean.getBoolean(DEBUG_PROPERTY);
+
+    private final Thread owner = Thread.currentThread();
+    private final Pool<Vector2> vectors2 = new Pool<>() {
+        @Override
+        Vector2 create() {
+            return new Vector2();
+        }
+
+        @Override
+        void poison(Vector2 item) {
+            item.set(Float.NaN, Float.NaN);
+        }
+
+        @Override
+        boolean isPoisoned(Vector2 item) {
+            return Float.isNaN(item.getX()) && Float.isNaN(item.getY());
+        }
+    };
+    private final Pool<Vector3> vectors3 = new Pool<>() {
+        @Override
+        Vector3 create() {
+            return new Vector3();
+        }
+
+        @Override
+        void poison(Vector3 item) {
+            item.set(Float.NaN, Float.NaN, Float.NaN);
+        }
+
+        @Override
+        boolean isPoisoned(Vector3 item) {
+            return Float.isNaN(item.getX()) && Float.isNaN(item.getY()) && Float.isNaN(item.getZ());
+        }
+    };
+    private final Pool<Vector4> vectors4 = new Pool<>() {
+        @Override
+        Vector4 create() {
+            return new Vector4();
+        }
+
+        @Override
+        void poison(Vector4 item) {
+            item.set(Float.NaN, Float.NaN, Float.NaN, Float.NaN);
+        }
+
+        @Override
+        boolean isPoisoned(Vector4 item) {
+            return Float.isNaN(item.getX()) && Float.isNaN(item.getY())
+                && Float.isNaN(item.getZ()) && Float.isNaN(item.getW());
+        }
+    };
+    private final Pool<Matrix3> matrices3 = new Pool<>() {
+        @Override
+        Matrix3 create() {
+            return new Matrix3();
+        }
+
+        @Override
+        void poison(Matrix3 item) {
+            Arrays.fill(item.elements(), Float.NaN);
+            item.modified();
+        }
+
+        @Override
+        boolean isPoisoned(Matrix3 item) {
+            return allNaN(item.elements());
+        }
+    };
+    private final Pool<Matrix4> matrices4 = new Pool<>() {
+        @Override
+        Matrix4 create() {
+            return new Matrix4();
+        }
+
+        @Override
+        void poison(Matrix4 item) {
+            Arrays.fill(item.elements(), Float.NaN);
+            item.modified();
+        }
+
+        @Override
+        boolean isPoisoned(Matrix4 item) {
+            return allNaN(item.elements());
+        }
+    };
+
+    private int depth;
+
+    private ScratchArena() {
+    }
+
+    /**
+     * Открывает новую область в арене текущего потока
+     * @return арена текущего потока
+     */
+    public static ScratchArena open() {
+        ScratchArena arena = ARENA.get();
+        arena.push();
+        return arena;
+    }
+
+    /**
+     * Включает или выключает отладочный режим обнаружения утечек ссылок
+     * @param enabled true для включения отладочного режима
+     */
+    public static void setDebug(boolean enabled) {
+        debug = enabled;
+    }
+
+    /**
+     * Проверяет, включен ли отладочный режим
+     * @return true, если отладочный режим включен
+     */
+    public static boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Возвращает глубину вложенности открытых областей
+     * @return количество открытых областей
+     */
+    public int depth() {
+        return depth;
+    }
+
+    private void push() {
+        vectors2.mark(depth);
+        vectors3.mark(depth);
+        vectors4.mark(depth);
+        matrices3.mark(depth);
+        matrices4.mark(depth);
+        depth++;
+    }
+
+    private void checkOpen() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Арена используется из чужого потока");
+        }
+        if (depth == 0) {
+            throw new IllegalStateException("Нет открытой области арены");
+        }
+    }
+
+    /**
+     * Закрывает самую внутреннюю область и возвращает ее объекты в пул
+     * @throws IllegalStateException если открытых областей нет или вызов выполнен из чужого потока
+     */
+    @Override
+    public void close() {
+        checkOpen();
+        depth--;
+        boolean poison = debug;
+        vectors2.release(depth, poison);
+        vectors3.release(depth, poison);
+        vectors4.release(depth, poison);
+        matrices3.release(depth, poison);
+        matrices4.release(depth, poison);
+    }
+
+    /**
+     * Выдает нулевой двумерный вектор
+     * @return временный вектор
+     */
+    public Vector2 vector2() {
+        return vector2(0.0f, 0.0f);
+    }
+
+    /**
+     * Выдает двумерный вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     * @return временный вектор
+     */
+    public Vector2 vector2(float x, float y) {
+        checkOpen();
+        return vectors2.acquire().set(x, y);
+    }
+
+    /**
+     * Выдает нулевой трехмерный вектор
+     * @return временный вектор
+     */
+    public Vector3 vector3() {
+        return vector3(0.0f, 0.0f, 0.0f);
+    }
+
+    /**
+     * Выдает трехмерный вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @return временный вектор
+     */
+    public Vector3 vector3(float x, float y, float z) {
+        checkOpen();
+        return vectors3.acquire().set(x, y, z);
+    }
+
+    /**
+     * Выдает нулевой четырехмерный вектор
+     * @return временный вектор
+     */
+    public Vector4 vector4() {
+        return vector4(0.0f, 0.0f, 0.0f, 0.0f);
+    }
+
+    /**
+     * Выдает четырехмерный вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @param w координата w
+     * @return временный вектор
+     */
+    public Vector4 vector4(float x, float y, float z, float w) {
+        checkOpen();
+        return vectors4.acquire().set(x, y, z, w);
+    }
+
+    /**
+     * Выдает единичную матрицу 3×3
+     * @return временная матрица
+     */
+    public Matrix3 matrix3() {
+        checkOpen();
+        Matrix3 matrix = matrices3.acquire();
+        matrix.setIdentity();
+        return matrix;
+    }
+
+    /**
+     * Выдает единичную матрицу 4×4
+     * @return временная матрица
+     */
+    public Matrix4 matrix4() {
+        checkOpen();
+        Matrix4 matrix = matrices4.acquire();
+        matrix.setIdentity();
+        return matrix;
+    }
+
+    private static boolean allNaN(float[] values) {
+        for (float value : values) {
+            if (!Float.isNaN(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Пул объектов одного типа со стеком отметок для вложенных областей
+     */
+    private abstract static class Pool<T> {
+        private Object[] items = new Object[0];
+        private boolean[] poisoned = new boolean[0];
+        private Throwable[] sites = new Throwable[0];
+        private int[] marks = new int[INITIAL_DEPTH];
+        private int count;
+
+        abstract T create();
+
+        abstract void poison(T item);
+
+        abstract boolean isPoisoned(T item);
+
+        void mark(int depth) {
+            if (depth == marks.length) {
+                marks = Arrays.copyOf(marks, depth * 2);
+            }
+            marks[depth] = count;
+        }
+
+        @SuppressWarnings("unchecked")
+        T acquire() {
+            if (count == items.length) {
+                int capacity = Math.max(4, items.length * 2);
+                items = Arrays.copyOf(items, capacity);
+                poisoned = Arrays.copyOf(poisoned, capacity);
+                sites = Arrays.copyOf(sites, capacity);
+            }
+            int slot = count++;
+            T item = (T) items[slot];
+            if (item == null) {
+                item = create();
+                items[slot] = item;
+            } else if (poisoned[slot] && !isPoisoned(item)) {
+                poisoned[slot] = false;
+                throw new IllegalStateException(
+                    "Объект арены изменен после закрытия своей области: " + item, sites[slot]);
+            }
+            poisoned[slot] = false;
+            sites[slot] = debug ? new Throwable("Место выдачи объекта арены") : null;
+            return item;
+        }
+
+        @SuppressWarnings("unchecked")
+        void release(int depth, boolean poison) {
+            int mark = marks[depth];
+            if (poison) {
+                for (int slot = mark; slot < count; slot++) {
+                    poison((T) items[slot]);
+                    poisoned[slot] = true;
+                }
+            }
+            count = mark;
+        }
+    }
+}
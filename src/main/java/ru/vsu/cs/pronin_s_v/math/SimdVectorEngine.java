@@ -0,0 +1,266 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация пакетных операций на jdk.incubator.vector.
+ * Класс загружается только при наличии модуля (см. {@link VectorEngine#isSimdAvailable()}).
+ * Операции выполняются в том же порядке, что и в {@link ScalarVectorEngine}, без FMA,
+ * поэтому результаты побитово совпадают; хвосты диапазонов обрабатываются скалярно.
+ */
+final class SimdVectorEngine extends VectorEngine {
+    private static final SimdVectorEngine PREFERRED = new SimdVectorEngine(FloatVector.SPECIES_PREFERRED);
+    private static final VectorSpecies<Float> MATRIX_ROW = FloatVector.SPECIES_128;
+
+    private final VectorSpecies<Float> species;
+
+    private SimdVectorEngine(VectorSpecies<Float> species) {
+        this.species = species;
+    }
+
+    static VectorEngine preferred() {
+        return PREFERRED;
+    }
+
+    static VectorEngine ofBitSize(int bitSize) {
+        VectorShape shape;
+        try {
+            shape = VectorShape.forBitSize(bitSize);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Неподдерживаемая ширина регистра: " + bitSize, e);
+        }
+        return new SimdVectorEngine(FloatVector.SPECIES_PREFERRED.withShape(shape));
+    }
+
+    @Override
+    public int laneCount() {
+        return species.length();
+    }
+
+    @Override
+    void transformPoints(float[] m, float[] x, float[] y, float[] z,
+                         float[] dx, float[] dy, float[] dz, int from, int to) {
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            FloatVector px = FloatVector.fromArray(species, x, i);
+            FloatVector py = FloatVector.fromArray(species, y, i);
+            FloatVector pz = FloatVector.fromArray(species, z, i);
+            px.mul(m00).add(py.mul(m01)).add(pz.mul(m02)).add(m03).intoArray(dx, i);
+            px.mul(m10).add(py.mul(m11)).add(pz.mul(m12)).add(m13).intoArray(dy, i);
+            px.mul(m20).add(py.mul(m21)).add(pz.mul(m22)).add(m23).intoArray(dz, i);
+        }
+        ScalarVectorEngine.transformPointsScalar(m, x, y, z, dx, dy, dz, i, to);
+    }
+
+    @Override
+    void dot(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+             float[] dest, int from, int to) {
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            FloatVector x = FloatVector.fromArray(species, ax, i).mul(FloatVector.fromArray(species, bx, i));
+            FloatVector y = FloatVector.fromArray(species, ay, i).mul(FloatVector.fromArray(species, by, i));
+            FloatVector z = FloatVector.fromArray(species, az, i).mul(FloatVector.fromArray(species, bz, i));
+            x.add(y).add(z).intoArray(dest, i);
+        }
+        ScalarVectorEngine.dotScalar(ax, ay, az, bx, by, bz, dest, i, to);
+    }
+
+    @Override
+    void cross(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+               float[] dx, float[] dy, float[] dz, int from, int to) {
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            FloatVector x1 = FloatVector.fromArray(species, ax, i);
+            FloatVector y1 = FloatVector.fromArray(species, ay, i);
+            FloatVector z1 = FloatVector.fromArray(species, az, i);
+            FloatVector x2 = FloatVector.fromArray(species, bx, i);
+            FloatVector y2 = FloatVector.fromArray(species, by, i);
+            FloatVector z2 = FloatVector.fromArray(species, bz, i);
+            y1.mul(z2).sub(z1.mul(y2)).intoArray(dx, i);
+            z1.mul(x2).sub(x1.mul(z2)).intoArray(dy, i);
+            x1.mul(y2).sub(y1.mul(x2)).intoArray(dz, i);
+        }
+        ScalarVectorEngine.crossScalar(ax, ay, az, bx, by, bz, dx, dy, dz, i, to);
+    }
+
+    @Override
+    void normalize(float[] x, float[] y, float[] z,
+                   float[] dx, float[] dy, float[] dz, int from, int to) {
+        float epsilon = ValidationUtils.getEpsilon();
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            FloatVector px = FloatVector.fromArray(species, x, i);
+            FloatVector py = FloatVector.fromArray(species, y, i);
+            FloatVector pz = FloatVector.fromArray(species, z, i);
+            FloatVector len = px.mul(px).add(py.mul(py)).add(pz.mul(pz)).lanewise(VectorOperators.SQRT);
+            VectorMask<Float> degenerate = len.compare(VectorOperators.LT, epsilon);
+            if (degenerate.anyTrue()) {
+                ValidationUtils.checkNonZeroLength(len.lane(degenerate.firstTrue()));
+            }
+            px.div(len).intoArray(dx, i);
+            py.div(len).intoArray(dy, i);
+            pz.div(len).intoArray(dz, i);
+        }
+        ScalarVectorEngine.normalizeScalar(x, y, z, dx, dy, dz, i, to);
+    }
+
+    @Override
+    void multiplyMatrices(float[] a, float[] b, float[] dest, int from, int to) {
+        if (species.length() < MATRIX_ROW.length()) {
+            ScalarVectorEngine.INSTANCE.multiplyMatrices(a, b, dest, from, to);
+            return;
+        }
+        FloatVector zero = FloatVector.zero(MATRIX_ROW);
+        for (int i = from, off = 16 * from; i < to; i++, off += 16) {
+            FloatVector b0 = FloatVector.fromArray(MATRIX_ROW, b, off);
+            FloatVector b1 = FloatVector.fromArray(MATRIX_ROW, b, off + 4);
+            FloatVector b2 = FloatVector.fromArray(MATRIX_ROW, b, off + 8);
+            FloatVector b3 = FloatVector.fromArray(MATRIX_ROW, b, off + 12);
+            for (int r = off; r < off + 16; r += 4) {
+                float a0 = a[r], a1 = a[r + 1], a2 = a[r + 2], a3 = a[r + 3];
+                zero.add(b0.mul(a0)).add(b1.mul(a1)).add(b2.mul(a2)).add(b3.mul(a3)).intoArray(dest, r);
+            }
+        }
+    }
+
+    @Override
+    void cullAabbs(float[] planes, float[] minX, float[] minY, float[] minZ,
+                   float[] maxX, float[] maxY, float[] maxZ, long[] visible, int from, int to) {
+        int lanes = species.length();
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += lanes) {
+            FloatVector x0 = FloatVector.fromArray(species, minX, i);
+            FloatVector y0 = FloatVector.fromArray(species, minY, i);
+            FloatVector z0 = FloatVector.fromArray(species, minZ, i);
+            FloatVector x1 = FloatVector.fromArray(species, maxX, i);
+            FloatVector y1 = FloatVector.fromArray(species, maxY, i);
+            FloatVector z1 = FloatVector.fromArray(species, maxZ, i);
+            VectorMask<Float> inside = species.maskAll(true);
+            for (int o = 0; o < Frustum.PLANES * 4; o += 4) {
+                float a = planes[o], b = planes[o + 1], c = planes[o + 2];
+                FloatVector px = a >= 0.0f ? x1 : x0;
+                FloatVector py = b >= 0.0f ? y1 : y0;
+                FloatVector pz = c >= 0.0f ? z1 : z0;
+                FloatVector distance = px.mul(a).add(py.mul(b)).add(pz.mul(c)).add(planes[o + 3]);
+                inside = inside.and(distance.compare(VectorOperators.GE, 0.0f));
+            }
+            ScalarVectorEngine.writeBits(visible, i, inside.toLong(), lanes);
+        }
+        ScalarVectorEngine.cullAabbsScalar(planes, minX, minY, minZ, maxX, maxY, maxZ, visible, i, to);
+    }
+
+    @Override
+    void cullSpheres(float[] planes, float[] x, float[] y, float[] z, float[] radii,
+                     long[] visible, int from, int to) {
+        int lanes = species.length();
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += lanes) {
+            FloatVector px = FloatVector.fromArray(species, x, i);
+            FloatVector py = FloatVector.fromArray(species, y, i);
+            FloatVector pz = FloatVector.fromArray(species, z, i);
+            FloatVector negRadius = FloatVector.fromArray(species, radii, i).neg();
+            VectorMask<Float> inside = species.maskAll(true);
+            for (int o = 0; o < Frustum.PLANES * 4; o += 4) {
+                FloatVector distance = px.mul(planes[o]).add(py.mul(planes[o + 1]))
+                    .add(pz.mul(planes[o + 2])).add(planes[o + 3]);
+                inside = inside.and(distance.compare(VectorOperators.GE, negRadius));
+            }
+            ScalarVectorEngine.writeBits(visible, i, inside.toLong(), lanes);
+        }
+        ScalarVectorEngine.cullSpheresScalar(planes, x, y, z, radii, visible, i, to);
+    }
+
+    @Override
+    void intersectTriangles(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                            float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                            float[] cx, float[] cy, float[] cz, float[] t, int from, int to) {
+        FloatVector vox = FloatVector.broadcast(species, ox);
+        FloatVector voy = FloatVector.broadcast(species, oy);
+        FloatVector voz = FloatVector.broadcast(species, oz);
+        FloatVector vdx = FloatVector.broadcast(species, dx);
+        FloatVector vdy = FloatVector.broadcast(species, dy);
+        FloatVector vdz = FloatVector.broadcast(species, dz);
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            rayTriangle(vox, voy, voz, vdx, vdy, vdz, maxT,
+                FloatVector.fromArray(species, ax, i), FloatVector.fromArray(species, ay, i),
+                FloatVector.fromArray(species, az, i), FloatVector.fromArray(species, bx, i),
+                FloatVector.fromArray(species, by, i), FloatVector.fromArray(species, bz, i),
+                FloatVector.fromArray(species, cx, i), FloatVector.fromArray(species, cy, i),
+                FloatVector.fromArray(species, cz, i)).intoArray(t, i);
+        }
+        ScalarVectorEngine.intersectTrianglesScalar(ox, oy, oz, dx, dy, dz, maxT,
+            ax, ay, az, bx, by, bz, cx, cy, cz, t, i, to);
+    }
+
+    @Override
+    void intersectRays(float[] ox, float[] oy, float[] oz, float[] dx, float[] dy, float[] dz, float maxT,
+                       float ax, float ay, float az, float bx, float by, float bz,
+                       float cx, float cy, float cz, float[] t, int from, int to) {
+        FloatVector vax = FloatVector.broadcast(species, ax);
+        FloatVector vay = FloatVector.broadcast(species, ay);
+        FloatVector vaz = FloatVector.broadcast(species, az);
+        FloatVector vbx = FloatVector.broadcast(species, bx);
+        FloatVector vby = FloatVector.broadcast(species, by);
+        FloatVector vbz = FloatVector.broadcast(species, bz);
+        FloatVector vcx = FloatVector.broadcast(species, cx);
+        FloatVector vcy = FloatVector.broadcast(species, cy);
+        FloatVector vcz = FloatVector.broadcast(species, cz);
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            rayTriangle(FloatVector.fromArray(species, ox, i), FloatVector.fromArray(species, oy, i),
+                FloatVector.fromArray(species, oz, i), FloatVector.fromArray(species, dx, i),
+                FloatVector.fromArray(species, dy, i), FloatVector.fromArray(species, dz, i), maxT,
+                vax, vay, vaz, vbx, vby, vbz, vcx, vcy, vcz).intoArray(t, i);
+        }
+        ScalarVectorEngine.intersectRaysScalar(ox, oy, oz, dx, dy, dz, maxT,
+            ax, ay, az, bx, by, bz, cx, cy, cz, t, i, to);
+    }
+
+    /**
+     * Векторная версия {@link ScalarVectorEngine#rayTriangle} с тем же порядком операций
+     */
+    private FloatVector rayTriangle(FloatVector ox, FloatVector oy, FloatVector oz,
+                                    FloatVector dx, FloatVector dy, FloatVector dz, float maxT,
+                                    FloatVector ax, FloatVector ay, FloatVector az,
+                                    FloatVector bx, FloatVector by, FloatVector bz,
+                                    FloatVector cx, FloatVector cy, FloatVector cz) {
+        FloatVector e1x = bx.sub(ax), e1y = by.sub(ay), e1z = bz.sub(az);
+        FloatVector e2x = cx.sub(ax), e2y = cy.sub(ay), e2z = cz.sub(az);
+        FloatVector px = dy.mul(e2z).sub(dz.mul(e2y));
+        FloatVector py = dz.mul(e2x).sub(dx.mul(e2z));
+        FloatVector pz = dx.mul(e2y).sub(dy.mul(e2x));
+        FloatVector det = e1x.mul(px).add(e1y.mul(py)).add(e1z.mul(pz));
+        FloatVector invDet = FloatVector.broadcast(species, 1.0f).div(det);
+        FloatVector sx = ox.sub(ax), sy = oy.sub(ay), sz = oz.sub(az);
+        FloatVector u = sx.mul(px).add(sy.mul(py)).add(sz.mul(pz)).mul(invDet);
+        FloatVector qx = sy.mul(e1z).sub(sz.mul(e1y));
+        FloatVector qy = sz.mul(e1x).sub(sx.mul(e1z));
+        FloatVector qz = sx.mul(e1y).sub(sy.mul(e1x));
+        FloatVector v = dx.mul(qx).add(dy.mul(qy)).add(dz.mul(qz)).mul(invDet);
+        FloatVector t = e2x.mul(qx).add(e2y.mul(qy)).add(e2z.mul(qz)).mul(invDet);
+        VectorMask<Float> hit = det.compare(VectorOperators.NE, 0.0f)
+            .and(u.compare(VectorOperators.GE, 0.0f))
+            .and(u.compare(VectorOperators.LE, 1.0f))
+            .and(v.compare(VectorOperators.GE, 0.0f))
+            .and(u.add(v).compare(VectorOperators.LE, 1.0f))
+            .and(t.compare(VectorOperators.GT, 0.0f))
+            .and(t.compare(VectorOperators.LE, maxT));
+        return FloatVector.broadcast(species, Float.POSITIVE_INFINITY).blend(t, hit);
+    }
+}
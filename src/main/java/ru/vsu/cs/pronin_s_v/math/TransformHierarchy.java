@@ -0,0 +1,268 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Иерархия преобразований с кэшированными мировыми матрицами.
+ * Узлы задаются целочисленными дескрипторами, а локальные, мировые и обратные мировые
+ * матрицы хранятся подряд в плоских массивах float[] (по 16 элементов на узел).
+ * Родитель задается при создании узла и всегда создается раньше потомка, поэтому
+ * порядок дескрипторов является топологическим и обновление выполняется одним
+ * проходом без рекурсии. Пересчитываются только узлы, локальная матрица которых
+ * изменилась, и их потомки; обратная мировая матрица вычисляется лениво по запросу.
+ */
+public class TransformHierarchy {
+    /**
+     * Родитель корневого узла
+     */
+    public static final int NO_PARENT = -1;
+
+    private static final int MATRIX_SIZE = 16;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] parent;
+    private float[] local;
+    private float[] world;
+    private float[] inverseWorld;
+    private boolean[] dirty;
+    private boolean[] inverseValid;
+    private int[] updateStamp;
+    private int size;
+    private int firstDirty;
+    private int updatePass;
+    private int updatedCount;
+    private final Matrix4 scratch = Matrix4.zero();
+
+    /**
+     * Создает пустую иерархию
+     */
+    public TransformHierarchy() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустую иерархию с заданной начальной емкостью
+     * @param initialCapacity начальное количество узлов, под которое выделяется память
+     */
+    public TransformHierarchy(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Емкость не может быть отрицательной");
+        }
+        parent = new int[initialCapacity];
+        local = new float[initialCapacity * MATRIX_SIZE];
+        world = new float[initialCapacity * MATRIX_SIZE];
+        inverseWorld = new float[initialCapacity * MATRIX_SIZE];
+        dirty = new boolean[initialCapacity];
+        inverseValid = new boolean[initialCapacity];
+        updateStamp = new int[initialCapacity];
+        firstDirty = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Возвращает количество узлов
+     * @return количество узлов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Создает узел с единичной локальной матрицей
+     * @param parentNode дескриптор родителя или {@link #NO_PARENT} для корня
+     * @return дескриптор нового узла
+     */
+    public int createNode(int parentNode) {
+        if (parentNode != NO_PARENT) {
+            validateNode(parentNode);
+        }
+        if (size == parent.length) {
+            grow();
+        }
+        int node = size++;
+        parent[node] = parentNode;
+        int off = node * MATRIX_SIZE;
+        Arrays.fill(local, off, off + MATRIX_SIZE, 0.0f);
+        local[off] = 1.0f;
+        local[off + 5] = 1.0f;
+        local[off + 10] = 1.0f;
+        local[off + 15] = 1.0f;
+        markDirty(node);
+        return node;
+    }
+
+    /**
+     * Создает узел с заданной локальной матрицей
+     * @param parentNode дескриптор родителя или {@link #NO_PARENT} для корня
+     * @param localMatrix локальная матрица относительно родителя
+     * @return дескриптор нового узла
+     */
+    public int createNode(int parentNode, Matrix4 localMatrix) {
+        ValidationUtils.requireNonNull(localMatrix, "Matrix");
+        int node = createNode(parentNode);
+        localMatrix.toArray(local, node * MATRIX_SIZE);
+        return node;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, parent.length * 2);
+        parent = Arrays.copyOf(parent, capacity);
+        local = Arrays.copyOf(local, capacity * MATRIX_SIZE);
+        world = Arrays.copyOf(world, capacity * MATRIX_SIZE);
+        inverseWorld = Arrays.copyOf(inverseWorld, capacity * MATRIX_SIZE);
+        dirty = Arrays.copyOf(dirty, capacity);
+        inverseValid = Arrays.copyOf(inverseValid, capacity);
+        updateStamp = Arrays.copyOf(updateStamp, capacity);
+    }
+
+    private void validateNode(int node) {
+        if (node < 0 || node >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Узел вне границ: %d (количество узлов: %d)", node, size));
+        }
+    }
+
+    private void markDirty(int node) {
+        dirty[node] = true;
+        if (node < firstDirty) {
+            firstDirty = node;
+        }
+    }
+
+    /**
+     * Возвращает родителя узла
+     * @param node дескриптор узла
+     * @return дескриптор родителя или {@link #NO_PARENT}
+     */
+    public int getParent(int node) {
+        validateNode(node);
+        return parent[node];
+    }
+
+    /**
+     * Задает локальную матрицу узла и помечает его поддерево для пересчета
+     * @param node дескриптор узла
+     * @param localMatrix локальная матрица относительно родителя
+     */
+    public void setLocal(int node, Matrix4 localMatrix) {
+        ValidationUtils.requireNonNull(localMatrix, "Matrix");
+        validateNode(node);
+        localMatrix.toArray(local, node * MATRIX_SIZE);
+        markDirty(node);
+    }
+
+    /**
+     * Задает локальную матрицу узла из массива, упакованного по строкам
+     * @param node дескриптор узла
+     * @param src исходный массив
+     * @param offset индекс первого элемента в src
+     */
+    public void setLocal(int node, float[] src, int offset) {
+        ValidationUtils.requireNonNull(src, "Array");
+        validateNode(node);
+        ValidationUtils.checkRange(offset, MATRIX_SIZE, src.length);
+        System.arraycopy(src, offset, local, node * MATRIX_SIZE, MATRIX_SIZE);
+        markDirty(node);
+    }
+
+    /**
+     * Загружает локальную матрицу узла в заданную матрицу
+     * @param node дескриптор узла
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 getLocal(int node, Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        validateNode(node);
+        return dest.set(local, node * MATRIX_SIZE);
+    }
+
+    /**
+     * Проверяет, ожидает ли узел пересчета мировой матрицы из-за собственного изменения
+     * @param node дескриптор узла
+     * @return true, если локальная матрица узла изменилась после последнего обновления
+     */
+    public boolean isDirty(int node) {
+        validateNode(node);
+        return dirty[node];
+    }
+
+    /**
+     * Пересчитывает мировые матрицы измененных узлов и их потомков.
+     * Проход начинается с первого измененного узла; узел пересчитывается, если изменился
+     * он сам или его родитель был пересчитан в этом же проходе.
+     * @return количество пересчитанных узлов
+     */
+    public int update() {
+        if (firstDirty >= size) {
+            updatedCount = 0;
+            return 0;
+        }
+        int pass = ++updatePass;
+        int updated = 0;
+        int[] parents = parent;
+        int[] stamps = updateStamp;
+        boolean[] dirtyFlags = dirty;
+        for (int node = firstDirty; node < size; node++) {
+            int p = parents[node];
+            boolean parentUpdated = p != NO_PARENT && stamps[p] == pass;
+            if (!dirtyFlags[node] && !parentUpdated) {
+                continue;
+            }
+            int off = node * MATRIX_SIZE;
+            if (p == NO_PARENT) {
+                System.arraycopy(local, off, world, off, MATRIX_SIZE);
+            } else {
+                Matrix4.multiply(world, p * MATRIX_SIZE, local, off, world, off);
+            }
+            dirtyFlags[node] = false;
+            inverseValid[node] = false;
+            stamps[node] = pass;
+            updated++;
+        }
+        firstDirty = Integer.MAX_VALUE;
+        updatedCount = updated;
+        return updated;
+    }
+
+    /**
+     * Возвращает количество узлов, пересчитанных последним вызовом {@link #update()}
+     * @return количество пересчитанных узлов
+     */
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    /**
+     * Загружает мировую матрицу узла в заданную матрицу.
+     * При наличии изменений предварительно выполняется {@link #update()}.
+     * @param node дескриптор узла
+     * @param dest матрица для результата
+     * @return матрица dest
+     */
+    public Matrix4 getWorld(int node, Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        validateNode(node);
+        update();
+        return dest.set(world, node * MATRIX_SIZE);
+    }
+
+    /**
+     * Загружает обратную мировую матрицу узла в заданную матрицу.
+     * Обратная матрица вычисляется при первом запросе после изменения и кэшируется.
+     * @param node дескриптор узла
+     * @param dest матрица для результата
+     * @return матрица dest
+     * @throws ArithmeticException если мировая матрица вырождена
+     */
+    public Matrix4 getInverseWorld(int node, Matrix4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        validateNode(node);
+        update();
+        int off = node * MATRIX_SIZE;
+        if (!inverseValid[node]) {
+            scratch.set(world, off).inverse(scratch).toArray(inverseWorld, off);
+            inverseValid[node] = true;
+        }
+        return dest.set(inverseWorld, off);
+    }
+}
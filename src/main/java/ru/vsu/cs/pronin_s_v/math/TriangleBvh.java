@@ -0,0 +1,679 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Иерархия ограничивающих объемов (BVH) над треугольниками в виде структуры массивов.
+ * Вершины треугольника i хранятся в буферах a, b, c под индексом i; буферы не копируются,
+ * поэтому после изменения вершин достаточно вызвать {@link #refit()}.
+ * <p>
+ * Разбиение выбирается по эвристике площади поверхности (SAH) с разбиением центроидов
+ * на {@value #BINS} корзин по каждой оси. Узлы хранятся в плоских массивах: границы по
+ * 6 float на узел, для внутреннего узла - индекс левого потомка (правый следует за ним),
+ * для листа - начало диапазона треугольников и их количество. Потомок всегда имеет
+ * больший индекс, чем родитель.
+ */
+public class TriangleBvh {
+    /**
+     * Приемник пересечений для {@link #raycast(Vector3, Vector3, float, HitConsumer)}
+     */
+    @FunctionalInterface
+    public interface HitConsumer {
+        /**
+         * Обрабатывает пересечение луча с треугольником
+         * @param triangle индекс треугольника
+         * @param t расстояние вдоль луча в единицах длины direction
+         * @param u первая барицентрическая координата (вес вершины b)
+         * @param v вторая барицентрическая координата (вес вершины c)
+         */
+        void accept(int triangle, float t, float u, float v);
+    }
+
+    /**
+     * Ближайшее пересечение луча с треугольником
+     */
+    public static final class Hit {
+        private int triangle = -1;
+        private float t = Float.POSITIVE_INFINITY;
+        private float u;
+        private float v;
+
+        /**
+         * Возвращает индекс треугольника
+         * @return индекс треугольника или -1, если пересечения нет
+         */
+        public int getTriangle() {
+            return triangle;
+        }
+
+        /**
+         * Возвращает расстояние вдоль луча в единицах длины направления
+         * @return параметр t
+         */
+        public float getT() {
+            return t;
+        }
+
+        /**
+         * Возвращает барицентрическую координату u (вес вершины b)
+         * @return координата u
+         */
+        public float getU() {
+            return u;
+        }
+
+        /**
+         * Возвращает барицентрическую координату v (вес вершины c)
+         * @return координата v
+         */
+        public float getV() {
+            return v;
+        }
+
+        void set(int triangle, float t, float u, float v) {
+            this.triangle = triangle;
+            this.t = t;
+            this.u = u;
+            this.v = v;
+        }
+    }
+
+    static final int BINS = 16;
+    private static final int MAX_LEAF_SIZE = 8;
+    private static final int MAX_DEPTH = 60;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final float[] ax, ay, az;
+    private final float[] bx, by, bz;
+    private final float[] cx, cy, cz;
+    private final int[] triangles;
+    private final float[] bounds;
+    private final int[] first;
+    private final int[] count;
+    private final AtomicInteger nodeCounter = new AtomicInteger();
+
+    private TriangleBvh(Vector3Buffer a, Vector3Buffer b, Vector3Buffer c) {
+        ax = a.xArray();
+        ay = a.yArray();
+        az = a.zArray();
+        bx = b.xArray();
+        by = b.yArray();
+        bz = b.zArray();
+        cx = c.xArray();
+        cy = c.yArray();
+        cz = c.zArray();
+        int size = a.size();
+        int maxNodes = Math.max(1, 2 * size - 1);
+        triangles = new int[size];
+        for (int i = 0; i < size; i++) {
+            triangles[i] = i;
+        }
+        bounds = new float[maxNodes * 6];
+        first = new int[maxNodes];
+        count = new int[maxNodes];
+    }
+
+    /**
+     * Строит иерархию в текущем потоке
+     * @param a буфер первых вершин
+     * @param b буфер вторых вершин
+     * @param c буфер третьих вершин
+     * @return новая иерархия
+     */
+    public static TriangleBvh build(Vector3Buffer a, Vector3Buffer b, Vector3Buffer c) {
+        return build(a, b, c, null);
+    }
+
+    /**
+     * Строит иерархию, обрабатывая крупные поддеревья параллельно в заданном пуле.
+     * Форма дерева совпадает с последовательным построением, отличается только нумерация узлов.
+     * @param a буфер первых вершин
+     * @param b буфер вторых вершин
+     * @param c буфер третьих вершин
+     * @param pool пул потоков или null для последовательного построения
+     * @return новая иерархия
+     */
+    public static TriangleBvh build(Vector3Buffer a, Vector3Buffer b, Vector3Buffer c, ForkJoinPool pool) {
+        ValidationUtils.requireNonNull(a, "Buffer");
+        ValidationUtils.requireNonNull(b, "Buffer");
+        ValidationUtils.requireNonNull(c, "Buffer");
+        if (a.size() != b.size() || a.size() != c.size()) {
+            throw new IllegalArgumentException("Буферы вершин должны иметь одинаковый размер");
+        }
+        TriangleBvh bvh = new TriangleBvh(a, b, c);
+        int size = a.size();
+        if (size == 0) {
+            return bvh;
+        }
+        Builder builder = new Builder(bvh);
+        int root = bvh.nodeCounter.getAndIncrement();
+        if (pool == null) {
+            builder.build(root, 0, size, 0);
+        } else {
+            pool.invoke(builder.new BuildTask(root, 0, size, 0));
+        }
+        return bvh;
+    }
+
+    /**
+     * Возвращает количество треугольников
+     * @return количество треугольников
+     */
+    public int size() {
+        return triangles.length;
+    }
+
+    /**
+     * Возвращает количество узлов иерархии
+     * @return количество узлов
+     */
+    public int nodeCount() {
+        return nodeCounter.get();
+    }
+
+    /**
+     * Пересчитывает границы всех узлов после изменения вершин без изменения структуры дерева.
+     * Узлы обходятся в порядке убывания индекса, поэтому потомки обрабатываются раньше родителей.
+     */
+    public void refit() {
+        for (int node = nodeCount() - 1; node >= 0; node--) {
+            int o = node * 6;
+            if (count[node] > 0) {
+                setEmpty(bounds, o);
+                for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+                    includeTriangle(bounds, o, triangles[i]);
+                }
+            } else {
+                int l = first[node] * 6;
+                int r = l + 6;
+                for (int k = 0; k < 3; k++) {
+                    bounds[o + k] = Math.min(bounds[l + k], bounds[r + k]);
+                    bounds[o + 3 + k] = Math.max(bounds[l + 3 + k], bounds[r + 3 + k]);
+                }
+            }
+        }
+    }
+
+    private static void setEmpty(float[] box, int o) {
+        box[o] = box[o + 1] = box[o + 2] = Float.POSITIVE_INFINITY;
+        box[o + 3] = box[o + 4] = box[o + 5] = Float.NEGATIVE_INFINITY;
+    }
+
+    private void includeTriangle(float[] box, int o, int tri) {
+        include(box, o, ax[tri], ay[tri], az[tri]);
+        include(box, o, bx[tri], by[tri], bz[tri]);
+        include(box, o, cx[tri], cy[tri], cz[tri]);
+    }
+
+    private static void include(float[] box, int o, float x, float y, float z) {
+        box[o] = Math.min(box[o], x);
+        box[o + 1] = Math.min(box[o + 1], y);
+        box[o + 2] = Math.min(box[o + 2], z);
+        box[o + 3] = Math.max(box[o + 3], x);
+        box[o + 4] = Math.max(box[o + 4], y);
+        box[o + 5] = Math.max(box[o + 5], z);
+    }
+
+    /**
+     * Находит ближайшее пересечение луча с треугольниками
+     * @param origin начало луча
+     * @param direction направление луча (не обязательно единичное)
+     * @param maxT максимальное значение параметра t
+     * @param dest результат; заполняется только при наличии пересечения
+     * @return true, если пересечение найдено
+     */
+    public boolean closestHit(Vector3 origin, Vector3 direction, float maxT, Hit dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return traverse(origin, direction, maxT, Mode.CLOSEST, dest, null) > 0;
+    }
+
+    /**
+     * Проверяет, пересекает ли луч хотя бы один треугольник (проверка видимости).
+     * Обход завершается при первом найденном пересечении.
+     * @param origin начало луча
+     * @param direction направление луча (не обязательно единичное)
+     * @param maxT максимальное значение параметра t
+     * @return true, если пересечение существует
+     */
+    public boolean anyHit(Vector3 origin, Vector3 direction, float maxT) {
+        return traverse(origin, direction, maxT, Mode.ANY, null, null) > 0;
+    }
+
+    /**
+     * Передает приемнику все пересечения луча с треугольниками с t в (0, maxT] в порядке обхода
+     * @param origin начало луча
+     * @param direction направление луча (не обязательно единичное)
+     * @param maxT максимальное значение параметра t
+     * @param consumer приемник пересечений
+     * @return количество пересечений
+     */
+    public int raycast(Vector3 origin, Vector3 direction, float maxT, HitConsumer consumer) {
+        ValidationUtils.requireNonNull(consumer, "Consumer");
+        return traverse(origin, direction, maxT, Mode.ALL, null, consumer);
+    }
+
+    /**
+     * Находит треугольники, ограничивающие параллелепипеды которых пересекают заданный
+     * @param min минимальный угол области
+     * @param max максимальный угол области
+     * @param dest массив для индексов треугольников
+     * @return общее количество найденных треугольников; в dest записываются первые dest.length
+     */
+    public int queryAabb(Vector3 min, Vector3 max, int[] dest) {
+        ValidationUtils.requireNonNull(min, "Min");
+        ValidationUtils.requireNonNull(max, "Max");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        if (nodeCount() == 0) {
+            return 0;
+        }
+        float minX = min.getX(), minY = min.getY(), minZ = min.getZ();
+        float maxX = max.getX(), maxY = max.getY(), maxZ = max.getZ();
+        Scratch scratch = Scratch.acquire();
+        try {
+            return queryAabb(minX, minY, minZ, maxX, maxY, maxZ, dest, scratch.box, scratch.stack);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private int queryAabb(float minX, float minY, float minZ, float maxX, float maxY, float maxZ,
+                          int[] dest, float[] box, int[] stack) {
+        int top = 0;
+        stack[top++] = 0;
+        int found = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int o = node * 6;
+            if (bounds[o] > maxX || bounds[o + 3] < minX || bounds[o + 1] > maxY
+                || bounds[o + 4] < minY || bounds[o + 2] > maxZ || bounds[o + 5] < minZ) {
+                continue;
+            }
+            if (count[node] == 0) {
+                stack[top++] = first[node] + 1;
+                stack[top++] = first[node];
+                continue;
+            }
+            for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+                int tri = triangles[i];
+                setEmpty(box, 0);
+                includeTriangle(box, 0, tri);
+                if (box[0] <= maxX && box[3] >= minX && box[1] <= maxY
+                    && box[4] >= minY && box[2] <= maxZ && box[5] >= minZ) {
+                    if (found < dest.length) {
+                        dest[found] = tri;
+                    }
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    private enum Mode { CLOSEST, ANY, ALL }
+
+    /**
+     * Рабочие массивы обхода, закрепленные за потоком. Если обход вызывается повторно
+     * из приемника пересечений того же потока, выдается отдельный экземпляр.
+     */
+    private static final class Scratch {
+        final float[] result = new float[3];
+        final float[] box = new float[6];
+        final int[] stack = new int[MAX_DEPTH + 2];
+        boolean inUse;
+
+        static Scratch acquire() {
+            Scratch scratch = SCRATCH.get();
+            if (scratch.inUse) {
+                scratch = new Scratch();
+            }
+            scratch.inUse = true;
+            return scratch;
+        }
+
+        void release() {
+            inUse = false;
+        }
+    }
+
+    /**
+     * Обход дерева лучом
+     * @return количество принятых пересечений (для ANY - 0 или 1)
+     */
+    private int traverse(Vector3 origin, Vector3 direction, float maxT, Mode mode,
+                         Hit hit, HitConsumer consumer) {
+        ValidationUtils.requireNonNull(origin, "Origin");
+        ValidationUtils.requireNonNull(direction, "Direction");
+        if (nodeCount() == 0) {
+            return 0;
+        }
+        Scratch scratch = Scratch.acquire();
+        try {
+            return traverse(origin.getX(), origin.getY(), origin.getZ(),
+                direction.getX(), direction.getY(), direction.getZ(), maxT, mode, hit, consumer,
+                scratch.result, scratch.stack);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    private int traverse(float ox, float oy, float oz, float dx, float dy, float dz, float maxT, Mode mode,
+                         Hit hit, HitConsumer consumer, float[] result, int[] stack) {
+        float ix = 1.0f / dx, iy = 1.0f / dy, iz = 1.0f / dz;
+        int top = 0;
+        stack[top++] = 0;
+        float best = maxT;
+        int found = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (slab(node, ox, oy, oz, ix, iy, iz, best) == Float.POSITIVE_INFINITY) {
+                continue;
+            }
+            if (count[node] == 0) {
+                int left = first[node];
+                int right = left + 1;
+                float tl = slab(left, ox, oy, oz, ix, iy, iz, best);
+                float tr = slab(right, ox, oy, oz, ix, iy, iz, best);
+                if (tl <= tr) {
+                    if (tr != Float.POSITIVE_INFINITY) stack[top++] = right;
+                    if (tl != Float.POSITIVE_INFINITY) stack[top++] = left;
+                } else {
+                    if (tl != Float.POSITIVE_INFINITY) stack[top++] = left;
+                    stack[top++] = right;
+                }
+                continue;
+            }
+            for (int i = first[node], end = first[node] + count[node]; i < end; i++) {
+                int tri = triangles[i];
+                if (!intersect(tri, ox, oy, oz, dx, dy, dz, best, result)) {
+                    continue;
+                }
+                found++;
+                if (mode == Mode.ANY) {
+                    return found;
+                }
+                if (mode == Mode.ALL) {
+                    consumer.accept(tri, result[0], result[1], result[2]);
+                } else {
+                    best = result[0];
+                    hit.set(tri, result[0], result[1], result[2]);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Пересечение луча с границами узла по методу плит.
+     * Если компонента направления равна нулю, обратная величина бесконечна, и для начала луча
+     * на грани узла произведение 0 * ∞ дало бы NaN; такая ось проверяется сравнением
+     * координаты начала с границами (включительно).
+     * @return расстояние входа в узел или +∞, если пересечения на [0, maxT] нет
+     */
+    private float slab(int node, float ox, float oy, float oz, float ix, float iy, float iz, float maxT) {
+        int o = node * 6;
+        float near = 0.0f, far = maxT;
+        if (Float.isInfinite(ix)) {
+            if (ox < bounds[o] || ox > bounds[o + 3]) return Float.POSITIVE_INFINITY;
+        } else {
+            float t1 = (bounds[o] - ox) * ix, t2 = (bounds[o + 3] - ox) * ix;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        if (Float.isInfinite(iy)) {
+            if (oy < bounds[o + 1] || oy > bounds[o + 4]) return Float.POSITIVE_INFINITY;
+        } else {
+            float t1 = (bounds[o + 1] - oy) * iy, t2 = (bounds[o + 4] - oy) * iy;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        if (Float.isInfinite(iz)) {
+            if (oz < bounds[o + 2] || oz > bounds[o + 5]) return Float.POSITIVE_INFINITY;
+        } else {
+            float t1 = (bounds[o + 2] - oz) * iz, t2 = (bounds[o + 5] - oz) * iz;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        return far >= near ? near : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Пересечение луча с треугольником по методу Мёллера-Трумбора (двустороннее).
+     * Как и в {@link ScalarVectorEngine#rayTriangle}, отбрасывается только нулевой определитель,
+     * поскольку он масштабируется вместе с размером треугольника и длиной направления.
+     */
+    private boolean intersect(int tri, float ox, float oy, float oz, float dx, float dy, float dz,
+                              float maxT, float[] result) {
+        float x0 = ax[tri], y0 = ay[tri], z0 = az[tri];
+        float e1x = bx[tri] - x0, e1y = by[tri] - y0, e1z = bz[tri] - z0;
+        float e2x = cx[tri] - x0, e2y = cy[tri] - y0, e2z = cz[tri] - z0;
+        float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        float det = e1x * px + e1y * py + e1z * pz;
+        if (det == 0.0f) {
+            return false;
+        }
+        float invDet = 1.0f / det;
+        float sx = ox - x0, sy = oy - y0, sz = oz - z0;
+        float u = (sx * px + sy * py + sz * pz) * invDet;
+        if (u < 0.0f || u > 1.0f) {
+            return false;
+        }
+        float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+        float v = (dx * qx + dy * qy + dz * qz) * invDet;
+        if (v < 0.0f || u + v > 1.0f) {
+            return false;
+        }
+        float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+        if (t <= 0.0f || t > maxT) {
+            return false;
+        }
+        result[0] = t;
+        result[1] = u;
+        result[2] = v;
+        return true;
+    }
+
+    /**
+     * Построитель дерева: границы и центроиды треугольников вычисляются один раз
+     */
+    private static final class Builder {
+        private final TriangleBvh bvh;
+        private final float[] primBounds;
+        private final float[] centroids;
+
+        Builder(TriangleBvh bvh) {
+            this.bvh = bvh;
+            int size = bvh.triangles.length;
+            primBounds = new float[size * 6];
+            centroids = new float[size * 3];
+            for (int tri = 0; tri < size; tri++) {
+                int o = tri * 6;
+                setEmpty(primBounds, o);
+                bvh.includeTriangle(primBounds, o, tri);
+                for (int k = 0; k < 3; k++) {
+                    centroids[tri * 3 + k] = 0.5f * (primBounds[o + k] + primBounds[o + 3 + k]);
+                }
+            }
+        }
+
+        /**
+         * Вычисляет границы узла и разбивает его. Для внутреннего узла выделяет пару
+         * потомков и возвращает границу разбиения диапазона, для листа возвращает -1
+         */
+        int split(int node, int start, int end, int depth) {
+            int[] tris = bvh.triangles;
+            float[] box = bvh.bounds;
+            int o = node * 6;
+            setEmpty(box, o);
+            float[] centroidBox = new float[6];
+            setEmpty(centroidBox, 0);
+            for (int i = start; i < end; i++) {
+                int p = tris[i] * 6;
+                for (int k = 0; k < 3; k++) {
+                    box[o + k] = Math.min(box[o + k], primBounds[p + k]);
+                    box[o + 3 + k] = Math.max(box[o + 3 + k], primBounds[p + 3 + k]);
+                }
+                int q = tris[i] * 3;
+                include(centroidBox, 0, centroids[q], centroids[q + 1], centroids[q + 2]);
+            }
+            int n = end - start;
+            if (n <= 1 || depth >= MAX_DEPTH) {
+                return makeLeaf(node, start, n);
+            }
+
+            int bestAxis = -1;
+            int bestSplit = 0;
+            float bestCost = Float.POSITIVE_INFINITY;
+            int[] binCount = new int[BINS];
+            float[] binBounds = new float[BINS * 6];
+            float[] rightArea = new float[BINS];
+            int[] rightCount = new int[BINS];
+            float[] acc = new float[6];
+            for (int axis = 0; axis < 3; axis++) {
+                float lo = centroidBox[axis], extent = centroidBox[axis + 3] - lo;
+                if (!(extent > 0.0f)) {
+                    continue;
+                }
+                float scale = BINS / extent;
+                Arrays.fill(binCount, 0);
+                for (int k = 0; k < BINS; k++) {
+                    setEmpty(binBounds, k * 6);
+                }
+                for (int i = start; i < end; i++) {
+                    int bin = binOf(centroids[tris[i] * 3 + axis], lo, scale);
+                    binCount[bin]++;
+                    int p = tris[i] * 6, q = bin * 6;
+                    for (int k = 0; k < 3; k++) {
+                        binBounds[q + k] = Math.min(binBounds[q + k], primBounds[p + k]);
+                        binBounds[q + 3 + k] = Math.max(binBounds[q + 3 + k], primBounds[p + 3 + k]);
+                    }
+                }
+                setEmpty(acc, 0);
+                int total = 0;
+                for (int k = BINS - 1; k > 0; k--) {
+                    merge(acc, binBounds, k * 6);
+                    total += binCount[k];
+                    rightCount[k] = total;
+                    rightArea[k] = area(acc);
+                }
+                setEmpty(acc, 0);
+                total = 0;
+                for (int k = 0; k < BINS - 1; k++) {
+                    merge(acc, binBounds, k * 6);
+                    total += binCount[k];
+                    if (total == 0 || rightCount[k + 1] == 0) {
+                        continue;
+                    }
+                    float cost = total * area(acc) + rightCount[k + 1] * rightArea[k + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestSplit = k + 1;
+                    }
+                }
+            }
+
+            float leafCost = n * area(box, o);
+            int mid;
+            if (bestAxis < 0) {
+                if (n <= MAX_LEAF_SIZE) {
+                    return makeLeaf(node, start, n);
+                }
+                mid = start + n / 2;
+            } else {
+                if (bestCost >= leafCost && n <= MAX_LEAF_SIZE) {
+                    return makeLeaf(node, start, n);
+                }
+                float lo = centroidBox[bestAxis];
+                float scale = BINS / (centroidBox[bestAxis + 3] - lo);
+                int i = start;
+                int j = end - 1;
+                while (i <= j) {
+                    if (binOf(centroids[tris[i] * 3 + bestAxis], lo, scale) < bestSplit) {
+                        i++;
+                    } else {
+                        int tmp = tris[i];
+                        tris[i] = tris[j];
+                        tris[j--] = tmp;
+                    }
+                }
+                mid = i;
+            }
+            int left = bvh.nodeCounter.getAndAdd(2);
+            bvh.first[node] = left;
+            bvh.count[node] = 0;
+            return mid;
+        }
+
+        private int makeLeaf(int node, int start, int n) {
+            bvh.first[node] = start;
+            bvh.count[node] = n;
+            return -1;
+        }
+
+        void build(int node, int start, int end, int depth) {
+            int mid = split(node, start, end, depth);
+            if (mid < 0) {
+                return;
+            }
+            int left = bvh.first[node];
+            build(left, start, mid, depth + 1);
+            build(left + 1, mid, end, depth + 1);
+        }
+
+        final class BuildTask extends RecursiveAction {
+            private final int node;
+            private final int start;
+            private final int end;
+            private final int depth;
+
+            BuildTask(int node, int start, int end, int depth) {
+                this.node = node;
+                this.start = start;
+                this.end = end;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute() {
+                if (end - start <= PARALLEL_THRESHOLD) {
+                    build(node, start, end, depth);
+                    return;
+                }
+                int mid = split(node, start, end, depth);
+                if (mid < 0) {
+                    return;
+                }
+                int left = bvh.first[node];
+                invokeAll(new BuildTask(left, start, mid, depth + 1), new BuildTask(left + 1, mid, end, depth + 1));
+            }
+        }
+    }
+
+    private static int binOf(float value, float lo, float scale) {
+        int bin = (int) ((value - lo) * scale);
+        return Math.min(BINS - 1, Math.max(0, bin));
+    }
+
+    private static void merge(float[] acc, float[] box, int o) {
+        for (int k = 0; k < 3; k++) {
+            acc[k] = Math.min(acc[k], box[o + k]);
+            acc[k + 3] = Math.max(acc[k + 3], box[o + 3 + k]);
+        }
+    }
+
+    private static float area(float[] box) {
+        return area(box, 0);
+    }
+
+    private static float area(float[] box, int o) {
+        float ex = box[o + 3] - box[o], ey = box[o + 4] - box[o + 1], ez = box[o + 5] - box[o + 2];
+        if (!(ex >= 0.0f)) {
+            return 0.0f;
+        }
+        return ex * ey + ey * ez + ez * ex;
+    }
+}
@@ -34,6 +34,17 @@ final class ValidationUtils {
         }
     }
 
+    /**
+     * Проверяет, что значение двойной точности не равно нулю (с учетом погрешности)
+     * @param value значение для проверки
+     * @throws ArithmeticException если значение равно нулю
+     */
+    static void checkNonZero(double value) {
+        if (Math.abs(value) < EPSILON) {
+            throw new ArithmeticException("Деление на ноль");
+        }
+    }
+
     /**
      * Проверяет, что длина вектора не равна нулю
      * @param length длина вектора
@@ -45,6 +56,17 @@ final class ValidationUtils {
         }
     }
 
+    /**
+     * Проверяет, что длина вектора двойной точности не равна нулю
+     * @param length длина вектора
+     * @throws ArithmeticException если длина равна нулю
+     */
+    static void checkNonZeroLength(double length) {
+        if (length < EPSILON) {
+            throw new ArithmeticException("Невозможно нормализовать нулевой вектор");
+        }
+    }
+
     /**
      * Проверяет, что определитель матрицы не равен нулю
      * @param det определитель матрицы
@@ -57,6 +79,90 @@ final class ValidationUtils {
         }
     }
 
+    /**
+     * Проверяет, что определитель матрицы двойной точности не равен нулю
+     * @param det определитель матрицы
+     * @throws ArithmeticException если определитель равен нулю
+     */
+    static void checkNonZeroDeterminant(double det) {
+        if (Math.abs(det) < EPSILON) {
+            throw new ArithmeticException(
+                "Матрица вырожденная (определитель равен нулю), невозможно вычислить обратную матрицу");
+        }
+    }
+
+    /**
+     * Проверяет, что диапазон [offset, offset + count) лежит внутри [0, size)
+     * @param offset начало диапазона
+     * @param count количество элементов
+     * @param size размер контейнера
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы
+     */
+    static void checkRange(int offset, int count, int size) {
+        if (offset < 0 || count < 0 || offset > size - count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Диапазон вне границ: начало=%d, количество=%d (размер: %d)",
+                    offset, count, size));
+        }
+    }
+
+    /**
+     * Проверяет параметры упакованного массива вершин: шаг не меньше числа компонент
+     * и все count вершин начиная с offset помещаются в массив
+     * @param array массив вершин
+     * @param offset индекс первой компоненты первой вершины
+     * @param count количество вершин
+     * @param stride шаг между соседними вершинами в элементах массива
+     * @param components количество компонент, используемых в каждой вершине
+     * @throws IllegalArgumentException если массив равен null или шаг слишком мал
+     * @throws IndexOutOfBoundsException если вершины выходят за границы массива
+     */
+    static void checkPackedRange(float[] array, int offset, int count, int stride, int components) {
+        requireNonNull(array, "Array");
+        checkPackedRange(array.length, offset, count, stride, components);
+    }
+
+    /**
+     * Проверяет параметры упакованного массива вершин двойной точности
+     * @param array массив вершин
+     * @param offset индекс первой компоненты первой вершины
+     * @param count количество вершин
+     * @param stride шаг между соседними вершинами в элементах массива
+     * @param components количество компонент, используемых в каждой вершине
+     * @throws IllegalArgumentException если массив равен null или шаг слишком мал
+     * @throws IndexOutOfBoundsException если вершины выходят за границы массива
+     */
+    static void checkPackedRange(double[] array, int offset, int count, int stride, int components) {
+        requireNonNull(array, "Array");
+        checkPackedRange(array.length, offset, count, stride, components);
+    }
+
+    /**
+     * Проверяет параметры упакованного контейнера вершин заданной длины
+     * @param length длина контейнера в элементах float
+     * @param offset индекс первой компоненты первой вершины
+     * @param count количество вершин
+     * @param stride шаг между соседними вершинами в элементах
+     * @param components количество компонент, используемых в каждой вершине
+     * @throws IllegalArgumentException если шаг слишком мал
+     * @throws IndexOutOfBoundsException если вершины выходят за границы контейнера
+     */
+    static void checkPackedRange(int length, int offset, int count, int stride, int components) {
+        if (stride < components) {
+            throw new IllegalArgumentException(
+                String.format("Шаг %d меньше количества компонент %d", stride, components));
+        }
+        if (count == 0) {
+            return;
+        }
+        long last = offset + (long) (count - 1) * stride + components;
+        if (offset < 0 || count < 0 || last > length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Вершины вне границ массива: начало=%d, количество=%d, шаг=%d (длина: %d)",
+                    offset, count, stride, length));
+        }
+    }
+
     /**
      * Возвращает значение EPSILON для сравнения с плавающей точкой
      * @return значение EPSILON
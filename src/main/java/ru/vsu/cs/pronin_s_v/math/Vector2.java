@@ -51,6 +51,28 @@ public class Vector2 {
         return y;
     }
 
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @return текущий вектор
+     */
+    public Vector2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector2 set(Vector2 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y);
+    }
+
     /**
      * Сложение векторов
      * @param other другой вектор
@@ -61,6 +83,18 @@ public class Vector2 {
         return new Vector2(this.x + other.x, this.y + other.y);
     }
 
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector2 add(Vector2 other, Vector2 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y);
+    }
+
     /**
      * Вычитание векторов
      * @param other другой вектор
@@ -71,6 +105,18 @@ public class Vector2 {
         return new Vector2(this.x - other.x, this.y - other.y);
     }
 
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector2 subtract(Vector2 other, Vector2 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y);
+    }
+
     /**
      * Умножение на скаляр
      * @param scalar скалярное значение
@@ -80,6 +126,17 @@ public class Vector2 {
         return new Vector2(this.x * scalar, this.y * scalar);
     }
 
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2 multiply(float scalar, Vector2 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar);
+    }
+
     /**
      * Деление на скаляр
      * @param scalar скалярное значение
@@ -90,6 +147,18 @@ public class Vector2 {
         return new Vector2(this.x / scalar, this.y / scalar);
     }
 
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2 divide(float scalar, Vector2 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar);
+    }
+
     /**
      * Вычисление длины вектора
      * @return длина вектора
@@ -108,6 +177,18 @@ public class Vector2 {
         return new Vector2(this.x / len, this.y / len);
     }
 
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2 normalize(Vector2 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len);
+    }
+
     /**
      * Скалярное произведение
      * @param other другой вектор
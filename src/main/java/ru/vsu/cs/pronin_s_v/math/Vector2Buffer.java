@@ -0,0 +1,301 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Буфер двумерных векторов в виде структуры массивов.
+ * Каждая координата хранится в отдельном массиве float[], поэтому массовые операции
+ * проходят по памяти последовательно и не создают промежуточных объектов Vector2.
+ * Преобразование в Vector2 и обратно выполняется только на границах.
+ */
+public class Vector2Buffer {
+    private final float[] x;
+    private final float[] y;
+    private final int size;
+
+    /**
+     * Создает буфер из нулевых векторов
+     * @param size количество векторов
+     */
+    public Vector2Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Размер буфера не может быть отрицательным");
+        }
+        this.size = size;
+        x = new float[size];
+        y = new float[size];
+    }
+
+    /**
+     * Создает буфер из массива векторов
+     * @param vectors массив векторов
+     * @return новый буфер
+     */
+    public static Vector2Buffer of(Vector2... vectors) {
+        ValidationUtils.requireNonNull(vectors, "Vectors");
+        Vector2Buffer buffer = new Vector2Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Возвращает количество векторов в буфере
+     * @return количество векторов
+     */
+    public int size() {
+        return size;
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: %d (размер буфера: %d)", index, size));
+        }
+    }
+
+    /**
+     * Возвращает вектор по индексу
+     * @param index индекс вектора
+     * @return новый вектор
+     */
+    public Vector2 get(int index) {
+        validateIndex(index);
+        return new Vector2(x[index], y[index]);
+    }
+
+    /**
+     * Записывает вектор по индексу
+     * @param index индекс вектора
+     * @param vector вектор
+     */
+    public void set(int index, Vector2 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        set(index, vector.getX(), vector.getY());
+    }
+
+    /**
+     * Записывает координаты вектора по индексу
+     * @param index индекс вектора
+     * @param xValue координата x
+     * @param yValue координата y
+     */
+    public void set(int index, float xValue, float yValue) {
+        validateIndex(index);
+        x[index] = xValue;
+        y[index] = yValue;
+    }
+
+    /**
+     * Возвращает координату x вектора по индексу
+     * @param index индекс вектора
+     * @return координата x
+     */
+    public float getX(int index) {
+        validateIndex(index);
+        return x[index];
+    }
+
+    /**
+     * Возвращает координату y вектора по индексу
+     * @param index индекс вектора
+     * @return координата y
+     */
+    public float getY(int index) {
+        validateIndex(index);
+        return y[index];
+    }
+
+    /**
+     * Возвращает внутренний массив координат x без копирования
+     * @return массив координат x
+     */
+    float[] xArray() {
+        return x;
+    }
+
+    /**
+     * Возвращает внутренний массив координат y без копирования
+     * @return массив координат y
+     */
+    float[] yArray() {
+        return y;
+    }
+
+    /**
+     * Преобразует буфер в массив векторов
+     * @return новый массив векторов
+     */
+    public Vector2[] toArray() {
+        Vector2[] result = new Vector2[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new Vector2(x[i], y[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Сложение векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector2Buffer add(Vector2Buffer other, Vector2Buffer dest) {
+        return add(other, dest, 0, size);
+    }
+
+    /**
+     * Сложение векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector2Buffer add(Vector2Buffer other, Vector2Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] + other.x[i];
+            dest.y[i] = y[i] + other.y[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector2Buffer subtract(Vector2Buffer other, Vector2Buffer dest) {
+        return subtract(other, dest, 0, size);
+    }
+
+    /**
+     * Вычитание векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector2Buffer subtract(Vector2Buffer other, Vector2Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] - other.x[i];
+            dest.y[i] = y[i] - other.y[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов буфера на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     */
+    public Vector2Buffer scale(float scalar, Vector2Buffer dest) {
+        return scale(scalar, dest, 0, size);
+    }
+
+    /**
+     * Умножение векторов в диапазоне [offset, offset + count) на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector2Buffer scale(float scalar, Vector2Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] * scalar;
+            dest.y[i] = y[i] * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Скалярные произведения векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] dot(Vector2Buffer other, float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, other, this);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = x[i] * other.x[i] + y[i] * other.y[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Длины векторов в диапазоне [offset, offset + count)
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] length(float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkRange(offset, count, size);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Нормализация всех векторов буфера
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector2Buffer normalize(Vector2Buffer dest) {
+        return normalize(dest, 0, size);
+    }
+
+    /**
+     * Нормализация векторов в диапазоне [offset, offset + count)
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector2Buffer normalize(Vector2Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            float len = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+            ValidationUtils.checkNonZeroLength(len);
+            dest.x[i] = x[i] / len;
+            dest.y[i] = y[i] / len;
+        }
+        return dest;
+    }
+
+    private static void checkRange(int offset, int count, Vector2Buffer first, Vector2Buffer second) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, second.size));
+    }
+
+    private static void checkRange(int offset, int count, Vector2Buffer first, Vector2Buffer second, Vector2Buffer third) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, Math.min(second.size, third.size)));
+    }
+}
@@ -0,0 +1,267 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Класс для работы с двумерными векторами двойной точности
+ */
+public class Vector2d {
+    
+    private double x;
+    private double y;
+
+    /**
+     * Создает нулевой вектор
+     */
+    public Vector2d() {
+        this(0.0, 0.0);
+    }
+
+    /**
+     * Создает вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     */
+    public Vector2d(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Создает копию вектора
+     * @param other исходный вектор
+     */
+    public Vector2d(Vector2d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.x;
+        this.y = other.y;
+    }
+
+    /**
+     * Создает вектор двойной точности из вектора одинарной точности
+     * @param other исходный вектор
+     */
+    public Vector2d(Vector2 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.getX();
+        this.y = other.getY();
+    }
+
+    /**
+     * Возвращает координату x
+     * @return координата x
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Возвращает координату y
+     * @return координата y
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @return текущий вектор
+     */
+    public Vector2d set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector2d set(Vector2d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y);
+    }
+
+    /**
+     * Копирует координаты вектора одинарной точности
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector2d set(Vector2 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.getX(), other.getY());
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности
+     * @return новый вектор
+     */
+    public Vector2 toVector2() {
+        return new Vector2((float) x, (float) y);
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности с записью в заданный вектор
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector2 toVector2(Vector2 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set((float) x, (float) y);
+    }
+
+    /**
+     * Сложение векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector2d add(Vector2d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector2d(this.x + other.x, this.y + other.y);
+    }
+
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector2d add(Vector2d other, Vector2d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y);
+    }
+
+    /**
+     * Вычитание векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector2d subtract(Vector2d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector2d(this.x - other.x, this.y - other.y);
+    }
+
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector2d subtract(Vector2d other, Vector2d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y);
+    }
+
+    /**
+     * Умножение на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector2d multiply(double scalar) {
+        return new Vector2d(this.x * scalar, this.y * scalar);
+    }
+
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2d multiply(double scalar, Vector2d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar);
+    }
+
+    /**
+     * Деление на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector2d divide(double scalar) {
+        ValidationUtils.checkNonZero(scalar);
+        return new Vector2d(this.x / scalar, this.y / scalar);
+    }
+
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2d divide(double scalar, Vector2d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar);
+    }
+
+    /**
+     * Вычисление длины вектора
+     * @return длина вектора
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Нормализация вектора
+     * @return новый нормализованный вектор
+     */
+    public Vector2d normalize() {
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return new Vector2d(this.x / len, this.y / len);
+    }
+
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector2d normalize(Vector2d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len);
+    }
+
+    /**
+     * Скалярное произведение
+     * @param other другой вектор
+     * @return скалярное произведение
+     */
+    public double dot(Vector2d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return this.x * other.x + this.y * other.y;
+    }
+
+    /**
+     * Сравнение векторов
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector2d vector2 = (Vector2d) obj;
+        double epsilon = ValidationUtils.getEpsilon();
+        return Math.abs(this.x - vector2.x) < epsilon && Math.abs(this.y - vector2.y) < epsilon;
+    }
+
+    @Override
+    public int hashCode() {
+        double epsilon = ValidationUtils.getEpsilon();
+        double scale = 1.0 / epsilon;
+        double maxValue = Integer.MAX_VALUE / scale;
+        double safeX = Math.max(-maxValue, Math.min(maxValue, x));
+        double safeY = Math.max(-maxValue, Math.min(maxValue, y));
+        return Long.hashCode(Math.round(safeX * scale)) * 31 
+             + Long.hashCode(Math.round(safeY * scale));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector2d(%.3f, %.3f)", x, y);
+    }
+}
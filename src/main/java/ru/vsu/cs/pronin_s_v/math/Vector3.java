@@ -63,6 +63,30 @@ public class Vector3 {
         return z;
     }
 
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @return текущий вектор
+     */
+    public Vector3 set(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector3 set(Vector3 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y, other.z);
+    }
+
     /**
      * Сложение векторов
      * @param other другой вектор
@@ -73,6 +97,18 @@ public class Vector3 {
         return new Vector3(this.x + other.x, this.y + other.y, this.z + other.z);
     }
 
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3 add(Vector3 other, Vector3 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y, this.z + other.z);
+    }
+
     /**
      * Вычитание векторов
      * @param other другой вектор
@@ -83,6 +119,18 @@ public class Vector3 {
         return new Vector3(this.x - other.x, this.y - other.y, this.z - other.z);
     }
 
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3 subtract(Vector3 other, Vector3 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y, this.z - other.z);
+    }
+
     /**
      * Умножение на скаляр
      * @param scalar скалярное значение
@@ -92,6 +140,17 @@ public class Vector3 {
         return new Vector3(this.x * scalar, this.y * scalar, this.z * scalar);
     }
 
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3 multiply(float scalar, Vector3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
     /**
      * Деление на скаляр
      * @param scalar скалярное значение
@@ -102,6 +161,18 @@ public class Vector3 {
         return new Vector3(this.x / scalar, this.y / scalar, this.z / scalar);
     }
 
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3 divide(float scalar, Vector3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar, this.z / scalar);
+    }
+
     /**
      * Вычисление длины вектора
      * @return длина вектора
@@ -120,6 +191,18 @@ public class Vector3 {
         return new Vector3(this.x / len, this.y / len, this.z / len);
     }
 
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3 normalize(Vector3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len, this.z / len);
+    }
+
     /**
      * Скалярное произведение
      * @param other другой вектор
@@ -144,6 +227,22 @@ public class Vector3 {
         );
     }
 
+    /**
+     * Векторное произведение с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3 cross(Vector3 other, Vector3 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(
+            this.y * other.z - this.z * other.y,
+            this.z * other.x - this.x * other.z,
+            this.x * other.y - this.y * other.x
+        );
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,360 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Буфер трехмерных векторов в виде структуры массивов.
+ * Каждая координата хранится в отдельном массиве float[], поэтому массовые операции
+ * проходят по памяти последовательно и не создают промежуточных объектов Vector3.
+ * Преобразование в Vector3 и обратно выполняется только на границах.
+ */
+public class Vector3Buffer {
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final int size;
+
+    /**
+     * Создает буфер из нулевых векторов
+     * @param size количество векторов
+     */
+    public Vector3Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Размер буфера не может быть отрицательным");
+        }
+        this.size = size;
+        x = new float[size];
+        y = new float[size];
+        z = new float[size];
+    }
+
+    /**
+     * Создает буфер из массива векторов
+     * @param vectors массив векторов
+     * @return новый буфер
+     */
+    public static Vector3Buffer of(Vector3... vectors) {
+        ValidationUtils.requireNonNull(vectors, "Vectors");
+        Vector3Buffer buffer = new Vector3Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Возвращает количество векторов в буфере
+     * @return количество векторов
+     */
+    public int size() {
+        return size;
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: %d (размер буфера: %d)", index, size));
+        }
+    }
+
+    /**
+     * Возвращает вектор по индексу
+     * @param index индекс вектора
+     * @return новый вектор
+     */
+    public Vector3 get(int index) {
+        validateIndex(index);
+        return new Vector3(x[index], y[index], z[index]);
+    }
+
+    /**
+     * Записывает вектор по индексу
+     * @param index индекс вектора
+     * @param vector вектор
+     */
+    public void set(int index, Vector3 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        set(index, vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Записывает координаты вектора по индексу
+     * @param index индекс вектора
+     * @param xValue координата x
+     * @param yValue координата y
+     * @param zValue координата z
+     */
+    public void set(int index, float xValue, float yValue, float zValue) {
+        validateIndex(index);
+        x[index] = xValue;
+        y[index] = yValue;
+        z[index] = zValue;
+    }
+
+    /**
+     * Возвращает координату x вектора по индексу
+     * @param index индекс вектора
+     * @return координата x
+     */
+    public float getX(int index) {
+        validateIndex(index);
+        return x[index];
+    }
+
+    /**
+     * Возвращает координату y вектора по индексу
+     * @param index индекс вектора
+     * @return координата y
+     */
+    public float getY(int index) {
+        validateIndex(index);
+        return y[index];
+    }
+
+    /**
+     * Возвращает координату z вектора по индексу
+     * @param index индекс вектора
+     * @return координата z
+     */
+    public float getZ(int index) {
+        validateIndex(index);
+        return z[index];
+    }
+
+    /**
+     * Возвращает внутренний массив координат x без копирования
+     * @return массив координат x
+     */
+    float[] xArray() {
+        return x;
+    }
+
+    /**
+     * Возвращает внутренний массив координат y без копирования
+     * @return массив координат y
+     */
+    float[] yArray() {
+        return y;
+    }
+
+    /**
+     * Возвращает внутренний массив координат z без копирования
+     * @return массив координат z
+     */
+    float[] zArray() {
+        return z;
+    }
+
+    /**
+     * Преобразует буфер в массив векторов
+     * @return новый массив векторов
+     */
+    public Vector3[] toArray() {
+        Vector3[] result = new Vector3[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new Vector3(x[i], y[i], z[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Сложение векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector3Buffer add(Vector3Buffer other, Vector3Buffer dest) {
+        return add(other, dest, 0, size);
+    }
+
+    /**
+     * Сложение векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector3Buffer add(Vector3Buffer other, Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] + other.x[i];
+            dest.y[i] = y[i] + other.y[i];
+            dest.z[i] = z[i] + other.z[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector3Buffer subtract(Vector3Buffer other, Vector3Buffer dest) {
+        return subtract(other, dest, 0, size);
+    }
+
+    /**
+     * Вычитание векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector3Buffer subtract(Vector3Buffer other, Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] - other.x[i];
+            dest.y[i] = y[i] - other.y[i];
+            dest.z[i] = z[i] - other.z[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов буфера на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     */
+    public Vector3Buffer scale(float scalar, Vector3Buffer dest) {
+        return scale(scalar, dest, 0, size);
+    }
+
+    /**
+     * Умножение векторов в диапазоне [offset, offset + count) на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector3Buffer scale(float scalar, Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] * scalar;
+            dest.y[i] = y[i] * scalar;
+            dest.z[i] = z[i] * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Скалярные произведения векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] dot(Vector3Buffer other, float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, other, this);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = x[i] * other.x[i] + y[i] * other.y[i] + z[i] * other.z[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Векторное произведение для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector3Buffer cross(Vector3Buffer other, Vector3Buffer dest) {
+        return cross(other, dest, 0, size);
+    }
+
+    /**
+     * Векторное произведение для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector3Buffer cross(Vector3Buffer other, Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            float ax = x[i], ay = y[i], az = z[i];
+            float bx = other.x[i], by = other.y[i], bz = other.z[i];
+            dest.x[i] = ay * bz - az * by;
+            dest.y[i] = az * bx - ax * bz;
+            dest.z[i] = ax * by - ay * bx;
+        }
+        return dest;
+    }
+
+    /**
+     * Длины векторов в диапазоне [offset, offset + count)
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] length(float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkRange(offset, count, size);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Нормализация всех векторов буфера
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector3Buffer normalize(Vector3Buffer dest) {
+        return normalize(dest, 0, size);
+    }
+
+    /**
+     * Нормализация векторов в диапазоне [offset, offset + count)
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector3Buffer normalize(Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            float len = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            ValidationUtils.checkNonZeroLength(len);
+            dest.x[i] = x[i] / len;
+            dest.y[i] = y[i] / len;
+            dest.z[i] = z[i] / len;
+        }
+        return dest;
+    }
+
+    private static void checkRange(int offset, int count, Vector3Buffer first, Vector3Buffer second) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, second.size));
+    }
+
+    private static void checkRange(int offset, int count, Vector3Buffer first, Vector3Buffer second, Vector3Buffer third) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, Math.min(second.size, third.size)));
+    }
+}
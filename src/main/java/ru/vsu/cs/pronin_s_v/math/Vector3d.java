@@ -0,0 +1,313 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Класс для работы с трехмерными векторами двойной точности
+ */
+public class Vector3d {
+    
+    private double x;
+    private double y;
+    private double z;
+
+    /**
+     * Создает нулевой вектор
+     */
+    public Vector3d() {
+        this(0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Создает вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     */
+    public Vector3d(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Создает копию вектора
+     * @param other исходный вектор
+     */
+    public Vector3d(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+    }
+
+    /**
+     * Создает вектор двойной точности из вектора одинарной точности
+     * @param other исходный вектор
+     */
+    public Vector3d(Vector3 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.getX();
+        this.y = other.getY();
+        this.z = other.getZ();
+    }
+
+    /**
+     * Возвращает координату x
+     * @return координата x
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Возвращает координату y
+     * @return координата y
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Возвращает координату z
+     * @return координата z
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @return текущий вектор
+     */
+    public Vector3d set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector3d set(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y, other.z);
+    }
+
+    /**
+     * Копирует координаты вектора одинарной точности
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector3d set(Vector3 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.getX(), other.getY(), other.getZ());
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности
+     * @return новый вектор
+     */
+    public Vector3 toVector3() {
+        return new Vector3((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности с записью в заданный вектор
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector3 toVector3(Vector3 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Сложение векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector3d add(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector3d(this.x + other.x, this.y + other.y, this.z + other.z);
+    }
+
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3d add(Vector3d other, Vector3d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y, this.z + other.z);
+    }
+
+    /**
+     * Вычитание векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector3d subtract(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector3d(this.x - other.x, this.y - other.y, this.z - other.z);
+    }
+
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3d subtract(Vector3d other, Vector3d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y, this.z - other.z);
+    }
+
+    /**
+     * Умножение на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector3d multiply(double scalar) {
+        return new Vector3d(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3d multiply(double scalar, Vector3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar, this.z * scalar);
+    }
+
+    /**
+     * Деление на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector3d divide(double scalar) {
+        ValidationUtils.checkNonZero(scalar);
+        return new Vector3d(this.x / scalar, this.y / scalar, this.z / scalar);
+    }
+
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3d divide(double scalar, Vector3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar, this.z / scalar);
+    }
+
+    /**
+     * Вычисление длины вектора
+     * @return длина вектора
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Нормализация вектора
+     * @return новый нормализованный вектор
+     */
+    public Vector3d normalize() {
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return new Vector3d(this.x / len, this.y / len, this.z / len);
+    }
+
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector3d normalize(Vector3d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len, this.z / len);
+    }
+
+    /**
+     * Скалярное произведение
+     * @param other другой вектор
+     * @return скалярное произведение
+     */
+    public double dot(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return this.x * other.x + this.y * other.y + this.z * other.z;
+    }
+
+    /**
+     * Векторное произведение
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector3d cross(Vector3d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector3d(
+            this.y * other.z - this.z * other.y,
+            this.z * other.x - this.x * other.z,
+            this.x * other.y - this.y * other.x
+        );
+    }
+
+    /**
+     * Векторное произведение с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector3d cross(Vector3d other, Vector3d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(
+            this.y * other.z - this.z * other.y,
+            this.z * other.x - this.x * other.z,
+            this.x * other.y - this.y * other.x
+        );
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector3d vector3 = (Vector3d) obj;
+        double epsilon = ValidationUtils.getEpsilon();
+        return Math.abs(this.x - vector3.x) < epsilon 
+            && Math.abs(this.y - vector3.y) < epsilon 
+            && Math.abs(this.z - vector3.z) < epsilon;
+    }
+
+    @Override
+    public int hashCode() {
+        double epsilon = ValidationUtils.getEpsilon();
+        double scale = 1.0 / epsilon;
+        double maxValue = Integer.MAX_VALUE / scale;
+        double safeX = Math.max(-maxValue, Math.min(maxValue, x));
+        double safeY = Math.max(-maxValue, Math.min(maxValue, y));
+        double safeZ = Math.max(-maxValue, Math.min(maxValue, z));
+        return Long.hashCode(Math.round(safeX * scale)) * 31 * 31 
+             + Long.hashCode(Math.round(safeY * scale)) * 31 
+             + Long.hashCode(Math.round(safeZ * scale));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector3d(%.3f, %.3f, %.3f)", x, y, z);
+    }
+}
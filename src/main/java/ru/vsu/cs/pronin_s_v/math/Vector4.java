@@ -88,6 +88,32 @@ public class Vector4 {
         return w;
     }
 
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @param w координата w
+     * @return текущий вектор
+     */
+    public Vector4 set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector4 set(Vector4 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y, other.z, other.w);
+    }
+
     /**
      * Сложение векторов
      * @param other другой вектор
@@ -98,6 +124,18 @@ public class Vector4 {
         return new Vector4(this.x + other.x, this.y + other.y, this.z + other.z, this.w + other.w);
     }
 
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector4 add(Vector4 other, Vector4 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y, this.z + other.z, this.w + other.w);
+    }
+
     /**
      * Вычитание векторов
      * @param other другой вектор
@@ -108,6 +146,18 @@ public class Vector4 {
         return new Vector4(this.x - other.x, this.y - other.y, this.z - other.z, this.w - other.w);
     }
 
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector4 subtract(Vector4 other, Vector4 dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y, this.z - other.z, this.w - other.w);
+    }
+
     /**
      * Умножение на скаляр
      * @param scalar скалярное значение
@@ -117,6 +167,17 @@ public class Vector4 {
         return new Vector4(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
     }
 
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4 multiply(float scalar, Vector4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
+    }
+
     /**
      * Деление на скаляр
      * @param scalar скалярное значение
@@ -127,6 +188,18 @@ public class Vector4 {
         return new Vector4(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
     }
 
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4 divide(float scalar, Vector4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
+    }
+
     /**
      * Вычисление длины вектора
      * @return длина вектора
@@ -145,6 +218,18 @@ public class Vector4 {
         return new Vector4(this.x / len, this.y / len, this.z / len, this.w / len);
     }
 
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4 normalize(Vector4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        float len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len, this.z / len, this.w / len);
+    }
+
     /**
      * Скалярное произведение
      * @param other другой вектор
@@ -0,0 +1,353 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Буфер четырехмерных векторов в виде структуры массивов.
+ * Каждая координата хранится в отдельном массиве float[], поэтому массовые операции
+ * проходят по памяти последовательно и не создают промежуточных объектов Vector4.
+ * Преобразование в Vector4 и обратно выполняется только на границах.
+ */
+public class Vector4Buffer {
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final float[] w;
+    private final int size;
+
+    /**
+     * Создает буфер из нулевых векторов
+     * @param size количество векторов
+     */
+    public Vector4Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Размер буфера не может быть отрицательным");
+        }
+        this.size = size;
+        x = new float[size];
+        y = new float[size];
+        z = new float[size];
+        w = new float[size];
+    }
+
+    /**
+     * Создает буфер из массива векторов
+     * @param vectors массив векторов
+     * @return новый буфер
+     */
+    public static Vector4Buffer of(Vector4... vectors) {
+        ValidationUtils.requireNonNull(vectors, "Vectors");
+        Vector4Buffer buffer = new Vector4Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            buffer.set(i, vectors[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Возвращает количество векторов в буфере
+     * @return количество векторов
+     */
+    public int size() {
+        return size;
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: %d (размер буфера: %d)", index, size));
+        }
+    }
+
+    /**
+     * Возвращает вектор по индексу
+     * @param index индекс вектора
+     * @return новый вектор
+     */
+    public Vector4 get(int index) {
+        validateIndex(index);
+        return new Vector4(x[index], y[index], z[index], w[index]);
+    }
+
+    /**
+     * Записывает вектор по индексу
+     * @param index индекс вектора
+     * @param vector вектор
+     */
+    public void set(int index, Vector4 vector) {
+        ValidationUtils.requireNonNull(vector, "Vector");
+        set(index, vector.getX(), vector.getY(), vector.getZ(), vector.getW());
+    }
+
+    /**
+     * Записывает координаты вектора по индексу
+     * @param index индекс вектора
+     * @param xValue координата x
+     * @param yValue координата y
+     * @param zValue координата z
+     * @param wValue координата w
+     */
+    public void set(int index, float xValue, float yValue, float zValue, float wValue) {
+        validateIndex(index);
+        x[index] = xValue;
+        y[index] = yValue;
+        z[index] = zValue;
+        w[index] = wValue;
+    }
+
+    /**
+     * Возвращает координату x вектора по индексу
+     * @param index индекс вектора
+     * @return координата x
+     */
+    public float getX(int index) {
+        validateIndex(index);
+        return x[index];
+    }
+
+    /**
+     * Возвращает координату y вектора по индексу
+     * @param index индекс вектора
+     * @return координата y
+     */
+    public float getY(int index) {
+        validateIndex(index);
+        return y[index];
+    }
+
+    /**
+     * Возвращает координату z вектора по индексу
+     * @param index индекс вектора
+     * @return координата z
+     */
+    public float getZ(int index) {
+        validateIndex(index);
+        return z[index];
+    }
+
+    /**
+     * Возвращает координату w вектора по индексу
+     * @param index индекс вектора
+     * @return координата w
+     */
+    public float getW(int index) {
+        validateIndex(index);
+        return w[index];
+    }
+
+    /**
+     * Возвращает внутренний массив координат x без копирования
+     * @return массив координат x
+     */
+    float[] xArray() {
+        return x;
+    }
+
+    /**
+     * Возвращает внутренний массив координат y без копирования
+     * @return массив координат y
+     */
+    float[] yArray() {
+        return y;
+    }
+
+    /**
+     * Возвращает внутренний массив координат z без копирования
+     * @return массив координат z
+     */
+    float[] zArray() {
+        return z;
+    }
+
+    /**
+     * Возвращает внутренний массив координат w без копирования
+     * @return массив координат w
+     */
+    float[] wArray() {
+        return w;
+    }
+
+    /**
+     * Преобразует буфер в массив векторов
+     * @return новый массив векторов
+     */
+    public Vector4[] toArray() {
+        Vector4[] result = new Vector4[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new Vector4(x[i], y[i], z[i], w[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Сложение векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector4Buffer add(Vector4Buffer other, Vector4Buffer dest) {
+        return add(other, dest, 0, size);
+    }
+
+    /**
+     * Сложение векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector4Buffer add(Vector4Buffer other, Vector4Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] + other.x[i];
+            dest.y[i] = y[i] + other.y[i];
+            dest.z[i] = z[i] + other.z[i];
+            dest.w[i] = w[i] + other.w[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание векторов для всех векторов буфера
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @return буфер dest
+     */
+    public Vector4Buffer subtract(Vector4Buffer other, Vector4Buffer dest) {
+        return subtract(other, dest, 0, size);
+    }
+
+    /**
+     * Вычитание векторов для векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest буфер для результата (может совпадать с this или other)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector4Buffer subtract(Vector4Buffer other, Vector4Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, other, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] - other.x[i];
+            dest.y[i] = y[i] - other.y[i];
+            dest.z[i] = z[i] - other.z[i];
+            dest.w[i] = w[i] - other.w[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов буфера на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     */
+    public Vector4Buffer scale(float scalar, Vector4Buffer dest) {
+        return scale(scalar, dest, 0, size);
+    }
+
+    /**
+     * Умножение векторов в диапазоне [offset, offset + count) на скаляр
+     * @param scalar скалярное значение
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector4Buffer scale(float scalar, Vector4Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest.x[i] = x[i] * scalar;
+            dest.y[i] = y[i] * scalar;
+            dest.z[i] = z[i] * scalar;
+            dest.w[i] = w[i] * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Скалярные произведения векторов в диапазоне [offset, offset + count)
+     * @param other другой буфер
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] dot(Vector4Buffer other, float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(other, "Buffer");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, other, this);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = x[i] * other.x[i] + y[i] * other.y[i] + z[i] * other.z[i] + w[i] * other.w[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Длины векторов в диапазоне [offset, offset + count)
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] length(float[] dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkRange(offset, count, size);
+        ValidationUtils.checkRange(offset, count, dest.length);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            dest[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+        }
+        return dest;
+    }
+
+    /**
+     * Нормализация всех векторов буфера
+     * @param dest буфер для результата (может совпадать с this)
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector4Buffer normalize(Vector4Buffer dest) {
+        return normalize(dest, 0, size);
+    }
+
+    /**
+     * Нормализация векторов в диапазоне [offset, offset + count)
+     * @param dest буфер для результата (может совпадать с this)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector4Buffer normalize(Vector4Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        checkRange(offset, count, this, dest);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            float len = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            ValidationUtils.checkNonZeroLength(len);
+            dest.x[i] = x[i] / len;
+            dest.y[i] = y[i] / len;
+            dest.z[i] = z[i] / len;
+            dest.w[i] = w[i] / len;
+        }
+        return dest;
+    }
+
+    private static void checkRange(int offset, int count, Vector4Buffer first, Vector4Buffer second) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, second.size));
+    }
+
+    private static void checkRange(int offset, int count, Vector4Buffer first, Vector4Buffer second, Vector4Buffer third) {
+        ValidationUtils.checkRange(offset, count, Math.min(first.size, Math.min(second.size, third.size)));
+    }
+}
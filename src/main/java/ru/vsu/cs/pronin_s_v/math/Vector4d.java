@@ -0,0 +1,314 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+/**
+ * Класс для работы с четырехмерными векторами двойной точности
+ */
+public class Vector4d {
+    
+    private double x;
+    private double y;
+    private double z;
+    private double w;
+
+    /**
+     * Создает нулевой вектор
+     */
+    public Vector4d() {
+        this(0.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Создает вектор с заданными координатами
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @param w координата w
+     */
+    public Vector4d(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Создает вектор из Vector3d с заданным w
+     * @param v трехмерный вектор
+     * @param w координата w
+     */
+    public Vector4d(Vector3d v, double w) {
+        ValidationUtils.requireNonNull(v, "Vector3d");
+        this.x = v.getX();
+        this.y = v.getY();
+        this.z = v.getZ();
+        this.w = w;
+    }
+
+    /**
+     * Создает копию вектора
+     * @param other исходный вектор
+     */
+    public Vector4d(Vector4d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+        this.w = other.w;
+    }
+
+    /**
+     * Создает вектор двойной точности из вектора одинарной точности
+     * @param other исходный вектор
+     */
+    public Vector4d(Vector4 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        this.x = other.getX();
+        this.y = other.getY();
+        this.z = other.getZ();
+        this.w = other.getW();
+    }
+
+    /**
+     * Возвращает координату x
+     * @return координата x
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Возвращает координату y
+     * @return координата y
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Возвращает координату z
+     * @return координата z
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Возвращает координату w
+     * @return координата w
+     */
+    public double getW() {
+        return w;
+    }
+
+    /**
+     * Устанавливает координаты вектора
+     * @param x координата x
+     * @param y координата y
+     * @param z координата z
+     * @param w координата w
+     * @return текущий вектор
+     */
+    public Vector4d set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Копирует координаты другого вектора
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector4d set(Vector4d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Копирует координаты вектора одинарной точности
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public Vector4d set(Vector4 other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return set(other.getX(), other.getY(), other.getZ(), other.getW());
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности
+     * @return новый вектор
+     */
+    public Vector4 toVector4() {
+        return new Vector4((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Преобразование в вектор одинарной точности с записью в заданный вектор
+     * @param dest вектор для результата
+     * @return вектор dest
+     */
+    public Vector4 toVector4(Vector4 dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Сложение векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector4d add(Vector4d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector4d(this.x + other.x, this.y + other.y, this.z + other.z, this.w + other.w);
+    }
+
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector4d add(Vector4d other, Vector4d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x + other.x, this.y + other.y, this.z + other.z, this.w + other.w);
+    }
+
+    /**
+     * Вычитание векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public Vector4d subtract(Vector4d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return new Vector4d(this.x - other.x, this.y - other.y, this.z - other.z, this.w - other.w);
+    }
+
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public Vector4d subtract(Vector4d other, Vector4d dest) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x - other.x, this.y - other.y, this.z - other.z, this.w - other.w);
+    }
+
+    /**
+     * Умножение на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector4d multiply(double scalar) {
+        return new Vector4d(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
+    }
+
+    /**
+     * Умножение на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4d multiply(double scalar, Vector4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        return dest.set(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
+    }
+
+    /**
+     * Деление на скаляр
+     * @param scalar скалярное значение
+     * @return новый вектор
+     */
+    public Vector4d divide(double scalar) {
+        ValidationUtils.checkNonZero(scalar);
+        return new Vector4d(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
+    }
+
+    /**
+     * Деление на скаляр с записью результата в заданный вектор
+     * @param scalar скалярное значение
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4d divide(double scalar, Vector4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkNonZero(scalar);
+        return dest.set(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
+    }
+
+    /**
+     * Вычисление длины вектора
+     * @return длина вектора
+     */
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Нормализация вектора
+     * @return новый нормализованный вектор
+     */
+    public Vector4d normalize() {
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return new Vector4d(this.x / len, this.y / len, this.z / len, this.w / len);
+    }
+
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public Vector4d normalize(Vector4d dest) {
+        ValidationUtils.requireNonNull(dest, "Destination");
+        double len = length();
+        ValidationUtils.checkNonZeroLength(len);
+        return dest.set(this.x / len, this.y / len, this.z / len, this.w / len);
+    }
+
+    /**
+     * Скалярное произведение
+     * @param other другой вектор
+     * @return скалярное произведение
+     */
+    public double dot(Vector4d other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        return this.x * other.x + this.y * other.y + this.z * other.z + this.w * other.w;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vector4d vector4 = (Vector4d) obj;
+        double epsilon = ValidationUtils.getEpsilon();
+        return Math.abs(this.x - vector4.x) < epsilon 
+            && Math.abs(this.y - vector4.y) < epsilon 
+            && Math.abs(this.z - vector4.z) < epsilon
+            && Math.abs(this.w - vector4.w) < epsilon;
+    }
+
+    @Override
+    public int hashCode() {
+        double epsilon = ValidationUtils.getEpsilon();
+        double scale = 1.0 / epsilon;
+        double maxValue = Integer.MAX_VALUE / scale;
+        double safeX = Math.max(-maxValue, Math.min(maxValue, x));
+        double safeY = Math.max(-maxValue, Math.min(maxValue, y));
+        double safeZ = Math.max(-maxValue, Math.min(maxValue, z));
+        double safeW = Math.max(-maxValue, Math.min(maxValue, w));
+        return Long.hashCode(Math.round(safeX * scale)) * 31 * 31 * 31 
+             + Long.hashCode(Math.round(safeY * scale)) * 31 * 31 
+             + Long.hashCode(Math.round(safeZ * scale)) * 31 
+             + Long.hashCode(Math.round(safeW * scale));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Vector4d(%.3f, %.3f, %.3f, %.3f)", x, y, z, w);
+    }
+}
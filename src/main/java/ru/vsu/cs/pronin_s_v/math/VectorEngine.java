@@ -0,0 +1,369 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Движок пакетных операций над буферами векторов, упакованными матрицами 4×4,
+ * отсечения по пирамиде видимости и пересечения лучей с треугольниками.
+ * Скалярная реализация доступна всегда. Реализация на SIMD использует модуль
+ * jdk.incubator.vector и доступна только при запуске JVM с
+ * {@code --add-modules jdk.incubator.vector}; без него {@link #best()} возвращает скалярный движок.
+ */
+public abstract class VectorEngine {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean SIMD_AVAILABLE = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+    VectorEngine() {
+    }
+
+    /**
+     * Проверяет, доступен ли модуль jdk.incubator.vector
+     * @return true, если SIMD-движок можно создать
+     */
+    public static boolean isSimdAvailable() {
+        return SIMD_AVAILABLE;
+    }
+
+    /**
+     * Возвращает скалярный движок
+     * @return скалярный движок
+     */
+    public static VectorEngine scalar() {
+        return ScalarVectorEngine.INSTANCE;
+    }
+
+    /**
+     * Возвращает SIMD-движок с предпочтительной для процессора шириной регистра
+     * @return SIMD-движок
+     * @throws UnsupportedOperationException если модуль jdk.incubator.vector недоступен
+     */
+    public static VectorEngine simd() {
+        checkSimdAvailable();
+        return SimdVectorEngine.preferred();
+    }
+
+    /**
+     * Возвращает SIMD-движок с заданной шириной регистра
+     * @param bitSize ширина регистра в битах (64, 128, 256 или 512)
+     * @return SIMD-движок
+     * @throws UnsupportedOperationException если модуль jdk.incubator.vector недоступен
+     * @throws IllegalArgumentException если ширина не поддерживается
+     */
+    public static VectorEngine simd(int bitSize) {
+        checkSimdAvailable();
+        return SimdVectorEngine.ofBitSize(bitSize);
+    }
+
+    /**
+     * Возвращает SIMD-движок, если он доступен, иначе скалярный
+     * @return наиболее быстрый доступный движок
+     */
+    public static VectorEngine best() {
+        return SIMD_AVAILABLE ? SimdVectorEngine.preferred() : ScalarVectorEngine.INSTANCE;
+    }
+
+    /**
+     * Возвращает параллельный движок поверх {@link #best()} на общем пуле ForkJoinPool
+     * с порогом {@link ParallelVectorEngine#DEFAULT_THRESHOLD} элементов
+     * @return параллельный движок
+     */
+    public static VectorEngine parallel() {
+        return parallel(best(), ForkJoinPool.commonPool(), ParallelVectorEngine.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Возвращает параллельный движок. Диапазон делится пополам, пока части больше порога;
+     * диапазоны не больше порога обрабатываются последовательно движком delegate.
+     * Каждый элемент вычисляется тем же кодом, что и в delegate, поэтому результат
+     * детерминирован и совпадает с последовательным.
+     * @param delegate движок для обработки отдельных частей
+     * @param pool пул потоков
+     * @param threshold максимальное количество элементов, обрабатываемых одной задачей
+     * @return параллельный движок
+     */
+    public static VectorEngine parallel(VectorEngine delegate, ForkJoinPool pool, int threshold) {
+        ValidationUtils.requireNonNull(delegate, "Engine");
+        ValidationUtils.requireNonNull(pool, "Pool");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Порог должен быть положительным");
+        }
+        return new ParallelVectorEngine(delegate, pool, threshold);
+    }
+
+    private static void checkSimdAvailable() {
+        if (!SIMD_AVAILABLE) {
+            throw new UnsupportedOperationException(
+                "Модуль " + VECTOR_MODULE + " недоступен, запустите JVM с --add-modules " + VECTOR_MODULE);
+        }
+    }
+
+    /**
+     * Возвращает количество float, обрабатываемых за одну инструкцию
+     * @return количество линий (1 для скалярного движка)
+     */
+    public abstract int laneCount();
+
+    /**
+     * Преобразование точек (w = 1) в диапазоне [offset, offset + count)
+     * @param matrix матрица преобразования
+     * @param src исходный буфер
+     * @param dest буфер для результата (может совпадать с src)
+     * @param offset индекс первой точки
+     * @param count количество точек
+     * @return буфер dest
+     */
+    public Vector3Buffer transformPoints(Matrix4 matrix, Vector3Buffer src, Vector3Buffer dest, int offset, int count) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        checkBuffers(src, dest, offset, count);
+        transformPoints(matrix.elements(), src.xArray(), src.yArray(), src.zArray(),
+            dest.xArray(), dest.yArray(), dest.zArray(), offset, offset + count);
+        return dest;
+    }
+
+    /**
+     * Скалярные произведения в диапазоне [offset, offset + count)
+     * @param a первый буфер
+     * @param b второй буфер
+     * @param dest массив для результата, dest[i] соответствует вектору с индексом i
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return массив dest
+     */
+    public float[] dot(Vector3Buffer a, Vector3Buffer b, float[] dest, int offset, int count) {
+        checkBuffers(a, b, offset, count);
+        ValidationUtils.requireNonNull(dest, "Destination");
+        ValidationUtils.checkRange(offset, count, dest.length);
+        dot(a.xArray(), a.yArray(), a.zArray(), b.xArray(), b.yArray(), b.zArray(), dest, offset, offset + count);
+        return dest;
+    }
+
+    /**
+     * Векторные произведения в диапазоне [offset, offset + count)
+     * @param a первый буфер
+     * @param b второй буфер
+     * @param dest буфер для результата (может совпадать с a или b)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     */
+    public Vector3Buffer cross(Vector3Buffer a, Vector3Buffer b, Vector3Buffer dest, int offset, int count) {
+        checkBuffers(a, b, offset, count);
+        checkBuffers(a, dest, offset, count);
+        cross(a.xArray(), a.yArray(), a.zArray(), b.xArray(), b.yArray(), b.zArray(),
+            dest.xArray(), dest.yArray(), dest.zArray(), offset, offset + count);
+        return dest;
+    }
+
+    /**
+     * Нормализация векторов в диапазоне [offset, offset + count)
+     * @param src исходный буфер
+     * @param dest буфер для результата (может совпадать с src)
+     * @param offset индекс первого вектора
+     * @param count количество векторов
+     * @return буфер dest
+     * @throws ArithmeticException если среди векторов есть нулевой
+     */
+    public Vector3Buffer normalize(Vector3Buffer src, Vector3Buffer dest, int offset, int count) {
+        checkBuffers(src, dest, offset, count);
+        normalize(src.xArray(), src.yArray(), src.zArray(),
+            dest.xArray(), dest.yArray(), dest.zArray(), offset, offset + count);
+        return dest;
+    }
+
+    /**
+     * Попарное умножение матриц 4×4, упакованных по строкам: dest[i] = a[i] * b[i].
+     * Матрица с индексом i занимает элементы [16 * i, 16 * i + 16).
+     * @param a массив левых множителей
+     * @param b массив правых множителей
+     * @param dest массив для результата (может совпадать с a или b)
+     * @param count количество матриц
+     * @return массив dest
+     */
+    public float[] multiply(float[] a, float[] b, float[] dest, int count) {
+        ValidationUtils.checkPackedRange(a, 0, count, 16, 16);
+        ValidationUtils.checkPackedRange(b, 0, count, 16, 16);
+        ValidationUtils.checkPackedRange(dest, 0, count, 16, 16);
+        multiplyMatrices(a, b, dest, 0, count);
+        return dest;
+    }
+
+    /**
+     * Преобразование точек (w = 1) из упакованного массива,
+     * аналог {@link Matrix4#transformPoints(float[], int, float[], int, int, int)}
+     * @param matrix матрица преобразования
+     * @param src исходный массив
+     * @param srcOff индекс первой вершины в src
+     * @param dst массив для результата (может совпадать с src при равных смещениях)
+     * @param dstOff индекс первой вершины в dst
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     */
+    public void transformPoints(Matrix4 matrix, float[] src, int srcOff, float[] dst, int dstOff,
+                                int count, int stride) {
+        ValidationUtils.requireNonNull(matrix, "Matrix");
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        ValidationUtils.checkPackedRange(dst, dstOff, count, stride, 3);
+        transformPacked(matrix, src, srcOff, dst, dstOff, 0, count, stride);
+    }
+
+    /**
+     * Отсечение параллелепипедов, выровненных по осям, в диапазоне [offset, offset + count).
+     * Бит i маски visible устанавливается, если параллелепипед i может быть видим, и сбрасывается иначе.
+     * @param frustum пирамида видимости
+     * @param min буфер минимальных углов
+     * @param max буфер максимальных углов
+     * @param visible маска видимости длиной не меньше {@link Frustum#maskLength(int)} от offset + count
+     * @param offset индекс первого параллелепипеда
+     * @param count количество параллелепипедов
+     * @return маска visible
+     */
+    public long[] cullAabbs(Frustum frustum, Vector3Buffer min, Vector3Buffer max, long[] visible,
+                            int offset, int count) {
+        ValidationUtils.requireNonNull(frustum, "Frustum");
+        checkBuffers(min, max, offset, count);
+        checkMask(visible, offset, count);
+        cullAabbs(frustum.planes(), min.xArray(), min.yArray(), min.zArray(),
+            max.xArray(), max.yArray(), max.zArray(), visible, offset, offset + count);
+        return visible;
+    }
+
+    /**
+     * Отсечение сфер в диапазоне [offset, offset + count).
+     * Бит i маски visible устанавливается, если сфера i хотя бы частично видима, и сбрасывается иначе.
+     * @param frustum пирамида видимости
+     * @param centers буфер центров
+     * @param radii радиусы, radii[i] соответствует сфере с индексом i
+     * @param visible маска видимости длиной не меньше {@link Frustum#maskLength(int)} от offset + count
+     * @param offset индекс первой сферы
+     * @param count количество сфер
+     * @return маска visible
+     */
+    public long[] cullSpheres(Frustum frustum, Vector3Buffer centers, float[] radii, long[] visible,
+                              int offset, int count) {
+        ValidationUtils.requireNonNull(frustum, "Frustum");
+        checkBuffers(centers, centers, offset, count);
+        ValidationUtils.requireNonNull(radii, "Radii");
+        ValidationUtils.checkRange(offset, count, radii.length);
+        checkMask(visible, offset, count);
+        cullSpheres(frustum.planes(), centers.xArray(), centers.yArray(), centers.zArray(), radii,
+            visible, offset, offset + count);
+        return visible;
+    }
+
+    /**
+     * Пересечение одного луча с треугольниками в диапазоне [offset, offset + count)
+     * по методу Мёллера-Трумбора (двустороннее). Треугольник i задан вершинами
+     * a[i], b[i], c[i]. В t[i] записывается параметр пересечения или +∞ при промахе.
+     * @param origin начало луча
+     * @param direction направление луча (не обязательно единичное)
+     * @param maxT максимальное значение параметра t
+     * @param a буфер первых вершин
+     * @param b буфер вторых вершин
+     * @param c буфер третьих вершин
+     * @param t массив для результата, t[i] соответствует треугольнику с индексом i
+     * @param offset индекс первого треугольника
+     * @param count количество треугольников
+     * @return индекс треугольника с ближайшим пересечением или -1
+     */
+    public int intersectTriangles(Vector3 origin, Vector3 direction, float maxT,
+                                  Vector3Buffer a, Vector3Buffer b, Vector3Buffer c,
+                                  float[] t, int offset, int count) {
+        ValidationUtils.requireNonNull(origin, "Origin");
+        ValidationUtils.requireNonNull(direction, "Direction");
+        checkBuffers(a, b, offset, count);
+        checkBuffers(a, c, offset, count);
+        ValidationUtils.requireNonNull(t, "Destination");
+        ValidationUtils.checkRange(offset, count, t.length);
+        intersectTriangles(origin.getX(), origin.getY(), origin.getZ(),
+            direction.getX(), direction.getY(), direction.getZ(), maxT,
+            a.xArray(), a.yArray(), a.zArray(), b.xArray(), b.yArray(), b.zArray(),
+            c.xArray(), c.yArray(), c.zArray(), t, offset, offset + count);
+        return nearest(t, offset, count);
+    }
+
+    /**
+     * Пересечение пакета лучей с одним треугольником в диапазоне [offset, offset + count).
+     * Луч i задан началом origins[i] и направлением directions[i].
+     * В t[i] записывается параметр пересечения или +∞ при промахе.
+     * @param origins буфер начал лучей
+     * @param directions буфер направлений лучей
+     * @param maxT максимальное значение параметра t
+     * @param a первая вершина треугольника
+     * @param b вторая вершина треугольника
+     * @param c третья вершина треугольника
+     * @param t массив для результата, t[i] соответствует лучу с индексом i
+     * @param offset индекс первого луча
+     * @param count количество лучей
+     * @return индекс луча с ближайшим пересечением или -1
+     */
+    public int intersectRays(Vector3Buffer origins, Vector3Buffer directions, float maxT,
+                             Vector3 a, Vector3 b, Vector3 c, float[] t, int offset, int count) {
+        checkBuffers(origins, directions, offset, count);
+        ValidationUtils.requireNonNull(a, "Vertex");
+        ValidationUtils.requireNonNull(b, "Vertex");
+        ValidationUtils.requireNonNull(c, "Vertex");
+        ValidationUtils.requireNonNull(t, "Destination");
+        ValidationUtils.checkRange(offset, count, t.length);
+        intersectRays(origins.xArray(), origins.yArray(), origins.zArray(),
+            directions.xArray(), directions.yArray(), directions.zArray(), maxT,
+            a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ(), c.getX(), c.getY(), c.getZ(),
+            t, offset, offset + count);
+        return nearest(t, offset, count);
+    }
+
+    private static int nearest(float[] t, int offset, int count) {
+        int best = -1;
+        float bestT = Float.POSITIVE_INFINITY;
+        for (int i = offset; i < offset + count; i++) {
+            if (t[i] < bestT) {
+                bestT = t[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    void transformPacked(Matrix4 matrix, float[] src, int srcOff, float[] dst, int dstOff,
+                         int from, int to, int stride) {
+        matrix.transformPoints(src, srcOff + from * stride, dst, dstOff + from * stride, to - from, stride);
+    }
+
+    abstract void transformPoints(float[] m, float[] x, float[] y, float[] z,
+                                  float[] dx, float[] dy, float[] dz, int from, int to);
+
+    abstract void dot(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                      float[] dest, int from, int to);
+
+    abstract void cross(float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                        float[] dx, float[] dy, float[] dz, int from, int to);
+
+    abstract void normalize(float[] x, float[] y, float[] z,
+                            float[] dx, float[] dy, float[] dz, int from, int to);
+
+    abstract void multiplyMatrices(float[] a, float[] b, float[] dest, int from, int to);
+
+    abstract void cullAabbs(float[] planes, float[] minX, float[] minY, float[] minZ,
+                            float[] maxX, float[] maxY, float[] maxZ, long[] visible, int from, int to);
+
+    abstract void cullSpheres(float[] planes, float[] x, float[] y, float[] z, float[] radii,
+                              long[] visible, int from, int to);
+
+    abstract void intersectTriangles(float ox, float oy, float oz, float dx, float dy, float dz, float maxT,
+                                     float[] ax, float[] ay, float[] az, float[] bx, float[] by, float[] bz,
+                                     float[] cx, float[] cy, float[] cz, float[] t, int from, int to);
+
+    abstract void intersectRays(float[] ox, float[] oy, float[] oz, float[] dx, float[] dy, float[] dz, float maxT,
+                                float ax, float ay, float az, float bx, float by, float bz,
+                                float cx, float cy, float cz, float[] t, int from, int to);
+
+    private static void checkBuffers(Vector3Buffer first, Vector3Buffer second, int offset, int count) {
+        ValidationUtils.requireNonNull(first, "Buffer");
+        ValidationUtils.requireNonNull(second, "Buffer");
+        ValidationUtils.checkRange(offset, count, Math.min(first.size(), second.size()));
+    }
+
+    private static void checkMask(long[] visible, int offset, int count) {
+        ValidationUtils.requireNonNull(visible, "Mask");
+        ValidationUtils.checkRange(offset, count, (int) Math.min(Integer.MAX_VALUE, visible.length * 64L));
+    }
+}
@@ -0,0 +1,283 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.Arrays;
+
+/**
+ * Класс для работы с векторами произвольной размерности
+ */
+public class VectorN {
+
+    private final float[] values;
+
+    /**
+     * Создает нулевой вектор заданной размерности
+     * @param size размерность
+     */
+    public VectorN(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Размерность вектора должна быть положительной");
+        }
+        values = new float[size];
+    }
+
+    /**
+     * Создает вектор с заданными координатами
+     * @param values координаты (копируются)
+     */
+    public VectorN(float... values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Массив координат не может быть пустым");
+        }
+        this.values = values.clone();
+    }
+
+    /**
+     * Создает копию вектора
+     * @param other исходный вектор
+     */
+    public VectorN(VectorN other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        values = other.values.clone();
+    }
+
+    /**
+     * Возвращает размерность вектора
+     * @return размерность
+     */
+    public int size() {
+        return values.length;
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Индекс вне границ: %d (размерность вектора: %d)", index, values.length));
+        }
+    }
+
+    /**
+     * Возвращает координату вектора
+     * @param index номер координаты
+     * @return значение координаты
+     */
+    public float get(int index) {
+        validateIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Устанавливает координату вектора
+     * @param index номер координаты
+     * @param value новое значение
+     */
+    public void set(int index, float value) {
+        validateIndex(index);
+        values[index] = value;
+    }
+
+    /**
+     * Копирует координаты другого вектора той же размерности
+     * @param other исходный вектор
+     * @return текущий вектор
+     */
+    public VectorN set(VectorN other) {
+        checkSameSize(other);
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        return this;
+    }
+
+    /**
+     * Устанавливает нулевой вектор
+     * @return текущий вектор
+     */
+    public VectorN setZero() {
+        Arrays.fill(values, 0.0f);
+        return this;
+    }
+
+    /**
+     * Возвращает внутренний массив координат без копирования
+     * @return массив координат
+     */
+    float[] elements() {
+        return values;
+    }
+
+    private void checkSameSize(VectorN other) {
+        ValidationUtils.requireNonNull(other, "Vector");
+        if (other.values.length != values.length) {
+            throw new IllegalArgumentException(
+                String.format("Размерности векторов не совпадают: %d и %d", values.length, other.values.length));
+        }
+    }
+
+    /**
+     * Сложение векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public VectorN add(VectorN other) {
+        return add(other, new VectorN(values.length));
+    }
+
+    /**
+     * Сложение векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public VectorN add(VectorN other, VectorN dest) {
+        checkSameSize(other);
+        checkSameSize(dest);
+        float[] a = values, b = other.values, d = dest.values;
+        for (int i = 0; i < a.length; i++) {
+            d[i] = a[i] + b[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Вычитание векторов
+     * @param other другой вектор
+     * @return новый вектор
+     */
+    public VectorN subtract(VectorN other) {
+        return subtract(other, new VectorN(values.length));
+    }
+
+    /**
+     * Вычитание векторов с записью результата в заданный вектор
+     * @param other другой вектор
+     * @param dest вектор для результата (может совпадать с this или other)
+     * @return вектор dest
+     */
+    public VectorN subtract(VectorN other, VectorN dest) {
+        checkSameSize(other);
+        checkSameSize(dest);
+        float[] a = values, b = other.values, d = dest.values;
+        for (int i = 0; i < a.length; i++) {
+            d[i] = a[i] - b[i];
+        }
+        return dest;
+    }
+
+    /**
+     * Умножение вектора на скаляр
+     * @param scalar скаляр
+     * @return новый вектор
+     */
+    public VectorN multiply(float scalar) {
+        return multiply(scalar, new VectorN(values.length));
+    }
+
+    /**
+     * Умножение вектора на скаляр с записью результата в заданный вектор
+     * @param scalar скаляр
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     */
+    public VectorN multiply(float scalar, VectorN dest) {
+        checkSameSize(dest);
+        float[] a = values, d = dest.values;
+        for (int i = 0; i < a.length; i++) {
+            d[i] = a[i] * scalar;
+        }
+        return dest;
+    }
+
+    /**
+     * Прибавляет к текущему вектору другой вектор, умноженный на скаляр: this = this + scalar * other
+     * @param scalar скаляр
+     * @param other другой вектор
+     * @return текущий вектор
+     */
+    public VectorN addScaledLocal(float scalar, VectorN other) {
+        checkSameSize(other);
+        float[] a = values, b = other.values;
+        for (int i = 0; i < a.length; i++) {
+            a[i] += scalar * b[i];
+        }
+        return this;
+    }
+
+    /**
+     * Скалярное произведение
+     * @param other другой вектор
+     * @return скалярное произведение
+     */
+    public float dot(VectorN other) {
+        checkSameSize(other);
+        float[] a = values, b = other.values;
+        float sum = 0.0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Вычисление длины вектора
+     * @return длина вектора
+     */
+    public float length() {
+        return (float) Math.sqrt(dot(this));
+    }
+
+    /**
+     * Нормализация вектора
+     * @return новый нормализованный вектор
+     */
+    public VectorN normalize() {
+        return normalize(new VectorN(values.length));
+    }
+
+    /**
+     * Нормализация вектора с записью результата в заданный вектор
+     * @param dest вектор для результата (может совпадать с this)
+     * @return вектор dest
+     * @throws ArithmeticException если вектор нулевой
+     */
+    public VectorN normalize(VectorN dest) {
+        float length = length();
+        ValidationUtils.checkNonZeroLength(length);
+        return multiply(1.0f / length, dest);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        VectorN vector = (VectorN) obj;
+        if (vector.values.length != values.length) return false;
+        float epsilon = ValidationUtils.getEpsilon();
+        for (int i = 0; i < values.length; i++) {
+            if (Math.abs(values[i] - vector.values[i]) >= epsilon) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        float epsilon = ValidationUtils.getEpsilon();
+        float scale = 1.0f / epsilon;
+        float maxValue = Integer.MAX_VALUE / scale;
+        int result = values.length;
+        for (float value : values) {
+            float safeValue = Math.max(-maxValue, Math.min(maxValue, value));
+            result = 31 * result + Integer.hashCode(Math.round(safeValue * scale));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("VectorN(");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(String.format("%.3f", values[i]));
+        }
+        return sb.append(")").toString();
+    }
+}
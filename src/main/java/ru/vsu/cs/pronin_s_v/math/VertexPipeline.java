@@ -0,0 +1,337 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Стадия обработки вершин программного растеризатора.
+ * За один проход по упакованному массиву вершин вычисляет однородные координаты
+ * clip = MVP * (x, y, z, 1), флаги отсечения, нормализованные координаты устройства (NDC)
+ * и целочисленные экранные координаты. Вершины обрабатываются блоками, которые при
+ * наличии пула потоков распределяются между потоками; результаты записываются
+ * в переиспользуемый {@link Output}. Последовательная обработка (без пула или при числе
+ * вершин не больше размера блока) не выделяет памяти в установившемся режиме;
+ * параллельная создает по одной небольшой задаче на блок.
+ * <p>
+ * Экранная ось y направлена вниз: NDC y = 1 соответствует верхней строке области вывода.
+ */
+public class VertexPipeline {
+    /** Вершина левее плоскости x = -w */
+    public static final int CLIP_LEFT = 1;
+    /** Вершина правее плоскости x = w */
+    public static final int CLIP_RIGHT = 1 << 1;
+    /** Вершина ниже плоскости y = -w */
+    public static final int CLIP_BOTTOM = 1 << 2;
+    /** Вершина выше плоскости y = w */
+    public static final int CLIP_TOP = 1 << 3;
+    /** Вершина ближе плоскости z = -w */
+    public static final int CLIP_NEAR = 1 << 4;
+    /** Вершина дальше плоскости z = w */
+    public static final int CLIP_FAR = 1 << 5;
+    /** Координата w не положительна, перспективное деление не выполнялось */
+    public static final int CLIP_W = 1 << 6;
+
+    /** Размер блока по умолчанию */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final int ALL_FLAGS = 0x7F;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private int viewportX;
+    private int viewportY;
+    private int viewportWidth;
+    private int viewportHeight;
+
+    /**
+     * Результат обработки вершин. Массивы увеличиваются только при росте количества вершин,
+     * поэтому один экземпляр можно использовать из кадра в кадр.
+     */
+    public static final class Output {
+        private byte[] flags = new byte[0];
+        private float[] ndc = new float[0];
+        private int[] screen = new int[0];
+        private float[] depth = new float[0];
+        private int size;
+        private int orFlags;
+        private int andFlags;
+
+        void ensureCapacity(int count) {
+            if (flags.length < count) {
+                flags = new byte[count];
+                ndc = new float[count * 3];
+                screen = new int[count * 2];
+                depth = new float[count];
+            }
+            size = count;
+        }
+
+        /**
+         * Возвращает количество обработанных вершин
+         * @return количество вершин
+         */
+        public int size() {
+            return size;
+        }
+
+        private void validateIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(
+                    String.format("Индекс вне границ: %d (количество вершин: %d)", index, size));
+            }
+        }
+
+        /**
+         * Возвращает флаги отсечения вершины
+         * @param index индекс вершины
+         * @return комбинация флагов CLIP_*, 0 для вершины внутри объема отсечения
+         */
+        public int getFlags(int index) {
+            validateIndex(index);
+            return flags[index];
+        }
+
+        /**
+         * Возвращает объединение флагов всех вершин; 0 означает, что отсечение не требуется
+         * @return объединение флагов
+         */
+        public int getOrFlags() {
+            return orFlags;
+        }
+
+        /**
+         * Возвращает пересечение флагов всех вершин; ненулевое значение означает,
+         * что все вершины лежат вне одной плоскости и примитивы можно отбросить целиком
+         * @return пересечение флагов
+         */
+        public int getAndFlags() {
+            return andFlags;
+        }
+
+        /**
+         * Загружает координаты NDC вершины в заданный вектор
+         * @param index индекс вершины
+         * @param dest вектор для результата
+         * @return вектор dest
+         */
+        public Vector3 getNdc(int index, Vector3 dest) {
+            ValidationUtils.requireNonNull(dest, "Destination");
+            validateIndex(index);
+            int o = index * 3;
+            return dest.set(ndc[o], ndc[o + 1], ndc[o + 2]);
+        }
+
+        /**
+         * Возвращает экранную координату x вершины
+         * @param index индекс вершины
+         * @return номер столбца пикселя
+         */
+        public int getScreenX(int index) {
+            validateIndex(index);
+            return screen[index * 2];
+        }
+
+        /**
+         * Возвращает экранную координату y вершины
+         * @param index индекс вершины
+         * @return номер строки пикселя
+         */
+        public int getScreenY(int index) {
+            validateIndex(index);
+            return screen[index * 2 + 1];
+        }
+
+        /**
+         * Возвращает глубину вершины в окне, от 0 (ближняя плоскость) до 1 (дальняя)
+         * @param index индекс вершины
+         * @return глубина
+         */
+        public float getDepth(int index) {
+            validateIndex(index);
+            return depth[index];
+        }
+    }
+
+    /**
+     * Создает последовательный конвейер для заданной области вывода
+     * @param x левая граница области вывода в пикселях
+     * @param y верхняя граница области вывода в пикселях
+     * @param width ширина области вывода
+     * @param height высота области вывода
+     */
+    public VertexPipeline(int x, int y, int width, int height) {
+        this(x, y, width, height, null, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает конвейер, распределяющий блоки вершин по потокам пула
+     * @param x левая граница области вывода в пикселях
+     * @param y верхняя граница области вывода в пикселях
+     * @param width ширина области вывода
+     * @param height высота области вывода
+     * @param pool пул потоков или null для последовательной обработки
+     * @param chunkSize количество вершин в одном блоке
+     */
+    public VertexPipeline(int x, int y, int width, int height, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Размер блока должен быть положительным");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        setViewport(x, y, width, height);
+    }
+
+    /**
+     * Изменяет область вывода
+     * @param x левая граница области вывода в пикселях
+     * @param y верхняя граница области вывода в пикселях
+     * @param width ширина области вывода
+     * @param height высота области вывода
+     */
+    public void setViewport(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Размеры области вывода должны быть положительными");
+        }
+        viewportX = x;
+        viewportY = y;
+        viewportWidth = width;
+        viewportHeight = height;
+    }
+
+    /**
+     * Обрабатывает вершины из упакованного массива
+     * @param mvp объединенная матрица модели-вида-проекции
+     * @param src массив вершин; каждая занимает stride элементов, используются первые три (x, y, z)
+     * @param srcOff индекс первой вершины в src
+     * @param count количество вершин
+     * @param stride шаг между вершинами (не меньше 3)
+     * @param out результат; массивы при необходимости увеличиваются
+     * @return результат out
+     */
+    public Output process(Matrix4 mvp, float[] src, int srcOff, int count, int stride, Output out) {
+        ValidationUtils.requireNonNull(mvp, "Matrix");
+        ValidationUtils.requireNonNull(out, "Output");
+        ValidationUtils.checkPackedRange(src, srcOff, count, stride, 3);
+        out.ensureCapacity(count);
+        int combined;
+        if (pool == null || count <= chunkSize) {
+            combined = runChunks(mvp.elements(), src, srcOff, stride, out, 0, count);
+        } else {
+            Chunk task = new Chunk(mvp.elements(), src, srcOff, stride, out, 0, count);
+            pool.invoke(task);
+            combined = task.flags;
+        }
+        out.orFlags = combined & ALL_FLAGS;
+        out.andFlags = count == 0 ? 0 : (combined >>> 8) & ALL_FLAGS;
+        return out;
+    }
+
+    /**
+     * Обрабатывает вершины [from, to) и возвращает объединение флагов в младшем байте
+     * и пересечение флагов во втором байте
+     */
+    private int run(float[] m, float[] src, int srcOff, int stride, Output out, int from, int to) {
+        float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        float halfWidth = 0.5f * viewportWidth, halfHeight = 0.5f * viewportHeight;
+        float centerX = viewportX + halfWidth, centerY = viewportY + halfHeight;
+        byte[] flags = out.flags;
+        float[] ndc = out.ndc;
+        int[] screen = out.screen;
+        float[] depth = out.depth;
+        int or = 0;
+        int and = ALL_FLAGS;
+        int s = srcOff + from * stride;
+        for (int i = from; i < to; i++, s += stride) {
+            float x = src[s], y = src[s + 1], z = src[s + 2];
+            float cx = m00 * x + m01 * y + m02 * z + m03;
+            float cy = m10 * x + m11 * y + m12 * z + m13;
+            float cz = m20 * x + m21 * y + m22 * z + m23;
+            float cw = m30 * x + m31 * y + m32 * z + m33;
+            int f = (cx < -cw ? CLIP_LEFT : 0) | (cx > cw ? CLIP_RIGHT : 0)
+                | (cy < -cw ? CLIP_BOTTOM : 0) | (cy > cw ? CLIP_TOP : 0)
+                | (cz < -cw ? CLIP_NEAR : 0) | (cz > cw ? CLIP_FAR : 0);
+            float nx = 0.0f, ny = 0.0f, nz = 0.0f;
+            if (cw > 0.0f) {
+                float invW = 1.0f / cw;
+                nx = cx * invW;
+                ny = cy * invW;
+                nz = cz * invW;
+            } else {
+                f |= CLIP_W;
+            }
+            flags[i] = (byte) f;
+            or |= f;
+            and &= f;
+            int o = i * 3;
+            ndc[o] = nx;
+            ndc[o + 1] = ny;
+            ndc[o + 2] = nz;
+            screen[i * 2] = (int) Math.floor(centerX + nx * halfWidth);
+            screen[i * 2 + 1] = (int) Math.floor(centerY - ny * halfHeight);
+            depth[i] = 0.5f * nz + 0.5f;
+        }
+        return or | (and << 8);
+    }
+
+    /**
+     * Обрабатывает вершины [from, to) блоками по chunkSize в текущем потоке
+     */
+    private int runChunks(float[] m, float[] src, int srcOff, int stride, Output out, int from, int to) {
+        int result = ALL_FLAGS << 8;
+        for (int start = from; start < to; start += chunkSize) {
+            result = merge(result, run(m, src, srcOff, stride, out, start, Math.min(to, start + chunkSize)));
+        }
+        return result;
+    }
+
+    /** Объединяет упакованные флаги двух диапазонов */
+    private static int merge(int a, int b) {
+        return ((a | b) & 0xFF) | (a & b & 0xFF00);
+    }
+
+    /**
+     * Задача параллельной обработки; упакованные флаги диапазона записываются в поле flags,
+     * чтобы не упаковывать результат в Integer
+     */
+    private final class Chunk extends RecursiveAction {
+        private final float[] m;
+        private final float[] src;
+        private final int srcOff;
+        private final int stride;
+        private final Output out;
+        private final int from;
+        private final int to;
+        private int flags;
+
+        Chunk(float[] m, float[] src, int srcOff, int stride, Output out, int from, int to) {
+            this.m = m;
+            this.src = src;
+            this.srcOff = srcOff;
+            this.stride = stride;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                flags = runChunks(m, src, srcOff, stride, out, from, to);
+                return;
+            }
+            int mid = from + ((to - from) / 2 / chunkSize) * chunkSize;
+            if (mid <= from) {
+                mid = from + chunkSize;
+            }
+            Chunk left = new Chunk(m, src, srcOff, stride, out, from, mid);
+            Chunk right = new Chunk(m, src, srcOff, stride, out, mid, to);
+            right.fork();
+            left.compute();
+            right.join();
+            flags = merge(left.flags, right.flags);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тесты для класса Frustum
+ */
+public class FrustumTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int SIZE = 203;
+
+    /**
+     * Перспективная проекция с углом обзора 90°, near = 1, far = 100, камера смотрит вдоль -z
+     */
+    private static Matrix4 perspective() {
+        float near = 1.0f;
+        float far = 100.0f;
+        return new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, (far + near) / (near - far), 2.0f * far * near / (near - far),
+            0.0f, 0.0f, -1.0f, 0.0f
+        });
+    }
+
+    private static Vector3Buffer[] randomBoxes(Random random) {
+        Vector3Buffer min = new Vector3Buffer(SIZE);
+        Vector3Buffer max = new Vector3Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            float x = random.nextFloat() * 80.0f - 40.0f;
+            float y = random.nextFloat() * 80.0f - 40.0f;
+            float z = -random.nextFloat() * 120.0f + 10.0f;
+            float h = random.nextFloat() * 3.0f;
+            min.set(i, x - h, y - h, z - h);
+            max.set(i, x + h, y + h, z + h);
+        }
+        return new Vector3Buffer[] {min, max};
+    }
+
+    /**
+     * Тест извлечения плоскостей.
+     * Для единичной матрицы пирамида совпадает с кубом [-1, 1]³.
+     */
+    @Test
+    public void testPlanesOfIdentity() {
+        Frustum frustum = new Frustum(new Matrix4());
+        Vector4 plane = new Vector4();
+
+        frustum.getPlane(Frustum.LEFT, plane);
+        Assertions.assertEquals(new Vector4(1.0f, 0.0f, 0.0f, 1.0f), plane);
+        frustum.getPlane(Frustum.FAR, plane);
+        Assertions.assertEquals(new Vector4(0.0f, 0.0f, -1.0f, 1.0f), plane);
+
+        Assertions.assertTrue(frustum.containsPoint(new Vector3(0.5f, -0.5f, 1.0f)));
+        Assertions.assertFalse(frustum.containsPoint(new Vector3(1.5f, 0.0f, 0.0f)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> frustum.getPlane(6, plane));
+    }
+
+    /**
+     * Тест перспективной пирамиды.
+     * Проверяет точки, сферы и параллелепипеды по обе стороны от плоскостей.
+     */
+    @Test
+    public void testPerspectiveQueries() {
+        Frustum frustum = new Frustum(perspective());
+        Vector4 near = frustum.getPlane(Frustum.NEAR, new Vector4());
+
+        Assertions.assertEquals(0.0f, near.getX(), EPSILON);
+        Assertions.assertEquals(-1.0f, near.getZ(), EPSILON);
+        Assertions.assertEquals(-1.0f, near.getW(), EPSILON);
+
+        Assertions.assertTrue(frustum.containsPoint(new Vector3(0.0f, 0.0f, -5.0f)));
+        Assertions.assertFalse(frustum.containsPoint(new Vector3(0.0f, 0.0f, 5.0f)));
+        Assertions.assertFalse(frustum.containsPoint(new Vector3(6.0f, 0.0f, -5.0f)));
+        Assertions.assertFalse(frustum.containsPoint(new Vector3(0.0f, 0.0f, -101.0f)));
+
+        Assertions.assertTrue(frustum.intersectsSphere(new Vector3(6.0f, 0.0f, -5.0f), 1.0f));
+        Assertions.assertFalse(frustum.intersectsSphere(new Vector3(6.0f, 0.0f, -5.0f), 0.5f));
+
+        Assertions.assertTrue(frustum.intersectsAabb(new Vector3(4.0f, -1.0f, -6.0f), new Vector3(6.0f, 1.0f, -4.0f)));
+        Assertions.assertFalse(frustum.intersectsAabb(new Vector3(-1.0f, -1.0f, 2.0f), new Vector3(1.0f, 1.0f, 3.0f)));
+    }
+
+    /**
+     * Тест массового отсечения.
+     * Результат совпадает с поэлементными проверками, биты вне диапазона не изменяются.
+     */
+    @Test
+    public void testBulkCullingMatchesSingleQueries() {
+        Random random = new Random(3);
+        Frustum frustum = new Frustum(perspective());
+        Vector3Buffer[] boxes = randomBoxes(random);
+        float[] radii = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            radii[i] = random.nextFloat() * 4.0f;
+        }
+        long[] aabbMask = new long[Frustum.maskLength(SIZE)];
+        long[] sphereMask = new long[Frustum.maskLength(SIZE)];
+        aabbMask[0] = 1L;
+        sphereMask[0] = 1L;
+
+        frustum.cullAabbs(boxes[0], boxes[1], aabbMask, 1, SIZE - 1);
+        frustum.cullSpheres(boxes[0], radii, sphereMask, 1, SIZE - 1);
+
+        Assertions.assertTrue(Frustum.isVisible(aabbMask, 0));
+        Assertions.assertTrue(Frustum.isVisible(sphereMask, 0));
+        int visibleCount = 0;
+        for (int i = 1; i < SIZE; i++) {
+            boolean box = frustum.intersectsAabb(boxes[0].get(i), boxes[1].get(i));
+            Assertions.assertEquals(box, Frustum.isVisible(aabbMask, i));
+            Assertions.assertEquals(frustum.intersectsSphere(boxes[0].get(i), radii[i]),
+                Frustum.isVisible(sphereMask, i));
+            visibleCount += box ? 1 : 0;
+        }
+        Assertions.assertTrue(visibleCount > 0 && visibleCount < SIZE - 1);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> frustum.cullAabbs(boxes[0], boxes[1], new long[1], 0, SIZE));
+    }
+
+    /**
+     * Тест SIMD и параллельного движков.
+     * Маски видимости совпадают со скалярным движком при любых смещениях.
+     */
+    @Test
+    public void testEnginesMatchScalar() {
+        Random random = new Random(5);
+        Frustum frustum = new Frustum(perspective());
+        Vector3Buffer[] boxes = randomBoxes(random);
+        float[] radii = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            radii[i] = random.nextFloat() * 4.0f;
+        }
+        VectorEngine scalar = VectorEngine.scalar();
+        VectorEngine parallel = VectorEngine.parallel(scalar, ForkJoinPool.commonPool(), 7);
+        VectorEngine[] engines = VectorEngine.isSimdAvailable()
+            ? new VectorEngine[] {parallel, VectorEngine.simd(), VectorEngine.simd(128),
+                VectorEngine.parallel(VectorEngine.simd(), ForkJoinPool.commonPool(), 7)}
+            : new VectorEngine[] {parallel};
+
+        for (int offset : new int[] {0, 3, 61}) {
+            int count = SIZE - offset;
+            long[] expectedBoxes = scalar.cullAabbs(frustum, boxes[0], boxes[1],
+                new long[Frustum.maskLength(SIZE)], offset, count);
+            long[] expectedSpheres = scalar.cullSpheres(frustum, boxes[0], radii,
+                new long[Frustum.maskLength(SIZE)], offset, count);
+            for (VectorEngine engine : engines) {
+                long[] actualBoxes = new long[Frustum.maskLength(SIZE)];
+                long[] actualSpheres = new long[Frustum.maskLength(SIZE)];
+                engine.cullAabbs(frustum, boxes[0], boxes[1], actualBoxes, offset, count);
+                engine.cullSpheres(frustum, boxes[0], radii, actualSpheres, offset, count);
+                Assertions.assertArrayEquals(expectedBoxes, actualBoxes);
+                Assertions.assertArrayEquals(expectedSpheres, actualSpheres);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Тесты для класса MappedPointTransformer
+ */
+public class MappedPointTransformerTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int VERTICES = 10;
+
+    @TempDir
+    Path directory;
+
+    private static Matrix4 createMatrix() {
+        return new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    private static float[] createPoints() {
+        float[] points = new float[VERTICES * 3];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = i * 0.5f - 3.0f;
+        }
+        return points;
+    }
+
+    private static void write(Path file, float[] values, ByteOrder order) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Float.BYTES).order(order);
+        bytes.asFloatBuffer().put(values);
+        Files.write(file, bytes.array());
+    }
+
+    private static float[] read(Path file, ByteOrder order) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(order);
+        float[] values = new float[bytes.remaining() / Float.BYTES];
+        bytes.asFloatBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Тест преобразования файла окнами, размер которых не делит количество точек.
+     * Проверяет совпадение с Matrix4.transformPoints над массивом и статистику.
+     */
+    @Test
+    public void testTransformInWindows() throws IOException {
+        Path input = directory.resolve("input.bin");
+        Path output = directory.resolve("output.bin");
+        float[] points = createPoints();
+        write(input, points, ByteOrder.BIG_ENDIAN);
+
+        Matrix4 m = createMatrix();
+        MappedPointTransformer transformer = new MappedPointTransformer(m, 3, ByteOrder.BIG_ENDIAN, false);
+        MappedPointTransformer.Statistics statistics = transformer.transform(input, output);
+
+        float[] expected = new float[points.length];
+        m.transformPoints(points, 0, expected, 0, VERTICES, 3);
+        Assertions.assertArrayEquals(expected, read(output, ByteOrder.BIG_ENDIAN), EPSILON);
+        Assertions.assertArrayEquals(points, read(input, ByteOrder.BIG_ENDIAN), 0.0f);
+        Assertions.assertEquals(VERTICES, statistics.getVertexCount());
+        Assertions.assertTrue(statistics.getVerticesPerSecond() >= 0.0);
+    }
+
+    /**
+     * Тест преобразования файла на месте с перспективным делением
+     */
+    @Test
+    public void testTransformInPlace() throws IOException {
+        Path file = directory.resolve("points.bin");
+        float[] points = createPoints();
+        write(file, points, ByteOrder.nativeOrder());
+
+        Matrix4 m = createMatrix();
+        m.set(3, 2, 0.1f);
+        new MappedPointTransformer(m, 4, ByteOrder.nativeOrder(), true, true).transform(file, file);
+
+        float[] expected = new float[points.length];
+        m.transformPoints(points, 0, expected, 0, VERTICES, 3, true);
+        Assertions.assertArrayEquals(expected, read(file, ByteOrder.nativeOrder()), EPSILON);
+    }
+
+    /**
+     * Тест обработки ошибок: размер файла не кратен записи и слишком маленькое или слишком большое окно
+     */
+    @Test
+    public void testInvalidArguments() throws IOException {
+        Path input = directory.resolve("broken.bin");
+        Files.write(input, new byte[13]);
+        MappedPointTransformer transformer = new MappedPointTransformer(new Matrix4());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> transformer.transform(input, directory.resolve("out.bin")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new MappedPointTransformer(new Matrix4(), 0, ByteOrder.nativeOrder(), false));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new MappedPointTransformer(new Matrix4(), Integer.MAX_VALUE / 12 + 1, ByteOrder.nativeOrder(), false));
+    }
+}
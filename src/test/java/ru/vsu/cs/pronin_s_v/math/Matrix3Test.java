@@ -219,6 +219,27 @@ public class Matrix3Test {
         }
     }
 
+    /**
+     * Тест знака нуля при умножении матриц.
+     * Проверяет, что сумма отрицательных нулей дает +0.0f, как в поэлементном цикле.
+     */
+    @Test
+    public void testMultiplyKeepsPositiveZero() {
+        Matrix3 negated = Matrix3.zero();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                negated.set(i, j, -1.0f);
+            }
+        }
+        Matrix3 result = negated.multiply(Matrix3.zero());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(Float.floatToIntBits(0.0f), Float.floatToIntBits(result.get(i, j)),
+                    String.format("Элемент [%d][%d] должен быть равен +0.0", i, j));
+            }
+        }
+    }
+
     /**
      * Тест умножения матрицы на вектор-столбец.
      * Проверяет, что диагональная матрица (2,2,2) умножает вектор (1,2,3) на 2: результат (2,4,6).
@@ -329,4 +350,141 @@ public class Matrix3Test {
         Assertions.assertNotEquals(m1, null);
         Assertions.assertNotEquals(m1, "not a matrix");
     }
+
+    /**
+     * Тест умножения с записью в заданную матрицу.
+     * Проверяет, что результат совпадает с multiply(other), в том числе когда
+     * матрица результата совпадает с одним из множителей.
+     */
+    @Test
+    public void testMultiplyIntoDestination() {
+        Matrix3 a = new Matrix3(new float[] {
+            1.0f, 2.0f, 3.0f,
+            4.0f, 5.0f, 6.0f,
+            7.0f, 8.0f, 9.0f
+        });
+        Matrix3 b = new Matrix3(new float[] {
+            2.0f, 0.0f, 1.0f,
+            0.0f, 2.0f, 0.0f,
+            1.0f, 0.0f, 2.0f
+        });
+        Matrix3 expected = a.multiply(b);
+
+        Matrix3 dest = Matrix3.zero();
+        Assertions.assertSame(dest, a.multiply(b, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix3 aliasThis = new Matrix3(a);
+        aliasThis.mulLocal(b);
+        Assertions.assertEquals(expected, aliasThis);
+
+        Matrix3 aliasOther = new Matrix3(b);
+        a.multiply(aliasOther, aliasOther);
+        Assertions.assertEquals(expected, aliasOther);
+
+        Matrix3 square = new Matrix3(a);
+        square.mulLocal(square);
+        Assertions.assertEquals(a.multiply(a), square);
+    }
+
+    /**
+     * Тест сложения, вычитания и транспонирования на месте.
+     * Проверяет, что результаты совпадают с методами, создающими новую матрицу.
+     */
+    @Test
+    public void testLocalOperations() {
+        Matrix3 a = new Matrix3(new float[] {
+            1.0f, 2.0f, 3.0f,
+            4.0f, 5.0f, 6.0f,
+            7.0f, 8.0f, 9.0f
+        });
+        Matrix3 b = new Matrix3(new float[] {
+            2.0f, 0.0f, 1.0f,
+            0.0f, 2.0f, 0.0f,
+            1.0f, 0.0f, 2.0f
+        });
+
+        Assertions.assertEquals(a.add(b), new Matrix3(a).addLocal(b));
+        Assertions.assertEquals(a.subtract(b), new Matrix3(a).subtractLocal(b));
+        Assertions.assertEquals(a.transpose(), new Matrix3(a).transposeLocal());
+        Assertions.assertEquals(a.transpose(), a.transpose(Matrix3.zero()));
+        Assertions.assertEquals(b, Matrix3.zero().set(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b, null));
+    }
+
+    /**
+     * Тест вычисления обратной матрицы 3×3.
+     * Проверяет свойство A * A^(-1) = I и обращение на месте.
+     */
+    @Test
+    public void testInverse() {
+        Matrix3 m = new Matrix3(new float[] {
+            2.0f, 0.5f, 1.0f,
+            0.0f, 3.0f, 1.0f,
+            1.0f, -1.0f, 4.0f
+        });
+        Matrix3 product = m.multiply(m.inverse());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                float expected = (i == j) ? 1.0f : 0.0f;
+                Assertions.assertEquals(expected, product.get(i, j), EPSILON);
+            }
+        }
+        Matrix3 expected = m.inverse();
+        Assertions.assertSame(m, m.inverse(m));
+        Assertions.assertEquals(expected, m);
+    }
+
+    /**
+     * Тест обработки ошибки при обращении вырожденной матрицы 3×3
+     */
+    @Test
+    public void testInverseSingular() {
+        Matrix3 m = new Matrix3(new float[] {
+            1.0f, 2.0f, 3.0f,
+            4.0f, 5.0f, 6.0f,
+            7.0f, 8.0f, 9.0f
+        });
+        Assertions.assertThrows(ArithmeticException.class, m::inverse);
+    }
+
+    /**
+     * Тест кэширования определителя, обратной матрицы и матрицы нормалей.
+     * Любое изменение матрицы сбрасывает кэш.
+     */
+    @Test
+    public void testCaching() {
+        Matrix3 m = new Matrix3(new float[] {
+            2.0f, 0.5f, 1.0f,
+            0.0f, 3.0f, 1.0f,
+            1.0f, 0.0f, 4.0f
+        }).setCaching(true);
+        Matrix3 plain = new Matrix3(m);
+
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        Assertions.assertEquals(plain.inverse().transpose(), m.normalMatrix());
+        Assertions.assertEquals(plain.inverse().transpose(), m.normalMatrix());
+
+        m.set(2, 2, -1.0f);
+        plain.set(2, 2, -1.0f);
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        Assertions.assertEquals(plain.inverse().transpose(), m.normalMatrix());
+
+        m.addLocal(new Matrix3());
+        plain.addLocal(new Matrix3());
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        m.subtractLocal(new Matrix3());
+        plain.subtractLocal(new Matrix3());
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+
+        m.set(new Matrix3());
+        Assertions.assertEquals(1.0f, m.determinant(), EPSILON);
+        m.setZero();
+        Assertions.assertThrows(ArithmeticException.class, () -> m.inverse());
+        m.setCaching(false);
+        Assertions.assertFalse(m.isCaching());
+        Assertions.assertThrows(ArithmeticException.class, () -> Matrix3.zero().normalMatrix());
+    }
 }
@@ -0,0 +1,179 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса Matrix3d.
+ * Общая арифметика сверяется с Matrix3 на случайных входах, остальные тесты
+ * проверяют то, ради чего нужна двойная точность.
+ */
+public class Matrix3dTest {
+
+    private static final double EPSILON = 1e-9;
+    private static final double TOLERANCE = 1e-5;
+
+    /**
+     * Тест обращения плохо обусловленной матрицы.
+     * При определителе 1e-6 точное обратное содержит элемент 1e6 + 1; double дает его
+     * с ошибкой порядка 1e-4, а float искажает уже сам элемент 1 + 1e-6 и ошибается
+     * на десятки тысяч.
+     */
+    @Test
+    public void testInverseIllConditioned() {
+        double delta = 1e-6;
+        Matrix3d m = new Matrix3d(new double[] {
+            1.0, 1.0, 0.0,
+            1.0, 1.0 + delta, 0.0,
+            0.0, 0.0, 1.0
+        });
+
+        Matrix3d inverse = m.inverse();
+
+        Assertions.assertEquals(1.0 / delta + 1.0, inverse.get(0, 0), 1e-3);
+        Assertions.assertEquals(-1.0 / delta, inverse.get(0, 1), 1e-3);
+        Matrix3d product = m.multiply(inverse);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals((i == j) ? 1.0 : 0.0, product.get(i, j), 1e-6);
+            }
+        }
+        Matrix3 floatInverse = m.toMatrix3().inverse();
+        Assertions.assertTrue(Math.abs(floatInverse.get(0, 0) - (1.0 / delta + 1.0)) > 1.0e3);
+    }
+
+    /**
+     * Тест вычисления обратной матрицы 3×3.
+     * Проверяет свойство A * A^(-1) = I с точностью double и обращение на месте.
+     */
+    @Test
+    public void testInverse() {
+        Matrix3d m = new Matrix3d(new double[] {
+            2.0, 0.5, 1.0,
+            0.0, 3.0, 1.0,
+            1.0, -1.0, 4.0
+        });
+        Matrix3d product = m.multiply(m.inverse());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                double expected = (i == j) ? 1.0 : 0.0;
+                Assertions.assertEquals(expected, product.get(i, j), EPSILON);
+            }
+        }
+        Matrix3d expected = m.inverse();
+        Assertions.assertSame(m, m.inverse(m));
+        Assertions.assertEquals(expected, m);
+    }
+
+    /**
+     * Тест соответствия операциям одинарной точности.
+     * На случайных матрицах с диагональным преобладанием, точно представимых во float,
+     * каждая операция дает тот же результат, что и у Matrix3, с точностью до округления float.
+     */
+    @Test
+    public void testMatchesFloatOperations() {
+        Random random = new Random(5);
+        Matrix3d dest = Matrix3d.zero();
+        for (int k = 0; k < 100; k++) {
+            Matrix3 fa = randomMatrix(random);
+            Matrix3 fb = randomMatrix(random);
+            Vector3 fv = new Vector3(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f,
+                random.nextFloat() * 8.0f - 4.0f);
+            Matrix3d a = new Matrix3d(fa);
+            Matrix3d b = new Matrix3d(fb);
+
+            assertMatches(fa.add(fb), a.add(b));
+            assertMatches(fa.add(fb), a.add(b, dest));
+            assertMatches(fa.add(fb), new Matrix3d(a).addLocal(b));
+            assertMatches(fa.subtract(fb), a.subtract(b));
+            assertMatches(fa.subtract(fb), a.subtract(b, dest));
+            assertMatches(fa.subtract(fb), new Matrix3d(a).subtractLocal(b));
+            assertMatches(fa.multiply(fb), a.multiply(b));
+            assertMatches(fa.multiply(fb), a.multiply(b, dest));
+            assertMatches(fa.multiply(fb), new Matrix3d(a).mulLocal(b));
+            assertMatches(fa.transpose(), a.transpose());
+            assertMatches(fa.transpose(), a.transpose(dest));
+            assertMatches(fa.transpose(), new Matrix3d(a).transposeLocal());
+            assertMatches(fa.inverse(), a.inverse());
+            assertMatches(fa.inverse(), a.inverse(dest));
+            double det = a.determinant();
+            Assertions.assertEquals(fa.determinant(), det, TOLERANCE * Math.abs(det));
+            Vector3 fr = fa.multiply(fv);
+            Vector3d r = a.multiply(new Vector3d(fv));
+            Assertions.assertEquals(fr.getX(), r.getX(), TOLERANCE * Math.max(1.0, Math.abs(r.getX())));
+            Assertions.assertEquals(fr.getY(), r.getY(), TOLERANCE * Math.max(1.0, Math.abs(r.getY())));
+            Assertions.assertEquals(fr.getZ(), r.getZ(), TOLERANCE * Math.max(1.0, Math.abs(r.getZ())));
+        }
+    }
+
+    /**
+     * Тест знака нуля при умножении матриц.
+     * Как и в Matrix3, сумма отрицательных нулей дает +0.0.
+     */
+    @Test
+    public void testMultiplyKeepsPositiveZero() {
+        Matrix3d negated = Matrix3d.zero();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                negated.set(i, j, -1.0);
+            }
+        }
+        Matrix3d result = negated.multiply(Matrix3d.zero());
+        Vector3d vector = negated.multiply(new Vector3d());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(result.get(i, j)));
+            }
+        }
+        Assertions.assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(vector.getX()));
+    }
+
+    /**
+     * Тест преобразования между точностями.
+     * Матрица одинарной точности без потерь расширяется до двойной и обратно.
+     */
+    @Test
+    public void testPrecisionConversion() {
+        Matrix3 source = new Matrix3(new float[] {
+            1.5f, 0.1f, 0.0f,
+            -2.0f, 1.0f, 4.0f,
+            7.0f, 0.0f, 0.3f
+        });
+
+        Matrix3d widened = new Matrix3d(source);
+        Matrix3 narrowed = widened.toMatrix3();
+
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(source.get(i, j), widened.get(i, j), 0.0);
+                Assertions.assertEquals(source.get(i, j), narrowed.get(i, j), 0.0f);
+            }
+        }
+        Assertions.assertEquals((double) 0.1f, widened.get(0, 1), 0.0);
+        Assertions.assertSame(narrowed, widened.set(Matrix3.zero()).toMatrix3(narrowed));
+        Assertions.assertEquals(0.0f, narrowed.get(0, 0), 0.0f);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> widened.toMatrix3(null));
+    }
+
+    private static Matrix3 randomMatrix(Random random) {
+        Matrix3 m = Matrix3.zero();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                float value = random.nextFloat() * 2.0f - 1.0f;
+                m.set(i, j, i == j ? value + (value < 0.0f ? -5.0f : 5.0f) : value);
+            }
+        }
+        return m;
+    }
+
+    private static void assertMatches(Matrix3 expected, Matrix3d actual) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                double value = actual.get(i, j);
+                Assertions.assertEquals(expected.get(i, j), value, TOLERANCE * Math.max(1.0, Math.abs(value)));
+            }
+        }
+    }
+}
@@ -3,6 +3,9 @@ package ru.vsu.cs.pronin_s_v.math;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
 /**
  * Тесты для класса Matrix4
  */
@@ -229,6 +232,47 @@ public class Matrix4Test {
         }
     }
 
+    /**
+     * Тест знака нуля при умножении матриц.
+     * Проверяет, что сумма отрицательных нулей дает +0.0f, как в поэлементном цикле.
+     */
+    @Test
+    public void testMultiplyKeepsPositiveZero() {
+        Matrix4 negated = Matrix4.zero();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                negated.set(i, j, -1.0f);
+            }
+        }
+        Matrix4 result = negated.multiply(Matrix4.zero());
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(Float.floatToIntBits(0.0f), Float.floatToIntBits(result.get(i, j)),
+                    String.format("Элемент [%d][%d] должен быть равен +0.0", i, j));
+            }
+        }
+    }
+
+    /**
+     * Тест знака нуля при умножении матрицы на вектор.
+     * Строка из -1, умноженная на нулевой вектор, дает +0.0f, как в поэлементном цикле.
+     */
+    @Test
+    public void testMultiplyVectorKeepsPositiveZero() {
+        Matrix4 negated = Matrix4.zero();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                negated.set(i, j, -1.0f);
+            }
+        }
+        Vector4 result = negated.multiply(new Vector4(0.0f, 0.0f, 0.0f, 0.0f));
+        int positiveZero = Float.floatToIntBits(0.0f);
+        Assertions.assertEquals(positiveZero, Float.floatToIntBits(result.getX()));
+        Assertions.assertEquals(positiveZero, Float.floatToIntBits(result.getY()));
+        Assertions.assertEquals(positiveZero, Float.floatToIntBits(result.getZ()));
+        Assertions.assertEquals(positiveZero, Float.floatToIntBits(result.getW()));
+    }
+
     /**
      * Тест умножения матрицы 4×4 на вектор-столбец Vector4.
      * Проверяет, что диагональная матрица (2,2,2,2) умножает вектор (1,2,3,4) на 2: результат (2,4,6,8).
@@ -386,4 +430,506 @@ public class Matrix4Test {
         Assertions.assertNotEquals(m1, null);
         Assertions.assertNotEquals(m1, "not a matrix");
     }
+
+    /**
+     * Тест умножения с записью в заданную матрицу.
+     * Проверяет, что результат совпадает с multiply(other), в том числе когда
+     * матрица результата совпадает с одним из множителей.
+     */
+    @Test
+    public void testMultiplyIntoDestination() {
+        Matrix4 a = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            5.0f, 6.0f, 7.0f, 8.0f,
+            9.0f, 10.0f, 11.0f, 12.0f,
+            13.0f, 14.0f, 15.0f, 16.0f
+        });
+        Matrix4 b = new Matrix4(new float[] {
+            2.0f, 0.0f, 1.0f, 0.0f,
+            0.0f, 2.0f, 0.0f, 1.0f,
+            1.0f, 0.0f, 2.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 2.0f
+        });
+        Matrix4 expected = a.multiply(b);
+
+        Matrix4 dest = Matrix4.zero();
+        Assertions.assertSame(dest, a.multiply(b, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix4 aliasThis = new Matrix4(a);
+        aliasThis.mulLocal(b);
+        Assertions.assertEquals(expected, aliasThis);
+
+        Matrix4 aliasOther = new Matrix4(b);
+        a.multiply(aliasOther, aliasOther);
+        Assertions.assertEquals(expected, aliasOther);
+
+        Matrix4 square = new Matrix4(a);
+        square.mulLocal(square);
+        Assertions.assertEquals(a.multiply(a), square);
+    }
+
+    /**
+     * Тест сложения, вычитания и транспонирования на месте.
+     * Проверяет, что результаты совпадают с методами, создающими новую матрицу.
+     */
+    @Test
+    public void testLocalOperations() {
+        Matrix4 a = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            5.0f, 6.0f, 7.0f, 8.0f,
+            9.0f, 10.0f, 11.0f, 12.0f,
+            13.0f, 14.0f, 15.0f, 16.0f
+        });
+        Matrix4 b = new Matrix4(new float[] {
+            2.0f, 0.0f, 1.0f, 0.0f,
+            0.0f, 2.0f, 0.0f, 1.0f,
+            1.0f, 0.0f, 2.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 2.0f
+        });
+
+        Assertions.assertEquals(a.add(b), new Matrix4(a).addLocal(b));
+        Assertions.assertEquals(a.subtract(b), new Matrix4(a).subtractLocal(b));
+        Assertions.assertEquals(a.transpose(), new Matrix4(a).transposeLocal());
+        Assertions.assertEquals(a.transpose(), a.transpose(Matrix4.zero()));
+        Assertions.assertEquals(b, Matrix4.zero().set(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b, null));
+    }
+
+    /**
+     * Тест точности обращения на случайных хорошо обусловленных матрицах.
+     * Матрицы с диагональным преобладанием проверяются по свойству A * A^(-1) = I,
+     * а определитель сравнивается с вычисленным в двойной точности.
+     */
+    @Test
+    public void testInverseRandomWellConditioned() {
+        Random random = new Random(42);
+        Matrix4 inverse = Matrix4.zero();
+        Matrix4 product = Matrix4.zero();
+        for (int n = 0; n < 1000; n++) {
+            float[] values = new float[16];
+            double[] reference = new double[16];
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    float value = random.nextFloat() * 2.0f - 1.0f;
+                    if (i == j) {
+                        value += (value < 0 ? -5.0f : 5.0f);
+                    }
+                    values[i * 4 + j] = value;
+                    reference[i * 4 + j] = value;
+                }
+            }
+            Matrix4 m = new Matrix4(values);
+            double expectedDet = determinant4(reference);
+            Assertions.assertEquals(expectedDet, m.determinant(), Math.abs(expectedDet) * 1e-5);
+
+            m.multiply(m.inverse(inverse), product);
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    float expected = (i == j) ? 1.0f : 0.0f;
+                    Assertions.assertEquals(expected, product.get(i, j), 1e-5f);
+                }
+            }
+        }
+    }
+
+    /**
+     * Тест обращения на месте.
+     * Проверяет, что inverse(dest) с dest == this дает тот же результат, что и inverse().
+     */
+    @Test
+    public void testInverseIntoSelf() {
+        Matrix4 m = new Matrix4(new float[] {
+            4.0f, 1.0f, 0.5f, 2.0f,
+            1.0f, 5.0f, 1.0f, -1.0f,
+            0.0f, 2.0f, 6.0f, 3.0f,
+            1.0f, 0.0f, 1.0f, 7.0f
+        });
+        Matrix4 expected = m.inverse();
+        Assertions.assertSame(m, m.inverse(m));
+        Assertions.assertEquals(expected, m);
+    }
+
+    /**
+     * Тест обращения аффинной матрицы.
+     * Проверяет свойство A * A^(-1) = I для матрицы с масштабом, сдвигом и переносом,
+     * а также что inverse() дает тот же результат.
+     */
+    @Test
+    public void testInverseAffine() {
+        Matrix4 m = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Assertions.assertTrue(m.isAffine());
+        Matrix4 inverse = m.inverseAffine();
+        Matrix4 product = m.multiply(inverse);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                float expected = (i == j) ? 1.0f : 0.0f;
+                Assertions.assertEquals(expected, product.get(i, j), EPSILON);
+            }
+        }
+        Assertions.assertEquals(inverse, m.inverse());
+    }
+
+    /**
+     * Тест обращения матрицы движения (поворот вокруг оси z и перенос).
+     * Проверяет свойство A * A^(-1) = I и совпадение с inverseAffine().
+     */
+    @Test
+    public void testInverseRigid() {
+        float cos = (float) Math.cos(0.7);
+        float sin = (float) Math.sin(0.7);
+        Matrix4 m = new Matrix4(new float[] {
+            cos, -sin, 0.0f, 1.0f,
+            sin, cos, 0.0f, 2.0f,
+            0.0f, 0.0f, 1.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Matrix4 inverse = m.inverseRigid();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                float expected = (i == j) ? 1.0f : 0.0f;
+                Assertions.assertEquals(expected, m.multiply(inverse).get(i, j), EPSILON);
+                Assertions.assertEquals(m.inverseAffine().get(i, j), inverse.get(i, j), EPSILON);
+            }
+        }
+        Assertions.assertSame(m, m.inverseRigid(m));
+        Assertions.assertEquals(inverse, m);
+    }
+
+    /**
+     * Тест обработки ошибки при обращении неаффинной матрицы быстрыми методами.
+     * Проверяет, что inverseAffine() и inverseRigid() вызывают IllegalStateException.
+     */
+    @Test
+    public void testInverseAffineNotAffine() {
+        Matrix4 m = new Matrix4();
+        m.set(3, 0, 1.0f);
+        Assertions.assertFalse(m.isAffine());
+        Assertions.assertThrows(IllegalStateException.class, m::inverseAffine);
+        Assertions.assertThrows(IllegalStateException.class, m::inverseRigid);
+    }
+
+    /**
+     * Тест пакетного преобразования точек и направлений.
+     * Проверяет, что результат совпадает с multiply(Vector4) для w = 1 и w = 0,
+     * а элементы между вершинами (при stride = 4) не изменяются.
+     */
+    @Test
+    public void testTransformPointsAndDirections() {
+        Matrix4 m = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.1f, 0.2f, 0.3f, 1.0f
+        });
+        float[] src = {1.0f, 2.0f, 3.0f, -7.0f, -1.0f, 0.5f, 2.0f, -7.0f};
+        float[] points = src.clone();
+        float[] projected = new float[8];
+        float[] directions = new float[8];
+        m.transformPoints(points, 0, points, 0, 2, 4);
+        m.transformPoints(src, 0, projected, 0, 2, 4, true);
+        m.transformDirections(src, 0, directions, 0, 2, 4);
+
+        for (int i = 0; i < 2; i++) {
+            int o = i * 4;
+            Vector4 point = m.multiply(new Vector4(src[o], src[o + 1], src[o + 2], 1.0f));
+            Vector4 direction = m.multiply(new Vector4(src[o], src[o + 1], src[o + 2], 0.0f));
+            Assertions.assertEquals(point.getX(), points[o], EPSILON);
+            Assertions.assertEquals(point.getY(), points[o + 1], EPSILON);
+            Assertions.assertEquals(point.getZ(), points[o + 2], EPSILON);
+            Assertions.assertEquals(-7.0f, points[o + 3], EPSILON);
+            Assertions.assertEquals(point.getX() / point.getW(), projected[o], EPSILON);
+            Assertions.assertEquals(point.getY() / point.getW(), projected[o + 1], EPSILON);
+            Assertions.assertEquals(point.getZ() / point.getW(), projected[o + 2], EPSILON);
+            Assertions.assertEquals(direction.getX(), directions[o], EPSILON);
+            Assertions.assertEquals(direction.getY(), directions[o + 1], EPSILON);
+            Assertions.assertEquals(direction.getZ(), directions[o + 2], EPSILON);
+        }
+    }
+
+    /**
+     * Тест пакетного преобразования четырехмерных векторов со смещениями.
+     * Проверяет совпадение с multiply(Vector4).
+     */
+    @Test
+    public void testTransformVectors4() {
+        Matrix4 m = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            5.0f, 6.0f, 7.0f, 8.0f,
+            9.0f, 10.0f, 11.0f, 12.0f,
+            13.0f, 14.0f, 15.0f, 16.0f
+        });
+        float[] src = {0.0f, 1.0f, 2.0f, 3.0f, 4.0f};
+        float[] dst = new float[6];
+        m.transformVectors4(src, 1, dst, 2, 1, 4);
+        Vector4 expected = m.multiply(new Vector4(1.0f, 2.0f, 3.0f, 4.0f));
+        Assertions.assertEquals(expected.getX(), dst[2], EPSILON);
+        Assertions.assertEquals(expected.getY(), dst[3], EPSILON);
+        Assertions.assertEquals(expected.getZ(), dst[4], EPSILON);
+        Assertions.assertEquals(expected.getW(), dst[5], EPSILON);
+    }
+
+    /**
+     * Тест обработки ошибок пакетного преобразования.
+     * Проверяет слишком маленький шаг и выход вершин за границы массива.
+     */
+    @Test
+    public void testTransformPointsInvalidArguments() {
+        Matrix4 m = new Matrix4();
+        float[] data = new float[6];
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.transformPoints(data, 0, data, 0, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformPoints(data, 1, data, 1, 2, 3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.transformDirections(null, 0, data, 0, 1, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformVectors4(data, 0, data, 0, 2, 4));
+    }
+
+    /**
+     * Тест вычисления матрицы нормалей.
+     * Проверяет совпадение с верхним левым блоком 3×3 матрицы (A^(-1))^T.
+     */
+    @Test
+    public void testNormalMatrix() {
+        Matrix4 m = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Matrix4 expected = m.inverse().transpose();
+        Matrix3 normal = m.normalMatrix();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(expected.get(i, j), normal.get(i, j), EPSILON);
+            }
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> Matrix4.zero().normalMatrix());
+    }
+
+    private static void assertMatrixEquals(Matrix4 expected, Matrix4 actual) {
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), EPSILON,
+                    "Элемент [" + i + "][" + j + "]");
+            }
+        }
+    }
+
+    private static void assertVectorEquals(Vector3 expected, Vector3 actual) {
+        Assertions.assertEquals(expected.getX(), actual.getX(), EPSILON);
+        Assertions.assertEquals(expected.getY(), actual.getY(), EPSILON);
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+    }
+
+    private static Vector3 project(Matrix4 m, float x, float y, float z) {
+        Vector4 clip = m.multiply(new Vector4(x, y, z, 1.0f));
+        return new Vector3(clip.getX() / clip.getW(), clip.getY() / clip.getW(), clip.getZ() / clip.getW());
+    }
+
+    /**
+     * Тест перспективной проекции.
+     * Углы ближней и дальней плоскостей отображаются в углы куба [-1, 1]³,
+     * симметричная пирамида совпадает с perspective.
+     */
+    @Test
+    public void testPerspectiveAndFrustum() {
+        float fov = (float) Math.toRadians(60.0);
+        float aspect = 1.5f;
+        Matrix4 p = Matrix4.perspective(fov, aspect, 0.5f, 50.0f);
+        float top = 0.5f * (float) Math.tan(0.5 * fov);
+        float right = top * aspect;
+        assertMatrixEquals(Matrix4.frustum(-right, right, -top, top, 0.5f, 50.0f), p);
+
+        assertVectorEquals(new Vector3(1.0f, 1.0f, -1.0f), project(p, right, top, -0.5f));
+        Vector3 far = project(p, -right * 100.0f, -top * 100.0f, -50.0f);
+        Assertions.assertEquals(-1.0f, far.getX(), EPSILON);
+        Assertions.assertEquals(-1.0f, far.getY(), EPSILON);
+        Assertions.assertEquals(1.0f, far.getZ(), EPSILON);
+
+        Matrix4 offCenter = Matrix4.frustum(0.0f, 2.0f, -1.0f, 3.0f, 1.0f, 10.0f);
+        assertVectorEquals(new Vector3(-1.0f, -1.0f, -1.0f), project(offCenter, 0.0f, -1.0f, -1.0f));
+        assertVectorEquals(new Vector3(1.0f, 1.0f, -1.0f), project(offCenter, 2.0f, 3.0f, -1.0f));
+
+        Matrix4 reused = new Matrix4();
+        Assertions.assertSame(reused, reused.setPerspective(fov, aspect, 0.5f, 50.0f));
+        assertMatrixEquals(p, reused);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Matrix4.perspective(fov, aspect, 0.0f, 1.0f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Matrix4.perspective(0.0f, aspect, 1.0f, 2.0f));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Matrix4.frustum(1.0f, 1.0f, -1.0f, 1.0f, 1.0f, 2.0f));
+    }
+
+    /**
+     * Тест ортографической проекции: параллелепипед видимости отображается в куб [-1, 1]³
+     */
+    @Test
+    public void testOrthographic() {
+        Matrix4 o = Matrix4.orthographic(-2.0f, 6.0f, 1.0f, 5.0f, 1.0f, 11.0f);
+        Assertions.assertTrue(o.isAffine());
+        assertVectorEquals(new Vector3(-1.0f, -1.0f, -1.0f), project(o, -2.0f, 1.0f, -1.0f));
+        assertVectorEquals(new Vector3(1.0f, 1.0f, 1.0f), project(o, 6.0f, 5.0f, -11.0f));
+        assertVectorEquals(new Vector3(0.0f, 0.0f, 0.0f), project(o, 2.0f, 3.0f, -6.0f));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Matrix4.orthographic(0.0f, 1.0f, 2.0f, 2.0f, 0.0f, 1.0f));
+    }
+
+    /**
+     * Тест матрицы вида.
+     * Камера переходит в начало координат, цель - на отрицательную полуось z,
+     * блок 3×3 ортонормирован.
+     */
+    @Test
+    public void testLookAt() {
+        Vector3 eye = new Vector3(3.0f, 4.0f, 5.0f);
+        Vector3 target = new Vector3(-1.0f, 2.0f, 0.0f);
+        Matrix4 view = Matrix4.lookAt(eye, target, new Vector3(0.0f, 1.0f, 0.0f));
+
+        assertVectorEquals(new Vector3(0.0f, 0.0f, 0.0f), project(view, 3.0f, 4.0f, 5.0f));
+        Vector3 t = project(view, -1.0f, 2.0f, 0.0f);
+        Assertions.assertEquals(0.0f, t.getX(), EPSILON);
+        Assertions.assertEquals(0.0f, t.getY(), EPSILON);
+        Assertions.assertEquals(-eye.subtract(target).length(), t.getZ(), EPSILON);
+
+        Matrix4 rotation = new Matrix4(view);
+        rotation.set(0, 3, 0.0f);
+        rotation.set(1, 3, 0.0f);
+        rotation.set(2, 3, 0.0f);
+        assertMatrixEquals(new Matrix4(), rotation.multiply(rotation.transpose()));
+        Assertions.assertTrue(view.get(1, 1) > 0.0f);
+
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> Matrix4.lookAt(eye, eye, new Vector3(0.0f, 1.0f, 0.0f)));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> Matrix4.lookAt(new Vector3(), new Vector3(0.0f, 2.0f, 0.0f), new Vector3(0.0f, 1.0f, 0.0f)));
+    }
+
+    /**
+     * Тест составления T * R * S.
+     * Результат совпадает с произведением отдельных матриц переноса, поворота и масштаба,
+     * а вариант с углами Эйлера - с кватернионом Rz * Ry * Rx.
+     */
+    @Test
+    public void testTranslationRotationScale() {
+        Vector3 translation = new Vector3(1.0f, -2.0f, 3.0f);
+        Vector3 scale = new Vector3(2.0f, 0.5f, 3.0f);
+        Quaternion rotation = Quaternion.fromAxisAngle(new Vector3(1.0f, 2.0f, -1.0f).normalize(), 0.7f);
+
+        Matrix4 t = new Matrix4();
+        t.set(0, 3, 1.0f);
+        t.set(1, 3, -2.0f);
+        t.set(2, 3, 3.0f);
+        Matrix4 s = new Matrix4();
+        s.set(0, 0, 2.0f);
+        s.set(1, 1, 0.5f);
+        s.set(2, 2, 3.0f);
+        Matrix4 expected = t.multiply(rotation.toMatrix4()).multiply(s);
+        assertMatrixEquals(expected, Matrix4.translationRotationScale(translation, rotation, scale));
+
+        float ax = 0.3f, ay = -1.1f, az = 2.0f;
+        Quaternion euler = Quaternion.fromAxisAngle(new Vector3(0.0f, 0.0f, 1.0f), az)
+            .multiply(Quaternion.fromAxisAngle(new Vector3(0.0f, 1.0f, 0.0f), ay))
+            .multiply(Quaternion.fromAxisAngle(new Vector3(1.0f, 0.0f, 0.0f), ax));
+        Matrix4 reused = Matrix4.zero();
+        reused.setTranslationRotationScale(translation, ax, ay, az, scale);
+        assertMatrixEquals(Matrix4.translationRotationScale(translation, euler, scale), reused);
+    }
+
+    /**
+     * Тест кэширования определителя, обратной матрицы и матрицы нормалей.
+     * Любое изменение матрицы сбрасывает кэш, результаты совпадают с вычислением без кэша.
+     */
+    @Test
+    public void testCaching() {
+        Matrix4 m = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.5f, 0.0f, 0.0f, 1.0f
+        }).setCaching(true);
+        Assertions.assertTrue(m.isCaching());
+        Matrix4 plain = new Matrix4(m);
+        Assertions.assertFalse(plain.isCaching());
+
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        Assertions.assertEquals(plain.normalMatrix(), m.normalMatrix());
+
+        m.set(0, 0, 4.0f);
+        plain.set(0, 0, 4.0f);
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+        Assertions.assertEquals(plain.normalMatrix(), m.normalMatrix());
+
+        Matrix4 scale = new Matrix4();
+        scale.set(1, 1, 2.0f);
+        m.mulLocal(scale);
+        plain.mulLocal(scale);
+        Assertions.assertEquals(plain.determinant(), m.determinant(), EPSILON);
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+
+        m.transposeLocal();
+        plain.transposeLocal();
+        Assertions.assertEquals(plain.inverse(), m.inverse());
+
+        m.inverse(m);
+        Assertions.assertEquals(plain.inverse(), m);
+        Assertions.assertEquals(1.0f / plain.determinant(), m.determinant(), EPSILON);
+
+        m.setIdentity();
+        Assertions.assertEquals(1.0f, m.determinant(), EPSILON);
+        m.setPerspective(1.0f, 1.5f, 0.1f, 10.0f);
+        Assertions.assertEquals(Matrix4.perspective(1.0f, 1.5f, 0.1f, 10.0f).inverse(), m.inverse());
+        Quaternion.fromAxisAngle(new Vector3(0.0f, 1.0f, 0.0f), 0.5f).toMatrix4(m);
+        Assertions.assertEquals(1.0f, m.determinant(), EPSILON);
+        m.setZero();
+        Assertions.assertEquals(0.0f, m.determinant(), EPSILON);
+        Assertions.assertThrows(ArithmeticException.class, () -> m.inverse());
+    }
+
+    /**
+     * Тест параллельного чтения кэшированной матрицы из нескольких потоков
+     */
+    @Test
+    public void testCachingConcurrentReads() {
+        Matrix4 m = Matrix4.lookAt(new Vector3(1.0f, 2.0f, 3.0f), new Vector3(), new Vector3(0.0f, 1.0f, 0.0f));
+        Matrix4 expected = m.inverse();
+        float expectedDet = m.determinant();
+        m.setCaching(true);
+        boolean allMatch = IntStream.range(0, 10000).parallel().allMatch(i -> {
+            Matrix4 inverse = (i & 1) == 0 ? m.inverse() : Matrix4.zero();
+            return ((i & 1) != 0 || inverse.equals(expected)) && m.determinant() == expectedDet;
+        });
+        Assertions.assertTrue(allMatch);
+    }
+
+    private static double determinant4(double[] m) {
+        double det = 0.0;
+        for (int col = 0; col < 4; col++) {
+            double[] minor = new double[9];
+            int mi = 0;
+            for (int i = 1; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    if (j != col) {
+                        minor[mi++] = m[i * 4 + j];
+                    }
+                }
+            }
+            double minorDet = minor[0] * (minor[4] * minor[8] - minor[5] * minor[7])
+                - minor[1] * (minor[3] * minor[8] - minor[5] * minor[6])
+                + minor[2] * (minor[3] * minor[7] - minor[4] * minor[6]);
+            det += ((col % 2 == 0) ? 1.0 : -1.0) * m[col] * minorDet;
+        }
+        return det;
+    }
 }
@@ -0,0 +1,373 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+/**
+ * Тесты для класса Matrix4d.
+ * Общая арифметика сверяется с Matrix4 на случайных входах, остальные тесты
+ * проверяют то, ради чего нужна двойная точность.
+ */
+public class Matrix4dTest {
+
+    private static final double ORIGIN = 1.0e8;
+    private static final double TOLERANCE = 1e-5;
+
+    /**
+     * Тест преобразования точек большого мира с выводом в float.
+     * Перенос в начало отсчета камеры выполняется в double, поэтому малые смещения
+     * относительно далекой камеры сохраняются, хотя сами координаты непредставимы во float.
+     * Тот же расчет целиком во float теряет смещения полностью.
+     */
+    @Test
+    public void testTransformPointsToFloatKeepsPrecision() {
+        Matrix4d view = translation(-ORIGIN, -ORIGIN, -ORIGIN);
+        double[] world = {
+            -1.0, ORIGIN + 0.25, ORIGIN - 0.5, ORIGIN + 1.125, 7.0,
+            ORIGIN - 3.75, ORIGIN + 2.0, ORIGIN, 7.0
+        };
+        float[] local = new float[10];
+        local[4] = -9.0f;
+        local[8] = -9.0f;
+
+        view.transformPoints(world, 1, local, 1, 2, 4);
+
+        float[] expected = {0.0f, 0.25f, -0.5f, 1.125f, -9.0f, -3.75f, 2.0f, 0.0f, -9.0f, 0.0f};
+        Assertions.assertArrayEquals(expected, local, 0.0f);
+
+        float[] floatWorld = Precision.toFloat(world, 0, new float[9], 0, 9);
+        float[] floatLocal = new float[9];
+        view.toMatrix4().transformPoints(floatWorld, 1, floatLocal, 1, 2, 4);
+        Assertions.assertNotEquals(0.25f, floatLocal[1]);
+        Assertions.assertNotEquals(-3.75f, floatLocal[5]);
+    }
+
+    /**
+     * Тест совпадения смешанного ядра с расчетом в double.
+     * Для матрицы вида с поворотом и большим переносом результат
+     * transformPoints(double[], ..., float[], ...) побитово равен результату
+     * double-ядра, округленному до float.
+     */
+    @Test
+    public void testTransformPointsToFloatMatchesDoubleKernel() {
+        Matrix4d camera = rotationZ(0.3).multiply(rotationX(-1.1));
+        camera.set(0, 3, ORIGIN);
+        camera.set(1, 3, -ORIGIN);
+        camera.set(2, 3, 0.5 * ORIGIN);
+        Matrix4d view = camera.inverseRigid();
+        Random random = new Random(3);
+        int count = 257;
+        double[] world = new double[count * 3];
+        for (int i = 0; i < count; i++) {
+            world[i * 3] = ORIGIN + random.nextDouble() * 2000.0 - 1000.0;
+            world[i * 3 + 1] = -ORIGIN + random.nextDouble() * 2000.0 - 1000.0;
+            world[i * 3 + 2] = 0.5 * ORIGIN + random.nextDouble() * 2000.0 - 1000.0;
+        }
+        double[] reference = new double[world.length];
+        float[] local = new float[world.length];
+
+        view.transformPoints(world, 0, reference, 0, count, 3);
+        view.transformPoints(world, 0, local, 0, count, 3);
+
+        for (int i = 0; i < world.length; i++) {
+            Assertions.assertEquals(Float.floatToIntBits((float) reference[i]), Float.floatToIntBits(local[i]));
+        }
+    }
+
+    /**
+     * Тест обращения матрицы движения с большим переносом.
+     * Точка большого мира после перехода в систему камеры и обратно возвращается
+     * с ошибкой порядка ulp(1e8) в double, тогда как во float ошибка достигает единиц.
+     */
+    @Test
+    public void testInverseRigidLargeTranslation() {
+        Matrix4d camera = rotationZ(0.7);
+        camera.set(0, 3, ORIGIN);
+        camera.set(1, 3, ORIGIN);
+        camera.set(2, 3, -ORIGIN);
+        Matrix4d view = camera.inverseRigid();
+        Vector4d world = new Vector4d(ORIGIN + 12.345, ORIGIN - 6.789, -ORIGIN + 0.001, 1.0);
+
+        Vector4d local = view.multiply(world);
+        Vector4d back = camera.multiply(local);
+
+        Assertions.assertEquals(world.getX(), back.getX(), 1e-6);
+        Assertions.assertEquals(world.getY(), back.getY(), 1e-6);
+        Assertions.assertEquals(world.getZ(), back.getZ(), 1e-6);
+        Assertions.assertEquals(Math.hypot(12.345, 6.789), Math.hypot(local.getX(), local.getY()), 1e-6);
+
+        Vector4 floatLocal = view.toMatrix4().multiply(world.toVector4());
+        Assertions.assertTrue(Math.abs(Math.hypot(floatLocal.getX(), floatLocal.getY())
+            - Math.hypot(12.345, 6.789)) > 0.5);
+    }
+
+    /**
+     * Тест обработки ошибок смешанного ядра.
+     * Проверяет слишком маленький шаг, null и выход за границы массива float.
+     */
+    @Test
+    public void testTransformPointsToFloatInvalidArguments() {
+        Matrix4d m = new Matrix4d();
+        double[] src = new double[6];
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.transformPoints(src, 0, new float[6], 0, 2, 2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> m.transformPoints(src, 0, (float[]) null, 0, 1, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformPoints(src, 0, new float[5], 0, 2, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> m.transformPoints(src, 2, new float[6], 0, 2, 3));
+    }
+
+    /**
+     * Тест соответствия операциям одинарной точности.
+     * На случайных матрицах с диагональным преобладанием, точно представимых во float,
+     * каждая операция дает тот же результат, что и у Matrix4, с точностью до округления float.
+     */
+    @Test
+    public void testMatchesFloatOperations() {
+        Random random = new Random(9);
+        Matrix4d dest = Matrix4d.zero();
+        for (int k = 0; k < 100; k++) {
+            Matrix4 fa = randomMatrix(random);
+            Matrix4 fb = randomMatrix(random);
+            Vector4 fv = new Vector4(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f,
+                random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            Matrix4d a = new Matrix4d(fa);
+            Matrix4d b = new Matrix4d(fb);
+
+            assertMatches(fa.add(fb), a.add(b));
+            assertMatches(fa.add(fb), a.add(b, dest));
+            assertMatches(fa.add(fb), new Matrix4d(a).addLocal(b));
+            assertMatches(fa.subtract(fb), a.subtract(b));
+            assertMatches(fa.subtract(fb), a.subtract(b, dest));
+            assertMatches(fa.subtract(fb), new Matrix4d(a).subtractLocal(b));
+            assertMatches(fa.multiply(fb), a.multiply(b));
+            assertMatches(fa.multiply(fb), a.multiply(b, dest));
+            assertMatches(fa.multiply(fb), new Matrix4d(a).mulLocal(b));
+            assertMatches(fa.transpose(), a.transpose());
+            assertMatches(fa.transpose(), a.transpose(dest));
+            assertMatches(fa.transpose(), new Matrix4d(a).transposeLocal());
+            assertMatches(fa.inverse(), a.inverse());
+            assertMatches(fa.inverse(), a.inverse(dest));
+            double det = a.determinant();
+            Assertions.assertEquals(fa.determinant(), det, TOLERANCE * Math.abs(det));
+            Vector4 fr = fa.multiply(fv);
+            Vector4d r = a.multiply(new Vector4d(fv));
+            assertClose(fr.getX(), r.getX());
+            assertClose(fr.getY(), r.getY());
+            assertClose(fr.getZ(), r.getZ());
+            assertClose(fr.getW(), r.getW());
+
+            Matrix3 fNormal = fa.normalMatrix();
+            Matrix3d normal = a.normalMatrix();
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 3; j++) {
+                    assertClose(fNormal.get(i, j), normal.get(i, j));
+                }
+            }
+
+            Matrix4 fAffine = new Matrix4(fa);
+            fAffine.set(3, 0, 0.0f);
+            fAffine.set(3, 1, 0.0f);
+            fAffine.set(3, 2, 0.0f);
+            fAffine.set(3, 3, 1.0f);
+            Matrix4d affine = new Matrix4d(fAffine);
+            Assertions.assertEquals(fa.isAffine(), a.isAffine());
+            Assertions.assertTrue(affine.isAffine());
+            assertMatches(fAffine.inverseAffine(), affine.inverseAffine());
+            assertMatches(fAffine.inverseAffine(), affine.inverseAffine(dest));
+
+            Matrix4d rigid = rotationZ(random.nextDouble() * 6.0).multiply(rotationX(random.nextDouble() * 6.0));
+            rigid.set(0, 3, fv.getX());
+            rigid.set(1, 3, fv.getY());
+            rigid.set(2, 3, fv.getZ());
+            Matrix4 fRigid = rigid.toMatrix4();
+            assertMatches(fRigid.inverseRigid(), new Matrix4d(fRigid).inverseRigid());
+            assertMatches(fRigid.inverseRigid(), new Matrix4d(fRigid).inverseRigid(dest));
+        }
+    }
+
+    /**
+     * Тест соответствия пакетных ядер одинарной точности.
+     * Упаковка в массивы и буферы точна, а преобразования массивов и буферов со смещениями
+     * и шагом совпадают с Matrix4 с точностью до округления float;
+     * элементы между вершинами не изменяются.
+     */
+    @Test
+    public void testPackedKernelsMatchFloat() {
+        Random random = new Random(13);
+        Matrix4 fm = randomMatrix(random);
+        Matrix4d m = new Matrix4d(fm);
+        int count = 7;
+        int stride = 5;
+        int offset = 2;
+        int length = offset + count * stride;
+        float[] fSrc = new float[length];
+        for (int i = 0; i < length; i++) {
+            fSrc[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        double[] src = Precision.toDouble(fSrc, 0, new double[length], 0, length);
+
+        double[] packed = m.toArray(new double[19], 3);
+        float[] fPacked = fm.toArray(new float[19], 3);
+        for (int i = 0; i < 19; i++) {
+            Assertions.assertEquals(fPacked[i], packed[i], 0.0);
+        }
+        Assertions.assertEquals(m, Matrix4d.zero().set(packed, 3));
+        DoubleBuffer packedBuffer = m.toBuffer(DoubleBuffer.allocate(18), 2);
+        Assertions.assertEquals(m, Matrix4d.zero().set(packedBuffer, 2));
+
+        for (int kernel = 0; kernel < 4; kernel++) {
+            float[] fDst = new float[length];
+            double[] dst = new double[length];
+            float[] fBufferDst = new float[length];
+            double[] bufferDst = new double[length];
+            FloatBuffer fIn = FloatBuffer.wrap(fSrc);
+            FloatBuffer fOut = FloatBuffer.wrap(fBufferDst);
+            DoubleBuffer in = DoubleBuffer.wrap(src);
+            DoubleBuffer out = DoubleBuffer.wrap(bufferDst);
+            switch (kernel) {
+                case 0 -> {
+                    fm.transformPoints(fSrc, offset, fDst, offset, count, stride, false);
+                    m.transformPoints(src, offset, dst, offset, count, stride, false);
+                    fm.transformPoints(fIn, offset, fOut, offset, count, stride, false);
+                    m.transformPoints(in, offset, out, offset, count, stride, false);
+                }
+                case 1 -> {
+                    fm.transformPoints(fSrc, offset, fDst, offset, count, stride, true);
+                    m.transformPoints(src, offset, dst, offset, count, stride, true);
+                    fm.transformPoints(fIn, offset, fOut, offset, count, stride, true);
+                    m.transformPoints(in, offset, out, offset, count, stride, true);
+                }
+                case 2 -> {
+                    fm.transformDirections(fSrc, offset, fDst, offset, count, stride);
+                    m.transformDirections(src, offset, dst, offset, count, stride);
+                    fm.transformDirections(fIn, offset, fOut, offset, count, stride);
+                    m.transformDirections(in, offset, out, offset, count, stride);
+                }
+                default -> {
+                    fm.transformVectors4(fSrc, offset, fDst, offset, count, stride);
+                    m.transformVectors4(src, offset, dst, offset, count, stride);
+                    fm.transformVectors4(fIn, offset, fOut, offset, count, stride);
+                    m.transformVectors4(in, offset, out, offset, count, stride);
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                assertClose(fDst[i], dst[i]);
+                assertClose(fBufferDst[i], bufferDst[i]);
+            }
+            Assertions.assertEquals(0.0, dst[offset + 4], 0.0);
+            Assertions.assertEquals(0, in.position());
+        }
+    }
+
+    /**
+     * Тест знака нуля при умножении.
+     * Как и в Matrix4, сумма отрицательных нулей дает +0.0 для произведения матриц и вектора.
+     */
+    @Test
+    public void testMultiplyKeepsPositiveZero() {
+        Matrix4d negated = Matrix4d.zero();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                negated.set(i, j, -1.0);
+            }
+        }
+        Matrix4d result = negated.multiply(Matrix4d.zero());
+        Vector4d vector = negated.multiply(new Vector4d());
+        long positiveZero = Double.doubleToLongBits(0.0);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(positiveZero, Double.doubleToLongBits(result.get(i, j)));
+            }
+        }
+        Assertions.assertEquals(positiveZero, Double.doubleToLongBits(vector.getX()));
+        Assertions.assertEquals(positiveZero, Double.doubleToLongBits(vector.getW()));
+    }
+
+    /**
+     * Тест преобразования между точностями.
+     * Матрица одинарной точности без потерь расширяется до двойной и обратно.
+     */
+    @Test
+    public void testPrecisionConversion() {
+        Matrix4 source = new Matrix4(new float[] {
+            1.5f, 2.0f, 0.0f, 3.25f,
+            0.0f, 1.0f, 4.0f, -2.0f,
+            7.0f, 0.0f, 0.1f, 0.5f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+
+        Matrix4d widened = new Matrix4d(source);
+        Matrix4 narrowed = widened.toMatrix4();
+
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(source.get(i, j), widened.get(i, j), 0.0);
+                Assertions.assertEquals(source.get(i, j), narrowed.get(i, j), 0.0f);
+            }
+        }
+        Assertions.assertEquals((double) 0.1f, widened.get(2, 2), 0.0);
+        Assertions.assertSame(narrowed, widened.set(Matrix4.zero()).toMatrix4(narrowed));
+        Assertions.assertEquals(0.0f, narrowed.get(0, 0), 0.0f);
+    }
+
+    private static Matrix4d translation(double x, double y, double z) {
+        return new Matrix4d(new double[] {
+            1.0, 0.0, 0.0, x,
+            0.0, 1.0, 0.0, y,
+            0.0, 0.0, 1.0, z,
+            0.0, 0.0, 0.0, 1.0
+        });
+    }
+
+    private static Matrix4d rotationX(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Matrix4d(new double[] {
+            1.0, 0.0, 0.0, 0.0,
+            0.0, cos, -sin, 0.0,
+            0.0, sin, cos, 0.0,
+            0.0, 0.0, 0.0, 1.0
+        });
+    }
+
+    private static Matrix4d rotationZ(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Matrix4d(new double[] {
+            cos, -sin, 0.0, 0.0,
+            sin, cos, 0.0, 0.0,
+            0.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0
+        });
+    }
+
+    private static Matrix4 randomMatrix(Random random) {
+        Matrix4 m = Matrix4.zero();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                float value = random.nextFloat() * 2.0f - 1.0f;
+                m.set(i, j, i == j ? value + (value < 0.0f ? -5.0f : 5.0f) : value);
+            }
+        }
+        return m;
+    }
+
+    private static void assertMatches(Matrix4 expected, Matrix4d actual) {
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertClose(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    private static void assertClose(float expected, double actual) {
+        Assertions.assertEquals(expected, actual, TOLERANCE * Math.max(1.0, Math.abs(actual)));
+    }
+}
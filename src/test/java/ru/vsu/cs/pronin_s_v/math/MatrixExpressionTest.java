@@ -0,0 +1,163 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Тесты для классов Matrix4Expression и Matrix3Expression
+ */
+public class MatrixExpressionTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Matrix4 randomMatrix4(Random random) {
+        float[] m = new float[16];
+        for (int i = 0; i < m.length; i++) {
+            m[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        return new Matrix4(m);
+    }
+
+    private static Matrix3 randomMatrix3(Random random) {
+        float[] m = new float[9];
+        for (int i = 0; i < m.length; i++) {
+            m[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        return new Matrix3(m);
+    }
+
+    private static void assertMatrixEquals(Matrix4 expected, Matrix4 actual) {
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Тест свертки цепочки 4×4 с транспонированными множителями.
+     * Результат совпадает с последовательными умножениями матриц.
+     */
+    @Test
+    public void testEvaluate4() {
+        Random random = new Random(11);
+        Matrix4 a = randomMatrix4(random);
+        Matrix4 b = randomMatrix4(random);
+        Matrix4 c = randomMatrix4(random);
+        Matrix4Expression expression = Matrix4Expression.of(a).multiplyTransposed(b).multiply(c);
+
+        Assertions.assertEquals(3, expression.size());
+        assertMatrixEquals(a.multiply(b.transpose()).multiply(c), expression.evaluate());
+
+        expression.transpose();
+        assertMatrixEquals(a.multiply(b.transpose()).multiply(c).transpose(), expression.evaluate());
+
+        Matrix4 dest = new Matrix4(a);
+        Matrix4 expected = dest.multiply(dest);
+        Matrix4Expression.of(dest).multiply(dest).evaluate(dest);
+        assertMatrixEquals(expected, dest);
+
+        assertMatrixEquals(new Matrix4(), new Matrix4Expression().evaluate());
+        assertMatrixEquals(new Matrix4(), expression.clear().evaluate());
+    }
+
+    /**
+     * Тест отложенности: матрицы считываются при вычислении, а не при построении выражения
+     */
+    @Test
+    public void testLazyEvaluation() {
+        Matrix4 a = new Matrix4();
+        Matrix4Expression expression = Matrix4Expression.of(a);
+        a.set(0, 3, 5.0f);
+        Vector4 result = expression.apply(new Vector4(0.0f, 0.0f, 0.0f, 1.0f));
+        Assertions.assertEquals(5.0f, result.getX(), EPSILON);
+    }
+
+    /**
+     * Тест применения к одному вектору и к пакету точек и векторов.
+     * Оба пути (поочередный и со сверткой) совпадают с вычисленной матрицей.
+     */
+    @Test
+    public void testApply4() {
+        Random random = new Random(5);
+        Matrix4 a = randomMatrix4(random);
+        Matrix4 b = randomMatrix4(random);
+        Matrix4 c = randomMatrix4(random);
+        Matrix4Expression expression = Matrix4Expression.of(a).multiply(b).multiplyTransposed(c);
+        Matrix4 product = expression.evaluate();
+
+        Vector4 v = new Vector4(0.5f, -1.0f, 2.0f, 1.0f);
+        Vector4 expected = product.multiply(v);
+        Vector4 actual = expression.apply(v, v);
+        Assertions.assertEquals(expected.getX(), actual.getX(), EPSILON);
+        Assertions.assertEquals(expected.getW(), actual.getW(), EPSILON);
+
+        for (int count : new int[] {1, 37}) {
+            float[] src = new float[count * 5];
+            for (int i = 0; i < src.length; i++) {
+                src[i] = random.nextFloat() * 4.0f - 2.0f;
+            }
+            float[] expectedVectors = new float[src.length];
+            float[] actualVectors = new float[src.length];
+            product.transformVectors4(src, 0, expectedVectors, 0, count, 5);
+            expression.transformVectors4(src, 0, actualVectors, 0, count, 5);
+            Assertions.assertArrayEquals(expectedVectors, actualVectors, EPSILON);
+
+            float[] expectedPoints = new float[src.length];
+            float[] actualPoints = new float[src.length];
+            product.transformPoints(src, 0, expectedPoints, 0, count, 5, false);
+            expression.transformPoints(src, 0, actualPoints, 0, count, 5, false);
+            Assertions.assertArrayEquals(expectedPoints, actualPoints, EPSILON);
+        }
+    }
+
+    /**
+     * Тест цепочки 3×3: свертка, транспонирование и применение к векторам
+     */
+    @Test
+    public void testExpression3() {
+        Random random = new Random(9);
+        Matrix3 a = randomMatrix3(random);
+        Matrix3 b = randomMatrix3(random);
+        Matrix3Expression expression = Matrix3Expression.of(a).multiplyTransposed(b);
+        Matrix3 product = a.multiply(b.transpose());
+        Matrix3 evaluated = expression.evaluate();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(product.get(i, j), evaluated.get(i, j), EPSILON);
+            }
+        }
+
+        Vector3 v = new Vector3(1.0f, -2.0f, 0.5f);
+        Vector3 expected = product.multiply(v);
+        Vector3 actual = expression.apply(v);
+        Assertions.assertEquals(expected.getX(), actual.getX(), EPSILON);
+        Assertions.assertEquals(expected.getY(), actual.getY(), EPSILON);
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+
+        float[] src = {1.0f, -2.0f, 0.5f, 3.0f, 0.0f, 1.0f, -1.0f, 4.0f, 2.0f};
+        float[] dst = new float[9];
+        expression.transform(src, 0, dst, 0, 3, 3);
+        Assertions.assertEquals(expected.getX(), dst[0], EPSILON);
+        Assertions.assertEquals(expected.getZ(), dst[2], EPSILON);
+        expression.transform(src, 0, dst, 0, 1, 3);
+        Assertions.assertEquals(expected.getY(), dst[1], EPSILON);
+
+        expression.transpose();
+        Matrix3 transposed = expression.evaluate();
+        Assertions.assertEquals(product.get(0, 1), transposed.get(1, 0), EPSILON);
+    }
+
+    /**
+     * Тест проверки аргументов
+     */
+    @Test
+    public void testValidation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Matrix4Expression.of(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Matrix3Expression().multiply(null));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> new Matrix4Expression().transformVectors4(new float[4], 0, new float[4], 0, 2, 4));
+    }
+}
@@ -0,0 +1,202 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса MatrixN
+ */
+public class MatrixNTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static MatrixN random(Random random, int rows, int cols) {
+        MatrixN m = new MatrixN(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m.set(i, j, random.nextFloat() * 2.0f - 1.0f);
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Эталонное умножение тройным циклом в двойной точности
+     */
+    private static double[] reference(MatrixN a, boolean ta, MatrixN b, boolean tb) {
+        int m = ta ? a.cols() : a.rows();
+        int k = ta ? a.rows() : a.cols();
+        int n = tb ? b.rows() : b.cols();
+        double[] c = new double[m * n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int p = 0; p < k; p++) {
+                    sum += (double) (ta ? a.get(p, i) : a.get(i, p)) * (tb ? b.get(j, p) : b.get(p, j));
+                }
+                c[i * n + j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private static void assertMatches(double[] expected, MatrixN actual, double tolerance) {
+        for (int i = 0; i < actual.rows(); i++) {
+            for (int j = 0; j < actual.cols(); j++) {
+                Assertions.assertEquals(expected[i * actual.cols() + j], actual.get(i, j), tolerance,
+                    "Элемент [" + i + "][" + j + "]");
+            }
+        }
+    }
+
+    /**
+     * Тест конструкторов, доступа к элементам и единичной матрицы
+     */
+    @Test
+    public void testConstructionAndAccess() {
+        MatrixN m = new MatrixN(new float[][] {{1.0f, 2.0f, 3.0f}, {4.0f, 5.0f, 6.0f}});
+        Assertions.assertEquals(2, m.rows());
+        Assertions.assertEquals(3, m.cols());
+        Assertions.assertEquals(6.0f, m.get(1, 2), EPSILON);
+        Assertions.assertEquals(m, new MatrixN(2, 3, new float[] {1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f}));
+        Assertions.assertEquals(m, new MatrixN(m));
+        Assertions.assertEquals(m.hashCode(), new MatrixN(m).hashCode());
+
+        MatrixN identity = MatrixN.identity(3);
+        Assertions.assertEquals(m, m.multiply(identity));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.get(2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MatrixN(0, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MatrixN(2, 2, new float[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new MatrixN(new float[][] {{1.0f, 2.0f}, {3.0f}}));
+    }
+
+    /**
+     * Тест поэлементных операций на месте и с записью в заданную матрицу
+     */
+    @Test
+    public void testElementwiseOperations() {
+        Random random = new Random(1);
+        MatrixN a = random(random, 5, 7);
+        MatrixN b = random(random, 5, 7);
+        MatrixN sum = a.add(b);
+        Assertions.assertEquals(a.get(3, 4) + b.get(3, 4), sum.get(3, 4), EPSILON);
+        Assertions.assertEquals(a, sum.subtract(b));
+
+        MatrixN c = new MatrixN(a);
+        c.addLocal(b).subtractLocal(b).scaleLocal(2.0f);
+        Assertions.assertEquals(2.0f * a.get(4, 6), c.get(4, 6), EPSILON);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(new MatrixN(7, 5)));
+    }
+
+    /**
+     * Тест транспонирования прямоугольной и квадратной матриц
+     */
+    @Test
+    public void testTranspose() {
+        Random random = new Random(2);
+        MatrixN a = random(random, 45, 70);
+        MatrixN t = a.transpose();
+        Assertions.assertEquals(70, t.rows());
+        Assertions.assertEquals(45, t.cols());
+        for (int i = 0; i < 45; i++) {
+            for (int j = 0; j < 70; j++) {
+                Assertions.assertEquals(a.get(i, j), t.get(j, i));
+            }
+        }
+        Assertions.assertEquals(a, t.transpose());
+
+        MatrixN square = random(random, 9, 9);
+        Assertions.assertEquals(square.transpose(), new MatrixN(square).transposeLocal());
+        Assertions.assertThrows(IllegalStateException.class, () -> a.transposeLocal());
+    }
+
+    /**
+     * Тест блочного умножения на размерах, не кратных размерам блоков и микроядра,
+     * включая общую размерность больше KC
+     */
+    @Test
+    public void testMultiply() {
+        Random random = new Random(3);
+        int[][] shapes = {{1, 1, 1}, {3, 5, 2}, {37, 53, 29}, {67, 300, 70}, {5, 17, 1030}};
+        for (int[] shape : shapes) {
+            MatrixN a = random(random, shape[0], shape[1]);
+            MatrixN b = random(random, shape[1], shape[2]);
+            double tolerance = 1e-6 * shape[1] + EPSILON;
+            assertMatches(reference(a, false, b, false), a.multiply(b), tolerance);
+        }
+    }
+
+    /**
+     * Тест GEMM с транспонированными множителями, alpha и beta
+     */
+    @Test
+    public void testGemmTransposed() {
+        Random random = new Random(4);
+        for (boolean ta : new boolean[] {false, true}) {
+            for (boolean tb : new boolean[] {false, true}) {
+                MatrixN a = ta ? random(random, 41, 23) : random(random, 23, 41);
+                MatrixN b = tb ? random(random, 19, 41) : random(random, 41, 19);
+                MatrixN c = random(random, 23, 19);
+                double[] initial = new double[23 * 19];
+                for (int i = 0; i < 23; i++) {
+                    for (int j = 0; j < 19; j++) {
+                        initial[i * 19 + j] = c.get(i, j);
+                    }
+                }
+                double[] expected = reference(a, ta, b, tb);
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] = 0.5 * expected[i] + 2.0 * initial[i];
+                }
+                MatrixN.gemm(0.5f, a, ta, b, tb, 2.0f, c);
+                assertMatches(expected, c, 1e-4);
+            }
+        }
+    }
+
+    /**
+     * Тест проверки размеров и совпадения результата с множителем
+     */
+    @Test
+    public void testGemmValidation() {
+        MatrixN a = new MatrixN(3, 4);
+        MatrixN b = new MatrixN(4, 4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(new MatrixN(3, 4)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b, new MatrixN(4, 4)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> b.multiply(b, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply((MatrixN) null));
+    }
+
+    /**
+     * Тест умножения матрицы и транспонированной матрицы на вектор
+     */
+    @Test
+    public void testMatrixVector() {
+        Random random = new Random(5);
+        MatrixN a = random(random, 13, 7);
+        VectorN v = new VectorN(7);
+        for (int i = 0; i < 7; i++) {
+            v.set(i, random.nextFloat());
+        }
+        VectorN result = a.multiply(v);
+        MatrixN column = new MatrixN(7, 1);
+        for (int i = 0; i < 7; i++) {
+            column.set(i, 0, v.get(i));
+        }
+        MatrixN expected = a.multiply(column);
+        for (int i = 0; i < 13; i++) {
+            Assertions.assertEquals(expected.get(i, 0), result.get(i), EPSILON);
+        }
+
+        VectorN transposed = a.multiplyTransposed(result);
+        VectorN expectedTransposed = a.transpose().multiply(result);
+        Assertions.assertEquals(expectedTransposed, transposed);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(result));
+        VectorN square = new VectorN(7);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MatrixN.identity(7).multiply(square, square));
+    }
+}
@@ -0,0 +1,114 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса MatrixStack
+ */
+public class MatrixStackTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Matrix4 translation(float x, float y, float z) {
+        return new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, x,
+            0.0f, 1.0f, 0.0f, y,
+            0.0f, 0.0f, 1.0f, z,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    private static Matrix4 scale(float x, float y, float z) {
+        return new Matrix4(new float[] {
+            x, 0.0f, 0.0f, 0.0f,
+            0.0f, y, 0.0f, 0.0f,
+            0.0f, 0.0f, z, 0.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    private static void assertMatrixEquals(Matrix4 expected, Matrix4 actual) {
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Тест push и pop.
+     * Изменения после push отменяются вызовом pop.
+     */
+    @Test
+    public void testPushPop() {
+        MatrixStack stack = new MatrixStack(4);
+        stack.translate(1.0f, 2.0f, 3.0f);
+
+        stack.push().scale(2.0f, 2.0f, 2.0f);
+        Assertions.assertEquals(2, stack.depth());
+        assertMatrixEquals(translation(1.0f, 2.0f, 3.0f).multiply(scale(2.0f, 2.0f, 2.0f)),
+            stack.get(Matrix4.zero()));
+
+        stack.pop();
+        Assertions.assertEquals(1, stack.depth());
+        assertMatrixEquals(translation(1.0f, 2.0f, 3.0f), stack.get(Matrix4.zero()));
+    }
+
+    /**
+     * Тест переполнения и опустошения стека.
+     */
+    @Test
+    public void testOverflowAndUnderflow() {
+        MatrixStack stack = new MatrixStack(2);
+        stack.push();
+
+        Assertions.assertThrows(IllegalStateException.class, stack::push);
+        stack.pop();
+        Assertions.assertThrows(IllegalStateException.class, stack::pop);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MatrixStack(0));
+    }
+
+    /**
+     * Тест операций на месте.
+     * Результат совпадает с последовательным умножением матриц справа.
+     */
+    @Test
+    public void testInPlaceOperationsMatchMultiply() {
+        Matrix4 base = new Matrix4(new float[] {
+            1.0f, 2.0f, 0.0f, 1.0f,
+            0.0f, 1.0f, 3.0f, 2.0f,
+            4.0f, 0.0f, 1.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(1.0f, 2.0f, 3.0f), 0.8f);
+        MatrixStack stack = new MatrixStack(1).load(base);
+
+        stack.translate(1.0f, -1.0f, 2.0f)
+            .rotate(0.8f, 1.0f, 2.0f, 3.0f)
+            .scale(2.0f, 3.0f, 4.0f)
+            .rotate(q)
+            .mulTop(base);
+
+        Matrix4 expected = base.multiply(translation(1.0f, -1.0f, 2.0f))
+            .multiply(q.toMatrix4())
+            .multiply(scale(2.0f, 3.0f, 4.0f))
+            .multiply(q.toMatrix4())
+            .multiply(base);
+        assertMatrixEquals(expected, stack.get(Matrix4.zero()));
+    }
+
+    /**
+     * Тест загрузки единичной матрицы и выгрузки в массив.
+     */
+    @Test
+    public void testLoadIdentityAndToArray() {
+        MatrixStack stack = new MatrixStack(1).translate(5.0f, 6.0f, 7.0f).loadIdentity();
+        float[] packed = new float[18];
+
+        stack.toArray(packed, 2);
+
+        assertMatrixEquals(new Matrix4(), Matrix4.zero().set(packed, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> stack.toArray(packed, 3));
+    }
+}
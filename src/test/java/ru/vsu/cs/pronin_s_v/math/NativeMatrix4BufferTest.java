@@ -0,0 +1,34 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса NativeMatrix4Buffer
+ */
+public class NativeMatrix4BufferTest {
+
+    /**
+     * Тест записи и чтения матриц.
+     * Проверяет, что матрицы сохраняются без изменений и не влияют друг на друга.
+     */
+    @Test
+    public void testGetSet() {
+        Matrix4 m = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            5.0f, 6.0f, 7.0f, 8.0f,
+            9.0f, 10.0f, 11.0f, 12.0f,
+            13.0f, 14.0f, 15.0f, 16.0f
+        });
+        try (NativeMatrix4Buffer buffer = new NativeMatrix4Buffer(2)) {
+            Assertions.assertEquals(128, buffer.byteBuffer().remaining());
+            buffer.set(1, m);
+            Assertions.assertEquals(Matrix4.zero(), buffer.get(0));
+            Assertions.assertEquals(m, buffer.get(1));
+            Matrix4 dest = new Matrix4();
+            Assertions.assertSame(dest, buffer.get(1, dest));
+            Assertions.assertEquals(m, dest);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(2));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Тесты для класса NativeVector3Buffer
+ */
+public class NativeVector3BufferTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Matrix4 createMatrix() {
+        return new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    /**
+     * Тест хранения векторов.
+     * Проверяет запись и чтение, а также что данные лежат в прямом буфере
+     * подряд как (x, y, z) с родным порядком байтов.
+     */
+    @Test
+    public void testStorageLayout() {
+        try (NativeVector3Buffer buffer = new NativeVector3Buffer(2)) {
+            buffer.set(0, new Vector3(1.0f, 2.0f, 3.0f));
+            buffer.set(1, 4.0f, 5.0f, 6.0f);
+            Assertions.assertEquals(new Vector3(4.0f, 5.0f, 6.0f), buffer.get(1));
+
+            ByteBuffer bytes = buffer.byteBuffer();
+            Assertions.assertTrue(bytes.isDirect());
+            Assertions.assertEquals(ByteOrder.nativeOrder(), bytes.order());
+            Assertions.assertEquals(24, bytes.remaining());
+            Assertions.assertEquals(3.0f, bytes.getFloat(8), EPSILON);
+            Assertions.assertEquals(4.0f, bytes.getFloat(12), EPSILON);
+        }
+    }
+
+    /**
+     * Тест преобразования точек и направлений в памяти буфера.
+     * Проверяет совпадение с Matrix4.multiply(Vector4), в том числе при dest == this.
+     */
+    @Test
+    public void testTransform() {
+        Matrix4 m = createMatrix();
+        Vector3 p = new Vector3(1.0f, -2.0f, 0.5f);
+        try (NativeVector3Buffer points = new NativeVector3Buffer(1);
+             NativeVector3Buffer directions = new NativeVector3Buffer(1)) {
+            points.set(0, p);
+            points.transformDirections(m, directions, 0, 1);
+            points.transformPoints(m, points, 0, 1);
+
+            Vector4 expectedPoint = m.multiply(new Vector4(p, 1.0f));
+            Vector4 expectedDirection = m.multiply(new Vector4(p, 0.0f));
+            Assertions.assertEquals(expectedPoint.getX(), points.get(0).getX(), EPSILON);
+            Assertions.assertEquals(expectedPoint.getY(), points.get(0).getY(), EPSILON);
+            Assertions.assertEquals(expectedPoint.getZ(), points.get(0).getZ(), EPSILON);
+            Assertions.assertEquals(expectedDirection.getX(), directions.get(0).getX(), EPSILON);
+            Assertions.assertEquals(expectedDirection.getY(), directions.get(0).getY(), EPSILON);
+            Assertions.assertEquals(expectedDirection.getZ(), directions.get(0).getZ(), EPSILON);
+        }
+    }
+
+    /**
+     * Тест обертки над существующей памятью.
+     * Проверяет, что данные не копируются и изменения видны через исходный буфер.
+     */
+    @Test
+    public void testWrap() {
+        ByteBuffer memory = ByteBuffer.allocateDirect(4 + 24).order(ByteOrder.nativeOrder());
+        memory.putFloat(4, 1.0f).putFloat(8, 2.0f).putFloat(12, 3.0f);
+        memory.position(4);
+        NativeVector3Buffer buffer = NativeVector3Buffer.wrap(memory);
+        Assertions.assertEquals(2, buffer.size());
+        Assertions.assertEquals(new Vector3(1.0f, 2.0f, 3.0f), buffer.get(0));
+        buffer.set(1, 7.0f, 8.0f, 9.0f);
+        Assertions.assertEquals(9.0f, memory.getFloat(24), EPSILON);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> NativeVector3Buffer.wrap(ByteBuffer.allocateDirect(10)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> NativeVector3Buffer.wrap(ByteBuffer.allocate(24)));
+    }
+
+    /**
+     * Тест времени жизни буфера.
+     * Проверяет, что после close() обращения к буферу вызывают IllegalStateException.
+     */
+    @Test
+    public void testClose() {
+        NativeVector3Buffer buffer = new NativeVector3Buffer(1);
+        buffer.close();
+        Assertions.assertTrue(buffer.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, () -> buffer.get(0));
+        Assertions.assertThrows(IllegalStateException.class, buffer::byteBuffer);
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> buffer.transformPoints(createMatrix(), new NativeVector3Buffer(1), 0, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> new NativeVector3Buffer(1).get(1));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса NativeVector4Buffer
+ */
+public class NativeVector4BufferTest {
+
+    /**
+     * Тест умножения матрицы на векторы в памяти буфера.
+     * Проверяет совпадение с Matrix4.multiply(Vector4) и что векторы вне диапазона не меняются.
+     */
+    @Test
+    public void testTransform() {
+        Matrix4 m = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            5.0f, 6.0f, 7.0f, 8.0f,
+            9.0f, 10.0f, 11.0f, 12.0f,
+            13.0f, 14.0f, 15.0f, 16.0f
+        });
+        Vector4 v = new Vector4(1.0f, -1.0f, 0.5f, 2.0f);
+        try (NativeVector4Buffer buffer = new NativeVector4Buffer(2)) {
+            buffer.set(0, v);
+            buffer.set(1, v);
+            buffer.transform(m, buffer, 1, 1);
+            Assertions.assertEquals(v, buffer.get(0));
+            Assertions.assertEquals(m.multiply(v), buffer.get(1));
+        }
+    }
+}
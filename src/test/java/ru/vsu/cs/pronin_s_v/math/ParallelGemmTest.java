@@ -0,0 +1,116 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тесты для класса ParallelGemm
+ */
+public class ParallelGemmTest {
+
+    private static MatrixN random(Random random, int rows, int cols) {
+        float[] values = new float[rows * cols];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        return new MatrixN(rows, cols, values);
+    }
+
+    private static void assertClose(MatrixN expected, MatrixN actual, float tolerance) {
+        Assertions.assertEquals(expected.rows(), actual.rows());
+        Assertions.assertEquals(expected.cols(), actual.cols());
+        for (int i = 0; i < expected.rows(); i++) {
+            for (int j = 0; j < expected.cols(); j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), tolerance,
+                    "Элемент [" + i + "][" + j + "]");
+            }
+        }
+    }
+
+    /**
+     * Тест параллельного тайлового умножения: результат совпадает с последовательным GEMM
+     * при листовых блоках разного размера, в том числе меньше микроядра
+     */
+    @Test
+    public void testTiledMatchesSequential() {
+        Random random = new Random(1);
+        MatrixN a = random(random, 157, 93);
+        MatrixN b = random(random, 93, 211);
+        MatrixN expected = a.multiply(b);
+        for (int leaf : new int[] {1, 3, 16, 64, 1000}) {
+            ParallelGemm gemm = new ParallelGemm(ForkJoinPool.commonPool(), leaf, ParallelGemm.NO_STRASSEN);
+            assertClose(expected, gemm.multiply(a, b, new MatrixN(157, 211)), 1e-5f);
+        }
+    }
+
+    /**
+     * Тест параллельного GEMM с транспонированием, alpha и beta
+     */
+    @Test
+    public void testGemmTransposed() {
+        Random random = new Random(2);
+        MatrixN a = random(random, 70, 40);
+        MatrixN b = random(random, 90, 70);
+        MatrixN c = random(random, 40, 90);
+        MatrixN expected = MatrixN.gemm(0.5f, a, true, b, true, -1.0f, new MatrixN(c));
+        MatrixN actual = new ParallelGemm(ForkJoinPool.commonPool(), 16, ParallelGemm.NO_STRASSEN)
+            .gemm(0.5f, a, true, b, true, -1.0f, c);
+        assertClose(expected, actual, 1e-5f);
+    }
+
+    /**
+     * Тест рекурсии Штрассена на размерах, требующих дополнения нулями,
+     * и с транспонированным множителем
+     */
+    @Test
+    public void testStrassen() {
+        Random random = new Random(3);
+        MatrixN a = random(random, 150, 130);
+        MatrixN b = random(random, 130, 141);
+        ParallelGemm gemm = new ParallelGemm(ForkJoinPool.commonPool(), 32, 40);
+        Assertions.assertEquals(40, gemm.getStrassenThreshold());
+        assertClose(a.multiply(b), gemm.multiply(a, b, new MatrixN(150, 141)), 1e-3f);
+
+        MatrixN bt = b.transpose();
+        MatrixN c = random(random, 150, 141);
+        MatrixN expected = MatrixN.gemm(2.0f, a, false, bt, true, 0.5f, new MatrixN(c));
+        assertClose(expected, gemm.gemm(2.0f, a, false, bt, true, 0.5f, c), 1e-3f);
+    }
+
+    /**
+     * Тест вытянутого произведения при включенном Штрассене: размеры отличаются сильнее
+     * {@link ParallelGemm#STRASSEN_MAX_ASPECT}, поэтому используется тайловое умножение
+     * без дополнения до квадрата max(m, n, k)
+     */
+    @Test
+    public void testElongatedSkipsStrassen() {
+        Random random = new Random(4);
+        MatrixN a = random(random, 64, 4096);
+        MatrixN b = random(random, 4096, 64);
+        ParallelGemm gemm = new ParallelGemm(ForkJoinPool.commonPool(), 32, 64);
+        long start = System.nanoTime();
+        MatrixN actual = gemm.multiply(a, b, new MatrixN(64, 64));
+        long elapsed = System.nanoTime() - start;
+        assertClose(a.multiply(b), actual, 1e-5f);
+        Assertions.assertTrue(elapsed < 2_000_000_000L, "Вытянутое произведение не должно дополняться до квадрата");
+    }
+
+    /**
+     * Тест проверки параметров
+     */
+    @Test
+    public void testValidation() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelGemm(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelGemm(pool, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelGemm(pool, 8, -1));
+        ParallelGemm gemm = new ParallelGemm(pool);
+        Assertions.assertEquals(ParallelGemm.DEFAULT_LEAF_SIZE, gemm.getLeafSize());
+        MatrixN a = new MatrixN(4, 4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gemm.multiply(a, new MatrixN(3, 4), a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gemm.multiply(a, a, a));
+    }
+}
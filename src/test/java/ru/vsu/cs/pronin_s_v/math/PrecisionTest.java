@@ -0,0 +1,90 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса Precision
+ */
+public class PrecisionTest {
+
+    /**
+     * Тест кругового преобразования float -> double -> float.
+     * Расширение точное, поэтому возврат к float восстанавливает каждое значение побитово,
+     * включая бесконечности, отрицательный ноль и субнормальные числа.
+     */
+    @Test
+    public void testFloatRoundTrip() {
+        Random random = new Random(11);
+        float[] floats = new float[1024];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = Float.intBitsToFloat(random.nextInt());
+            if (Float.isNaN(floats[i])) {
+                floats[i] = 0.0f;
+            }
+        }
+        floats[0] = -0.0f;
+        floats[1] = Float.MIN_VALUE;
+        floats[2] = Float.MAX_VALUE;
+        floats[3] = Float.NEGATIVE_INFINITY;
+        double[] doubles = new double[floats.length];
+
+        Precision.toDouble(floats, 0, doubles, 0, floats.length);
+        float[] back = Precision.toFloat(doubles, 0, new float[floats.length], 0, floats.length);
+
+        for (int i = 0; i < floats.length; i++) {
+            Assertions.assertEquals((double) floats[i], doubles[i], 0.0);
+            Assertions.assertEquals(Float.floatToIntBits(floats[i]), Float.floatToIntBits(back[i]));
+        }
+    }
+
+    /**
+     * Тест кругового преобразования double -> float -> double.
+     * Сужение округляет к ближайшему float, поэтому ошибка не превышает половины ulp,
+     * а значения, уже представимые во float, сохраняются точно.
+     */
+    @Test
+    public void testDoubleRoundTrip() {
+        double[] doubles = {0.1, 1.0e8 + 0.25, -1.0 / 3.0, 1.0e-40, 1.0e39, 0.5};
+        float[] floats = new float[doubles.length];
+
+        Precision.toFloat(doubles, 0, floats, 0, doubles.length);
+        double[] back = Precision.toDouble(floats, 0, new double[doubles.length], 0, doubles.length);
+
+        for (int i = 0; i < doubles.length - 2; i++) {
+            Assertions.assertEquals((float) doubles[i], floats[i], 0.0f);
+            Assertions.assertTrue(Math.abs(back[i] - doubles[i]) <= Math.ulp(floats[i]) / 2.0);
+        }
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, floats[4], 0.0f);
+        Assertions.assertEquals(0.5, back[5], 0.0);
+    }
+
+    /**
+     * Тест смещений и обработки ошибок.
+     * Элементы вне диапазона не изменяются; выход за границы и null отклоняются.
+     */
+    @Test
+    public void testOffsetsAndErrors() {
+        float[] floats = {1.0f, 0.1f, -3.5f};
+        double[] doubles = new double[5];
+
+        Assertions.assertSame(doubles, Precision.toDouble(floats, 0, doubles, 2, 3));
+        float[] back = Precision.toFloat(doubles, 2, new float[3], 0, 3);
+
+        Assertions.assertEquals(0.0, doubles[1], 0.0);
+        Assertions.assertEquals((double) 0.1f, doubles[3], 0.0);
+        Assertions.assertArrayEquals(floats, back, 0.0f);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Precision.toFloat(doubles, 3, back, 0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Precision.toDouble(floats, 0, doubles, 3, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Precision.toDouble(floats, 0, doubles, 0, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Precision.toFloat(null, 0, back, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Precision.toDouble(floats, 0, null, 0, 0));
+    }
+}
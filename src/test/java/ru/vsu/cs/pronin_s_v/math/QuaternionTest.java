@@ -0,0 +1,210 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса Quaternion
+ */
+public class QuaternionTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    /**
+     * Тест конструктора по умолчанию.
+     * Проверяет, что создается единичный кватернион.
+     */
+    @Test
+    public void testDefaultConstructor() {
+        Quaternion q = new Quaternion();
+
+        Assertions.assertEquals(0.0f, q.getX(), EPSILON);
+        Assertions.assertEquals(0.0f, q.getY(), EPSILON);
+        Assertions.assertEquals(0.0f, q.getZ(), EPSILON);
+        Assertions.assertEquals(1.0f, q.getW(), EPSILON);
+    }
+
+    /**
+     * Тест поворота вектора.
+     * Поворот на 90° вокруг оси Z переводит (1, 0, 0) в (0, 1, 0).
+     */
+    @Test
+    public void testRotateVector() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(0.0f, 0.0f, 2.0f), (float) (Math.PI / 2));
+
+        Vector3 result = q.rotate(new Vector3(1.0f, 0.0f, 0.0f));
+
+        Assertions.assertEquals(0.0f, result.getX(), EPSILON);
+        Assertions.assertEquals(1.0f, result.getY(), EPSILON);
+        Assertions.assertEquals(0.0f, result.getZ(), EPSILON);
+    }
+
+    /**
+     * Тест произведения кватернионов.
+     * Произведение должно совпадать с произведением соответствующих матриц поворота.
+     */
+    @Test
+    public void testMultiplyMatchesMatrixComposition() {
+        Quaternion a = Quaternion.fromAxisAngle(new Vector3(1.0f, 2.0f, 3.0f), 0.7f);
+        Quaternion b = Quaternion.fromAxisAngle(new Vector3(-2.0f, 0.5f, 1.0f), 1.9f);
+
+        Matrix3 expected = a.toMatrix3().multiply(b.toMatrix3());
+        Matrix3 actual = a.multiply(b).toMatrix3();
+
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Тест произведения на месте.
+     * Проверяет, что mulLocal и multiply с dest = this дают тот же результат, что и multiply.
+     */
+    @Test
+    public void testMulLocal() {
+        Quaternion a = Quaternion.fromAxisAngle(new Vector3(0.0f, 1.0f, 0.0f), 0.4f);
+        Quaternion b = Quaternion.fromAxisAngle(new Vector3(1.0f, 0.0f, 1.0f), 1.1f);
+        Quaternion expected = a.multiply(b);
+
+        Quaternion local = new Quaternion(a).mulLocal(b);
+        Quaternion aliased = new Quaternion(b);
+        a.multiply(aliased, aliased);
+
+        Assertions.assertEquals(expected, local);
+        Assertions.assertEquals(expected, aliased);
+    }
+
+    /**
+     * Тест сопряжения.
+     * Произведение кватерниона на сопряженный дает единичный кватернион.
+     */
+    @Test
+    public void testConjugate() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(1.0f, 1.0f, 0.0f), 2.3f);
+
+        Quaternion product = q.multiply(q.conjugate());
+
+        Assertions.assertEquals(0.0f, product.getX(), EPSILON);
+        Assertions.assertEquals(0.0f, product.getY(), EPSILON);
+        Assertions.assertEquals(0.0f, product.getZ(), EPSILON);
+        Assertions.assertEquals(1.0f, product.getW(), EPSILON);
+    }
+
+    /**
+     * Тест нормализации.
+     * Проверяет длину результата и исключение для нулевого кватерниона.
+     */
+    @Test
+    public void testNormalize() {
+        Quaternion q = new Quaternion(1.0f, 2.0f, 3.0f, 4.0f);
+
+        Assertions.assertEquals(1.0f, q.normalize().length(), EPSILON);
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> new Quaternion(0.0f, 0.0f, 0.0f, 0.0f).normalize());
+    }
+
+    /**
+     * Тест преобразования в матрицу и обратно.
+     * Проверяет все ветви восстановления кватерниона по матрице.
+     */
+    @Test
+    public void testMatrixRoundTrip() {
+        Vector3[] axes = {
+            new Vector3(1.0f, 2.0f, 3.0f),
+            new Vector3(1.0f, 0.0f, 0.0f),
+            new Vector3(0.0f, 1.0f, 0.0f),
+            new Vector3(0.0f, 0.0f, 1.0f)
+        };
+        float[] angles = {0.5f, 3.0f, 3.0f, 3.0f};
+
+        for (int k = 0; k < axes.length; k++) {
+            Quaternion q = Quaternion.fromAxisAngle(axes[k], angles[k]);
+
+            Quaternion from3 = Quaternion.fromRotationMatrix(q.toMatrix3());
+            Quaternion from4 = Quaternion.fromRotationMatrix(q.toMatrix4());
+
+            Assertions.assertEquals(1.0f, Math.abs(q.dot(from3)), EPSILON);
+            Assertions.assertEquals(1.0f, Math.abs(q.dot(from4)), EPSILON);
+        }
+    }
+
+    /**
+     * Тест преобразования в матрицу 4×4.
+     * Матрица должна поворачивать вектор так же, как кватернион, и не содержать переноса.
+     */
+    @Test
+    public void testToMatrix4() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(0.3f, -1.0f, 0.5f), 1.2f);
+        Vector3 v = new Vector3(4.0f, -2.0f, 1.0f);
+
+        Vector3 expected = q.rotate(v);
+        Vector4 actual = q.toMatrix4().multiply(new Vector4(v.getX(), v.getY(), v.getZ(), 1.0f));
+
+        Assertions.assertEquals(expected.getX(), actual.getX(), EPSILON);
+        Assertions.assertEquals(expected.getY(), actual.getY(), EPSILON);
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+        Assertions.assertEquals(1.0f, actual.getW(), EPSILON);
+    }
+
+    /**
+     * Тест пакетного поворота.
+     * Проверяет совпадение с поэлементным поворотом и сохранение лишних компонент при шаге 4.
+     */
+    @Test
+    public void testRotatePacked() {
+        Quaternion q = Quaternion.fromAxisAngle(new Vector3(1.0f, 1.0f, 1.0f), 0.9f);
+        float[] src = {
+            1.0f, 0.0f, 0.0f, 7.0f,
+            0.0f, 2.0f, 0.0f, 7.0f,
+            1.0f, -1.0f, 3.0f, 7.0f
+        };
+        float[] dst = new float[src.length];
+        dst[3] = 9.0f;
+
+        q.rotate(src, 0, dst, 0, 3, 4);
+
+        for (int i = 0; i < 3; i++) {
+            Vector3 expected = q.rotate(new Vector3(src[i * 4], src[i * 4 + 1], src[i * 4 + 2]));
+            Assertions.assertEquals(expected.getX(), dst[i * 4], EPSILON);
+            Assertions.assertEquals(expected.getY(), dst[i * 4 + 1], EPSILON);
+            Assertions.assertEquals(expected.getZ(), dst[i * 4 + 2], EPSILON);
+        }
+        Assertions.assertEquals(9.0f, dst[3], EPSILON);
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> q.rotate(src, 4, dst, 0, 3, 4));
+    }
+
+    /**
+     * Тест сферической интерполяции.
+     * Середина между поворотами на 0 и 90° вокруг оси Y - поворот на 45°.
+     */
+    @Test
+    public void testSlerp() {
+        Vector3 axis = new Vector3(0.0f, 1.0f, 0.0f);
+        Quaternion from = new Quaternion();
+        Quaternion to = Quaternion.fromAxisAngle(axis, (float) (Math.PI / 2));
+        Quaternion expected = Quaternion.fromAxisAngle(axis, (float) (Math.PI / 4));
+
+        Quaternion result = from.slerp(to, 0.5f);
+
+        Assertions.assertEquals(1.0f, Math.abs(result.dot(expected)), EPSILON);
+        Assertions.assertEquals(1.0f, result.length(), EPSILON);
+        Assertions.assertEquals(1.0f, Math.abs(from.slerp(to, 1.0f).dot(to)), EPSILON);
+    }
+
+    /**
+     * Тест интерполяции по кратчайшему пути.
+     * Для противоположного знака конечного кватерниона результат не меняется.
+     */
+    @Test
+    public void testInterpolationShortestPath() {
+        Quaternion from = Quaternion.fromAxisAngle(new Vector3(1.0f, 0.0f, 0.0f), 0.2f);
+        Quaternion to = Quaternion.fromAxisAngle(new Vector3(0.0f, 0.0f, 1.0f), 1.4f);
+        Quaternion negated = new Quaternion(-to.getX(), -to.getY(), -to.getZ(), -to.getW());
+
+        Assertions.assertEquals(1.0f, Math.abs(from.slerp(to, 0.3f).dot(from.slerp(negated, 0.3f))), EPSILON);
+        Assertions.assertEquals(1.0f, Math.abs(from.nlerp(to, 0.3f).dot(from.nlerp(negated, 0.3f))), EPSILON);
+    }
+}
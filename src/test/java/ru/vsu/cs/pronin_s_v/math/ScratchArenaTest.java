@@ -0,0 +1,115 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса ScratchArena
+ */
+public class ScratchArenaTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    @AfterEach
+    public void resetDebug() {
+        ScratchArena.setDebug(false);
+    }
+
+    /**
+     * Тест переиспользования объектов.
+     * После закрытия области следующая область получает те же экземпляры, сброшенные в исходное состояние.
+     */
+    @Test
+    public void testObjectsAreReused() {
+        Vector3 first;
+        Matrix4 firstMatrix;
+        try (ScratchArena arena = ScratchArena.open()) {
+            first = arena.vector3(1.0f, 2.0f, 3.0f);
+            firstMatrix = arena.matrix4();
+            firstMatrix.set(0, 3, 5.0f);
+        }
+        try (ScratchArena arena = ScratchArena.open()) {
+            Vector3 second = arena.vector3();
+            Matrix4 secondMatrix = arena.matrix4();
+
+            Assertions.assertSame(first, second);
+            Assertions.assertSame(firstMatrix, secondMatrix);
+            Assertions.assertEquals(new Vector3(), second);
+            Assertions.assertEquals(0.0f, secondMatrix.get(0, 3), EPSILON);
+            Assertions.assertEquals(1.0f, secondMatrix.get(3, 3), EPSILON);
+        }
+    }
+
+    /**
+     * Тест вложенных областей.
+     * Внутренняя область не затирает объекты внешней и освобождает только свои.
+     */
+    @Test
+    public void testNestedScopes() {
+        try (ScratchArena outer = ScratchArena.open()) {
+            Vector2 kept = outer.vector2(1.0f, 2.0f);
+            Vector4 inner;
+            try (ScratchArena nested = ScratchArena.open()) {
+                Assertions.assertSame(outer, nested);
+                Assertions.assertEquals(2, nested.depth());
+                Vector2 other = nested.vector2(3.0f, 4.0f);
+                Assertions.assertNotSame(kept, other);
+                inner = nested.vector4(1.0f, 1.0f, 1.0f, 1.0f);
+            }
+            Assertions.assertEquals(1, outer.depth());
+            Assertions.assertEquals(new Vector2(1.0f, 2.0f), kept);
+            Assertions.assertSame(inner, outer.vector4());
+            Assertions.assertEquals(new Matrix3(), outer.matrix3());
+        }
+    }
+
+    /**
+     * Тест выдачи объектов вне области и из чужого потока.
+     */
+    @Test
+    public void testUseOutsideScope() throws InterruptedException {
+        ScratchArena arena;
+        try (ScratchArena opened = ScratchArena.open()) {
+            arena = opened;
+            Throwable[] error = new Throwable[1];
+            Thread thread = new Thread(() -> {
+                try {
+                    opened.vector3();
+                } catch (Throwable e) {
+                    error[0] = e;
+                }
+            });
+            thread.start();
+            thread.join();
+            Assertions.assertInstanceOf(IllegalStateException.class, error[0]);
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, arena::vector3);
+        Assertions.assertThrows(IllegalStateException.class, arena::close);
+    }
+
+    /**
+     * Тест отладочного режима.
+     * Возвращенные объекты заполняются NaN, а запись в утекшую ссылку обнаруживается при повторной выдаче.
+     */
+    @Test
+    public void testDebugDetectsEscapedReference() {
+        ScratchArena.setDebug(true);
+        Vector3 escaped;
+        try (ScratchArena arena = ScratchArena.open()) {
+            escaped = arena.vector3(1.0f, 2.0f, 3.0f);
+        }
+        Assertions.assertTrue(Float.isNaN(escaped.getX()));
+
+        escaped.set(4.0f, 5.0f, 6.0f);
+
+        try (ScratchArena arena = ScratchArena.open()) {
+            IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, arena::vector3);
+            Assertions.assertNotNull(error.getCause());
+        }
+        try (ScratchArena arena = ScratchArena.open()) {
+            Assertions.assertEquals(new Vector3(), arena.vector3());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса TransformHierarchy
+ */
+public class TransformHierarchyTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Matrix4 translation(float x, float y, float z) {
+        return new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, x,
+            0.0f, 1.0f, 0.0f, y,
+            0.0f, 0.0f, 1.0f, z,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    private static Matrix4 scale(float s) {
+        return new Matrix4(new float[] {
+            s, 0.0f, 0.0f, 0.0f,
+            0.0f, s, 0.0f, 0.0f,
+            0.0f, 0.0f, s, 0.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+    }
+
+    private static void assertMatrixEquals(Matrix4 expected, Matrix4 actual) {
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Assertions.assertEquals(expected.get(i, j), actual.get(i, j), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Тест мировых матриц цепочки узлов.
+     * Мировая матрица потомка равна произведению мировой матрицы родителя на локальную.
+     */
+    @Test
+    public void testWorldMatrixChain() {
+        TransformHierarchy hierarchy = new TransformHierarchy(1);
+        int root = hierarchy.createNode(TransformHierarchy.NO_PARENT, translation(1.0f, 0.0f, 0.0f));
+        int child = hierarchy.createNode(root, scale(2.0f));
+        int grandChild = hierarchy.createNode(child, translation(0.0f, 3.0f, 0.0f));
+
+        Matrix4 expected = translation(1.0f, 0.0f, 0.0f).multiply(scale(2.0f)).multiply(translation(0.0f, 3.0f, 0.0f));
+
+        assertMatrixEquals(expected, hierarchy.getWorld(grandChild, Matrix4.zero()));
+        Assertions.assertEquals(child, hierarchy.getParent(grandChild));
+        Assertions.assertEquals(3, hierarchy.size());
+    }
+
+    /**
+     * Тест выборочного пересчета.
+     * Изменение узла пересчитывает только его поддерево, а повторное обновление ничего не делает.
+     */
+    @Test
+    public void testUpdatesOnlyChangedSubtree() {
+        TransformHierarchy hierarchy = new TransformHierarchy();
+        int root = hierarchy.createNode(TransformHierarchy.NO_PARENT);
+        int left = hierarchy.createNode(root);
+        int right = hierarchy.createNode(root);
+        int leftChild = hierarchy.createNode(left);
+        int rightChild = hierarchy.createNode(right);
+
+        Assertions.assertEquals(5, hierarchy.update());
+        Assertions.assertEquals(0, hierarchy.update());
+
+        hierarchy.setLocal(left, translation(0.0f, 0.0f, 5.0f));
+        Assertions.assertTrue(hierarchy.isDirty(left));
+        Assertions.assertFalse(hierarchy.isDirty(right));
+        Assertions.assertEquals(2, hierarchy.update());
+        Assertions.assertEquals(2, hierarchy.getUpdatedCount());
+        Assertions.assertFalse(hierarchy.isDirty(left));
+
+        assertMatrixEquals(translation(0.0f, 0.0f, 5.0f), hierarchy.getWorld(leftChild, Matrix4.zero()));
+        assertMatrixEquals(new Matrix4(), hierarchy.getWorld(rightChild, Matrix4.zero()));
+    }
+
+    /**
+     * Тест обратной мировой матрицы.
+     * Проверяет произведение с мировой матрицей и пересчет кэша после изменения.
+     */
+    @Test
+    public void testInverseWorld() {
+        TransformHierarchy hierarchy = new TransformHierarchy();
+        int root = hierarchy.createNode(TransformHierarchy.NO_PARENT, scale(4.0f));
+        int child = hierarchy.createNode(root, translation(1.0f, 2.0f, 3.0f));
+
+        Matrix4 product = hierarchy.getWorld(child, Matrix4.zero())
+            .multiply(hierarchy.getInverseWorld(child, Matrix4.zero()));
+        assertMatrixEquals(new Matrix4(), product);
+
+        hierarchy.setLocal(root, translation(-1.0f, 0.0f, 0.0f));
+        assertMatrixEquals(translation(0.0f, -2.0f, -3.0f), hierarchy.getInverseWorld(child, Matrix4.zero()));
+    }
+
+    /**
+     * Тест загрузки локальной матрицы из массива и проверки дескрипторов.
+     */
+    @Test
+    public void testSetLocalFromArrayAndValidation() {
+        TransformHierarchy hierarchy = new TransformHierarchy();
+        int root = hierarchy.createNode(TransformHierarchy.NO_PARENT);
+        float[] packed = new float[20];
+        translation(7.0f, 8.0f, 9.0f).toArray(packed, 4);
+
+        hierarchy.setLocal(root, packed, 4);
+
+        assertMatrixEquals(translation(7.0f, 8.0f, 9.0f), hierarchy.getLocal(root, Matrix4.zero()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.createNode(5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.getWorld(-2, Matrix4.zero()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TransformHierarchy(-1));
+    }
+}
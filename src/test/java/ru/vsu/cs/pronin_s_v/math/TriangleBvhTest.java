@@ -0,0 +1,240 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тесты для класса TriangleBvh
+ */
+public class TriangleBvhTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int SIZE = 2000;
+
+    private static float spread(Random random) {
+        return (random.nextFloat() - 0.5f) * 4.0f;
+    }
+
+    private static Vector3Buffer[] randomTriangles(Random random, int size) {
+        Vector3Buffer a = new Vector3Buffer(size);
+        Vector3Buffer b = new Vector3Buffer(size);
+        Vector3Buffer c = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            float x = random.nextFloat() * 20.0f - 10.0f;
+            float y = random.nextFloat() * 20.0f - 10.0f;
+            float z = random.nextFloat() * 20.0f - 10.0f;
+            a.set(i, x, y, z);
+            b.set(i, x + spread(random), y + spread(random), z + spread(random));
+            c.set(i, x + spread(random), y + spread(random), z + spread(random));
+        }
+        return new Vector3Buffer[] {a, b, c};
+    }
+
+    /**
+     * Перебор всех треугольников по методу Мёллера-Трумбора на объектах Vector3
+     * @return {t, индекс} ближайшего пересечения или {+∞, -1}
+     */
+    private static float[] bruteForce(Vector3Buffer[] tris, Vector3 origin, Vector3 direction, float maxT) {
+        float best = maxT;
+        int bestIndex = -1;
+        for (int i = 0; i < tris[0].size(); i++) {
+            Vector3 a = tris[0].get(i);
+            Vector3 e1 = tris[1].get(i).subtract(a);
+            Vector3 e2 = tris[2].get(i).subtract(a);
+            Vector3 p = direction.cross(e2);
+            float det = e1.dot(p);
+            if (det == 0.0f) {
+                continue;
+            }
+            Vector3 s = origin.subtract(a);
+            float u = s.dot(p) / det;
+            Vector3 q = s.cross(e1);
+            float v = direction.dot(q) / det;
+            float t = e2.dot(q) / det;
+            if (u >= 0.0f && v >= 0.0f && u + v <= 1.0f && t > 0.0f && t <= best) {
+                best = t;
+                bestIndex = i;
+            }
+        }
+        return new float[] {bestIndex < 0 ? Float.POSITIVE_INFINITY : best, bestIndex};
+    }
+
+    private static Vector3 randomDirection(Random random) {
+        return new Vector3(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+    }
+
+    /**
+     * Тест ближайшего пересечения.
+     * Результаты совпадают с полным перебором для случайных лучей.
+     */
+    @Test
+    public void testClosestHitMatchesBruteForce() {
+        Random random = new Random(7);
+        Vector3Buffer[] tris = randomTriangles(random, SIZE);
+        TriangleBvh bvh = TriangleBvh.build(tris[0], tris[1], tris[2]);
+        Assertions.assertEquals(SIZE, bvh.size());
+        Assertions.assertTrue(bvh.nodeCount() < 2 * SIZE);
+
+        int hits = 0;
+        for (int k = 0; k < 300; k++) {
+            Vector3 origin = new Vector3(random.nextFloat() * 30.0f - 15.0f, random.nextFloat() * 30.0f - 15.0f, -20.0f);
+            Vector3 direction = randomDirection(random).add(new Vector3(0.0f, 0.0f, 1.0f));
+            float[] expected = bruteForce(tris, origin, direction, 100.0f);
+            TriangleBvh.Hit hit = new TriangleBvh.Hit();
+
+            boolean found = bvh.closestHit(origin, direction, 100.0f, hit);
+
+            Assertions.assertEquals(expected[1] >= 0, found);
+            Assertions.assertEquals(found, bvh.anyHit(origin, direction, 100.0f));
+            if (found) {
+                hits++;
+                Assertions.assertEquals(expected[0], hit.getT(), EPSILON);
+                Assertions.assertTrue(hit.getU() >= 0.0f && hit.getV() >= 0.0f && hit.getU() + hit.getV() <= 1.0f);
+            }
+        }
+        Assertions.assertTrue(hits > 20);
+
+        TriangleBvh single = TriangleBvh.build(Vector3Buffer.of(new Vector3(0.0f, 0.0f, 0.0f)),
+            Vector3Buffer.of(new Vector3(1.0f, 0.0f, 0.0f)), Vector3Buffer.of(new Vector3(0.0f, 1.0f, 0.0f)));
+        Vector3 onPlane = new Vector3(0.0f, 0.25f, 5.0f);
+        Vector3 down = new Vector3(0.0f, 0.0f, -1.0f);
+        TriangleBvh.Hit hit = new TriangleBvh.Hit();
+        Assertions.assertTrue(single.closestHit(onPlane, down, 100.0f, hit));
+        Assertions.assertEquals(5.0f, hit.getT(), EPSILON);
+        Assertions.assertTrue(single.anyHit(onPlane, down, 100.0f));
+
+        float edge = 3e-4f;
+        TriangleBvh small = TriangleBvh.build(Vector3Buffer.of(new Vector3(0.0f, 0.0f, 0.0f)),
+            Vector3Buffer.of(new Vector3(edge, 0.0f, 0.0f)), Vector3Buffer.of(new Vector3(0.0f, edge, 0.0f)));
+        Vector3 above = new Vector3(edge / 3.0f, edge / 3.0f, 5.0f);
+        Vector3 shortDown = new Vector3(0.0f, 0.0f, -1e-3f);
+        Assertions.assertTrue(small.anyHit(above, down, 100.0f));
+        Assertions.assertTrue(small.closestHit(above, shortDown, 1e4f, hit));
+        Assertions.assertEquals(5e3f, hit.getT(), 1e-2f);
+    }
+
+    /**
+     * Тест перечисления всех пересечений и ограничения по расстоянию
+     */
+    @Test
+    public void testRaycastAllAndMaxDistance() {
+        Vector3Buffer a = Vector3Buffer.of(new Vector3(-1.0f, -1.0f, 1.0f), new Vector3(-1.0f, -1.0f, 3.0f),
+            new Vector3(-1.0f, -1.0f, 5.0f));
+        Vector3Buffer b = Vector3Buffer.of(new Vector3(1.0f, -1.0f, 1.0f), new Vector3(1.0f, -1.0f, 3.0f),
+            new Vector3(1.0f, -1.0f, 5.0f));
+        Vector3Buffer c = Vector3Buffer.of(new Vector3(0.0f, 1.0f, 1.0f), new Vector3(0.0f, 1.0f, 3.0f),
+            new Vector3(0.0f, 1.0f, 5.0f));
+        TriangleBvh bvh = TriangleBvh.build(a, b, c);
+        Vector3 origin = new Vector3();
+        Vector3 direction = new Vector3(0.0f, 0.0f, 1.0f);
+        float[] sum = new float[1];
+
+        int count = bvh.raycast(origin, direction, 4.0f, (tri, t, u, v) -> sum[0] += t);
+        TriangleBvh.Hit hit = new TriangleBvh.Hit();
+
+        Assertions.assertEquals(2, count);
+        Assertions.assertEquals(4.0f, sum[0], EPSILON);
+        Assertions.assertTrue(bvh.closestHit(origin, direction, 10.0f, hit));
+        Assertions.assertEquals(0, hit.getTriangle());
+        Assertions.assertEquals(1.0f, hit.getT(), EPSILON);
+        Assertions.assertFalse(bvh.anyHit(origin, direction, 0.5f));
+        Assertions.assertFalse(bvh.anyHit(origin, new Vector3(0.0f, 0.0f, -1.0f), 10.0f));
+    }
+
+    /**
+     * Тест параллельного построения.
+     * Запросы к деревьям, построенным последовательно и параллельно, дают одинаковые результаты.
+     */
+    @Test
+    public void testParallelBuildMatchesSequential() {
+        Random random = new Random(11);
+        Vector3Buffer[] tris = randomTriangles(random, 20000);
+        TriangleBvh sequential = TriangleBvh.build(tris[0], tris[1], tris[2]);
+        TriangleBvh parallel = TriangleBvh.build(tris[0], tris[1], tris[2], ForkJoinPool.commonPool());
+
+        Assertions.assertEquals(sequential.nodeCount(), parallel.nodeCount());
+        for (int k = 0; k < 100; k++) {
+            Vector3 origin = new Vector3(0.0f, 0.0f, -20.0f);
+            Vector3 direction = randomDirection(random).add(new Vector3(0.0f, 0.0f, 1.0f));
+            TriangleBvh.Hit expected = new TriangleBvh.Hit();
+            TriangleBvh.Hit actual = new TriangleBvh.Hit();
+            Assertions.assertEquals(sequential.closestHit(origin, direction, 100.0f, expected),
+                parallel.closestHit(origin, direction, 100.0f, actual));
+            Assertions.assertEquals(expected.getTriangle(), actual.getTriangle());
+            Assertions.assertEquals(expected.getT(), actual.getT(), 0.0f);
+        }
+    }
+
+    /**
+     * Тест перестройки границ.
+     * После смещения вершин и вызова refit запросы находят треугольники на новых местах.
+     */
+    @Test
+    public void testRefitAfterVertexUpdate() {
+        Random random = new Random(13);
+        Vector3Buffer[] tris = randomTriangles(random, SIZE);
+        TriangleBvh bvh = TriangleBvh.build(tris[0], tris[1], tris[2]);
+        for (Vector3Buffer buffer : tris) {
+            for (int i = 0; i < SIZE; i++) {
+                buffer.set(i, buffer.getX(i) + 50.0f, buffer.getY(i), buffer.getZ(i));
+            }
+        }
+
+        bvh.refit();
+
+        for (int k = 0; k < 100; k++) {
+            Vector3 origin = new Vector3(random.nextFloat() * 20.0f + 40.0f, random.nextFloat() * 20.0f - 10.0f, -20.0f);
+            Vector3 direction = new Vector3(0.0f, 0.0f, 1.0f);
+            float[] expected = bruteForce(tris, origin, direction, 100.0f);
+            TriangleBvh.Hit hit = new TriangleBvh.Hit();
+            Assertions.assertEquals(expected[1] >= 0, bvh.closestHit(origin, direction, 100.0f, hit));
+            Assertions.assertEquals((int) expected[1], hit.getTriangle());
+        }
+    }
+
+    /**
+     * Тест запроса по области.
+     * Количество найденных треугольников совпадает с полным перебором.
+     */
+    @Test
+    public void testQueryAabb() {
+        Random random = new Random(17);
+        Vector3Buffer[] tris = randomTriangles(random, SIZE);
+        TriangleBvh bvh = TriangleBvh.build(tris[0], tris[1], tris[2]);
+        Vector3 min = new Vector3(-2.0f, -3.0f, -1.0f);
+        Vector3 max = new Vector3(3.0f, 2.0f, 4.0f);
+        int expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            float minX = Math.min(tris[0].getX(i), Math.min(tris[1].getX(i), tris[2].getX(i)));
+            float maxX = Math.max(tris[0].getX(i), Math.max(tris[1].getX(i), tris[2].getX(i)));
+            float minY = Math.min(tris[0].getY(i), Math.min(tris[1].getY(i), tris[2].getY(i)));
+            float maxY = Math.max(tris[0].getY(i), Math.max(tris[1].getY(i), tris[2].getY(i)));
+            float minZ = Math.min(tris[0].getZ(i), Math.min(tris[1].getZ(i), tris[2].getZ(i)));
+            float maxZ = Math.max(tris[0].getZ(i), Math.max(tris[1].getZ(i), tris[2].getZ(i)));
+            if (minX <= 3.0f && maxX >= -2.0f && minY <= 2.0f && maxY >= -3.0f && minZ <= 4.0f && maxZ >= -1.0f) {
+                expected++;
+            }
+        }
+        int[] found = new int[SIZE];
+
+        Assertions.assertEquals(expected, bvh.queryAabb(min, max, found));
+        Assertions.assertEquals(expected, bvh.queryAabb(min, max, new int[0]));
+    }
+
+    /**
+     * Тест пустой иерархии и проверки размеров буферов
+     */
+    @Test
+    public void testEmptyAndInvalidInput() {
+        TriangleBvh empty = TriangleBvh.build(new Vector3Buffer(0), new Vector3Buffer(0), new Vector3Buffer(0));
+
+        Assertions.assertFalse(empty.anyHit(new Vector3(), new Vector3(0.0f, 0.0f, 1.0f), 1.0f));
+        Assertions.assertEquals(0, empty.queryAabb(new Vector3(), new Vector3(), new int[1]));
+        empty.refit();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> TriangleBvh.build(new Vector3Buffer(1), new Vector3Buffer(2), new Vector3Buffer(1)));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса Vector2Buffer
+ */
+public class Vector2BufferTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Vector2Buffer createBuffer() {
+        return Vector2Buffer.of(
+            new Vector2(1.0f, 2.0f),
+            new Vector2(-4.0f, 5.0f)
+        );
+    }
+
+    private static Vector2Buffer createOther() {
+        return Vector2Buffer.of(
+            new Vector2(4.0f, 5.0f),
+            new Vector2(1.0f, -1.0f)
+        );
+    }
+
+    /**
+     * Тест преобразования в массив векторов и обратно
+     */
+    @Test
+    public void testConversion() {
+        Vector2[] vectors = createBuffer().toArray();
+        Vector2Buffer buffer = Vector2Buffer.of(vectors);
+        Assertions.assertEquals(2, buffer.size());
+        for (int i = 0; i < vectors.length; i++) {
+            Assertions.assertEquals(vectors[i], buffer.get(i));
+        }
+        buffer.set(1, 7.0f, 8.0f);
+        Assertions.assertEquals(7.0f, buffer.getX(1), EPSILON);
+        Assertions.assertEquals(8.0f, buffer.getY(1), EPSILON);
+    }
+
+    /**
+     * Тест массовых операций.
+     * Проверяет, что результаты совпадают с операциями над отдельными векторами Vector2.
+     */
+    @Test
+    public void testBulkOperationsMatchVector2() {
+        Vector2Buffer a = createBuffer();
+        Vector2Buffer b = createOther();
+        Vector2[] va = a.toArray();
+        Vector2[] vb = b.toArray();
+
+        Vector2Buffer sum = a.add(b, new Vector2Buffer(2));
+        Vector2Buffer difference = a.subtract(b, new Vector2Buffer(2));
+        Vector2Buffer scaled = a.scale(2.5f, new Vector2Buffer(2));
+        Vector2Buffer normalized = a.normalize(new Vector2Buffer(2));
+        float[] dot = a.dot(b, new float[2], 0, 2);
+        float[] length = a.length(new float[2], 0, 2);
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(va[i].add(vb[i]), sum.get(i));
+            Assertions.assertEquals(va[i].subtract(vb[i]), difference.get(i));
+            Assertions.assertEquals(va[i].multiply(2.5f), scaled.get(i));
+            Assertions.assertEquals(va[i].normalize(), normalized.get(i));
+            Assertions.assertEquals(va[i].dot(vb[i]), dot[i], EPSILON);
+            Assertions.assertEquals(va[i].length(), length[i], EPSILON);
+        }
+    }
+
+    /**
+     * Тест обработки ошибок: выход за границы и нулевой вектор
+     */
+    @Test
+    public void testErrors() {
+        Vector2Buffer a = createBuffer();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> a.scale(2.0f, a, 1, 2));
+        Assertions.assertThrowsExactly(IndexOutOfBoundsException.class,
+            () -> new Vector2Buffer(1).add(a, a, 0, 2));
+        Assertions.assertThrowsExactly(IndexOutOfBoundsException.class,
+            () -> new Vector2Buffer(1).subtract(a, a, 0, 2));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> new Vector2Buffer(1).normalize(new Vector2Buffer(1)));
+    }
+}
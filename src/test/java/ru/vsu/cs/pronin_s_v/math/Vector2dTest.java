@@ -0,0 +1,109 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса Vector2d.
+ * Общая арифметика сверяется с Vector2 на случайных входах, остальные тесты
+ * проверяют то, ради чего нужна двойная точность.
+ */
+public class Vector2dTest {
+
+    private static final double ORIGIN = 1.0e8;
+    private static final double TOLERANCE = 1e-5;
+
+    /**
+     * Тест разности координат большого мира.
+     * Смещение 0.25 от точки на расстоянии 1e8 сохраняется в double,
+     * тогда как во float шаг представимых чисел на этом масштабе равен 8.
+     */
+    @Test
+    public void testLargeWorldSubtract() {
+        Vector2d point = new Vector2d(ORIGIN + 0.25, -ORIGIN - 0.5);
+        Vector2d origin = new Vector2d(ORIGIN, -ORIGIN);
+
+        Vector2d local = point.subtract(origin);
+
+        Assertions.assertEquals(0.25, local.getX(), 0.0);
+        Assertions.assertEquals(-0.5, local.getY(), 0.0);
+        Vector2 floatLocal = point.toVector2().subtract(origin.toVector2());
+        Assertions.assertNotEquals(0.25f, floatLocal.getX());
+    }
+
+    /**
+     * Тест накопления ошибки при многократном сложении.
+     * Миллион шагов по 0.1 в double дает 1e5 с ошибкой меньше 1e-5, во float ошибка больше единицы.
+     */
+    @Test
+    public void testAccumulation() {
+        Vector2d step = new Vector2d(0.1, -0.1);
+        Vector2d sum = new Vector2d();
+        float floatSum = 0.0f;
+        for (int i = 0; i < 1_000_000; i++) {
+            step.add(sum, sum);
+            floatSum += 0.1f;
+        }
+        Assertions.assertEquals(1.0e5, sum.getX(), 1e-5);
+        Assertions.assertEquals(-1.0e5, sum.getY(), 1e-5);
+        Assertions.assertTrue(Math.abs(floatSum - 1.0e5f) > 1.0f);
+    }
+
+    /**
+     * Тест соответствия операциям одинарной точности.
+     * На случайных входах, точно представимых во float, каждая операция дает
+     * тот же результат, что и у Vector2, с точностью до округления float.
+     */
+    @Test
+    public void testMatchesFloatOperations() {
+        Random random = new Random(14);
+        Vector2d dest = new Vector2d();
+        for (int k = 0; k < 100; k++) {
+            Vector2 fa = new Vector2(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            Vector2 fb = new Vector2(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            float scalar = random.nextFloat() * 2.0f + 0.5f;
+            Vector2d a = new Vector2d(fa);
+            Vector2d b = new Vector2d(fb);
+
+            assertMatches(fa.add(fb), a.add(b));
+            assertMatches(fa.add(fb), a.add(b, dest));
+            assertMatches(fa.subtract(fb), a.subtract(b));
+            assertMatches(fa.subtract(fb), a.subtract(b, dest));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar, dest));
+            assertMatches(fa.divide(scalar), a.divide(scalar));
+            assertMatches(fa.divide(scalar), a.divide(scalar, dest));
+            assertMatches(fa.normalize(), a.normalize());
+            assertMatches(fa.normalize(), a.normalize(dest));
+            Assertions.assertEquals(fa.length(), a.length(), TOLERANCE * Math.max(1.0, a.length()));
+            Assertions.assertEquals(fa.dot(fb), a.dot(b), TOLERANCE * Math.max(1.0, Math.abs(a.dot(b))));
+        }
+    }
+
+    /**
+     * Тест преобразования между точностями.
+     * Расширение float до double точное, сужение округляет к ближайшему float.
+     */
+    @Test
+    public void testPrecisionConversion() {
+        Vector2 source = new Vector2(1.5f, 0.1f);
+
+        Vector2d widened = new Vector2d(source);
+        Vector2 dest = new Vector2();
+
+        Assertions.assertEquals((double) 0.1f, widened.getY(), 0.0);
+        Assertions.assertSame(dest, widened.toVector2(dest));
+        Assertions.assertEquals(source.getX(), dest.getX(), 0.0f);
+        Assertions.assertEquals(source.getY(), dest.getY(), 0.0f);
+        Assertions.assertEquals((float) 0.1, new Vector2d(0.0, 0.1).toVector2().getY(), 0.0f);
+        Assertions.assertEquals(widened, new Vector2d().set(source));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> widened.toVector2(null));
+    }
+
+    private static void assertMatches(Vector2 expected, Vector2d actual) {
+        Assertions.assertEquals(expected.getX(), actual.getX(), TOLERANCE * Math.max(1.0, Math.abs(actual.getX())));
+        Assertions.assertEquals(expected.getY(), actual.getY(), TOLERANCE * Math.max(1.0, Math.abs(actual.getY())));
+    }
+}
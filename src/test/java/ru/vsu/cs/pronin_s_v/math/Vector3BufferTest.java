@@ -0,0 +1,112 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Тесты для класса Vector3Buffer
+ */
+public class Vector3BufferTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    private static Vector3Buffer createBuffer() {
+        return Vector3Buffer.of(
+            new Vector3(1.0f, 2.0f, 3.0f),
+            new Vector3(-4.0f, 5.0f, 0.5f),
+            new Vector3(0.0f, 0.0f, 2.0f)
+        );
+    }
+
+    private static Vector3Buffer createOther() {
+        return Vector3Buffer.of(
+            new Vector3(4.0f, 5.0f, 6.0f),
+            new Vector3(1.0f, -1.0f, 2.0f),
+            new Vector3(3.0f, 0.0f, 0.0f)
+        );
+    }
+
+    /**
+     * Тест преобразования в массив векторов и обратно
+     */
+    @Test
+    public void testConversion() {
+        Vector3[] vectors = createBuffer().toArray();
+        Vector3Buffer buffer = Vector3Buffer.of(vectors);
+        Assertions.assertEquals(3, buffer.size());
+        for (int i = 0; i < vectors.length; i++) {
+            Assertions.assertEquals(vectors[i], buffer.get(i));
+        }
+        buffer.set(1, 7.0f, 8.0f, 9.0f);
+        Assertions.assertEquals(7.0f, buffer.getX(1), EPSILON);
+        Assertions.assertEquals(8.0f, buffer.getY(1), EPSILON);
+        Assertions.assertEquals(9.0f, buffer.getZ(1), EPSILON);
+    }
+
+    /**
+     * Тест массовых операций.
+     * Проверяет, что результаты совпадают с операциями над отдельными векторами Vector3.
+     */
+    @Test
+    public void testBulkOperationsMatchVector3() {
+        Vector3Buffer a = createBuffer();
+        Vector3Buffer b = createOther();
+        Vector3[] va = a.toArray();
+        Vector3[] vb = b.toArray();
+
+        Vector3Buffer sum = a.add(b, new Vector3Buffer(3));
+        Vector3Buffer difference = a.subtract(b, new Vector3Buffer(3));
+        Vector3Buffer scaled = a.scale(2.5f, new Vector3Buffer(3));
+        Vector3Buffer cross = a.cross(b, new Vector3Buffer(3));
+        Vector3Buffer normalized = a.normalize(new Vector3Buffer(3));
+        float[] dot = a.dot(b, new float[3], 0, 3);
+        float[] length = a.length(new float[3], 0, 3);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(va[i].add(vb[i]), sum.get(i));
+            Assertions.assertEquals(va[i].subtract(vb[i]), difference.get(i));
+            Assertions.assertEquals(va[i].multiply(2.5f), scaled.get(i));
+            Assertions.assertEquals(va[i].cross(vb[i]), cross.get(i));
+            Assertions.assertEquals(va[i].normalize(), normalized.get(i));
+            Assertions.assertEquals(va[i].dot(vb[i]), dot[i], EPSILON);
+            Assertions.assertEquals(va[i].length(), length[i], EPSILON);
+        }
+    }
+
+    /**
+     * Тест операций над диапазоном и на месте.
+     * Проверяет, что векторы вне диапазона не изменяются, а dest может совпадать с this.
+     */
+    @Test
+    public void testRangeInPlace() {
+        Vector3Buffer a = createBuffer();
+        Vector3[] before = a.toArray();
+        a.cross(createOther(), a, 1, 1);
+        Assertions.assertEquals(before[0], a.get(0));
+        Assertions.assertEquals(before[1].cross(new Vector3(1.0f, -1.0f, 2.0f)), a.get(1));
+        Assertions.assertEquals(before[2], a.get(2));
+    }
+
+    /**
+     * Тест обработки ошибок: выход за границы, нулевой вектор и null
+     */
+    @Test
+    public void testErrors() {
+        Vector3Buffer a = createBuffer();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> a.get(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> a.scale(2.0f, a, 2, 2));
+        Assertions.assertThrowsExactly(IndexOutOfBoundsException.class,
+            () -> new Vector3Buffer(1).add(a, a, 0, 2));
+        Assertions.assertThrowsExactly(IndexOutOfBoundsException.class,
+            () -> new Vector3Buffer(1).subtract(a, a, 0, 2));
+        Assertions.assertThrowsExactly(IndexOutOfBoundsException.class,
+            () -> new Vector3Buffer(1).cross(a, a, 0, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> a.add(createOther(), new Vector3Buffer(2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(null, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Vector3Buffer(-1));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> new Vector3Buffer(1).normalize(new Vector3Buffer(1)));
+    }
+}
@@ -190,4 +190,29 @@ public class Vector3Test {
         Assertions.assertNotEquals(v1, null);
         Assertions.assertNotEquals(v1, "not a vector");
     }
+
+    /**
+     * Тест операций с записью результата в заданный вектор.
+     * Результаты совпадают с возвращающими новый вектор операциями, в том числе при dest = this.
+     */
+    @Test
+    public void testDestinationOperations() {
+        Vector3 a = new Vector3(1.0f, 2.0f, 3.0f);
+        Vector3 b = new Vector3(-4.0f, 0.5f, 2.0f);
+        Vector3 dest = new Vector3();
+
+        Assertions.assertSame(dest, a.add(b, dest));
+        Assertions.assertEquals(a.add(b), dest);
+        Assertions.assertEquals(a.subtract(b), a.subtract(b, dest));
+        Assertions.assertEquals(a.multiply(2.5f), a.multiply(2.5f, dest));
+        Assertions.assertEquals(a.divide(4.0f), a.divide(4.0f, dest));
+        Assertions.assertEquals(a.normalize(), a.normalize(dest));
+        Assertions.assertEquals(a.cross(b), new Vector3(a).cross(b, dest));
+
+        Vector3 expected = a.cross(b);
+        Assertions.assertEquals(expected, a.cross(b, a));
+        Assertions.assertEquals(new Vector3(7.0f, 8.0f, 9.0f), dest.set(7.0f, 8.0f, 9.0f));
+        Assertions.assertThrows(ArithmeticException.class, () -> new Vector3().normalize(dest));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> b.add(b, null));
+    }
 }
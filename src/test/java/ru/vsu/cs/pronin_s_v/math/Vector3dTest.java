@@ -0,0 +1,120 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса Vector3d.
+ * Общая арифметика сверяется с Vector3 на случайных входах, остальные тесты
+ * проверяют то, ради чего нужна двойная точность.
+ */
+public class Vector3dTest {
+
+    private static final double ORIGIN = 1.0e8;
+    private static final double TOLERANCE = 1e-5;
+
+    /**
+     * Тест расстояния между близкими точками большого мира.
+     * Во float обе точки округляются к одному и тому же значению.
+     */
+    @Test
+    public void testLargeWorldDistance() {
+        Vector3d a = new Vector3d(ORIGIN, ORIGIN, ORIGIN);
+        Vector3d b = new Vector3d(ORIGIN + 3.0, ORIGIN + 4.0, ORIGIN);
+
+        Assertions.assertEquals(5.0, b.subtract(a).length(), 0.0);
+        Assertions.assertEquals(0.0f, b.toVector3().subtract(a.toVector3()).length(), 0.0f);
+    }
+
+    /**
+     * Тест нормали треугольника, заданного координатами большого мира.
+     * Ребра вычисляются в double точно, поэтому векторное произведение дает нормаль (0, 0, 1);
+     * во float ребра вырождаются в нулевые векторы.
+     */
+    @Test
+    public void testLargeWorldTriangleNormal() {
+        Vector3d v0 = new Vector3d(ORIGIN, ORIGIN, -ORIGIN);
+        Vector3d v1 = new Vector3d(ORIGIN + 1.0, ORIGIN, -ORIGIN);
+        Vector3d v2 = new Vector3d(ORIGIN, ORIGIN + 1.0, -ORIGIN);
+        Vector3d e1 = v1.subtract(v0);
+        Vector3d e2 = v2.subtract(v0);
+
+        Vector3d normal = e1.cross(e2, e1).normalize();
+
+        Assertions.assertEquals(new Vector3d(0.0, 0.0, 1.0), normal);
+        Vector3 f0 = v0.toVector3();
+        Vector3 floatNormal = v1.toVector3().subtract(f0).cross(v2.toVector3().subtract(f0));
+        Assertions.assertEquals(0.0f, floatNormal.length(), 0.0f);
+    }
+
+    /**
+     * Тест нормализации направления на удаленную точку.
+     * Малая компонента 1e-8 сохраняется с относительной точностью double.
+     */
+    @Test
+    public void testNormalizeKeepsSmallComponent() {
+        Vector3d direction = new Vector3d(ORIGIN, 1.0, 0.0).normalize();
+
+        Assertions.assertEquals(1.0 / ORIGIN, direction.getY(), 1e-22);
+        Assertions.assertEquals(1.0, direction.length(), 1e-15);
+    }
+
+    /**
+     * Тест соответствия операциям одинарной точности.
+     * На случайных входах, точно представимых во float, каждая операция дает
+     * тот же результат, что и у Vector3, с точностью до округления float.
+     */
+    @Test
+    public void testMatchesFloatOperations() {
+        Random random = new Random(21);
+        Vector3d dest = new Vector3d();
+        for (int k = 0; k < 100; k++) {
+            Vector3 fa = new Vector3(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            Vector3 fb = new Vector3(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            float scalar = random.nextFloat() * 2.0f + 0.5f;
+            Vector3d a = new Vector3d(fa);
+            Vector3d b = new Vector3d(fb);
+
+            assertMatches(fa.add(fb), a.add(b));
+            assertMatches(fa.add(fb), a.add(b, dest));
+            assertMatches(fa.subtract(fb), a.subtract(b));
+            assertMatches(fa.subtract(fb), a.subtract(b, dest));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar, dest));
+            assertMatches(fa.divide(scalar), a.divide(scalar));
+            assertMatches(fa.divide(scalar), a.divide(scalar, dest));
+            assertMatches(fa.normalize(), a.normalize());
+            assertMatches(fa.normalize(), a.normalize(dest));
+            assertMatches(fa.cross(fb), a.cross(b));
+            assertMatches(fa.cross(fb), new Vector3d(a).cross(b, dest));
+            Assertions.assertEquals(fa.length(), a.length(), TOLERANCE * Math.max(1.0, a.length()));
+            Assertions.assertEquals(fa.dot(fb), a.dot(b), TOLERANCE * Math.max(1.0, Math.abs(a.dot(b))));
+        }
+    }
+
+    /**
+     * Тест преобразования между точностями
+     */
+    @Test
+    public void testPrecisionConversion() {
+        Vector3 source = new Vector3(1.5f, -2.25f, 0.1f);
+
+        Vector3d widened = new Vector3d(source);
+        Vector3 dest = new Vector3();
+
+        Assertions.assertEquals((double) 0.1f, widened.getZ(), 0.0);
+        Assertions.assertEquals(source, widened.toVector3());
+        Assertions.assertSame(dest, widened.toVector3(dest));
+        Assertions.assertEquals(source, dest);
+        Assertions.assertEquals(widened, new Vector3d().set(source));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> widened.toVector3(null));
+    }
+
+    private static void assertMatches(Vector3 expected, Vector3d actual) {
+        Assertions.assertEquals(expected.getX(), actual.getX(), TOLERANCE * Math.max(1.0, Math.abs(actual.getX())));
+        Assertions.assertEquals(expected.getY(), actual.getY(), TOLERANCE * Math.max(1.0, Math.abs(actual.getY())));
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), TOLERANCE * Math.max(1.0, Math.abs(actual.getZ())));
+    }
+}
@@ -0,0 +1,103 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Random;
+
+/**
+ * Тесты для класса Vector4d.
+ * Общая арифметика сверяется с Vector4 на случайных входах, остальные тесты
+ * проверяют то, ради чего нужна двойная точность.
+ */
+public class Vector4dTest {
+
+    private static final double ORIGIN = 1.0e8;
+    private static final double TOLERANCE = 1e-5;
+
+    /**
+     * Тест однородной разности точек большого мира.
+     * Разность двух точек (w = 1) дает направление (w = 0) с точным смещением.
+     */
+    @Test
+    public void testLargeWorldPointDifference() {
+        Vector4d point = new Vector4d(new Vector3d(ORIGIN + 0.125, -ORIGIN, ORIGIN - 2.5), 1.0);
+        Vector4d origin = new Vector4d(new Vector3d(ORIGIN, -ORIGIN, ORIGIN), 1.0);
+
+        Vector4d offset = point.subtract(origin);
+
+        Assertions.assertEquals(new Vector4d(0.125, 0.0, -2.5, 0.0), offset);
+        Vector4 floatOffset = point.toVector4().subtract(origin.toVector4());
+        Assertions.assertNotEquals(0.125f, floatOffset.getX());
+    }
+
+    /**
+     * Тест скалярного произведения с взаимным уничтожением больших слагаемых.
+     * 1e7 * 1e7 + 1 - 1e7 * 1e7 точно равно 1 в double, во float единица теряется.
+     */
+    @Test
+    public void testDotCancellation() {
+        Vector4d a = new Vector4d(1.0e7, 1.0, 1.0e7, 0.0);
+        Vector4d b = new Vector4d(1.0e7, 1.0, -1.0e7, 5.0);
+
+        Assertions.assertEquals(1.0, a.dot(b), 0.0);
+        Assertions.assertEquals(0.0f, a.toVector4().dot(b.toVector4()), 0.0f);
+    }
+
+    /**
+     * Тест соответствия операциям одинарной точности.
+     * На случайных входах, точно представимых во float, каждая операция дает
+     * тот же результат, что и у Vector4, с точностью до округления float.
+     */
+    @Test
+    public void testMatchesFloatOperations() {
+        Random random = new Random(28);
+        Vector4d dest = new Vector4d();
+        for (int k = 0; k < 100; k++) {
+            Vector4 fa = new Vector4(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            Vector4 fb = new Vector4(random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f, random.nextFloat() * 8.0f - 4.0f);
+            float scalar = random.nextFloat() * 2.0f + 0.5f;
+            Vector4d a = new Vector4d(fa);
+            Vector4d b = new Vector4d(fb);
+
+            assertMatches(fa.add(fb), a.add(b));
+            assertMatches(fa.add(fb), a.add(b, dest));
+            assertMatches(fa.subtract(fb), a.subtract(b));
+            assertMatches(fa.subtract(fb), a.subtract(b, dest));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar));
+            assertMatches(fa.multiply(scalar), a.multiply(scalar, dest));
+            assertMatches(fa.divide(scalar), a.divide(scalar));
+            assertMatches(fa.divide(scalar), a.divide(scalar, dest));
+            assertMatches(fa.normalize(), a.normalize());
+            assertMatches(fa.normalize(), a.normalize(dest));
+            Assertions.assertEquals(fa.length(), a.length(), TOLERANCE * Math.max(1.0, a.length()));
+            Assertions.assertEquals(fa.dot(fb), a.dot(b), TOLERANCE * Math.max(1.0, Math.abs(a.dot(b))));
+        }
+    }
+
+    /**
+     * Тест преобразования между точностями.
+     * Расширение float до double точное, сужение округляет к ближайшему float.
+     */
+    @Test
+    public void testPrecisionConversion() {
+        Vector4 source = new Vector4(1.5f, -2.25f, 0.1f, 1.0f);
+
+        Vector4d widened = new Vector4d(source);
+        Vector4 dest = new Vector4();
+
+        Assertions.assertEquals((double) 0.1f, widened.getZ(), 0.0);
+        Assertions.assertSame(dest, widened.toVector4(dest));
+        Assertions.assertEquals(source, dest);
+        Assertions.assertEquals(source, widened.toVector4());
+        Assertions.assertEquals(widened, new Vector4d().set(source));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> widened.toVector4(null));
+    }
+
+    private static void assertMatches(Vector4 expected, Vector4d actual) {
+        Assertions.assertEquals(expected.getX(), actual.getX(), TOLERANCE * Math.max(1.0, Math.abs(actual.getX())));
+        Assertions.assertEquals(expected.getY(), actual.getY(), TOLERANCE * Math.max(1.0, Math.abs(actual.getY())));
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), TOLERANCE * Math.max(1.0, Math.abs(actual.getZ())));
+        Assertions.assertEquals(expected.getW(), actual.getW(), TOLERANCE * Math.max(1.0, Math.abs(actual.getW())));
+    }
+}
@@ -0,0 +1,366 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тесты для класса VectorEngine
+ */
+public class VectorEngineTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int SIZE = 37;
+
+    private static Vector3Buffer randomBuffer(Random random) {
+        Vector3Buffer buffer = new Vector3Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            buffer.set(i, random.nextFloat() * 4.0f - 2.0f, random.nextFloat() + 0.5f, random.nextFloat() * 3.0f);
+        }
+        return buffer;
+    }
+
+    private static void assertBuffersIdentical(Vector3Buffer expected, Vector3Buffer actual) {
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.getX(i), actual.getX(i), 0.0f);
+            Assertions.assertEquals(expected.getY(i), actual.getY(i), 0.0f);
+            Assertions.assertEquals(expected.getZ(i), actual.getZ(i), 0.0f);
+        }
+    }
+
+    /**
+     * Тест скалярного движка.
+     * Проверяет, что результаты совпадают с Matrix4.multiply(Vector4) и операциями Vector3Buffer.
+     */
+    @Test
+    public void testScalarMatchesObjectApi() {
+        Random random = new Random(1);
+        Vector3Buffer a = randomBuffer(random);
+        Vector3Buffer b = randomBuffer(random);
+        Matrix4 m = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        VectorEngine engine = VectorEngine.scalar();
+        Assertions.assertEquals(1, engine.laneCount());
+
+        Vector3Buffer transformed = engine.transformPoints(m, a, new Vector3Buffer(SIZE), 0, SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Vector4 expected = m.multiply(new Vector4(a.get(i), 1.0f));
+            Assertions.assertEquals(expected.getX(), transformed.getX(i), EPSILON);
+            Assertions.assertEquals(expected.getY(), transformed.getY(i), EPSILON);
+            Assertions.assertEquals(expected.getZ(), transformed.getZ(i), EPSILON);
+        }
+        assertBuffersIdentical(a.cross(b, new Vector3Buffer(SIZE)),
+            engine.cross(a, b, new Vector3Buffer(SIZE), 0, SIZE));
+        assertBuffersIdentical(a.normalize(new Vector3Buffer(SIZE)),
+            engine.normalize(a, new Vector3Buffer(SIZE), 0, SIZE));
+        Assertions.assertArrayEquals(a.dot(b, new float[SIZE], 0, SIZE),
+            engine.dot(a, b, new float[SIZE], 0, SIZE), 0.0f);
+    }
+
+    /**
+     * Тест SIMD-движка для всех ширин регистра.
+     * Проверяет побитовое совпадение со скалярным движком, включая скалярный хвост диапазона.
+     */
+    @Test
+    public void testSimdMatchesScalar() {
+        Assumptions.assumeTrue(VectorEngine.isSimdAvailable());
+        Random random = new Random(2);
+        Vector3Buffer a = randomBuffer(random);
+        Vector3Buffer b = randomBuffer(random);
+        Matrix4 m = new Matrix4(new float[] {
+            0.3f, 0.5f, -1.0f, 3.0f,
+            0.7f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.2f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        VectorEngine scalar = VectorEngine.scalar();
+        for (int bits : new int[] {64, 128, 256, 512}) {
+            VectorEngine simd = VectorEngine.simd(bits);
+            Assertions.assertEquals(bits / 32, simd.laneCount());
+            assertBuffersIdentical(scalar.transformPoints(m, a, new Vector3Buffer(SIZE), 1, SIZE - 1),
+                simd.transformPoints(m, a, new Vector3Buffer(SIZE), 1, SIZE - 1));
+            assertBuffersIdentical(scalar.cross(a, b, new Vector3Buffer(SIZE), 0, SIZE),
+                simd.cross(a, b, new Vector3Buffer(SIZE), 0, SIZE));
+            assertBuffersIdentical(scalar.normalize(a, new Vector3Buffer(SIZE), 0, SIZE),
+                simd.normalize(a, new Vector3Buffer(SIZE), 0, SIZE));
+            Assertions.assertArrayEquals(scalar.dot(a, b, new float[SIZE], 0, SIZE),
+                simd.dot(a, b, new float[SIZE], 0, SIZE), 0.0f);
+        }
+        Assertions.assertSame(VectorEngine.simd(), VectorEngine.best());
+    }
+
+    /**
+     * Тест пакетного умножения матриц 4×4.
+     * Проверяет совпадение с Matrix4.multiply для всех доступных движков и умножение на месте.
+     */
+    @Test
+    public void testMultiplyMatrices() {
+        Random random = new Random(3);
+        int count = 5;
+        float[] a = new float[16 * count];
+        float[] b = new float[16 * count];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextFloat() * 2.0f - 1.0f;
+            b[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        float[] result = VectorEngine.best().multiply(a, b, new float[16 * count], count);
+        for (int i = 0; i < count; i++) {
+            Matrix4 expected = Matrix4.zero().set(a, 16 * i).multiply(Matrix4.zero().set(b, 16 * i));
+            Assertions.assertEquals(expected, Matrix4.zero().set(result, 16 * i));
+        }
+        float[] inPlace = a.clone();
+        VectorEngine.scalar().multiply(inPlace, b, inPlace, count);
+        Assertions.assertArrayEquals(result, inPlace, 0.0f);
+    }
+
+    /**
+     * Тест знака нуля в пакетном умножении матриц.
+     * Суммы начинаются с +0.0f во всех движках, поэтому произведение матрицы из -1
+     * на нулевую матрицу дает +0.0f, как в Matrix4.multiply.
+     */
+    @Test
+    public void testMultiplyMatricesSignedZero() {
+        int count = 3;
+        float[] a = new float[16 * count];
+        Arrays.fill(a, -1.0f);
+        float[] b = new float[16 * count];
+        float[] expected = VectorEngine.scalar().multiply(a, b, new float[16 * count], count);
+        for (float value : expected) {
+            Assertions.assertEquals(Float.floatToIntBits(0.0f), Float.floatToIntBits(value));
+        }
+        for (VectorEngine engine : engines()) {
+            float[] actual = engine.multiply(a, b, new float[16 * count], count);
+            for (int i = 0; i < actual.length; i++) {
+                Assertions.assertEquals(Float.floatToIntBits(expected[i]), Float.floatToIntBits(actual[i]));
+            }
+        }
+    }
+
+    /**
+     * Тест параллельного движка.
+     * При маленьком пороге диапазон делится на много задач; результат должен
+     * побитово совпадать с последовательным движком.
+     */
+    @Test
+    public void testParallelMatchesSequential() {
+        Random random = new Random(4);
+        int size = 1000;
+        Vector3Buffer a = new Vector3Buffer(size);
+        Vector3Buffer b = new Vector3Buffer(size);
+        float[] packed = new float[size * 4];
+        for (int i = 0; i < size; i++) {
+            a.set(i, random.nextFloat() + 0.1f, random.nextFloat(), random.nextFloat());
+            b.set(i, random.nextFloat(), random.nextFloat() + 0.1f, random.nextFloat());
+            packed[i * 4] = random.nextFloat();
+            packed[i * 4 + 1] = random.nextFloat();
+            packed[i * 4 + 2] = random.nextFloat();
+        }
+        Matrix4 m = new Matrix4(new float[] {
+            0.3f, 0.5f, -1.0f, 3.0f,
+            0.7f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.2f, 4.0f, 5.0f,
+            0.1f, 0.0f, 0.0f, 1.0f
+        });
+        VectorEngine sequential = VectorEngine.best();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            VectorEngine parallel = VectorEngine.parallel(sequential, pool, 7);
+            assertBuffersIdentical(sequential.transformPoints(m, a, new Vector3Buffer(size), 3, size - 3),
+                parallel.transformPoints(m, a, new Vector3Buffer(size), 3, size - 3));
+            assertBuffersIdentical(sequential.cross(a, b, new Vector3Buffer(size), 0, size),
+                parallel.cross(a, b, new Vector3Buffer(size), 0, size));
+            assertBuffersIdentical(sequential.normalize(a, new Vector3Buffer(size), 0, size),
+                parallel.normalize(a, new Vector3Buffer(size), 0, size));
+            Assertions.assertArrayEquals(sequential.dot(a, b, new float[size], 0, size),
+                parallel.dot(a, b, new float[size], 0, size), 0.0f);
+
+            float[] expected = new float[packed.length];
+            float[] actual = new float[packed.length];
+            sequential.transformPoints(m, packed, 0, expected, 0, size, 4);
+            parallel.transformPoints(m, packed, 0, actual, 0, size, 4);
+            Assertions.assertArrayEquals(expected, actual, 0.0f);
+
+            int count = packed.length / 16;
+            Assertions.assertArrayEquals(sequential.multiply(packed, expected, new float[packed.length], count),
+                parallel.multiply(packed, expected, new float[packed.length], count), 0.0f);
+
+            Vector3Buffer withZero = new Vector3Buffer(size);
+            withZero.set(0, 1.0f, 0.0f, 0.0f);
+            Assertions.assertThrows(ArithmeticException.class,
+                () -> parallel.normalize(withZero, withZero, 0, size));
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> VectorEngine.parallel(sequential, ForkJoinPool.commonPool(), 0));
+    }
+
+    /**
+     * Тест обработки ошибок: нулевой вектор и выход за границы
+     */
+    @Test
+    public void testErrors() {
+        VectorEngine engine = VectorEngine.best();
+        Vector3Buffer zero = new Vector3Buffer(SIZE);
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> engine.normalize(zero, zero, 0, SIZE));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> engine.cross(zero, zero, new Vector3Buffer(2), 0, SIZE));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> engine.multiply(new float[16], new float[16], new float[16], 2));
+    }
+
+    /**
+     * Пересечение луча с треугольником на объектах Vector3
+     * @return параметр t или +∞ при промахе
+     */
+    private static float rayTriangle(Vector3 origin, Vector3 direction, float maxT, Vector3 a, Vector3 b, Vector3 c) {
+        Vector3 e1 = b.subtract(a);
+        Vector3 e2 = c.subtract(a);
+        Vector3 p = direction.cross(e2);
+        float det = e1.dot(p);
+        if (det == 0.0f) {
+            return Float.POSITIVE_INFINITY;
+        }
+        Vector3 s = origin.subtract(a);
+        float u = s.dot(p) / det;
+        Vector3 q = s.cross(e1);
+        float v = direction.dot(q) / det;
+        float t = e2.dot(q) / det;
+        return u >= 0.0f && v >= 0.0f && u + v <= 1.0f && t > 0.0f && t <= maxT ? t : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Тест пересечения луча с треугольниками.
+     * Скалярный движок совпадает с вычислением на объектах, остальные движки - побитово со скалярным.
+     */
+    @Test
+    public void testIntersectTriangles() {
+        Random random = new Random(19);
+        int size = 101;
+        Vector3Buffer a = new Vector3Buffer(size);
+        Vector3Buffer b = new Vector3Buffer(size);
+        Vector3Buffer c = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            float x = random.nextFloat() * 4.0f - 2.0f;
+            float y = random.nextFloat() * 4.0f - 2.0f;
+            float z = random.nextFloat() * 10.0f + 1.0f;
+            a.set(i, x - 1.0f, y - 1.0f, z);
+            b.set(i, x + 1.0f, y - random.nextFloat(), z + random.nextFloat());
+            c.set(i, x, y + 1.0f, z - random.nextFloat());
+        }
+        a.set(size - 1, 0.0f, 0.0f, 5.0f);
+        b.set(size - 1, 1.0f, 0.0f, 5.0f);
+        c.set(size - 1, 2.0f, 0.0f, 5.0f);
+        Vector3 origin = new Vector3(0.1f, 0.2f, 0.0f);
+        Vector3 direction = new Vector3(0.0f, 0.0f, 1.0f);
+
+        float[] expected = new float[size];
+        int nearest = VectorEngine.scalar().intersectTriangles(origin, direction, 8.0f, a, b, c, expected, 0, size);
+
+        float bestT = Float.POSITIVE_INFINITY;
+        int hits = 0;
+        for (int i = 0; i < size; i++) {
+            float t = rayTriangle(origin, direction, 8.0f, a.get(i), b.get(i), c.get(i));
+            Assertions.assertEquals(t, expected[i], EPSILON);
+            if (t < bestT) {
+                bestT = t;
+            }
+            hits += t != Float.POSITIVE_INFINITY ? 1 : 0;
+        }
+        Assertions.assertTrue(hits > 0 && hits < size);
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, expected[size - 1]);
+        Assertions.assertEquals(bestT, expected[nearest], EPSILON);
+
+        for (VectorEngine engine : engines()) {
+            float[] actual = new float[size];
+            Assertions.assertEquals(nearest, engine.intersectTriangles(origin, direction, 8.0f, a, b, c, actual, 0, size));
+            Assertions.assertArrayEquals(expected, actual, 0.0f);
+        }
+    }
+
+    /**
+     * Тест пересечения малых треугольников коротким направлением.
+     * Определитель пропорционален длинам ребер и направления, поэтому треугольники
+     * с ребром 3e-4 и направление длины 1e-3 не должны отбрасываться;
+     * вырожденный треугольник дает промах.
+     */
+    @Test
+    public void testIntersectSmallTriangles() {
+        int size = 23;
+        float edge = 3e-4f;
+        Vector3Buffer a = new Vector3Buffer(size);
+        Vector3Buffer b = new Vector3Buffer(size);
+        Vector3Buffer c = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, 0.0f, 0.0f, -i);
+            b.set(i, edge, 0.0f, -i);
+            c.set(i, 0.0f, edge, -i);
+        }
+        c.set(size - 1, 2.0f * edge, 0.0f, 1.0f - size);
+        Vector3 origin = new Vector3(edge / 3.0f, edge / 3.0f, 5.0f);
+        Vector3 direction = new Vector3(0.0f, 0.0f, -1e-3f);
+
+        float[] expected = new float[size];
+        Assertions.assertEquals(0, VectorEngine.scalar().intersectTriangles(origin, direction, 1e6f, a, b, c,
+            expected, 0, size));
+        for (int i = 0; i < size - 1; i++) {
+            Assertions.assertEquals((5.0f + i) * 1e3f, expected[i], 1e-2f);
+        }
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, expected[size - 1]);
+        for (VectorEngine engine : engines()) {
+            float[] actual = new float[size];
+            Assertions.assertEquals(0, engine.intersectTriangles(origin, direction, 1e6f, a, b, c, actual, 0, size));
+            Assertions.assertArrayEquals(expected, actual, 0.0f);
+        }
+    }
+
+    /**
+     * Тест пересечения пакета лучей с одним треугольником.
+     * Проверяет совпадение с вычислением на объектах и между движками.
+     */
+    @Test
+    public void testIntersectRays() {
+        Random random = new Random(23);
+        int size = 77;
+        Vector3Buffer origins = new Vector3Buffer(size);
+        Vector3Buffer directions = new Vector3Buffer(size);
+        for (int i = 0; i < size; i++) {
+            origins.set(i, random.nextFloat() * 4.0f - 2.0f, random.nextFloat() * 4.0f - 2.0f, -1.0f);
+            directions.set(i, random.nextFloat() * 0.2f - 0.1f, random.nextFloat() * 0.2f - 0.1f, 1.0f);
+        }
+        Vector3 a = new Vector3(-1.0f, -1.0f, 2.0f);
+        Vector3 b = new Vector3(1.5f, -1.0f, 2.5f);
+        Vector3 c = new Vector3(0.0f, 1.5f, 3.0f);
+
+        float[] expected = new float[size];
+        int nearest = VectorEngine.scalar().intersectRays(origins, directions, 10.0f, a, b, c, expected, 2, size - 2);
+
+        Assertions.assertEquals(0.0f, expected[0], 0.0f);
+        for (int i = 2; i < size; i++) {
+            Assertions.assertEquals(rayTriangle(origins.get(i), directions.get(i), 10.0f, a, b, c), expected[i], EPSILON);
+        }
+        Assertions.assertTrue(nearest >= 2);
+        for (VectorEngine engine : engines()) {
+            float[] actual = new float[size];
+            Assertions.assertEquals(nearest, engine.intersectRays(origins, directions, 10.0f, a, b, c, actual, 2, size - 2));
+            Assertions.assertArrayEquals(expected, actual, 0.0f);
+        }
+    }
+
+    private static VectorEngine[] engines() {
+        VectorEngine parallel = VectorEngine.parallel(VectorEngine.scalar(), ForkJoinPool.commonPool(), 5);
+        return VectorEngine.isSimdAvailable()
+            ? new VectorEngine[] {parallel, VectorEngine.simd(), VectorEngine.simd(128),
+                VectorEngine.parallel(VectorEngine.simd(), ForkJoinPool.commonPool(), 5)}
+            : new VectorEngine[] {parallel};
+    }
+}
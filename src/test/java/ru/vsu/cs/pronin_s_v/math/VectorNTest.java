@@ -0,0 +1,56 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса VectorN
+ */
+public class VectorNTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    /**
+     * Тест конструкторов и доступа к координатам
+     */
+    @Test
+    public void testConstructionAndAccess() {
+        VectorN v = new VectorN(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        Assertions.assertEquals(5, v.size());
+        Assertions.assertEquals(3.0f, v.get(2), EPSILON);
+        v.set(2, -1.0f);
+        Assertions.assertEquals(-1.0f, v.get(2), EPSILON);
+        Assertions.assertEquals(v, new VectorN(v));
+        Assertions.assertEquals(v.hashCode(), new VectorN(v).hashCode());
+        Assertions.assertNotEquals(v, new VectorN(4));
+        Assertions.assertEquals(new VectorN(5), new VectorN(v).setZero());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> v.get(5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VectorN(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VectorN(new float[0]));
+    }
+
+    /**
+     * Тест арифметических операций, скалярного произведения и нормализации
+     */
+    @Test
+    public void testArithmetic() {
+        VectorN a = new VectorN(1.0f, 2.0f, 2.0f);
+        VectorN b = new VectorN(3.0f, -1.0f, 0.5f);
+        Assertions.assertEquals(new VectorN(4.0f, 1.0f, 2.5f), a.add(b));
+        Assertions.assertEquals(new VectorN(-2.0f, 3.0f, 1.5f), a.subtract(b));
+        Assertions.assertEquals(new VectorN(2.0f, 4.0f, 4.0f), a.multiply(2.0f));
+        Assertions.assertEquals(2.0f, a.dot(b), EPSILON);
+        Assertions.assertEquals(3.0f, a.length(), EPSILON);
+        Assertions.assertEquals(1.0f, a.normalize().length(), EPSILON);
+
+        VectorN c = new VectorN(a);
+        c.addScaledLocal(2.0f, b);
+        Assertions.assertEquals(new VectorN(7.0f, 0.0f, 3.0f), c);
+        a.add(b, a);
+        Assertions.assertEquals(new VectorN(4.0f, 1.0f, 2.5f), a);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(new VectorN(2)));
+        Assertions.assertThrows(ArithmeticException.class, () -> new VectorN(3).normalize());
+    }
+}
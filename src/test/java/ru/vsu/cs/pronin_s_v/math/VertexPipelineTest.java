@@ -0,0 +1,159 @@
+package ru.vsu.cs.pronin_s_v.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Тесты для класса VertexPipeline
+ */
+public class VertexPipelineTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final int SIZE = 1013;
+    private static final int STRIDE = 5;
+
+    /**
+     * Перспективная проекция с углом обзора 90°, near = 1, far = 100, камера смотрит вдоль -z
+     */
+    private static Matrix4 perspective() {
+        float near = 1.0f;
+        float far = 100.0f;
+        return new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, (far + near) / (near - far), 2.0f * far * near / (near - far),
+            0.0f, 0.0f, -1.0f, 0.0f
+        });
+    }
+
+    private static float[] randomVertices(Random random) {
+        float[] vertices = new float[SIZE * STRIDE];
+        for (int i = 0; i < SIZE; i++) {
+            vertices[i * STRIDE] = random.nextFloat() * 80.0f - 40.0f;
+            vertices[i * STRIDE + 1] = random.nextFloat() * 80.0f - 40.0f;
+            vertices[i * STRIDE + 2] = -random.nextFloat() * 120.0f + 10.0f;
+            vertices[i * STRIDE + 3] = Float.NaN;
+            vertices[i * STRIDE + 4] = Float.NaN;
+        }
+        return vertices;
+    }
+
+    /**
+     * Тест преобразования отдельных вершин единичной матрицей.
+     * NDC совпадают с исходными координатами, экранная ось y направлена вниз.
+     */
+    @Test
+    public void testIdentity() {
+        VertexPipeline pipeline = new VertexPipeline(10, 20, 200, 100);
+        float[] vertices = {
+            0.0f, 0.0f, 0.0f,
+            -1.0f, 1.0f, -1.0f,
+            0.5f, -0.5f, 1.0f,
+            2.0f, 0.0f, 0.0f
+        };
+        VertexPipeline.Output out = pipeline.process(new Matrix4(), vertices, 0, 4, 3, new VertexPipeline.Output());
+
+        Assertions.assertEquals(4, out.size());
+        Assertions.assertEquals(110, out.getScreenX(0));
+        Assertions.assertEquals(70, out.getScreenY(0));
+        Assertions.assertEquals(0.5f, out.getDepth(0), EPSILON);
+        Assertions.assertEquals(10, out.getScreenX(1));
+        Assertions.assertEquals(20, out.getScreenY(1));
+        Assertions.assertEquals(0.0f, out.getDepth(1), EPSILON);
+        Assertions.assertEquals(160, out.getScreenX(2));
+        Assertions.assertEquals(95, out.getScreenY(2));
+        Assertions.assertEquals(new Vector3(0.5f, -0.5f, 1.0f), out.getNdc(2, new Vector3()));
+
+        Assertions.assertEquals(0, out.getFlags(0));
+        Assertions.assertEquals(VertexPipeline.CLIP_RIGHT, out.getFlags(3));
+        Assertions.assertEquals(VertexPipeline.CLIP_RIGHT, out.getOrFlags());
+        Assertions.assertEquals(0, out.getAndFlags());
+    }
+
+    /**
+     * Тест вершины за камерой: выставляется флаг CLIP_W
+     */
+    @Test
+    public void testBehindCamera() {
+        VertexPipeline pipeline = new VertexPipeline(0, 0, 64, 64);
+        float[] vertices = {0.0f, 0.0f, 5.0f, 0.0f, 0.0f, 6.0f};
+        VertexPipeline.Output out = pipeline.process(perspective(), vertices, 0, 2, 3, new VertexPipeline.Output());
+
+        Assertions.assertTrue((out.getFlags(0) & VertexPipeline.CLIP_W) != 0);
+        Assertions.assertTrue((out.getAndFlags() & VertexPipeline.CLIP_W) != 0);
+        Assertions.assertTrue((out.getAndFlags() & VertexPipeline.CLIP_NEAR) != 0);
+    }
+
+    /**
+     * Тест согласованности с Matrix4.multiply(Vector4) и Frustum.containsPoint
+     * для последовательной и параллельной обработки
+     */
+    @Test
+    public void testMatchesReference() {
+        Matrix4 mvp = perspective();
+        Frustum frustum = new Frustum(mvp);
+        float[] vertices = randomVertices(new Random(7));
+        VertexPipeline sequential = new VertexPipeline(0, 0, 640, 480);
+        VertexPipeline parallel = new VertexPipeline(0, 0, 640, 480, ForkJoinPool.commonPool(), 64);
+        VertexPipeline.Output a = sequential.process(mvp, vertices, 0, SIZE, STRIDE, new VertexPipeline.Output());
+        VertexPipeline.Output b = parallel.process(mvp, vertices, 0, SIZE, STRIDE, new VertexPipeline.Output());
+
+        int or = 0;
+        int and = 0x7F;
+        Vector3 ndc = new Vector3();
+        for (int i = 0; i < SIZE; i++) {
+            Vector3 point = new Vector3(vertices[i * STRIDE], vertices[i * STRIDE + 1], vertices[i * STRIDE + 2]);
+            Vector4 clip = mvp.multiply(new Vector4(point.getX(), point.getY(), point.getZ(), 1.0f));
+            Assertions.assertEquals(frustum.containsPoint(point), a.getFlags(i) == 0, "Вершина " + i);
+            if (clip.getW() > 0.0f) {
+                a.getNdc(i, ndc);
+                Assertions.assertEquals(clip.getX() / clip.getW(), ndc.getX(), EPSILON * Math.max(1.0f, Math.abs(ndc.getX())));
+                Assertions.assertEquals(clip.getY() / clip.getW(), ndc.getY(), EPSILON * Math.max(1.0f, Math.abs(ndc.getY())));
+                Assertions.assertEquals(clip.getZ() / clip.getW(), ndc.getZ(), EPSILON * Math.max(1.0f, Math.abs(ndc.getZ())));
+            }
+            Assertions.assertEquals(a.getFlags(i), b.getFlags(i));
+            Assertions.assertEquals(a.getScreenX(i), b.getScreenX(i));
+            Assertions.assertEquals(a.getScreenY(i), b.getScreenY(i));
+            Assertions.assertEquals(a.getDepth(i), b.getDepth(i));
+            or |= a.getFlags(i);
+            and &= a.getFlags(i);
+        }
+        Assertions.assertEquals(or, a.getOrFlags());
+        Assertions.assertEquals(and, a.getAndFlags());
+        Assertions.assertEquals(or, b.getOrFlags());
+        Assertions.assertEquals(and, b.getAndFlags());
+    }
+
+    /**
+     * Тест повторного использования результата: массивы не пересоздаются при уменьшении количества вершин
+     */
+    @Test
+    public void testOutputReuse() {
+        VertexPipeline pipeline = new VertexPipeline(0, 0, 100, 100);
+        float[] vertices = randomVertices(new Random(3));
+        VertexPipeline.Output out = new VertexPipeline.Output();
+        pipeline.process(perspective(), vertices, 0, SIZE, STRIDE, out);
+        pipeline.process(perspective(), vertices, STRIDE, 10, STRIDE, out);
+
+        Assertions.assertEquals(10, out.size());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> out.getFlags(10));
+    }
+
+    /**
+     * Тест проверки аргументов
+     */
+    @Test
+    public void testValidation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new VertexPipeline(0, 0, 0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new VertexPipeline(0, 0, 10, 10, null, 0));
+        VertexPipeline pipeline = new VertexPipeline(0, 0, 10, 10);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> pipeline.process(null, new float[3], 0, 1, 3, new VertexPipeline.Output()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> pipeline.process(new Matrix4(), new float[5], 0, 2, 3, new VertexPipeline.Output()));
+    }
+}
@@ -0,0 +1,39 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Точка входа для запуска JMH-бенчмарков.
+ * Каждый бенчмарк измеряется в режимах пропускной способности и среднего времени,
+ * а профилировщик GC показывает скорость выделения памяти (gc.alloc.rate.norm).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Запускает бенчмарки
+     * @param args первый аргумент - регулярное выражение для отбора бенчмарков (по умолчанию все)
+     * @throws RunnerException если запуск JMH завершился ошибкой
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        Options options = new OptionsBuilder()
+            .include(include)
+            .mode(Mode.Throughput)
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+
+/**
+ * Сравнение повторных вызовов determinant() и inverse() для одной матрицы
+ * с кэшированием и без него
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CachedInverseBenchmark {
+
+    private Matrix4 plain;
+    private Matrix4 cached;
+    private Matrix4 dest;
+
+    @Setup
+    public void setup() {
+        plain = Matrix4.perspective(1.0f, 1.5f, 0.1f, 100.0f);
+        cached = new Matrix4(plain).setCaching(true);
+        dest = new Matrix4();
+    }
+
+    @Benchmark
+    public float determinantPlain() {
+        return plain.determinant();
+    }
+
+    @Benchmark
+    public float determinantCached() {
+        return cached.determinant();
+    }
+
+    @Benchmark
+    public Matrix4 inversePlain() {
+        return plain.inverse(dest);
+    }
+
+    @Benchmark
+    public Matrix4 inverseCached() {
+        return cached.inverse(dest);
+    }
+}
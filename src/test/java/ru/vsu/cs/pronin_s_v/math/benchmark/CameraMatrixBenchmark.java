@@ -0,0 +1,59 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Quaternion;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+
+/**
+ * Сравнение заполнения матриц модели и проекции по замкнутым формулам
+ * с построением через произведения матриц общего вида
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CameraMatrixBenchmark {
+
+    private Vector3 translation;
+    private Quaternion rotation;
+    private Vector3 scale;
+    private Matrix4 model;
+
+    @Setup
+    public void setup() {
+        translation = new Vector3(1.0f, -2.0f, 3.0f);
+        rotation = Quaternion.fromAxisAngle(new Vector3(0.0f, 1.0f, 0.0f), 0.7f);
+        scale = new Vector3(2.0f, 2.0f, 2.0f);
+        model = new Matrix4();
+    }
+
+    @Benchmark
+    public Matrix4 trsProducts() {
+        Matrix4 t = new Matrix4();
+        t.set(0, 3, translation.getX());
+        t.set(1, 3, translation.getY());
+        t.set(2, 3, translation.getZ());
+        Matrix4 s = new Matrix4();
+        s.set(0, 0, scale.getX());
+        s.set(1, 1, scale.getY());
+        s.set(2, 2, scale.getZ());
+        return t.multiply(rotation.toMatrix4()).multiply(s);
+    }
+
+    @Benchmark
+    public Matrix4 trsDirect() {
+        return model.setTranslationRotationScale(translation, rotation, scale);
+    }
+
+    @Benchmark
+    public Matrix4 perspectiveDirect() {
+        return model.setPerspective(1.0f, 1.5f, 0.1f, 100.0f);
+    }
+}
@@ -0,0 +1,54 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+/**
+ * Прежняя реализация обращения матрицы 4×4 через 20 миноров 3×3.
+ * Оставлена как эталон для сравнения в {@link Matrix4InverseBenchmark}.
+ */
+final class CofactorInverse {
+    private static final int SIZE = 4;
+
+    private CofactorInverse() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    static float determinant(float[] matrix) {
+        float det = 0.0f;
+        for (int j = 0; j < SIZE; j++) {
+            float sign = (j % 2 == 0) ? 1.0f : -1.0f;
+            det += sign * matrix[j] * minorDeterminant(matrix, 0, j);
+        }
+        return det;
+    }
+
+    static float[] inverse(float[] matrix) {
+        float det = determinant(matrix);
+        if (Math.abs(det) < 1e-7f) {
+            throw new ArithmeticException("Матрица вырожденная");
+        }
+        float[] adjugate = new float[SIZE * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                float sign = ((i + j) % 2 == 0) ? 1.0f : -1.0f;
+                adjugate[j * SIZE + i] = sign * minorDeterminant(matrix, i, j) / det;
+            }
+        }
+        return adjugate;
+    }
+
+    private static float minorDeterminant(float[] matrix, int row, int col) {
+        float[] minor = new float[9];
+        int mi = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (i == row) continue;
+            for (int j = 0; j < SIZE; j++) {
+                if (j == col) continue;
+                minor[mi] = matrix[i * SIZE + j];
+                mi++;
+            }
+        }
+        float a = minor[0], b = minor[1], c = minor[2];
+        float d = minor[3], e = minor[4], f = minor[5];
+        float g = minor[6], h = minor[7], i = minor[8];
+        return a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
+    }
+}
@@ -0,0 +1,119 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Frustum;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+import ru.vsu.cs.pronin_s_v.math.Vector4;
+import ru.vsu.cs.pronin_s_v.math.VectorEngine;
+
+import java.util.Random;
+
+/**
+ * Сравнение массового отсечения по пирамиде видимости с преобразованием
+ * восьми углов каждого параллелепипеда через Matrix4.multiply(Vector4)
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FrustumBenchmark {
+
+    @Param({"4096", "262144"})
+    private int count;
+
+    private Matrix4 viewProjection;
+    private Frustum frustum;
+    private Vector3Buffer min;
+    private Vector3Buffer max;
+    private float[] radii;
+    private long[] visible;
+    private boolean[] visibleNaive;
+    private VectorEngine best;
+    private VectorEngine parallel;
+
+    @Setup
+    public void setup() {
+        viewProjection = new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, -101.0f / 99.0f, -200.0f / 99.0f,
+            0.0f, 0.0f, -1.0f, 0.0f
+        });
+        frustum = new Frustum(viewProjection);
+        Random random = new Random(42);
+        min = new Vector3Buffer(count);
+        max = new Vector3Buffer(count);
+        radii = new float[count];
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat() * 200.0f - 100.0f;
+            float y = random.nextFloat() * 200.0f - 100.0f;
+            float z = -random.nextFloat() * 150.0f + 20.0f;
+            float h = random.nextFloat() * 2.0f;
+            min.set(i, x - h, y - h, z - h);
+            max.set(i, x + h, y + h, z + h);
+            radii[i] = h;
+        }
+        visible = new long[Frustum.maskLength(count)];
+        visibleNaive = new boolean[count];
+        best = VectorEngine.best();
+        parallel = VectorEngine.parallel();
+    }
+
+    @Benchmark
+    public boolean[] naiveCorners() {
+        for (int i = 0; i < count; i++) {
+            int outside = 0x3F;
+            for (int corner = 0; corner < 8; corner++) {
+                Vector4 clip = viewProjection.multiply(new Vector4(
+                    (corner & 1) == 0 ? min.getX(i) : max.getX(i),
+                    (corner & 2) == 0 ? min.getY(i) : max.getY(i),
+                    (corner & 4) == 0 ? min.getZ(i) : max.getZ(i),
+                    1.0f));
+                float w = clip.getW();
+                int flags = 0;
+                flags |= clip.getX() < -w ? 1 : 0;
+                flags |= clip.getX() > w ? 2 : 0;
+                flags |= clip.getY() < -w ? 4 : 0;
+                flags |= clip.getY() > w ? 8 : 0;
+                flags |= clip.getZ() < -w ? 16 : 0;
+                flags |= clip.getZ() > w ? 32 : 0;
+                outside &= flags;
+            }
+            visibleNaive[i] = outside == 0;
+        }
+        return visibleNaive;
+    }
+
+    @Benchmark
+    public long[] aabbScalar() {
+        return frustum.cullAabbs(min, max, visible, 0, count);
+    }
+
+    @Benchmark
+    public long[] aabbBest() {
+        return best.cullAabbs(frustum, min, max, visible, 0, count);
+    }
+
+    @Benchmark
+    public long[] aabbParallel() {
+        return parallel.cullAabbs(frustum, min, max, visible, 0, count);
+    }
+
+    @Benchmark
+    public long[] sphereScalar() {
+        return frustum.cullSpheres(min, radii, visible, 0, count);
+    }
+
+    @Benchmark
+    public long[] sphereBest() {
+        return best.cullSpheres(frustum, min, radii, visible, 0, count);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix3;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+
+/**
+ * Бенчмарки операций класса Matrix3
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Matrix3Benchmark {
+
+    private Matrix3 a;
+    private Matrix3 b;
+    private Vector3 v;
+
+    @Setup
+    public void setup() {
+        a = new Matrix3(new float[] {
+            2.0f, 0.5f, 0.0f,
+            0.0f, 3.0f, 1.0f,
+            1.0f, 0.0f, 4.0f
+        });
+        b = new Matrix3(new float[] {
+            1.0f, 2.0f, 3.0f,
+            0.0f, 1.0f, 2.0f,
+            1.0f, 0.0f, 1.0f
+        });
+        v = new Vector3(1.0f, 2.0f, 3.0f);
+    }
+
+    @Benchmark
+    public Matrix3 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Matrix3 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Matrix3 multiplyMatrix() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Vector3 multiplyVector() {
+        return a.multiply(v);
+    }
+
+    @Benchmark
+    public Matrix3 transpose() {
+        return a.transpose();
+    }
+
+    @Benchmark
+    public float determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public Matrix3 inverse() {
+        return a.inverse();
+    }
+}
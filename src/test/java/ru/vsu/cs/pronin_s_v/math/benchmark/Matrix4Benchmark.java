@@ -0,0 +1,89 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector4;
+
+/**
+ * Бенчмарки операций класса Matrix4
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Matrix4Benchmark {
+
+    private Matrix4 a;
+    private Matrix4 b;
+    private Vector4 v;
+    private Matrix4 dest;
+
+    @Setup
+    public void setup() {
+        a = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 1.0f,
+            0.0f, 3.0f, 1.0f, 2.0f,
+            1.0f, 0.0f, 4.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        b = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            0.0f, 1.0f, 2.0f, 3.0f,
+            0.0f, 0.0f, 1.0f, 2.0f,
+            1.0f, 0.0f, 0.0f, 1.0f
+        });
+        v = new Vector4(1.0f, 2.0f, 3.0f, 1.0f);
+        dest = Matrix4.zero();
+    }
+
+    @Benchmark
+    public Matrix4 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Matrix4 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Matrix4 multiplyMatrix() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Matrix4 multiplyMatrixIntoDestination() {
+        return a.multiply(b, dest);
+    }
+
+    @Benchmark
+    public Vector4 multiplyVector() {
+        return a.multiply(v);
+    }
+
+    @Benchmark
+    public Matrix4 transpose() {
+        return a.transpose();
+    }
+
+    @Benchmark
+    public Matrix4 transposeIntoDestination() {
+        return a.transpose(dest);
+    }
+
+    @Benchmark
+    public float determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public Matrix4 inverse() {
+        return a.inverse();
+    }
+}
@@ -0,0 +1,105 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix3;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+
+/**
+ * Сравнение обращения матрицы 4×4 через миноры 3×3 и через общие миноры 2×2
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Matrix4InverseBenchmark {
+
+    private Matrix4 matrix;
+    private Matrix4 affine;
+    private Matrix4 rigid;
+    private Matrix4 dest;
+    private Matrix3 normalDest;
+    private float[] elements;
+
+    @Setup
+    public void setup() {
+        matrix = new Matrix4(new float[] {
+            4.0f, 1.0f, 0.5f, 2.0f,
+            1.0f, 5.0f, 1.0f, -1.0f,
+            0.0f, 2.0f, 6.0f, 3.0f,
+            1.0f, 0.0f, 1.0f, 7.0f
+        });
+        affine = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        float cos = (float) Math.cos(0.7);
+        float sin = (float) Math.sin(0.7);
+        rigid = new Matrix4(new float[] {
+            cos, -sin, 0.0f, 1.0f,
+            sin, cos, 0.0f, 2.0f,
+            0.0f, 0.0f, 1.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        dest = Matrix4.zero();
+        normalDest = Matrix3.zero();
+        elements = new float[16];
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                elements[i * 4 + j] = matrix.get(i, j);
+            }
+        }
+    }
+
+    @Benchmark
+    public float[] cofactorInverse() {
+        return CofactorInverse.inverse(elements);
+    }
+
+    @Benchmark
+    public Matrix4 closedFormInverse() {
+        return matrix.inverse();
+    }
+
+    @Benchmark
+    public Matrix4 closedFormInverseIntoDestination() {
+        return matrix.inverse(dest);
+    }
+
+    @Benchmark
+    public float cofactorDeterminant() {
+        return CofactorInverse.determinant(elements);
+    }
+
+    @Benchmark
+    public float closedFormDeterminant() {
+        return matrix.determinant();
+    }
+
+    @Benchmark
+    public Matrix4 affineInverseIntoDestination() {
+        return affine.inverseAffine(dest);
+    }
+
+    @Benchmark
+    public Matrix4 rigidInverseIntoDestination() {
+        return rigid.inverseRigid(dest);
+    }
+
+    @Benchmark
+    public Matrix4 normalMatrixViaInverseTranspose() {
+        return affine.inverse(dest).transposeLocal();
+    }
+
+    @Benchmark
+    public Matrix3 normalMatrixIntoDestination() {
+        return affine.normalMatrix(normalDest);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector4;
+
+import java.util.Random;
+
+/**
+ * Сравнение поэлементного multiply(Vector4) и пакетного transformPoints
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Matrix4TransformBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int count;
+
+    private Matrix4 matrix;
+    private Vector4[] vectors;
+    private Vector4[] result;
+    private float[] src;
+    private float[] dst;
+
+    @Setup
+    public void setup() {
+        matrix = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.1f, 0.2f, 0.3f, 1.0f
+        });
+        Random random = new Random(42);
+        vectors = new Vector4[count];
+        result = new Vector4[count];
+        src = new float[count * 3];
+        dst = new float[count * 3];
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat(), y = random.nextFloat(), z = random.nextFloat();
+            vectors[i] = new Vector4(x, y, z, 1.0f);
+            src[i * 3] = x;
+            src[i * 3 + 1] = y;
+            src[i * 3 + 2] = z;
+        }
+    }
+
+    @Benchmark
+    public Vector4[] multiplyVectorLoop() {
+        for (int i = 0; i < count; i++) {
+            result[i] = matrix.multiply(vectors[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public float[] transformPoints() {
+        matrix.transformPoints(src, 0, dst, 0, count, 3);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] transformPointsPerspective() {
+        matrix.transformPoints(src, 0, dst, 0, count, 3, true);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] transformDirections() {
+        matrix.transformDirections(src, 0, dst, 0, count, 3);
+        return dst;
+    }
+}
@@ -0,0 +1,82 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Matrix4Expression;
+import ru.vsu.cs.pronin_s_v.math.Vector4;
+
+import java.util.Random;
+
+/**
+ * Сравнение отложенного выражения с цепочкой a.multiply(b).multiply(c).multiply(v),
+ * выделяющей промежуточные матрицы
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatrixExpressionBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private Matrix4 a;
+    private Matrix4 b;
+    private Matrix4 c;
+    private Vector4 vector;
+    private Vector4 result;
+    private Matrix4Expression expression;
+    private float[] src;
+    private float[] dst;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        a = random(random);
+        b = random(random);
+        c = random(random);
+        vector = new Vector4(1.0f, 2.0f, 3.0f, 1.0f);
+        result = new Vector4();
+        expression = Matrix4Expression.of(a).multiply(b).multiply(c);
+        src = new float[BATCH * 4];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = random.nextFloat();
+        }
+        dst = new float[src.length];
+    }
+
+    private static Matrix4 random(Random random) {
+        float[] m = new float[16];
+        for (int i = 0; i < m.length; i++) {
+            m[i] = random.nextFloat();
+        }
+        return new Matrix4(m);
+    }
+
+    @Benchmark
+    public Vector4 vectorEager() {
+        return a.multiply(b).multiply(c).multiply(vector);
+    }
+
+    @Benchmark
+    public Vector4 vectorExpression() {
+        return expression.apply(vector, result);
+    }
+
+    @Benchmark
+    public float[] batchEager() {
+        a.multiply(b).multiply(c).transformVectors4(src, 0, dst, 0, BATCH, 4);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] batchExpression() {
+        expression.transformVectors4(src, 0, dst, 0, BATCH, 4);
+        return dst;
+    }
+}
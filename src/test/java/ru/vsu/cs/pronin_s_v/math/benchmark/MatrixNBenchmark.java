@@ -0,0 +1,94 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.MatrixN;
+
+import java.util.Random;
+
+/**
+ * Сравнение блочного GEMM класса MatrixN с тройным циклом для квадратных матриц n×n.
+ * Счетчик flops увеличивается на 2n³ за вызов, поэтому в режиме пропускной способности
+ * JMH выводит его как число операций с плавающей точкой в секунду (GFLOPS = flops / 1e9).
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatrixNBenchmark {
+
+    @Param({"64", "128", "256", "512", "1024"})
+    private int size;
+
+    private MatrixN a;
+    private MatrixN b;
+    private MatrixN c;
+    private float[] rawA;
+    private float[] rawB;
+    private float[] rawC;
+
+    /**
+     * Счетчик операций с плавающей точкой
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Flops {
+        public long flops;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flops = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        rawA = new float[size * size];
+        rawB = new float[size * size];
+        rawC = new float[size * size];
+        for (int i = 0; i < rawA.length; i++) {
+            rawA[i] = random.nextFloat();
+            rawB[i] = random.nextFloat();
+        }
+        a = new MatrixN(size, size, rawA);
+        b = new MatrixN(size, size, rawB);
+        c = new MatrixN(size, size);
+    }
+
+    @Benchmark
+    public float[] naiveTripleLoop(Flops counter) {
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < n; k++) {
+                    sum += rawA[i * n + k] * rawB[k * n + j];
+                }
+                rawC[i * n + j] = sum;
+            }
+        }
+        counter.flops += 2L * n * n * n;
+        return rawC;
+    }
+
+    @Benchmark
+    public MatrixN tiled(Flops counter) {
+        counter.flops += 2L * size * size * size;
+        return a.multiply(b, c);
+    }
+
+    @Benchmark
+    public MatrixN tiledTransposedB(Flops counter) {
+        counter.flops += 2L * size * size * size;
+        return MatrixN.gemm(1.0f, a, false, b, true, 0.0f, c);
+    }
+}
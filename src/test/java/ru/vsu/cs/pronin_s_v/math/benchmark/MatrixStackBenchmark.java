@@ -0,0 +1,53 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.MatrixStack;
+
+/**
+ * Сравнение стека матриц с созданием копий при каждом вложенном преобразовании
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatrixStackBenchmark {
+
+    private MatrixStack stack;
+    private Matrix4 local;
+    private Matrix4 top;
+
+    @Setup
+    public void setup() {
+        stack = new MatrixStack(32);
+        local = new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, 0.5f,
+            0.0f, 1.0f, 0.0f, 1.0f,
+            0.0f, 0.0f, 1.0f, 0.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        top = new Matrix4();
+    }
+
+    @Benchmark
+    public MatrixStack pushMulPop() {
+        return stack.push().mulTop(local).pop();
+    }
+
+    @Benchmark
+    public MatrixStack pushTranslatePop() {
+        return stack.push().translate(0.5f, 1.0f, 0.0f).pop();
+    }
+
+    @Benchmark
+    public Matrix4 copyAndMultiply() {
+        Matrix4 saved = new Matrix4(top);
+        return saved.multiply(local);
+    }
+}
@@ -0,0 +1,85 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.NativeVector3Buffer;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+/**
+ * Сравнение пакетного преобразования точек в куче, вне кучи без копирования
+ * и вне кучи с копированием через float[]
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NativeBufferBenchmark {
+
+    @Param({"1000000"})
+    private int count;
+
+    private Matrix4 matrix;
+    private float[] heapSrc;
+    private float[] heapDst;
+    private NativeVector3Buffer nativeSrc;
+    private NativeVector3Buffer nativeDst;
+
+    @Setup
+    public void setup() {
+        matrix = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Random random = new Random(42);
+        heapSrc = new float[count * 3];
+        heapDst = new float[count * 3];
+        nativeSrc = new NativeVector3Buffer(count);
+        nativeDst = new NativeVector3Buffer(count);
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat(), y = random.nextFloat(), z = random.nextFloat();
+            heapSrc[i * 3] = x;
+            heapSrc[i * 3 + 1] = y;
+            heapSrc[i * 3 + 2] = z;
+            nativeSrc.set(i, x, y, z);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        nativeSrc.close();
+        nativeDst.close();
+    }
+
+    @Benchmark
+    public float[] heap() {
+        matrix.transformPoints(heapSrc, 0, heapDst, 0, count, 3);
+        return heapDst;
+    }
+
+    @Benchmark
+    public NativeVector3Buffer offHeapDirect() {
+        return nativeSrc.transformPoints(matrix, nativeDst, 0, count);
+    }
+
+    @Benchmark
+    public NativeVector3Buffer offHeapWithCopies() {
+        FloatBuffer src = nativeSrc.byteBuffer().asFloatBuffer();
+        FloatBuffer dst = nativeDst.byteBuffer().asFloatBuffer();
+        src.get(0, heapSrc);
+        matrix.transformPoints(heapSrc, 0, heapDst, 0, count, 3);
+        dst.put(0, heapDst);
+        return nativeDst;
+    }
+}
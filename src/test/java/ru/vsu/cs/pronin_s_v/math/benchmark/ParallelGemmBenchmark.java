@@ -0,0 +1,100 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.MatrixN;
+import ru.vsu.cs.pronin_s_v.math.ParallelGemm;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Сравнение последовательного блочного GEMM с параллельным разбиением на тайлы
+ * и рекурсией Штрассена для квадратных матриц n×n. Счетчик flops увеличивается на 2n³
+ * за вызов (для Штрассена - номинальное число операций). Параллельные варианты выполняются
+ * на пуле из threads потоков, поэтому зависимость flops от threads показывает масштабирование по ядрам.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelGemmBenchmark {
+
+    @Param({"512", "1024", "2048"})
+    private int size;
+
+    @Param({"128"})
+    private int leafSize;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    private ForkJoinPool pool;
+
+    private MatrixN a;
+    private MatrixN b;
+    private MatrixN c;
+    private ParallelGemm tiled;
+    private ParallelGemm strassen;
+
+    /**
+     * Счетчик операций с плавающей точкой
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Flops {
+        public long flops;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flops = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        float[] values = new float[size * size];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat();
+        }
+        a = new MatrixN(size, size, values);
+        b = new MatrixN(a.transpose());
+        c = new MatrixN(size, size);
+        pool = new ForkJoinPool(threads);
+        tiled = new ParallelGemm(pool, leafSize, ParallelGemm.NO_STRASSEN);
+        strassen = new ParallelGemm(pool, leafSize, 512);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public MatrixN sequential(Flops counter) {
+        counter.flops += 2L * size * size * size;
+        return a.multiply(b, c);
+    }
+
+    @Benchmark
+    public MatrixN parallelTiled(Flops counter) {
+        counter.flops += 2L * size * size * size;
+        return tiled.multiply(a, b, c);
+    }
+
+    @Benchmark
+    public MatrixN parallelStrassen(Flops counter) {
+        counter.flops += 2L * size * size * size;
+        return strassen.multiply(a, b, c);
+    }
+}
@@ -0,0 +1,85 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+import ru.vsu.cs.pronin_s_v.math.VectorEngine;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Масштабирование параллельного движка по количеству потоков
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelVectorEngineBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    @Param({"10000000"})
+    private int size;
+
+    private ForkJoinPool pool;
+    private VectorEngine engine;
+    private Matrix4 matrix;
+    private Vector3Buffer points;
+    private Vector3Buffer dest;
+    private float[] packed;
+    private float[] packedDest;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+        engine = VectorEngine.parallel(VectorEngine.best(), pool, 1 << 15);
+        matrix = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Random random = new Random(42);
+        points = new Vector3Buffer(size);
+        dest = new Vector3Buffer(size);
+        packed = new float[size * 3];
+        packedDest = new float[size * 3];
+        for (int i = 0; i < size; i++) {
+            points.set(i, random.nextFloat() + 0.1f, random.nextFloat(), random.nextFloat());
+        }
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = random.nextFloat();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Vector3Buffer transformPoints() {
+        return engine.transformPoints(matrix, points, dest, 0, size);
+    }
+
+    @Benchmark
+    public float[] transformPackedPoints() {
+        engine.transformPoints(matrix, packed, 0, packedDest, 0, size, 3);
+        return packedDest;
+    }
+
+    @Benchmark
+    public Vector3Buffer normalize() {
+        return engine.normalize(points, dest, 0, size);
+    }
+}
@@ -0,0 +1,126 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Matrix4d;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+import ru.vsu.cs.pronin_s_v.math.Vector3d;
+
+import java.util.Random;
+
+/**
+ * Сравнение пропускной способности одинарной и двойной точности на одинаковых задачах
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrecisionBenchmark {
+
+    @Param({"4096", "1048576"})
+    private int count;
+
+    private Matrix4 a;
+    private Matrix4 b;
+    private Matrix4 dest;
+    private Matrix4d ad;
+    private Matrix4d bd;
+    private Matrix4d destD;
+    private Vector3 v;
+    private Vector3 w;
+    private Vector3d vd;
+    private Vector3d wd;
+    private float[] points;
+    private float[] result;
+    private double[] pointsD;
+    private double[] resultD;
+
+    @Setup
+    public void setup() {
+        a = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 1.0f,
+            0.0f, 3.0f, 1.0f, 2.0f,
+            1.0f, 0.0f, 4.0f, 3.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        b = new Matrix4(new float[] {
+            1.0f, 2.0f, 3.0f, 4.0f,
+            0.0f, 1.0f, 2.0f, 3.0f,
+            1.0f, 0.0f, 1.0f, 2.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        dest = Matrix4.zero();
+        ad = new Matrix4d(a);
+        bd = new Matrix4d(b);
+        destD = Matrix4d.zero();
+        v = new Vector3(1.0f, 2.0f, 3.0f);
+        w = new Vector3(-2.0f, 0.5f, 4.0f);
+        vd = new Vector3d(v);
+        wd = new Vector3d(w);
+
+        Random random = new Random(42);
+        points = new float[count * 3];
+        pointsD = new double[count * 3];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextFloat() * 200.0f - 100.0f;
+            pointsD[i] = points[i];
+        }
+        result = new float[points.length];
+        resultD = new double[points.length];
+    }
+
+    @Benchmark
+    public Matrix4 multiplyFloat() {
+        return a.multiply(b, dest);
+    }
+
+    @Benchmark
+    public Matrix4d multiplyDouble() {
+        return ad.multiply(bd, destD);
+    }
+
+    @Benchmark
+    public Matrix4 inverseFloat() {
+        return a.inverse(dest);
+    }
+
+    @Benchmark
+    public Matrix4d inverseDouble() {
+        return ad.inverse(destD);
+    }
+
+    @Benchmark
+    public Vector3 crossFloat() {
+        return v.cross(w);
+    }
+
+    @Benchmark
+    public Vector3d crossDouble() {
+        return vd.cross(wd);
+    }
+
+    @Benchmark
+    public float[] transformPointsFloat() {
+        a.transformPoints(points, 0, result, 0, count, 3);
+        return result;
+    }
+
+    @Benchmark
+    public double[] transformPointsDouble() {
+        ad.transformPoints(pointsD, 0, resultD, 0, count, 3);
+        return resultD;
+    }
+
+    @Benchmark
+    public float[] transformPointsDoubleToFloat() {
+        ad.transformPoints(pointsD, 0, result, 0, count, 3);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix3;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Quaternion;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+
+import java.util.Random;
+
+/**
+ * Сравнение кватернионов с матричной композицией поворотов
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QuaternionBenchmark {
+
+    @Param({"1024"})
+    private int count;
+
+    private Quaternion qa;
+    private Quaternion qb;
+    private Quaternion qDest;
+    private Matrix3 m3a;
+    private Matrix3 m3b;
+    private Matrix3 m3Dest;
+    private Matrix4 m4a;
+    private Matrix4 m4b;
+    private Matrix4 m4Dest;
+    private Vector3 v;
+    private float[] points;
+    private float[] result;
+
+    @Setup
+    public void setup() {
+        qa = Quaternion.fromAxisAngle(new Vector3(1.0f, 2.0f, 3.0f), 0.7f);
+        qb = Quaternion.fromAxisAngle(new Vector3(-2.0f, 0.5f, 1.0f), 1.9f);
+        qDest = new Quaternion();
+        m3a = qa.toMatrix3();
+        m3b = qb.toMatrix3();
+        m3Dest = Matrix3.zero();
+        m4a = qa.toMatrix4();
+        m4b = qb.toMatrix4();
+        m4Dest = Matrix4.zero();
+        v = new Vector3(1.0f, 2.0f, 3.0f);
+
+        Random random = new Random(42);
+        points = new float[count * 3];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        result = new float[points.length];
+    }
+
+    @Benchmark
+    public Quaternion composeQuaternion() {
+        return qa.multiply(qb, qDest);
+    }
+
+    @Benchmark
+    public Matrix3 composeMatrix3() {
+        return m3a.multiply(m3b, m3Dest);
+    }
+
+    @Benchmark
+    public Matrix4 composeMatrix4() {
+        return m4a.multiply(m4b, m4Dest);
+    }
+
+    @Benchmark
+    public Vector3 rotateQuaternion() {
+        return qa.rotate(v);
+    }
+
+    @Benchmark
+    public Vector3 rotateMatrix3() {
+        return m3a.multiply(v);
+    }
+
+    @Benchmark
+    public float[] rotatePackedQuaternion() {
+        qa.rotate(points, 0, result, 0, count, 3);
+        return result;
+    }
+
+    @Benchmark
+    public float[] rotatePackedMatrix4() {
+        m4a.transformDirections(points, 0, result, 0, count, 3);
+        return result;
+    }
+
+    @Benchmark
+    public Quaternion slerp() {
+        return qa.slerp(qb, 0.3f, qDest);
+    }
+
+    @Benchmark
+    public Quaternion nlerp() {
+        return qa.nlerp(qb, 0.3f, qDest);
+    }
+}
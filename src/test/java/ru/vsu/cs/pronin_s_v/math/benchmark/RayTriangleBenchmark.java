@@ -0,0 +1,109 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+import ru.vsu.cs.pronin_s_v.math.VectorEngine;
+
+import java.util.Random;
+
+/**
+ * Сравнение пакетного ядра Мёллера-Трумбора с вычислением на объектах Vector3
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RayTriangleBenchmark {
+
+    @Param({"64", "4096"})
+    private int count;
+
+    private Vector3Buffer a;
+    private Vector3Buffer b;
+    private Vector3Buffer c;
+    private Vector3Buffer origins;
+    private Vector3Buffer directions;
+    private Vector3 origin;
+    private Vector3 direction;
+    private Vector3 va;
+    private Vector3 vb;
+    private Vector3 vc;
+    private float[] t;
+    private VectorEngine scalar;
+    private VectorEngine best;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        a = new Vector3Buffer(count);
+        b = new Vector3Buffer(count);
+        c = new Vector3Buffer(count);
+        origins = new Vector3Buffer(count);
+        directions = new Vector3Buffer(count);
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat() * 4.0f - 2.0f;
+            float y = random.nextFloat() * 4.0f - 2.0f;
+            float z = random.nextFloat() * 10.0f + 1.0f;
+            a.set(i, x - 1.0f, y - 1.0f, z);
+            b.set(i, x + 1.0f, y - 1.0f, z);
+            c.set(i, x, y + 1.0f, z);
+            origins.set(i, x, y, 0.0f);
+            directions.set(i, random.nextFloat() * 0.2f - 0.1f, random.nextFloat() * 0.2f - 0.1f, 1.0f);
+        }
+        origin = new Vector3(0.1f, 0.2f, 0.0f);
+        direction = new Vector3(0.0f, 0.0f, 1.0f);
+        va = new Vector3(-1.0f, -1.0f, 2.0f);
+        vb = new Vector3(1.5f, -1.0f, 2.5f);
+        vc = new Vector3(0.0f, 1.5f, 3.0f);
+        t = new float[count];
+        scalar = VectorEngine.scalar();
+        best = VectorEngine.best();
+    }
+
+    @Benchmark
+    public float[] objectsOneRayManyTriangles() {
+        for (int i = 0; i < count; i++) {
+            Vector3 v0 = a.get(i);
+            Vector3 e1 = b.get(i).subtract(v0);
+            Vector3 e2 = c.get(i).subtract(v0);
+            Vector3 p = direction.cross(e2);
+            float det = e1.dot(p);
+            Vector3 s = origin.subtract(v0);
+            float u = s.dot(p) / det;
+            Vector3 q = s.cross(e1);
+            float v = direction.dot(q) / det;
+            float d = e2.dot(q) / det;
+            t[i] = Math.abs(det) >= 1e-7f && u >= 0.0f && v >= 0.0f && u + v <= 1.0f && d > 0.0f
+                ? d : Float.POSITIVE_INFINITY;
+        }
+        return t;
+    }
+
+    @Benchmark
+    public int scalarOneRayManyTriangles() {
+        return scalar.intersectTriangles(origin, direction, Float.MAX_VALUE, a, b, c, t, 0, count);
+    }
+
+    @Benchmark
+    public int bestOneRayManyTriangles() {
+        return best.intersectTriangles(origin, direction, Float.MAX_VALUE, a, b, c, t, 0, count);
+    }
+
+    @Benchmark
+    public int scalarPacketOneTriangle() {
+        return scalar.intersectRays(origins, directions, Float.MAX_VALUE, va, vb, vc, t, 0, count);
+    }
+
+    @Benchmark
+    public int bestPacketOneTriangle() {
+        return best.intersectRays(origins, directions, Float.MAX_VALUE, va, vb, vc, t, 0, count);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.ScratchArena;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+
+/**
+ * Сравнение цепочки векторных операций с новыми объектами и с объектами арены
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScratchArenaBenchmark {
+
+    private Vector3 a;
+    private Vector3 b;
+    private Vector3 c;
+
+    @Setup
+    public void setup() {
+        a = new Vector3(1.0f, 2.0f, 3.0f);
+        b = new Vector3(-2.0f, 0.5f, 4.0f);
+        c = new Vector3(0.0f, 1.0f, -1.0f);
+    }
+
+    @Benchmark
+    public float triangleNormalAllocating() {
+        return b.subtract(a).cross(c.subtract(a)).normalize().dot(a);
+    }
+
+    @Benchmark
+    public float triangleNormalArena() {
+        try (ScratchArena arena = ScratchArena.open()) {
+            Vector3 e1 = b.subtract(a, arena.vector3());
+            Vector3 e2 = c.subtract(a, arena.vector3());
+            return e1.cross(e2, e1).normalize(e1).dot(a);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.TransformHierarchy;
+
+/**
+ * Сравнение выборочного обновления иерархии с полным пересчетом мировых матриц
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TransformHierarchyBenchmark {
+
+    @Param({"4096"})
+    private int nodes;
+
+    @Param({"8"})
+    private int branching;
+
+    private TransformHierarchy hierarchy;
+    private Matrix4[] locals;
+    private Matrix4[] worlds;
+    private int[] parents;
+    private Matrix4 moved;
+    private int movedNode;
+
+    @Setup
+    public void setup() {
+        hierarchy = new TransformHierarchy(nodes);
+        locals = new Matrix4[nodes];
+        worlds = new Matrix4[nodes];
+        parents = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            parents[i] = i == 0 ? TransformHierarchy.NO_PARENT : (i - 1) / branching;
+            locals[i] = new Matrix4(new float[] {
+                1.0f, 0.0f, 0.0f, i * 0.01f,
+                0.0f, 1.0f, 0.0f, 1.0f,
+                0.0f, 0.0f, 1.0f, 0.0f,
+                0.0f, 0.0f, 0.0f, 1.0f
+            });
+            hierarchy.createNode(parents[i], locals[i]);
+        }
+        hierarchy.update();
+        moved = new Matrix4(locals[nodes - 1]);
+        movedNode = nodes - 1;
+    }
+
+    @Benchmark
+    public int updateSingleLeaf() {
+        hierarchy.setLocal(movedNode, moved);
+        return hierarchy.update();
+    }
+
+    @Benchmark
+    public int updateRoot() {
+        hierarchy.setLocal(0, locals[0]);
+        return hierarchy.update();
+    }
+
+    @Benchmark
+    public Matrix4[] recomputeAll() {
+        for (int i = 0; i < nodes; i++) {
+            worlds[i] = parents[i] == TransformHierarchy.NO_PARENT
+                ? new Matrix4(locals[i])
+                : worlds[parents[i]].multiply(locals[i]);
+        }
+        return worlds;
+    }
+}
@@ -0,0 +1,109 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.TriangleBvh;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Сравнение запросов к BVH с перебором треугольников на объектах Vector3,
+ * а также стоимость построения и перестройки границ
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TriangleBvhBenchmark {
+
+    @Param({"10000", "200000"})
+    private int triangles;
+
+    private Vector3Buffer a;
+    private Vector3Buffer b;
+    private Vector3Buffer c;
+    private TriangleBvh bvh;
+    private TriangleBvh.Hit hit;
+    private Vector3 origin;
+    private Vector3 direction;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        a = new Vector3Buffer(triangles);
+        b = new Vector3Buffer(triangles);
+        c = new Vector3Buffer(triangles);
+        for (int i = 0; i < triangles; i++) {
+            float x = random.nextFloat() * 100.0f - 50.0f;
+            float y = random.nextFloat() * 100.0f - 50.0f;
+            float z = random.nextFloat() * 100.0f - 50.0f;
+            a.set(i, x, y, z);
+            b.set(i, x + random.nextFloat(), y + random.nextFloat(), z);
+            c.set(i, x, y + random.nextFloat(), z + random.nextFloat());
+        }
+        bvh = TriangleBvh.build(a, b, c);
+        hit = new TriangleBvh.Hit();
+        origin = new Vector3(0.3f, -0.2f, -80.0f);
+        direction = new Vector3(0.01f, 0.02f, 1.0f);
+    }
+
+    @Benchmark
+    public float bruteForceObjects() {
+        float best = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < triangles; i++) {
+            Vector3 v0 = a.get(i);
+            Vector3 e1 = b.get(i).subtract(v0);
+            Vector3 e2 = c.get(i).subtract(v0);
+            Vector3 p = direction.cross(e2);
+            float det = e1.dot(p);
+            if (Math.abs(det) < 1e-7f) {
+                continue;
+            }
+            Vector3 s = origin.subtract(v0);
+            float u = s.dot(p) / det;
+            Vector3 q = s.cross(e1);
+            float v = direction.dot(q) / det;
+            float t = e2.dot(q) / det;
+            if (u >= 0.0f && v >= 0.0f && u + v <= 1.0f && t > 0.0f && t < best) {
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public TriangleBvh.Hit closestHit() {
+        bvh.closestHit(origin, direction, Float.MAX_VALUE, hit);
+        return hit;
+    }
+
+    @Benchmark
+    public boolean anyHit() {
+        return bvh.anyHit(origin, direction, Float.MAX_VALUE);
+    }
+
+    @Benchmark
+    public TriangleBvh buildSequential() {
+        return TriangleBvh.build(a, b, c);
+    }
+
+    @Benchmark
+    public TriangleBvh buildParallel() {
+        return TriangleBvh.build(a, b, c, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public TriangleBvh refit() {
+        bvh.refit();
+        return bvh;
+    }
+}
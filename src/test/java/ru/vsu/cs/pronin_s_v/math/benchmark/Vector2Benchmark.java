@@ -0,0 +1,66 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Vector2;
+
+/**
+ * Бенчмарки операций класса Vector2
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Vector2Benchmark {
+
+    private Vector2 a;
+    private Vector2 b;
+    private float scalar;
+
+    @Setup
+    public void setup() {
+        a = new Vector2(1.0f, 2.0f);
+        b = new Vector2(-3.0f, 0.5f);
+        scalar = 2.5f;
+    }
+
+    @Benchmark
+    public Vector2 add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector2 subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Vector2 multiply() {
+        return a.multiply(scalar);
+    }
+
+    @Benchmark
+    public Vector2 divide() {
+        return a.divide(scalar);
+    }
+
+    @Benchmark
+    public float length() {
+        return a.length();
+    }
+
+    @Benchmark
+    public Vector2 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public float dot() {
+        return a.dot(b);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Vector3;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+
+import java.util.Random;
+
+/**
+ * Сравнение массовых операций над массивом Vector3 и над Vector3Buffer
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Vector3BufferBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Vector3[] vectors;
+    private Vector3[] others;
+    private Vector3[] result;
+    private Vector3Buffer buffer;
+    private Vector3Buffer otherBuffer;
+    private Vector3Buffer resultBuffer;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        vectors = new Vector3[size];
+        others = new Vector3[size];
+        result = new Vector3[size];
+        for (int i = 0; i < size; i++) {
+            vectors[i] = new Vector3(random.nextFloat() + 0.1f, random.nextFloat(), random.nextFloat());
+            others[i] = new Vector3(random.nextFloat(), random.nextFloat() + 0.1f, random.nextFloat());
+        }
+        buffer = Vector3Buffer.of(vectors);
+        otherBuffer = Vector3Buffer.of(others);
+        resultBuffer = new Vector3Buffer(size);
+    }
+
+    @Benchmark
+    public Vector3[] arrayCrossNormalize() {
+        for (int i = 0; i < size; i++) {
+            result[i] = vectors[i].cross(others[i]).normalize();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Vector3Buffer bufferCrossNormalize() {
+        return buffer.cross(otherBuffer, resultBuffer).normalize(resultBuffer);
+    }
+
+    @Benchmark
+    public Vector3[] arrayAdd() {
+        for (int i = 0; i < size; i++) {
+            result[i] = vectors[i].add(others[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Vector3Buffer bufferAdd() {
+        return buffer.add(otherBuffer, resultBuffer);
+    }
+}
@@ -0,0 +1,92 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector3Buffer;
+import ru.vsu.cs.pronin_s_v.math.VectorEngine;
+
+import java.util.Random;
+
+/**
+ * Сравнение скалярного движка и SIMD-движка для разных ширин регистра.
+ * Значение engine = 0 соответствует скалярному движку, остальные - ширине регистра в битах.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorEngineBenchmark {
+
+    @Param({"0", "128", "256", "512"})
+    private int engineBits;
+
+    @Param({"100000"})
+    private int size;
+
+    private VectorEngine engine;
+    private Matrix4 matrix;
+    private Vector3Buffer a;
+    private Vector3Buffer b;
+    private Vector3Buffer dest;
+    private float[] dots;
+    private float[] matrices;
+    private float[] products;
+
+    @Setup
+    public void setup() {
+        engine = engineBits == 0 ? VectorEngine.scalar() : VectorEngine.simd(engineBits);
+        matrix = new Matrix4(new float[] {
+            2.0f, 0.5f, 0.0f, 3.0f,
+            0.0f, 3.0f, 1.0f, -2.0f,
+            1.0f, 0.0f, 4.0f, 5.0f,
+            0.0f, 0.0f, 0.0f, 1.0f
+        });
+        Random random = new Random(42);
+        a = new Vector3Buffer(size);
+        b = new Vector3Buffer(size);
+        dest = new Vector3Buffer(size);
+        dots = new float[size];
+        for (int i = 0; i < size; i++) {
+            a.set(i, random.nextFloat() + 0.1f, random.nextFloat(), random.nextFloat());
+            b.set(i, random.nextFloat(), random.nextFloat() + 0.1f, random.nextFloat());
+        }
+        int matrixCount = size / 16;
+        matrices = new float[16 * matrixCount];
+        products = new float[16 * matrixCount];
+        for (int i = 0; i < matrices.length; i++) {
+            matrices[i] = random.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public Vector3Buffer transformPoints() {
+        return engine.transformPoints(matrix, a, dest, 0, size);
+    }
+
+    @Benchmark
+    public float[] dot() {
+        return engine.dot(a, b, dots, 0, size);
+    }
+
+    @Benchmark
+    public Vector3Buffer cross() {
+        return engine.cross(a, b, dest, 0, size);
+    }
+
+    @Benchmark
+    public Vector3Buffer normalize() {
+        return engine.normalize(a, dest, 0, size);
+    }
+
+    @Benchmark
+    public float[] multiplyMatrices() {
+        return engine.multiply(matrices, matrices, products, matrices.length / 16);
+    }
+}
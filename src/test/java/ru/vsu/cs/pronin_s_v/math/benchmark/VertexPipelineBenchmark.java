@@ -0,0 +1,86 @@
+package ru.vsu.cs.pronin_s_v.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vsu.cs.pronin_s_v.math.Matrix4;
+import ru.vsu.cs.pronin_s_v.math.Vector4;
+import ru.vsu.cs.pronin_s_v.math.VertexPipeline;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Сравнение конвейера обработки вершин с покомпонентным преобразованием
+ * через Matrix4.multiply(Vector4) и перспективным делением
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VertexPipelineBenchmark {
+
+    private static final int STRIDE = 8;
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({"4096", "262144"})
+    private int count;
+
+    private Matrix4 mvp;
+    private float[] vertices;
+    private int[] screenNaive;
+    private VertexPipeline sequential;
+    private VertexPipeline parallel;
+    private VertexPipeline.Output output;
+
+    @Setup
+    public void setup() {
+        mvp = new Matrix4(new float[] {
+            1.0f, 0.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, -101.0f / 99.0f, -200.0f / 99.0f,
+            0.0f, 0.0f, -1.0f, 0.0f
+        });
+        Random random = new Random(42);
+        vertices = new float[count * STRIDE];
+        for (int i = 0; i < count; i++) {
+            vertices[i * STRIDE] = random.nextFloat() * 200.0f - 100.0f;
+            vertices[i * STRIDE + 1] = random.nextFloat() * 200.0f - 100.0f;
+            vertices[i * STRIDE + 2] = -random.nextFloat() * 150.0f + 20.0f;
+        }
+        screenNaive = new int[count * 2];
+        sequential = new VertexPipeline(0, 0, WIDTH, HEIGHT);
+        parallel = new VertexPipeline(0, 0, WIDTH, HEIGHT, ForkJoinPool.commonPool(), VertexPipeline.DEFAULT_CHUNK_SIZE);
+        output = new VertexPipeline.Output();
+    }
+
+    @Benchmark
+    public int[] naiveMultiply() {
+        for (int i = 0; i < count; i++) {
+            int s = i * STRIDE;
+            Vector4 clip = mvp.multiply(new Vector4(vertices[s], vertices[s + 1], vertices[s + 2], 1.0f));
+            float w = clip.getW();
+            if (w > 0.0f) {
+                screenNaive[i * 2] = (int) Math.floor((clip.getX() / w + 1.0f) * 0.5f * WIDTH);
+                screenNaive[i * 2 + 1] = (int) Math.floor((1.0f - clip.getY() / w) * 0.5f * HEIGHT);
+            }
+        }
+        return screenNaive;
+    }
+
+    @Benchmark
+    public VertexPipeline.Output pipelineSequential() {
+        return sequential.process(mvp, vertices, 0, count, STRIDE, output);
+    }
+
+    @Benchmark
+    public VertexPipeline.Output pipelineParallel() {
+        return parallel.process(mvp, vertices, 0, count, STRIDE, output);
+    }
+}